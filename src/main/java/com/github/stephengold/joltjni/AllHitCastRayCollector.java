@@ -41,6 +41,16 @@ public class AllHitCastRayCollector extends CastRayCollector {
         long collectorVa = createDefault();
         setVirtualAddressAsOwner(collectorVa);
     }
+
+    /**
+     * Instantiate a default collector in the specified arena.
+     *
+     * @param arena the arena to allocate in (not {@code null}, open, owned by
+     * the current thread)
+     */
+    public AllHitCastRayCollector(JoltArena arena) {
+        super(arena, createInArena(arena.allocatorVa()));
+    }
     // *************************************************************************
     // new methods exposed
 
@@ -112,6 +122,8 @@ public class AllHitCastRayCollector extends CastRayCollector {
 
     native private static long createDefault();
 
+    native private static long createInArena(long arenaVa);
+
     native private static long getHit(long collectorVa, int hitIndex);
 
     native private static void reset(long collectorVa);
@@ -46,6 +46,16 @@ public class Body extends NonCopyable implements ConstBody {
     // *************************************************************************
     // constructors
 
+    /**
+     * Instantiate a body with the specified container and no native object
+     * assigned.
+     *
+     * @param system the containing system (not {@code null})
+     */
+    Body(PhysicsSystem system) {
+        super(system);
+    }
+
     /**
      * Instantiate with the specified container and native object.
      * <p>
@@ -557,6 +567,20 @@ public class Body extends NonCopyable implements ConstBody {
         return result;
     }
 
+    /**
+     * Copy the net force acting on the body. The body is unaffected.
+     *
+     * @param storeResult storage for the force vector (Newtons in system
+     * coordinates, not {@code null}, modified)
+     */
+    @Override
+    public void getAccumulatedForce(Vec3 storeResult) {
+        long bodyVa = va();
+        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
+        getAccumulatedForce(bodyVa, storeFloats);
+        storeResult.set(storeFloats);
+    }
+
     /**
      * Copy the net torque acting on the body. The body is unaffected.
      *
@@ -572,6 +596,20 @@ public class Body extends NonCopyable implements ConstBody {
         return result;
     }
 
+    /**
+     * Copy the net torque acting on the body. The body is unaffected.
+     *
+     * @param storeResult storage for the torque vector (Newton meters in
+     * system coordinates, not {@code null}, modified)
+     */
+    @Override
+    public void getAccumulatedTorque(Vec3 storeResult) {
+        long bodyVa = va();
+        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
+        getAccumulatedTorque(bodyVa, storeFloats);
+        storeResult.set(storeFloats);
+    }
+
     /**
      * Test whether the body is allowed to fall asleep. The body is unaffected.
      *
@@ -600,6 +638,20 @@ public class Body extends NonCopyable implements ConstBody {
         return result;
     }
 
+    /**
+     * Copy the body's angular velocity. The body is unaffected.
+     *
+     * @param storeResult storage for the velocity vector (radians per second
+     * in system coordinates, not {@code null}, modified)
+     */
+    @Override
+    public void getAngularVelocity(Vec3 storeResult) {
+        long bodyVa = va();
+        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
+        getAngularVelocity(bodyVa, storeFloats);
+        storeResult.set(storeFloats);
+    }
+
     /**
      * Generate settings to reconstruct the (rigid) body. The body is
      * unaffected.
@@ -714,6 +766,20 @@ public class Body extends NonCopyable implements ConstBody {
         return result;
     }
 
+    /**
+     * Copy the coordinate transform of the body's center of mass. The body is
+     * unaffected.
+     *
+     * @param storeResult storage for the transform matrix (relative to system
+     * coordinates, not {@code null}, modified)
+     */
+    @Override
+    public void getCenterOfMassTransform(RMat44 storeResult) {
+        long bodyVa = va();
+        long storeVa = storeResult.va();
+        getCenterOfMassTransformInto(bodyVa, storeVa);
+    }
+
     /**
      * Access the body's collision group.
      *
@@ -784,6 +850,20 @@ public class Body extends NonCopyable implements ConstBody {
         return result;
     }
 
+    /**
+     * Copy the inverse coordinate transform of the body's center of mass. The
+     * body is unaffected.
+     *
+     * @param storeResult storage for the transform matrix (relative to local
+     * coordinates, not {@code null}, modified)
+     */
+    @Override
+    public void getInverseCenterOfMassTransform(RMat44 storeResult) {
+        long bodyVa = va();
+        long storeVa = storeResult.va();
+        getInverseCenterOfMassTransformInto(bodyVa, storeVa);
+    }
+
     /**
      * Copy the body's linear velocity. The body is unaffected.
      *
@@ -799,6 +879,20 @@ public class Body extends NonCopyable implements ConstBody {
         return result;
     }
 
+    /**
+     * Copy the body's linear velocity. The body is unaffected.
+     *
+     * @param storeResult storage for the velocity vector (meters per second in
+     * system coordinates, not {@code null}, modified)
+     */
+    @Override
+    public void getLinearVelocity(Vec3 storeResult) {
+        long bodyVa = va();
+        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
+        getLinearVelocity(bodyVa, storeFloats);
+        storeResult.set(storeFloats);
+    }
+
     /**
      * Access the body's motion properties if it is dynamic or kinematic.
      *
@@ -893,6 +987,21 @@ public class Body extends NonCopyable implements ConstBody {
         return result;
     }
 
+    /**
+     * Copy the location of the body's origin (which might not coincide with its
+     * center of mass). The body is unaffected.
+     *
+     * @param storeLocation storage for the location (in system coordinates, not
+     * {@code null}, modified)
+     */
+    @Override
+    public void getPosition(RVec3 storeLocation) {
+        long bodyVa = va();
+        DoubleBuffer storeDoubles = Temporaries.doubleBuffer1.get();
+        getPosition(bodyVa, storeDoubles);
+        storeLocation.set(storeDoubles);
+    }
+
     /**
      * Copy the position of the body. The body is unaffected.
      *
@@ -943,6 +1052,20 @@ public class Body extends NonCopyable implements ConstBody {
         return result;
     }
 
+    /**
+     * Copy the body's orientation. The body is unaffected.
+     *
+     * @param storeResult storage for the rotation quaternion (relative to the
+     * system axes, not {@code null}, modified)
+     */
+    @Override
+    public void getRotation(Quat storeResult) {
+        long bodyVa = va();
+        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
+        getRotation(bodyVa, storeFloats);
+        storeResult.set(storeFloats);
+    }
+
     /**
      * Access the body's shape. The body is unaffected.
      *
@@ -1033,6 +1156,19 @@ public class Body extends NonCopyable implements ConstBody {
         return result;
     }
 
+    /**
+     * Copy the body's bounding box. The body is unaffected.
+     *
+     * @param storeResult storage for the bounding box (in system coordinates,
+     * not {@code null}, modified)
+     */
+    @Override
+    public void getWorldSpaceBounds(AaBox storeResult) {
+        long bodyVa = va();
+        long storeVa = storeResult.va();
+        getWorldSpaceBoundsInto(bodyVa, storeVa);
+    }
+
     /**
      * Copy the surface normal of a particular subshape at the specified
      * location. The body is unaffected.
@@ -1054,6 +1190,27 @@ public class Body extends NonCopyable implements ConstBody {
         return result;
     }
 
+    /**
+     * Copy the surface normal of a particular subshape at the specified
+     * location. The body is unaffected.
+     *
+     * @param subShapeId the ID of the sub-shape to use
+     * @param location the location to use (not {@code null}, unaffected)
+     * @param storeResult storage for the direction vector (not {@code null},
+     * modified)
+     */
+    @Override
+    public void getWorldSpaceSurfaceNormal(
+            int subShapeId, RVec3Arg location, Vec3 storeResult) {
+        long bodyVa = va();
+        double xx = location.xx();
+        double yy = location.yy();
+        double zz = location.zz();
+        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
+        getWorldSpaceSurfaceNormal(bodyVa, subShapeId, xx, yy, zz, storeFloats);
+        storeResult.set(storeFloats);
+    }
+
     /**
      * Copy the world transform. The body is unaffected.
      *
@@ -1068,6 +1225,19 @@ public class Body extends NonCopyable implements ConstBody {
         return result;
     }
 
+    /**
+     * Copy the world transform. The body is unaffected.
+     *
+     * @param storeResult storage for the matrix (relative to system
+     * coordinates, not {@code null}, modified)
+     */
+    @Override
+    public void getWorldTransform(RMat44 storeResult) {
+        long bodyVa = va();
+        long storeVa = storeResult.va();
+        getWorldTransformInto(bodyVa, storeVa);
+    }
+
     /**
      * Test whether the body is deactivated. The body is unaffected.
      *
@@ -1231,6 +1401,9 @@ public class Body extends NonCopyable implements ConstBody {
 
     native private static long getCenterOfMassTransform(long bodyVa);
 
+    native private static void getCenterOfMassTransformInto(
+            long bodyVa, long storeVa);
+
     native private static long getCollisionGroup(long bodyVa);
 
     native private static boolean getEnhancedInternalEdgeRemoval(long bodyVa);
@@ -1241,6 +1414,9 @@ public class Body extends NonCopyable implements ConstBody {
 
     native private static long getInverseCenterOfMassTransform(long bodyVa);
 
+    native private static void getInverseCenterOfMassTransformInto(
+            long bodyVa, long storeVa);
+
     native private static void getLinearVelocity(
             long bodyVa, FloatBuffer storeFloats);
 
@@ -1272,12 +1448,18 @@ public class Body extends NonCopyable implements ConstBody {
 
     native private static long getWorldSpaceBounds(long bodyVa);
 
+    native private static void getWorldSpaceBoundsInto(
+            long bodyVa, long storeVa);
+
     native private static void getWorldSpaceSurfaceNormal(
             long bodyVa, int subShapeId, double xx, double yy, double zz,
             FloatBuffer storeFloats);
 
     native private static long getWorldTransform(long bodyVa);
 
+    native private static void getWorldTransformInto(
+            long bodyVa, long storeVa);
+
     native private static boolean isActive(long bodyVa);
 
     native private static boolean isDynamic(long bodyVa);
@@ -54,6 +54,18 @@ public class BodyIdArray extends JoltPhysicsObject implements ConstBodyIdArray {
         setVirtualAddress(arrayVa, () -> free(arrayVa));
     }
 
+    /**
+     * Instantiate an uninitialized array with the specified length in the
+     * specified arena.
+     *
+     * @param arena the arena to allocate in (not {@code null}, open, owned by
+     * the current thread)
+     * @param length the desired number of IDs (&gt;0)
+     */
+    public BodyIdArray(JoltArena arena, int length) {
+        this(arena, createInArena(arena.allocatorVa(), length), length);
+    }
+
     /**
      * Instantiate an array initialized from the specified Java array.
      *
@@ -169,6 +181,8 @@ public class BodyIdArray extends JoltPhysicsObject implements ConstBodyIdArray {
 
     native private static long createFromBuffer(IntBuffer ids);
 
+    native private static long createInArena(long arenaVa, int length);
+
     native private static void free(long arrayVa);
 
     native private static int getId(long arrayVa, int elementIndex);
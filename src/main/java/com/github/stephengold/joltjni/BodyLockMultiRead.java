@@ -115,6 +115,31 @@ public class BodyLockMultiRead extends BodyLockMultiBase {
         return result;
     }
 
+    /**
+     * Bind the specified view to a specific body, without allocating a new JVM
+     * object.
+     *
+     * @param index into the array of body IDs (&ge;0)
+     * @param storeResult the view to bind (not {@code null}, modified)
+     * @return {@code storeResult}, or {@code null} if the body is not
+     * available (in which case the view is unbound)
+     */
+    public BodyViewC getBody(int index, BodyViewC storeResult) {
+        assert index >= 0 : index;
+
+        long lockVa = va();
+        long bodyVa = getBody(lockVa, index);
+        BodyViewC result;
+        if (bodyVa == 0L) {
+            storeResult.unbind();
+            result = null;
+        } else {
+            result = storeResult.bind(bodyVa);
+        }
+
+        return result;
+    }
+
     /**
      * Count the bodies that were locked.
      *
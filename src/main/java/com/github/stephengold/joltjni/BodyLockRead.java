@@ -69,6 +69,28 @@ public class BodyLockRead extends NonCopyable {
         return result;
     }
 
+    /**
+     * Bind the specified view to the locked body, without allocating a new JVM
+     * object.
+     *
+     * @param storeResult the view to bind (not {@code null}, modified)
+     * @return {@code storeResult}, or {@code null} if the lock failed (in
+     * which case the view is unbound)
+     */
+    public BodyViewC getBody(BodyViewC storeResult) {
+        long lockVa = va();
+        long bodyVa = getBody(lockVa);
+        BodyViewC result;
+        if (bodyVa == 0L) {
+            storeResult.unbind();
+            result = null;
+        } else {
+            result = storeResult.bind(bodyVa);
+        }
+
+        return result;
+    }
+
     /**
      * Explicitly release the lock.
      */
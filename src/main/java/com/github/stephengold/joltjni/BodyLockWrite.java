@@ -68,6 +68,28 @@ public class BodyLockWrite extends NonCopyable {
         return result;
     }
 
+    /**
+     * Bind the specified view to the locked body, without allocating a new JVM
+     * object.
+     *
+     * @param storeResult the view to bind (not {@code null}, modified)
+     * @return {@code storeResult}, or {@code null} if the lock failed (in
+     * which case the view is unbound)
+     */
+    public BodyView getBody(BodyView storeResult) {
+        long lockVa = va();
+        long bodyVa = getBody(lockVa);
+        BodyView result;
+        if (bodyVa == 0L) {
+            storeResult.unbind();
+            result = null;
+        } else {
+            result = storeResult.bind(bodyVa);
+        }
+
+        return result;
+    }
+
     /**
      * Explicitly release the lock.
      */
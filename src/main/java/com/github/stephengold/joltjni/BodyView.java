@@ -0,0 +1,106 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import com.github.stephengold.joltjni.readonly.ConstBody;
+
+/**
+ * A reusable, non-owning, writable view of a {@code Body} that can be rebound
+ * to a different native body without allocating a new JVM object. Useful in
+ * tight loops, write locks, and listener callbacks. For read-only access, use
+ * a {@code BodyViewC}.
+ * <p>
+ * A view keeps its physics system alive, but it doesn't protect its native
+ * body from being destroyed, so it should be rebound or unbound before the
+ * body is removed from the system.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class BodyView extends Body {
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an unbound view of bodies in the specified system.
+     *
+     * @param system the system containing the bodies to view (not
+     * {@code null})
+     */
+    public BodyView(PhysicsSystem system) {
+        super(system);
+    }
+
+    /**
+     * Instantiate a view bound to the specified native body.
+     *
+     * @param system the system containing the body (not {@code null})
+     * @param bodyVa the virtual address of the native body (not zero)
+     */
+    public BodyView(PhysicsSystem system, long bodyVa) {
+        super(system);
+        bind(bodyVa);
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Bind the view to the specified native body.
+     *
+     * @param bodyVa the virtual address of the native body (not zero)
+     * @return the modified view, for chaining
+     */
+    public BodyView bind(long bodyVa) {
+        assert bodyVa != 0L : "invalid virtual address";
+        reassignVirtualAddress(bodyVa);
+        return this;
+    }
+
+    /**
+     * Bind the view to the native body of the specified JVM body.
+     *
+     * @param body the body to view (not {@code null}, unaffected)
+     * @return the modified view, for chaining
+     */
+    public BodyView bind(ConstBody body) {
+        long bodyVa = body.targetVa();
+        bind(bodyVa);
+
+        return this;
+    }
+
+    /**
+     * Test whether the view is bound to a native body. The view is unaffected.
+     *
+     * @return {@code true} if bound, otherwise {@code false}
+     */
+    public boolean isBound() {
+        boolean result = hasAssignedNativeObject();
+        return result;
+    }
+
+    /**
+     * Unbind the view from its native body, if any.
+     */
+    public void unbind() {
+        reassignVirtualAddress(0L);
+    }
+}
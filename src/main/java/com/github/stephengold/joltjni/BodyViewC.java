@@ -0,0 +1,743 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import com.github.stephengold.joltjni.enumerate.EBodyType;
+import com.github.stephengold.joltjni.enumerate.EMotionType;
+import com.github.stephengold.joltjni.readonly.ConstAaBox;
+import com.github.stephengold.joltjni.readonly.ConstBody;
+import com.github.stephengold.joltjni.readonly.ConstCollisionGroup;
+import com.github.stephengold.joltjni.readonly.ConstMotionProperties;
+import com.github.stephengold.joltjni.readonly.ConstShape;
+import com.github.stephengold.joltjni.readonly.RVec3Arg;
+import java.nio.DoubleBuffer;
+
+/**
+ * A reusable, non-owning, read-only view of a {@code Body} that can be
+ * rebound to a different native body without allocating a new JVM object.
+ * Useful in tight loops, read locks, and iteration over active bodies. For
+ * write access, use a {@code BodyView}.
+ * <p>
+ * A view keeps its physics system alive, but it doesn't protect its native
+ * body from being destroyed, so it should be rebound or unbound before the
+ * body is removed from the system.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class BodyViewC extends JoltPhysicsObject implements ConstBody {
+    // *************************************************************************
+    // fields
+
+    /**
+     * writable view that implements the accessors, never exposed
+     */
+    final private BodyView view;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an unbound view of bodies in the specified system.
+     *
+     * @param system the system containing the bodies to view (not
+     * {@code null})
+     */
+    public BodyViewC(PhysicsSystem system) {
+        super(system);
+        this.view = new BodyView(system);
+    }
+
+    /**
+     * Instantiate a view bound to the specified native body.
+     *
+     * @param system the system containing the body (not {@code null})
+     * @param bodyVa the virtual address of the native body (not zero)
+     */
+    public BodyViewC(PhysicsSystem system, long bodyVa) {
+        this(system);
+        bind(bodyVa);
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Bind the view to the specified native body.
+     *
+     * @param bodyVa the virtual address of the native body (not zero)
+     * @return the modified view, for chaining
+     */
+    public BodyViewC bind(long bodyVa) {
+        assert bodyVa != 0L : "invalid virtual address";
+        reassignVirtualAddress(bodyVa);
+        view.bind(bodyVa);
+
+        return this;
+    }
+
+    /**
+     * Bind the view to the native body of the specified JVM body.
+     *
+     * @param body the body to view (not {@code null}, unaffected)
+     * @return the modified view, for chaining
+     */
+    public BodyViewC bind(ConstBody body) {
+        long bodyVa = body.targetVa();
+        bind(bodyVa);
+
+        return this;
+    }
+
+    /**
+     * Test whether the view is bound to a native body. The view is unaffected.
+     *
+     * @return {@code true} if bound, otherwise {@code false}
+     */
+    public boolean isBound() {
+        boolean result = hasAssignedNativeObject();
+        return result;
+    }
+
+    /**
+     * Unbind the view from its native body, if any.
+     */
+    public void unbind() {
+        reassignVirtualAddress(0L);
+        view.unbind();
+    }
+    // *************************************************************************
+    // ConstBody methods
+
+    /**
+     * Test whether the body could be made kinematic or dynamic. The body is
+     * unaffected.
+     *
+     * @return {@code true} if possible, otherwise {@code false}
+     */
+    @Override
+    public boolean canBeKinematicOrDynamic() {
+        boolean result = view.canBeKinematicOrDynamic();
+        return result;
+    }
+
+    /**
+     * Copy the net force acting on the body. The body is unaffected.
+     *
+     * @return a new force vector (Newtons in system coordinates)
+     */
+    @Override
+    public Vec3 getAccumulatedForce() {
+        Vec3 result = view.getAccumulatedForce();
+        return result;
+    }
+
+    /**
+     * Copy the net force acting on the body. The body is unaffected.
+     *
+     * @param storeResult storage for the force vector (Newtons in system
+     * coordinates, not {@code null}, modified)
+     */
+    @Override
+    public void getAccumulatedForce(Vec3 storeResult) {
+        view.getAccumulatedForce(storeResult);
+    }
+
+    /**
+     * Copy the net torque acting on the body. The body is unaffected.
+     *
+     * @return a new torque vector (Newton meters in system coordinates)
+     */
+    @Override
+    public Vec3 getAccumulatedTorque() {
+        Vec3 result = view.getAccumulatedTorque();
+        return result;
+    }
+
+    /**
+     * Copy the net torque acting on the body. The body is unaffected.
+     *
+     * @param storeResult storage for the torque vector (Newton meters in
+     * system coordinates, not {@code null}, modified)
+     */
+    @Override
+    public void getAccumulatedTorque(Vec3 storeResult) {
+        view.getAccumulatedTorque(storeResult);
+    }
+
+    /**
+     * Test whether the body is allowed to fall asleep. The body is unaffected.
+     *
+     * @return {@code true} if allowed, otherwise {@code false}
+     */
+    @Override
+    public boolean getAllowSleeping() {
+        boolean result = view.getAllowSleeping();
+        return result;
+    }
+
+    /**
+     * Copy the body's angular velocity. The body is unaffected.
+     *
+     * @return a new velocity vector (radians per second in system coordinates)
+     */
+    @Override
+    public Vec3 getAngularVelocity() {
+        Vec3 result = view.getAngularVelocity();
+        return result;
+    }
+
+    /**
+     * Copy the body's angular velocity. The body is unaffected.
+     *
+     * @param storeResult storage for the velocity vector (radians per second
+     * in system coordinates, not {@code null}, modified)
+     */
+    @Override
+    public void getAngularVelocity(Vec3 storeResult) {
+        view.getAngularVelocity(storeResult);
+    }
+
+    /**
+     * Generate settings to reconstruct the (rigid) body. The body is
+     * unaffected.
+     *
+     * @return a new object
+     */
+    @Override
+    public BodyCreationSettings getBodyCreationSettings() {
+        BodyCreationSettings result = view.getBodyCreationSettings();
+        return result;
+    }
+
+    /**
+     * Return the body type (rigid or soft). The body is unaffected.
+     *
+     * @return an enum value (not {@code null})
+     */
+    @Override
+    public EBodyType getBodyType() {
+        EBodyType result = view.getBodyType();
+        return result;
+    }
+
+    /**
+     * Return the broadphase layer. The body is unaffected.
+     *
+     * @return the layer ID
+     */
+    @Override
+    public int getBroadPhaseLayer() {
+        int result = view.getBroadPhaseLayer();
+        return result;
+    }
+
+    /**
+     * Copy the location of the body's center of mass (which might not coincide
+     * with its origin). The body is unaffected.
+     *
+     * @return a new location vector (in system coordinates, all components
+     * finite)
+     */
+    @Override
+    public RVec3 getCenterOfMassPosition() {
+        RVec3 result = view.getCenterOfMassPosition();
+        return result;
+    }
+
+    /**
+     * Copy the location of the body's center of mass (which might not coincide
+     * with its origin). The body is unaffected.
+     *
+     * @param storeResult storage for the location in system coordinates (not
+     * {@code null}, modified)
+     */
+    @Override
+    public void getCenterOfMassPosition(DoubleBuffer storeResult) {
+        view.getCenterOfMassPosition(storeResult);
+    }
+
+    /**
+     * Copy the location of the body's center of mass (which might not coincide
+     * with its origin). The body is unaffected.
+     *
+     * @param storeLocation storage for the location (in system coordinates, not
+     * {@code null}, modified)
+     */
+    @Override
+    public void getCenterOfMassPosition(RVec3 storeLocation) {
+        view.getCenterOfMassPosition(storeLocation);
+    }
+
+    /**
+     * Copy the coordinate transform of the body's center of mass. The body is
+     * unaffected.
+     *
+     * @return a new transform matrix (relative to system coordinates)
+     */
+    @Override
+    public RMat44 getCenterOfMassTransform() {
+        RMat44 result = view.getCenterOfMassTransform();
+        return result;
+    }
+
+    /**
+     * Copy the coordinate transform of the body's center of mass. The body is
+     * unaffected.
+     *
+     * @param storeResult storage for the transform matrix (relative to system
+     * coordinates, not {@code null}, modified)
+     */
+    @Override
+    public void getCenterOfMassTransform(RMat44 storeResult) {
+        view.getCenterOfMassTransform(storeResult);
+    }
+
+    /**
+     * Access the body's collision group.
+     *
+     * @return a new JVM object with the pre-existing native object assigned
+     */
+    @Override
+    public ConstCollisionGroup getCollisionGroup() {
+        ConstCollisionGroup result = view.getCollisionGroup();
+        return result;
+    }
+
+    /**
+     * Test whether extra effort should be made to remove ghost contacts. The
+     * body is unaffected.
+     *
+     * @return {@code true} for extra effort, otherwise {@code false}
+     */
+    @Override
+    public boolean getEnhancedInternalEdgeRemoval() {
+        boolean result = view.getEnhancedInternalEdgeRemoval();
+        return result;
+    }
+
+    /**
+     * Return the body's friction ratio. The body is unaffected.
+     *
+     * @return the ratio
+     */
+    @Override
+    public float getFriction() {
+        float result = view.getFriction();
+        return result;
+    }
+
+    /**
+     * Return the body's ID for use with {@code BodyInterface}. The body is
+     * unaffected.
+     *
+     * @return the {@code BodyID} value
+     */
+    @Override
+    public int getId() {
+        int result = view.getId();
+        return result;
+    }
+
+    /**
+     * Copy the inverse coordinate transform of the body's center of mass. The
+     * body is unaffected.
+     *
+     * @return a new transform matrix (relative to local coordinates)
+     */
+    @Override
+    public RMat44 getInverseCenterOfMassTransform() {
+        RMat44 result = view.getInverseCenterOfMassTransform();
+        return result;
+    }
+
+    /**
+     * Copy the inverse coordinate transform of the body's center of mass. The
+     * body is unaffected.
+     *
+     * @param storeResult storage for the transform matrix (relative to local
+     * coordinates, not {@code null}, modified)
+     */
+    @Override
+    public void getInverseCenterOfMassTransform(RMat44 storeResult) {
+        view.getInverseCenterOfMassTransform(storeResult);
+    }
+
+    /**
+     * Copy the body's linear velocity. The body is unaffected.
+     *
+     * @return a new velocity vector (meters per second in system coordinates)
+     */
+    @Override
+    public Vec3 getLinearVelocity() {
+        Vec3 result = view.getLinearVelocity();
+        return result;
+    }
+
+    /**
+     * Copy the body's linear velocity. The body is unaffected.
+     *
+     * @param storeResult storage for the velocity vector (meters per second in
+     * system coordinates, not {@code null}, modified)
+     */
+    @Override
+    public void getLinearVelocity(Vec3 storeResult) {
+        view.getLinearVelocity(storeResult);
+    }
+
+    /**
+     * Access the body's motion properties if it is dynamic or kinematic.
+     *
+     * @return a new JVM object with the pre-existing native object assigned, or
+     * {@code null} if the body is static
+     */
+    @Override
+    public ConstMotionProperties getMotionProperties() {
+        ConstMotionProperties result = view.getMotionProperties();
+        return result;
+    }
+
+    /**
+     * Access the body's motion properties without checking whether the body is
+     * static.
+     *
+     * @return a new JVM object with the pre-existing native object assigned, or
+     * {@code null} if none
+     */
+    @Override
+    public ConstMotionProperties getMotionPropertiesUnchecked() {
+        ConstMotionProperties result = view.getMotionPropertiesUnchecked();
+        return result;
+    }
+
+    /**
+     * Return the body's motion type. The body is unaffected.
+     *
+     * @return an enum value (not {@code null})
+     */
+    @Override
+    public EMotionType getMotionType() {
+        EMotionType result = view.getMotionType();
+        return result;
+    }
+
+    /**
+     * Return the body's object layer. The body is unaffected.
+     *
+     * @return a layer index (&ge;0)
+     */
+    @Override
+    public int getObjectLayer() {
+        int result = view.getObjectLayer();
+        return result;
+    }
+
+    /**
+     * Copy the location of the body's origin (which might not coincide with its
+     * center of mass). The body is unaffected.
+     *
+     * @return a new location vector (in system coordinates, all components
+     * finite)
+     */
+    @Override
+    public RVec3 getPosition() {
+        RVec3 result = view.getPosition();
+        return result;
+    }
+
+    /**
+     * Copy the location of the body's origin (which might not coincide with its
+     * center of mass). The body is unaffected.
+     *
+     * @param storeLocation storage for the location (in system coordinates, not
+     * {@code null}, modified)
+     */
+    @Override
+    public void getPosition(RVec3 storeLocation) {
+        view.getPosition(storeLocation);
+    }
+
+    /**
+     * Copy the position of the body. The body is unaffected.
+     *
+     * @param storeLocation storage for the location (in system coordinates, not
+     * {@code null}, modified)
+     * @param storeOrientation storage for the orientation (in system
+     * coordinates, not {@code null}, modified)
+     */
+    @Override
+    public void getPositionAndRotation(
+            RVec3 storeLocation, Quat storeOrientation) {
+        view.getPositionAndRotation(storeLocation, storeOrientation);
+    }
+
+    /**
+     * Return the body's restitution ratio. The body is unaffected.
+     *
+     * @return the value (typically &ge;0 and &le;1)
+     */
+    @Override
+    public float getRestitution() {
+        float result = view.getRestitution();
+        return result;
+    }
+
+    /**
+     * Copy the body's orientation. The body is unaffected.
+     *
+     * @return a new rotation quaternion (relative to the system axes)
+     */
+    @Override
+    public Quat getRotation() {
+        Quat result = view.getRotation();
+        return result;
+    }
+
+    /**
+     * Copy the body's orientation. The body is unaffected.
+     *
+     * @param storeResult storage for the rotation quaternion (relative to the
+     * system axes, not {@code null}, modified)
+     */
+    @Override
+    public void getRotation(Quat storeResult) {
+        view.getRotation(storeResult);
+    }
+
+    /**
+     * Access the body's shape. The body is unaffected.
+     *
+     * @return a new immutable JVM object with the pre-existing native object
+     * assigned, or {@code null} if none
+     */
+    @Override
+    public ConstShape getShape() {
+        ConstShape result = view.getShape();
+        return result;
+    }
+
+    /**
+     * Update the specified counted reference to refer to the body's shape. The
+     * body is unaffected.
+     *
+     * @param storeRef storage for the reference (not {@code null}, modified)
+     */
+    @Override
+    public void getShape(ShapeRefC storeRef) {
+        view.getShape(storeRef);
+    }
+
+    /**
+     * Generate settings to reconstruct the (soft) body. The body is unaffected.
+     *
+     * @return a new object
+     */
+    @Override
+    public SoftBodyCreationSettings getSoftBodyCreationSettings() {
+        SoftBodyCreationSettings result = view.getSoftBodyCreationSettings();
+        return result;
+    }
+
+    /**
+     * Convert the body to a {@code TransformedShape} object. The body is
+     * unaffected.
+     *
+     * @return a new object
+     */
+    @Override
+    public TransformedShape getTransformedShape() {
+        TransformedShape result = view.getTransformedShape();
+        return result;
+    }
+
+    /**
+     * Return the body's user data: can be used for anything. The body is
+     * unaffected.
+     *
+     * @return the value
+     */
+    @Override
+    public long getUserData() {
+        long result = view.getUserData();
+        return result;
+    }
+
+    /**
+     * Access the body's bounding box. The body is unaffected.
+     *
+     * @return a new immutable JVM object with the pre-existing native object
+     * assigned
+     */
+    @Override
+    public ConstAaBox getWorldSpaceBounds() {
+        ConstAaBox result = view.getWorldSpaceBounds();
+        return result;
+    }
+
+    /**
+     * Copy the body's bounding box. The body is unaffected.
+     *
+     * @param storeResult storage for the bounding box (in system coordinates,
+     * not {@code null}, modified)
+     */
+    @Override
+    public void getWorldSpaceBounds(AaBox storeResult) {
+        view.getWorldSpaceBounds(storeResult);
+    }
+
+    /**
+     * Copy the surface normal of a particular subshape at the specified
+     * location. The body is unaffected.
+     *
+     * @param subShapeId the ID of the sub-shape to use
+     * @param location the location to use (not {@code null}, unaffected)
+     * @return a new direction vector
+     */
+    @Override
+    public Vec3 getWorldSpaceSurfaceNormal(int subShapeId, RVec3Arg location) {
+        Vec3 result = view.getWorldSpaceSurfaceNormal(subShapeId, location);
+        return result;
+    }
+
+    /**
+     * Copy the surface normal of a particular subshape at the specified
+     * location. The body is unaffected.
+     *
+     * @param subShapeId the ID of the sub-shape to use
+     * @param location the location to use (not {@code null}, unaffected)
+     * @param storeResult storage for the direction vector (not {@code null},
+     * modified)
+     */
+    @Override
+    public void getWorldSpaceSurfaceNormal(
+             int subShapeId, RVec3Arg location, Vec3 storeResult) {
+        view.getWorldSpaceSurfaceNormal(subShapeId, location, storeResult);
+    }
+
+    /**
+     * Copy the world transform. The body is unaffected.
+     *
+     * @return a new matrix relative to system coordinates
+     */
+    @Override
+    public RMat44 getWorldTransform() {
+        RMat44 result = view.getWorldTransform();
+        return result;
+    }
+
+    /**
+     * Copy the world transform. The body is unaffected.
+     *
+     * @param storeResult storage for the matrix (relative to system
+     * coordinates, not {@code null}, modified)
+     */
+    @Override
+    public void getWorldTransform(RMat44 storeResult) {
+        view.getWorldTransform(storeResult);
+    }
+
+    /**
+     * Test whether the body is deactivated. The body is unaffected.
+     *
+     * @return {@code false} if deactivated, otherwise {@code true}
+     */
+    @Override
+    public boolean isActive() {
+        boolean result = view.isActive();
+        return result;
+    }
+
+    /**
+     * Test whether the body is dynamic. The body is unaffected.
+     *
+     * @return {@code true} if dynamic, otherwise {@code false}
+     */
+    @Override
+    public boolean isDynamic() {
+        boolean result = view.isDynamic();
+        return result;
+    }
+
+    /**
+     * Test whether the body has been added to its {@code PhysicsSystem}. The
+     * body is unaffected.
+     *
+     * @return {@code true} if added, otherwise {@code false}
+     */
+    @Override
+    public boolean isInBroadPhase() {
+        boolean result = view.isInBroadPhase();
+        return result;
+    }
+
+    /**
+     * Test whether the body is kinematic. It is unaffected.
+     *
+     * @return {@code true} if kinematic, otherwise {@code false}
+     */
+    @Override
+    public boolean isKinematic() {
+        boolean result = view.isKinematic();
+        return result;
+    }
+
+    /**
+     * Test whether the body is a rigid body. It is unaffected.
+     *
+     * @return {@code true} if rigid body, otherwise {@code false}
+     */
+    @Override
+    public boolean isRigidBody() {
+        boolean result = view.isRigidBody();
+        return result;
+    }
+
+    /**
+     * Test whether the body is a sensor. It is unaffected.
+     *
+     * @return {@code true} if a sensor, otherwise {@code false}
+     */
+    @Override
+    public boolean isSensor() {
+        boolean result = view.isSensor();
+        return result;
+    }
+
+    /**
+     * Test whether the body is soft. It is unaffected.
+     *
+     * @return {@code true} if soft, otherwise {@code false}
+     */
+    @Override
+    public boolean isSoftBody() {
+        boolean result = view.isSoftBody();
+        return result;
+    }
+
+    /**
+     * Test whether the body is static (non-moving). It is unaffected.
+     *
+     * @return {@code true} if static, otherwise {@code false}
+     */
+    @Override
+    public boolean isStatic() {
+        boolean result = view.isStatic();
+        return result;
+    }
+}
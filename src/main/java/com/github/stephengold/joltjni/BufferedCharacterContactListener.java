@@ -0,0 +1,696 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import com.github.stephengold.joltjni.readonly.ConstCharacterVirtual;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A {@code CharacterContactListener} that applies simple rules natively and
+ * buffers the resulting events, so that {@code extendedUpdate()} makes no
+ * upcalls into Java.
+ * <p>
+ * The supported rules are: rejecting contacts with bodies in specified object
+ * layers, scaling the body velocities seen by characters, restricting pushes
+ * between characters and bodies, and preventing characters from sliding down
+ * stationary walkable slopes.
+ * <p>
+ * During updates, events are counted per character, and added, removed, and
+ * rejected contacts are logged, up to a fixed limit. After the updates,
+ * {@code collect()} copies the accumulated data to Java and resets it. A
+ * single listener may be shared by characters that are updated concurrently.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class BufferedCharacterContactListener
+        extends JoltPhysicsObject
+        implements CharacterContactListener {
+    // *************************************************************************
+    // enums
+
+    /**
+     * Enumerate the types of contact events.
+     */
+    public enum EventType {
+        /**
+         * a new character-versus-body contact
+         */
+        Added,
+        /**
+         * a continuing character-versus-body contact (counted, never logged)
+         */
+        Persisted,
+        /**
+         * a character-versus-body contact that ended
+         */
+        Removed,
+        /**
+         * a new character-versus-character contact
+         */
+        CharacterAdded,
+        /**
+         * a continuing character-versus-character contact (counted, never
+         * logged)
+         */
+        CharacterPersisted,
+        /**
+         * a character-versus-character contact that ended
+         */
+        CharacterRemoved,
+        /**
+         * a character-versus-body contact rejected by a layer rule
+         */
+        Rejected
+    }
+    // *************************************************************************
+    // constants
+
+    /**
+     * number of bytes in each logged event
+     */
+    final private static int eventBytes = 24;
+    /**
+     * number of bytes in each per-character summary
+     */
+    final private static int summaryBytes = 40;
+    // *************************************************************************
+    // fields
+
+    /**
+     * events copied by the most recent {@code collect()}
+     */
+    final private ByteBuffer events;
+    /**
+     * per-character summaries copied by the most recent {@code collect()}
+     */
+    private ByteBuffer summaries;
+    /**
+     * number of events logged by the most recent {@code collect()}
+     */
+    private int numEvents;
+    /**
+     * number of events dropped due to the limit, as of the most recent
+     * {@code collect()}
+     */
+    private int numDropped;
+    /**
+     * number of summaries copied by the most recent {@code collect()}
+     */
+    private int numSummaries;
+    /**
+     * map character addresses to summary indices
+     */
+    final private Map<Long, Integer> summaryIndices = new HashMap<>(64);
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a listener with no rules.
+     *
+     * @param system the physics system containing the characters (not
+     * {@code null})
+     * @param maxEvents the maximum number of events to log between collections
+     * (&ge;0)
+     */
+    public BufferedCharacterContactListener(
+            PhysicsSystem system, int maxEvents) {
+        assert maxEvents >= 0 : maxEvents;
+
+        long systemVa = system.va();
+        long listenerVa = create(systemVa, maxEvents);
+        setVirtualAddress(listenerVa, () -> free(listenerVa));
+
+        int numBytes = eventBytes * Math.max(1, maxEvents);
+        this.events = Jolt.newDirectByteBuffer(numBytes);
+        this.summaries = Jolt.newDirectByteBuffer(16 * summaryBytes);
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Copy the events accumulated since the previous collection into this
+     * object, replacing any previously collected data, and reset the
+     * accumulators. Must not be invoked during an update.
+     *
+     * @return the number of characters with events (&ge;0)
+     */
+    public int collect() {
+        long listenerVa = va();
+        int numChars = countSummaries(listenerVa);
+        int minBytes = numChars * summaryBytes;
+        if (summaries.capacity() < minBytes) {
+            this.summaries = Jolt.newDirectByteBuffer(2 * minBytes);
+        }
+        this.numEvents = countEvents(listenerVa);
+        this.numDropped = collect(listenerVa, summaries, events);
+        this.numSummaries = numChars;
+
+        summaryIndices.clear();
+        for (int i = 0; i < numChars; ++i) {
+            long characterVa = summaries.getLong(i * summaryBytes);
+            summaryIndices.put(characterVa, i);
+        }
+
+        return numChars;
+    }
+
+    /**
+     * Count the events that were dropped because the log was full, as of the
+     * most recent collection.
+     *
+     * @return the count (&ge;0)
+     */
+    public int countDroppedEvents() {
+        return numDropped;
+    }
+
+    /**
+     * Count the logged events, as of the most recent collection.
+     *
+     * @return the count (&ge;0)
+     */
+    public int countEvents() {
+        return numEvents;
+    }
+
+    /**
+     * Count the characters with events, as of the most recent collection.
+     *
+     * @return the count (&ge;0)
+     */
+    public int countSummaries() {
+        return numSummaries;
+    }
+
+    /**
+     * Test whether characters may slide down stationary walkable slopes.
+     *
+     * @return {@code true} if allowed, otherwise {@code false}
+     */
+    public boolean getAllowSliding() {
+        long listenerVa = va();
+        boolean result = getAllowSliding(listenerVa);
+
+        return result;
+    }
+
+    /**
+     * Return the factor applied to body velocities seen by characters.
+     *
+     * @return the scale factor
+     */
+    public float getBodyVelocityScale() {
+        long listenerVa = va();
+        float result = getBodyVelocityScale(listenerVa);
+
+        return result;
+    }
+
+    /**
+     * Test whether bodies may push characters.
+     *
+     * @return {@code true} if allowed, otherwise {@code false}
+     */
+    public boolean getCanPushCharacter() {
+        long listenerVa = va();
+        boolean result = getCanPushCharacter(listenerVa);
+
+        return result;
+    }
+
+    /**
+     * Test whether characters may apply impulses to bodies.
+     *
+     * @return {@code true} if allowed, otherwise {@code false}
+     */
+    public boolean getCanReceiveImpulses() {
+        long listenerVa = va();
+        boolean result = getCanReceiveImpulses(listenerVa);
+
+        return result;
+    }
+
+    /**
+     * Return the number of events of the specified type for the specified
+     * character, as of the most recent collection.
+     *
+     * @param character the character to query (not {@code null}, unaffected)
+     * @param type the type of event to count (not {@code null})
+     * @return the count (&ge;0)
+     */
+    public int getCount(ConstCharacterVirtual character, EventType type) {
+        long characterVa = character.targetVa();
+        Integer summaryIndex = summaryIndices.get(characterVa);
+        if (summaryIndex == null) {
+            return 0;
+        } else {
+            int result = getCount(summaryIndex, type);
+            return result;
+        }
+    }
+
+    /**
+     * Return the number of events of the specified type in the specified
+     * summary.
+     *
+     * @param summaryIndex the index of the summary (&ge;0, &lt;numSummaries)
+     * @param type the type of event to count (not {@code null})
+     * @return the count (&ge;0)
+     */
+    public int getCount(int summaryIndex, EventType type) {
+        assert summaryIndex >= 0 && summaryIndex < numSummaries : summaryIndex;
+
+        int offset = summaryIndex * summaryBytes + 8 + 4 * type.ordinal();
+        int result = summaries.getInt(offset);
+
+        return result;
+    }
+
+    /**
+     * Return the virtual address of the character in the specified logged
+     * event.
+     *
+     * @param eventIndex the index of the event (&ge;0, &lt;numEvents)
+     * @return the virtual address (not zero)
+     */
+    public long getEventCharacterVa(int eventIndex) {
+        assert eventIndex >= 0 && eventIndex < numEvents : eventIndex;
+        long result = events.getLong(eventIndex * eventBytes);
+        return result;
+    }
+
+    /**
+     * Return the ID of the other body or character in the specified logged
+     * event.
+     *
+     * @param eventIndex the index of the event (&ge;0, &lt;numEvents)
+     * @return a {@code BodyID} or {@code CharacterID} value
+     */
+    public int getEventOtherId(int eventIndex) {
+        assert eventIndex >= 0 && eventIndex < numEvents : eventIndex;
+        int result = events.getInt(eventIndex * eventBytes + 12);
+        return result;
+    }
+
+    /**
+     * Return the ID of the other sub-shape in the specified logged event.
+     *
+     * @param eventIndex the index of the event (&ge;0, &lt;numEvents)
+     * @return a {@code SubShapeID} value
+     */
+    public int getEventSubShapeId(int eventIndex) {
+        assert eventIndex >= 0 && eventIndex < numEvents : eventIndex;
+        int result = events.getInt(eventIndex * eventBytes + 16);
+        return result;
+    }
+
+    /**
+     * Return the type of the specified logged event.
+     *
+     * @param eventIndex the index of the event (&ge;0, &lt;numEvents)
+     * @return an enum value (not {@code null})
+     */
+    public EventType getEventType(int eventIndex) {
+        assert eventIndex >= 0 && eventIndex < numEvents : eventIndex;
+        int ordinal = events.getInt(eventIndex * eventBytes + 8);
+        EventType result = EventType.values()[ordinal];
+
+        return result;
+    }
+
+    /**
+     * Return the virtual address of the character in the specified summary.
+     *
+     * @param summaryIndex the index of the summary (&ge;0, &lt;numSummaries)
+     * @return the virtual address (not zero)
+     */
+    public long getSummaryCharacterVa(int summaryIndex) {
+        assert summaryIndex >= 0 && summaryIndex < numSummaries : summaryIndex;
+        long result = summaries.getLong(summaryIndex * summaryBytes);
+        return result;
+    }
+
+    /**
+     * Test whether contacts with bodies in the specified object layer are
+     * rejected.
+     *
+     * @param objectLayer the index of the layer to test (&ge;0)
+     * @return {@code true} if rejected, otherwise {@code false}
+     */
+    public boolean isLayerIgnored(int objectLayer) {
+        long listenerVa = va();
+        boolean result = isLayerIgnored(listenerVa, objectLayer);
+
+        return result;
+    }
+
+    /**
+     * Allow or prevent characters sliding down stationary walkable slopes.
+     * Preventing it is typically done only while the player isn't steering
+     * the character.
+     *
+     * @param allow {@code true} to allow sliding, {@code false} to prevent it
+     * (default=true)
+     */
+    public void setAllowSliding(boolean allow) {
+        long listenerVa = va();
+        setAllowSliding(listenerVa, allow);
+    }
+
+    /**
+     * Alter the factor applied to body velocities seen by characters. This
+     * determines how strongly moving bodies carry and push characters.
+     *
+     * @param scale the desired scale factor (default=1)
+     */
+    public void setBodyVelocityScale(float scale) {
+        long listenerVa = va();
+        setBodyVelocityScale(listenerVa, scale);
+    }
+
+    /**
+     * Allow or prevent bodies pushing characters.
+     *
+     * @param enable {@code true} to allow, {@code false} to prevent
+     * (default=true)
+     */
+    public void setCanPushCharacter(boolean enable) {
+        long listenerVa = va();
+        setCanPushCharacter(listenerVa, enable);
+    }
+
+    /**
+     * Allow or prevent characters applying impulses to bodies.
+     *
+     * @param enable {@code true} to allow, {@code false} to prevent
+     * (default=true)
+     */
+    public void setCanReceiveImpulses(boolean enable) {
+        long listenerVa = va();
+        setCanReceiveImpulses(listenerVa, enable);
+    }
+
+    /**
+     * Reject or accept contacts with bodies in the specified object layer.
+     * Must not be invoked during an update.
+     *
+     * @param objectLayer the index of the layer to alter (&ge;0)
+     * @param ignore {@code true} to reject contacts, {@code false} to accept
+     * them (default=false)
+     */
+    public void setLayerIgnored(int objectLayer, boolean ignore) {
+        assert objectLayer >= 0 : objectLayer;
+
+        long listenerVa = va();
+        setLayerIgnored(listenerVa, objectLayer, ignore);
+    }
+    // *************************************************************************
+    // CharacterContactListener methods
+
+
+    /**
+     * Never invoked, because this listener handles contacts natively.
+     *
+     * @param characterVa the virtual address of the {@code CharacterVirtual}
+     * (not zero)
+     * @param body2Va the virtual address of the {@code Body} (not zero)
+     * @param velocities the components of the linear and angular velocities
+     * (length&ge;6, may be modified)
+     */
+    @Override
+    public void onAdjustBodyVelocity(
+            long characterVa, long body2Va, float[] velocities) {
+    }
+
+    /**
+     * Never invoked, because this listener handles contacts natively.
+     *
+     * @param characterVa the virtual address of the {@code CharacterVirtual}
+     * being solved (not zero)
+     * @param contactVa the virtual address of the {@code CharacterContact} (not
+     * zero)
+     * @param settingsVa the virtual address of the
+     * {@code CharacterContactSettings} for storing the desired behavior (not
+     * zero)
+     */
+    @Override
+    public void onCharacterContactAdded(
+            long characterVa, long contactVa, long settingsVa) {
+    }
+
+    /**
+     * Never invoked, because this listener handles contacts natively.
+     *
+     * @param characterVa the virtual address of the {@code CharacterVirtual}
+     * being solved (not zero)
+     * @param contactVa the virtual address of the {@code CharacterContact} (not
+     * zero)
+     * @param settingsVa the virtual address of the
+     * {@code CharacterContactSettings} for storing the desired behavior (not
+     * zero)
+     */
+    @Override
+    public void onCharacterContactPersisted(
+            long characterVa, long contactVa, long settingsVa) {
+    }
+
+    /**
+     * Never invoked, because this listener handles contacts natively.
+     *
+     * @param characterVa the virtual address of the {@code CharacterVirtual}
+     * being solved (not zero)
+     * @param otherCharacterId the other character's ID
+     * @param subShapeId2 the {@code SubShapeID} of the shape that is in contact
+     */
+    @Override
+    public void onCharacterContactRemoved(
+            long characterVa, int otherCharacterId, int subShapeId2) {
+    }
+
+    /**
+     * Never invoked, because this listener handles contacts natively.
+     *
+     * @param characterVa the virtual address of the {@code CharacterVirtual}
+     * being solved (not zero)
+     * @param otherCharacterVa the virtual address of the other
+     * {@code CharacterVirtual} (not zero)
+     * @param subShapeId2 the {@code SubShapeID} of the shape that is in contact
+     * @param contactLocationX the X component of the contact location (in
+     * system coordinates)
+     * @param contactLocationY the Y component of the contact location (in
+     * system coordinates)
+     * @param contactLocationZ the Z component of the contact location (in
+     * system coordinates)
+     * @param contactNormalX the X component of the contact normal (in system
+     * coordinates)
+     * @param contactNormalY the Y component of the contact normal (in system
+     * coordinates)
+     * @param contactNormalZ the Z component of the contact normal (in system
+     * coordinates)
+     * @param contactVelocityX the X component of the velocity of the contact
+     * point (meters per second in system coordinates)
+     * @param contactVelocityY the Y component of the velocity of the contact
+     * point (meters per second in system coordinates)
+     * @param contactVelocityZ the Z component of the velocity of the contact
+     * point (meters per second in system coordinates)
+     * @param materialVa the virtual address of the {@code PhysicsMaterial} at
+     * the contact point (not zero)
+     * @param characterVelocityX the X component of the character's prior
+     * velocity (in system coordinates)
+     * @param characterVelocityY the Y component of the character's prior
+     * velocity (in system coordinates)
+     * @param characterVelocityZ the Z component of the character's prior
+     * velocity (in system coordinates)
+     * @param newCharacterVelocity storage for the new velocity vector (in
+     * system coordinates, length&ge;3)
+     */
+    @Override
+    public void onCharacterContactSolve(long characterVa, long otherCharacterVa,
+            int subShapeId2, double contactLocationX,
+            double contactLocationY, double contactLocationZ,
+            float contactNormalX, float contactNormalY, float contactNormalZ,
+            float contactVelocityX, float contactVelocityY,
+            float contactVelocityZ, long materialVa, float characterVelocityX,
+            float characterVelocityY, float characterVelocityZ,
+            float[] newCharacterVelocity) {
+    }
+
+    /**
+     * Never invoked, because this listener handles contacts natively.
+     *
+     * @param characterVa the virtual address of the {@code CharacterVirtual}
+     * being solved (not zero)
+     * @param contactVa the virtual address of the {@code CharacterContact} (not
+     * zero)
+     * @return {@code true} if the contact is valid, otherwise {@code false}
+     */
+    @Override
+    public boolean onCharacterContactValidate(
+            long characterVa, long contactVa) {
+        return true;
+    }
+
+    /**
+     * Never invoked, because this listener handles contacts natively.
+     *
+     * @param characterVa the virtual address of the {@code CharacterVirtual}
+     * being solved (not zero)
+     * @param contactVa the virtual address of the {@code CharacterContact} (not
+     * zero)
+     * @param settingsVa the virtual address of the
+     * {@code CharacterContactSettings} for storing the desired behavior (not
+     * zero)
+     */
+    @Override
+    public void onContactAdded(
+            long characterVa, long contactVa, long settingsVa) {
+    }
+
+    /**
+     * Never invoked, because this listener handles contacts natively.
+     *
+     * @param characterVa the virtual address of the {@code CharacterVirtual}
+     * being solved (not zero)
+     * @param contactVa the virtual address of the {@code CharacterContact} (not
+     * zero)
+     * @param settingsVa the virtual address of the
+     * {@code CharacterContactSettings} for storing the desired behavior (not
+     * zero)
+     */
+    @Override
+    public void onContactPersisted(
+            long characterVa, long contactVa, long settingsVa) {
+    }
+
+    /**
+     * Never invoked, because this listener handles contacts natively.
+     *
+     * @param characterVa the virtual address of the {@code CharacterVirtual}
+     * being solved (not zero)
+     * @param bodyId2 the ID of the body being solved
+     * @param subShapeId2 the {@code SubShapeID} of the shape that is in contact
+     */
+    @Override
+    public void onContactRemoved(
+            long characterVa, int bodyId2, int subShapeId2) {
+    }
+
+    /**
+     * Never invoked, because this listener handles contacts natively.
+     *
+     * @param characterVa the virtual address of the {@code CharacterVirtual}
+     * being solved (not zero)
+     * @param bodyId2 the ID of the body being solved
+     * @param subShapeId2 the {@code SubShapeID} of the shape that is in contact
+     * @param contactLocationX the X component of the contact location (in
+     * system coordinates)
+     * @param contactLocationY the Y component of the contact location (in
+     * system coordinates)
+     * @param contactLocationZ the Z component of the contact location (in
+     * system coordinates)
+     * @param contactNormalX the X component of the contact normal (in system
+     * coordinates)
+     * @param contactNormalY the Y component of the contact normal (in system
+     * coordinates)
+     * @param contactNormalZ the Z component of the contact normal (in system
+     * coordinates)
+     * @param contactVelocityX the X component of the velocity of the contact
+     * point (meters per second in system coordinates)
+     * @param contactVelocityY the Y component of the velocity of the contact
+     * point (meters per second in system coordinates)
+     * @param contactVelocityZ the Z component of the velocity of the contact
+     * point (meters per second in system coordinates)
+     * @param materialVa the virtual address of the {@code PhysicsMaterial} at
+     * the contact point (not zero)
+     * @param characterVelocityX the X component of the character's prior
+     * velocity (meters per second in system coordinates)
+     * @param characterVelocityY the Y component of the character's prior
+     * velocity (meters per second in system coordinates)
+     * @param characterVelocityZ the Z component of the character's prior
+     * velocity (meters per second in system coordinates)
+     * @param newCharacterVelocity storage for the new velocity vector (in
+     * system coordinates, length&ge;3)
+     */
+    @Override
+    public void onContactSolve(long characterVa, int bodyId2, int subShapeId2,
+            double contactLocationX, double contactLocationY,
+            double contactLocationZ, float contactNormalX, float contactNormalY,
+            float contactNormalZ, float contactVelocityX,
+            float contactVelocityY, float contactVelocityZ,
+            long materialVa, float characterVelocityX, float characterVelocityY,
+            float characterVelocityZ, float[] newCharacterVelocity) {
+    }
+
+    /**
+     * Never invoked, because this listener handles contacts natively.
+     *
+     * @param characterVa the virtual address of the {@code CharacterVirtual}
+     * being solved (not zero)
+     * @param contactVa the virtual address of the {@code CharacterContact} (not
+     * zero)
+     * @return {@code true} if the contact is valid, otherwise {@code false}
+     */
+    @Override
+    public boolean onContactValidate(long characterVa, long contactVa) {
+        return true;
+    }
+    // *************************************************************************
+    // native private methods
+
+    native private static int collect(
+            long listenerVa, ByteBuffer summaries, ByteBuffer events);
+
+    native private static int countEvents(long listenerVa);
+
+    native private static int countSummaries(long listenerVa);
+
+    native private static long create(long systemVa, int maxEvents);
+
+    native private static void free(long listenerVa);
+
+    native private static boolean getAllowSliding(long listenerVa);
+
+    native private static float getBodyVelocityScale(long listenerVa);
+
+    native private static boolean getCanPushCharacter(long listenerVa);
+
+    native private static boolean getCanReceiveImpulses(long listenerVa);
+
+    native private static boolean isLayerIgnored(
+            long listenerVa, int objectLayer);
+
+    native private static void setAllowSliding(long listenerVa, boolean allow);
+
+    native private static void setBodyVelocityScale(
+            long listenerVa, float scale);
+
+    native private static void setCanPushCharacter(
+            long listenerVa, boolean enable);
+
+    native private static void setCanReceiveImpulses(
+            long listenerVa, boolean enable);
+
+    native private static void setLayerIgnored(
+            long listenerVa, int objectLayer, boolean ignore);
+}
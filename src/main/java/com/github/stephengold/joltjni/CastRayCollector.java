@@ -36,6 +36,17 @@ abstract public class CastRayCollector extends JoltPhysicsObject {
      */
     CastRayCollector() {
     }
+
+    /**
+     * Instantiate with the specified container and native object.
+     *
+     * @param container the containing object, or {@code null} if none
+     * @param collectorVa the virtual address of the native object to assign
+     * (not zero)
+     */
+    CastRayCollector(JoltPhysicsObject container, long collectorVa) {
+        super(container, collectorVa);
+    }
     // *************************************************************************
     // new methods exposed
 
@@ -166,6 +166,21 @@ abstract public class CharacterBase
         return result;
     }
 
+    /**
+     * Copy the normal direction at the point of contact with the supporting
+     * surface. The character is unaffected.
+     *
+     * @param storeResult storage for the direction vector (in system
+     * coordinates, not {@code null}, modified)
+     */
+    @Override
+    public void getGroundNormal(Vec3 storeResult) {
+        long characterVa = va();
+        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
+        getGroundNormal(characterVa, storeFloats);
+        storeResult.set(storeFloats);
+    }
+
     /**
      * Copy the location of the point of contact with the supporting surface.
      * The character is unaffected.
@@ -182,6 +197,21 @@ abstract public class CharacterBase
         return result;
     }
 
+    /**
+     * Copy the location of the point of contact with the supporting surface.
+     * The character is unaffected.
+     *
+     * @param storeResult storage for the location vector (in system
+     * coordinates, not {@code null}, modified)
+     */
+    @Override
+    public void getGroundPosition(RVec3 storeResult) {
+        long characterVa = va();
+        DoubleBuffer storeDoubles = Temporaries.doubleBuffer1.get();
+        getGroundPosition(characterVa, storeDoubles);
+        storeResult.set(storeDoubles);
+    }
+
     /**
      * Return the relationship between the character and its supporting surface.
      * The character is unaffected.
@@ -241,6 +271,21 @@ abstract public class CharacterBase
         return result;
     }
 
+    /**
+     * Copy the world-space velocity of the supporting surface. The character is
+     * unaffected.
+     *
+     * @param storeResult storage for the velocity vector (meters per second in
+     * system coordinates, not {@code null}, modified)
+     */
+    @Override
+    public void getGroundVelocity(Vec3 storeResult) {
+        long characterVa = va();
+        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
+        getGroundVelocity(characterVa, storeFloats);
+        storeResult.set(storeFloats);
+    }
+
     /**
      * Access the character's shape. The character is unaffected.
      *
@@ -300,6 +345,20 @@ abstract public class CharacterBase
         return result;
     }
 
+    /**
+     * Copy the character's "up" direction. The character is unaffected.
+     *
+     * @param storeResult storage for the direction vector (not {@code null},
+     * modified)
+     */
+    @Override
+    public void getUp(Vec3 storeResult) {
+        long characterVa = va();
+        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
+        getUp(characterVa, storeFloats);
+        storeResult.set(storeFloats);
+    }
+
     /**
      * Test whether the specified normal direction is too steep. The character
      * is unaffected.
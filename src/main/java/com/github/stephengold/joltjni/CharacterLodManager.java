@@ -0,0 +1,676 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import com.github.stephengold.joltjni.readonly.ConstExtendedUpdateSettings;
+import com.github.stephengold.joltjni.readonly.RVec3Arg;
+import com.github.stephengold.joltjni.readonly.Vec3Arg;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reduce the per-tick cost of characters that are far from every focus point
+ * (typically the players' cameras) by updating them less often or more
+ * cheaply.
+ * <p>
+ * Each character is assigned to one of 3 tiers, based on its distance to the
+ * nearest focus point:
+ * <ul>
+ * <li>{@code Full} characters are updated every tick,</li>
+ * <li>{@code Reduced} characters are updated once every few ticks, using the
+ * time accumulated since their previous update, and</li>
+ * <li>{@code GroundSnap} characters are moved horizontally at their current
+ * velocity and snapped to the floor, without any collision response.</li>
+ * </ul>
+ * Tier boundaries use hysteresis so characters near a boundary don't flip
+ * back and forth. Updates of reduced-rate characters are staggered so their
+ * cost is spread evenly across ticks. Time is never dropped: a character
+ * that's promoted to a higher tier is first brought up to date using all its
+ * pending time.
+ * <p>
+ * {@code CharacterVirtual} instances are stepped by {@code update()}, which
+ * should be invoked before the physics system is updated. {@code Character}
+ * instances are simulated as bodies, so only their post-simulation ground
+ * query is rate-limited, by {@code postSimulation()}, which should be invoked
+ * after the physics system is updated.
+ * <p>
+ * Instances aren't thread-safe.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class CharacterLodManager {
+    // *************************************************************************
+    // enums
+
+    /**
+     * Enumerate the update tiers, from most to least expensive.
+     */
+    public enum Tier {
+        /**
+         * extended update every tick
+         */
+        Full,
+        /**
+         * extended update every few ticks
+         */
+        Reduced,
+        /**
+         * horizontal motion plus floor snapping every few ticks
+         */
+        GroundSnap
+    }
+    // *************************************************************************
+    // fields
+
+    /**
+     * minimum distance from the nearest focus point for the {@code Reduced}
+     * tier (in meters, &ge;0)
+     */
+    private double fullDistance = 20.;
+    /**
+     * fraction by which a demotion threshold exceeds the corresponding
+     * promotion threshold (&ge;0)
+     */
+    private double hysteresis = 0.1;
+    /**
+     * minimum distance from the nearest focus point for the
+     * {@code GroundSnap} tier (in meters, &ge;fullDistance)
+     */
+    private double reducedDistance = 60.;
+    /**
+     * maximum time step passed to a single native update (in seconds, &gt;0)
+     */
+    private float maxStep = 0.1f;
+    /**
+     * default number of ticks between updates in the {@code GroundSnap} tier
+     * (&ge;1)
+     */
+    private int groundSnapDivisor = 8;
+    /**
+     * default number of ticks between updates in the {@code Reduced} tier
+     * (&ge;1)
+     */
+    private int reducedDivisor = 3;
+    /**
+     * number of invocations of {@code postSimulation()}
+     */
+    private long postSimulationCount;
+    /**
+     * number of invocations of {@code update()}
+     */
+    private long updateCount;
+    /**
+     * characters in order of addition
+     */
+    final private List<Entry> entries = new ArrayList<>(64);
+    /**
+     * locations of the focus points
+     */
+    final private List<RVec3> focuses = new ArrayList<>(4);
+    /**
+     * map characters to their entries
+     */
+    final private Map<CharacterBase, Entry> map = new IdentityHashMap<>(64);
+    /**
+     * reusable temporary for locations
+     */
+    final private RVec3 tmpLocation = new RVec3();
+    /**
+     * reusable temporary for step-down vectors
+     */
+    final private Vec3 tmpStepDown = new Vec3();
+    /**
+     * reusable temporary for "up" directions
+     */
+    final private Vec3 tmpUp = new Vec3();
+    /**
+     * reusable temporary for velocities
+     */
+    final private Vec3 tmpVelocity = new Vec3();
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a manager with no characters and no focus points.
+     */
+    public CharacterLodManager() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Add the specified character to the manager, initially in the
+     * {@code Full} tier.
+     *
+     * @param character the character to add (not {@code null}, not already
+     * added, alias created)
+     */
+    public void add(CharacterBase character) {
+        assert character instanceof Character
+                || character instanceof CharacterVirtual : character;
+        assert !map.containsKey(character);
+
+        // Stagger reduced-rate updates across ticks:
+        int stagger = entries.size();
+        Entry entry = new Entry(character, stagger);
+        entries.add(entry);
+        map.put(character, entry);
+    }
+
+    /**
+     * Add a focus point.
+     *
+     * @param location the location of the new focus point (not {@code null},
+     * unaffected)
+     * @return the index of the new focus point (&ge;0)
+     */
+    public int addFocus(RVec3Arg location) {
+        int result = focuses.size();
+        focuses.add(new RVec3(location));
+
+        return result;
+    }
+
+    /**
+     * Remove all focus points. Until a focus point is added, all characters
+     * will be promoted to the {@code Full} tier.
+     */
+    public void clearFocuses() {
+        focuses.clear();
+    }
+
+    /**
+     * Count the managed characters currently in the specified tier.
+     *
+     * @param tier the tier to count (not {@code null})
+     * @return the count (&ge;0)
+     */
+    public int countCharacters(Tier tier) {
+        int result = 0;
+        for (Entry entry : entries) {
+            if (entry.tier == tier) {
+                ++result;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Count the focus points.
+     *
+     * @return the count (&ge;0)
+     */
+    public int countFocuses() {
+        int result = focuses.size();
+        return result;
+    }
+
+    /**
+     * Return the number of ticks between updates in the specified tier,
+     * unless overridden for an individual character.
+     *
+     * @param tier the tier to query (not {@code null})
+     * @return the number of ticks (&ge;1)
+     */
+    public int getDivisor(Tier tier) {
+        switch (tier) {
+            case Full:
+                return 1;
+            case Reduced:
+                return reducedDivisor;
+            case GroundSnap:
+                return groundSnapDivisor;
+            default:
+                throw new IllegalArgumentException("tier = " + tier);
+        }
+    }
+
+    /**
+     * Return the time accumulated by the specified character since its
+     * previous update.
+     *
+     * @param character the character to query (not {@code null}, managed)
+     * @return the elapsed time (in seconds, &ge;0)
+     */
+    public float getPendingTime(CharacterBase character) {
+        Entry entry = map.get(character);
+        float result = entry.pendingTime;
+
+        return result;
+    }
+
+    /**
+     * Return the tier of the specified character.
+     *
+     * @param character the character to query (not {@code null}, managed)
+     * @return the tier (not {@code null})
+     */
+    public Tier getTier(CharacterBase character) {
+        Entry entry = map.get(character);
+        Tier result = entry.tier;
+
+        return result;
+    }
+
+    /**
+     * Rate-limit {@code Character.postSimulation()} for the managed
+     * {@code Character} instances, according to their tiers. Invoke once per
+     * tick, after the physics system has been updated.
+     *
+     * @param maxSeparation the maximum separation to pass to
+     * {@code postSimulation()} (in meters)
+     * @param lockBodies {@code true} to lock the bodies, {@code false} if
+     * they're already locked
+     * @return the number of characters updated (&ge;0)
+     */
+    public int postSimulation(float maxSeparation, boolean lockBodies) {
+        int result = 0;
+        for (Entry entry : entries) {
+            if (entry.character instanceof Character) {
+                Character character = (Character) entry.character;
+                RVec3 location = character.getPosition(lockBodies);
+                tmpLocation.set(location);
+                classify(entry);
+                if (isDue(entry, postSimulationCount)) {
+                    character.postSimulation(maxSeparation, lockBodies);
+                    entry.pendingTicks = 0;
+                    ++result;
+                }
+            }
+        }
+        ++postSimulationCount;
+
+        return result;
+    }
+
+    /**
+     * Remove the specified character from the manager. Any pending time is
+     * discarded.
+     *
+     * @param character the character to remove (not {@code null})
+     * @return {@code true} if the character was managed, otherwise
+     * {@code false}
+     */
+    public boolean remove(CharacterBase character) {
+        Entry entry = map.remove(character);
+        if (entry == null) {
+            return false;
+        } else {
+            entries.remove(entry);
+            return true;
+        }
+    }
+
+    /**
+     * Alter the number of ticks between updates in the specified tier.
+     *
+     * @param tier the tier to alter (not {@code null}, not {@code Full})
+     * @param divisor the desired number of ticks (&ge;1, default=3 for
+     * {@code Reduced} or 8 for {@code GroundSnap})
+     */
+    public void setDivisor(Tier tier, int divisor) {
+        assert divisor >= 1 : divisor;
+        switch (tier) {
+            case Reduced:
+                this.reducedDivisor = divisor;
+                break;
+            case GroundSnap:
+                this.groundSnapDivisor = divisor;
+                break;
+            default:
+                throw new IllegalArgumentException("tier = " + tier);
+        }
+    }
+
+    /**
+     * Override the number of ticks between updates for the specified
+     * character. The override doesn't apply in the {@code Full} tier.
+     *
+     * @param character the character to alter (not {@code null}, managed)
+     * @param divisor the desired number of ticks (&ge;1), or 0 to use the
+     * tier's divisor (default=0)
+     */
+    public void setDivisor(CharacterBase character, int divisor) {
+        assert divisor >= 0 : divisor;
+        Entry entry = map.get(character);
+        entry.divisor = divisor;
+    }
+
+    /**
+     * Alter the location of the specified focus point.
+     *
+     * @param index the index of the focus point (&ge;0, &lt;numFocuses)
+     * @param location the desired location (not {@code null}, unaffected)
+     */
+    public void setFocus(int index, RVec3Arg location) {
+        RVec3 focus = focuses.get(index);
+        focus.set(location);
+    }
+
+    /**
+     * Pin the specified character to a tier, regardless of distance.
+     *
+     * @param character the character to alter (not {@code null}, managed)
+     * @param tier the desired tier, or {@code null} to select the tier based
+     * on distance (default=null)
+     */
+    public void setForcedTier(CharacterBase character, Tier tier) {
+        Entry entry = map.get(character);
+        entry.forcedTier = tier;
+    }
+
+    /**
+     * Alter the fraction by which demotion thresholds exceed promotion
+     * thresholds.
+     *
+     * @param fraction the desired fraction (&ge;0, default=0.1)
+     */
+    public void setHysteresis(double fraction) {
+        assert fraction >= 0. : fraction;
+        this.hysteresis = fraction;
+    }
+
+    /**
+     * Alter the maximum time step passed to a single native update. Pending
+     * time in excess of this is simulated using multiple updates, to avoid
+     * tunneling.
+     *
+     * @param maxStep the desired maximum (in seconds, &gt;0, default=0.1)
+     */
+    public void setMaxStep(float maxStep) {
+        assert maxStep > 0f : maxStep;
+        this.maxStep = maxStep;
+    }
+
+    /**
+     * Alter the distances at which characters are promoted to the
+     * {@code Full} and {@code Reduced} tiers.
+     *
+     * @param fullDistance the distance from the nearest focus point within
+     * which characters are in the {@code Full} tier (in meters, &ge;0,
+     * default=20)
+     * @param reducedDistance the distance from the nearest focus point within
+     * which characters are in the {@code Reduced} tier or better (in meters,
+     * &ge;fullDistance, default=60)
+     */
+    public void setTierDistances(double fullDistance, double reducedDistance) {
+        assert fullDistance >= 0. : fullDistance;
+        assert reducedDistance >= fullDistance : reducedDistance;
+
+        this.fullDistance = fullDistance;
+        this.reducedDistance = reducedDistance;
+    }
+
+    /**
+     * Count the managed characters.
+     *
+     * @return the count (&ge;0)
+     */
+    public int size() {
+        int result = entries.size();
+        return result;
+    }
+
+    /**
+     * Advance the managed {@code CharacterVirtual} instances by one tick,
+     * according to their tiers. Invoke once per tick, before the physics
+     * system is updated.
+     *
+     * @param deltaTime the duration of the tick (in seconds, &ge;0)
+     * @param gravity the gravity acceleration vector (in meters per second
+     * squared, not {@code null}, unaffected)
+     * @param settings settings to use (not {@code null}, unaffected)
+     * @param bpFilter to test whether a character collides with a broad-phase
+     * layer (not {@code null}, unaffected)
+     * @param olFilter to test whether a character collides with an object
+     * layer (not {@code null}, unaffected)
+     * @param bodyFilter to test whether a character collides with a body (not
+     * {@code null}, unaffected)
+     * @param shapeFilter to test whether a character collides with a shape
+     * (not {@code null}, unaffected)
+     * @param allocator the desired allocator (not {@code null})
+     * @return the number of characters updated (&ge;0)
+     */
+    public int update(float deltaTime, Vec3Arg gravity,
+            ConstExtendedUpdateSettings settings,
+            BroadPhaseLayerFilter bpFilter, ObjectLayerFilter olFilter,
+            BodyFilter bodyFilter, ShapeFilter shapeFilter,
+            TempAllocator allocator) {
+        assert deltaTime >= 0f : deltaTime;
+
+        Vec3 stepDown = settings.getStickToFloorStepDown();
+        int result = 0;
+        for (Entry entry : entries) {
+            if (!(entry.character instanceof CharacterVirtual)) {
+                continue;
+            }
+            CharacterVirtual character = (CharacterVirtual) entry.character;
+            entry.pendingTime += deltaTime;
+
+            character.getPosition(tmpLocation);
+            classify(entry);
+            if (!isDue(entry, updateCount)) {
+                continue;
+            }
+
+            if (entry.tier == Tier.GroundSnap) {
+                snap(character, entry.pendingTicks, entry.pendingTime,
+                        stepDown, bpFilter, olFilter, bodyFilter, shapeFilter,
+                        allocator);
+            } else {
+                float remaining = entry.pendingTime;
+                while (remaining > 0f) {
+                    float step = Math.min(remaining, maxStep);
+                    character.extendedUpdate(step, gravity, settings,
+                            bpFilter, olFilter, bodyFilter, shapeFilter,
+                            allocator);
+                    remaining -= step;
+                }
+            }
+            entry.pendingTime = 0f;
+            entry.pendingTicks = 0;
+            ++result;
+        }
+        ++updateCount;
+
+        return result;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Re-evaluate the tier of the specified entry, given the location of its
+     * character in {@code tmpLocation}.
+     *
+     * @param entry the entry to update (not {@code null}, modified)
+     */
+    private void classify(Entry entry) {
+        Tier oldTier = entry.tier;
+        Tier newTier;
+        if (entry.forcedTier != null) {
+            newTier = entry.forcedTier;
+
+        } else if (focuses.isEmpty()) {
+            newTier = Tier.Full;
+
+        } else {
+            double minSquared = Double.POSITIVE_INFINITY;
+            for (RVec3 focus : focuses) {
+                double dx = tmpLocation.xx() - focus.xx();
+                double dy = tmpLocation.yy() - focus.yy();
+                double dz = tmpLocation.zz() - focus.zz();
+                double squared = dx * dx + dy * dy + dz * dz;
+                minSquared = Math.min(minSquared, squared);
+            }
+            double distance = Math.sqrt(minSquared);
+
+            // Demotion requires exceeding the threshold by the hysteresis:
+            double demote = 1. + hysteresis;
+            double fullLimit = (oldTier == Tier.Full)
+                    ? demote * fullDistance : fullDistance;
+            double reducedLimit = (oldTier == Tier.GroundSnap)
+                    ? reducedDistance : demote * reducedDistance;
+            if (distance <= fullLimit) {
+                newTier = Tier.Full;
+            } else if (distance <= reducedLimit) {
+                newTier = Tier.Reduced;
+            } else {
+                newTier = Tier.GroundSnap;
+            }
+        }
+
+        entry.tier = newTier;
+    }
+
+    /**
+     * Return the number of ticks between updates of the specified entry.
+     *
+     * @param entry the entry to query (not {@code null}, unaffected)
+     * @return the number of ticks (&ge;1)
+     */
+    private int divisor(Entry entry) {
+        int result;
+        if (entry.tier == Tier.Full) {
+            result = 1;
+        } else if (entry.divisor > 0) {
+            result = entry.divisor;
+        } else {
+            result = getDivisor(entry.tier);
+        }
+
+        return result;
+    }
+
+    /**
+     * Test whether the specified entry should be updated during the current
+     * tick. Entries in the {@code Full} tier are always due. Other entries
+     * are due once every few ticks, with phases staggered by entry.
+     *
+     * @param entry the entry to test (not {@code null}, modified)
+     * @param tickCount the number of ticks already completed (&ge;0)
+     * @return {@code true} if due, otherwise {@code false}
+     */
+    private boolean isDue(Entry entry, long tickCount) {
+        ++entry.pendingTicks;
+        int divisor = divisor(entry);
+        boolean result = (tickCount + entry.phase) % divisor == 0L;
+
+        // Never let an entry wait longer than its divisor:
+        if (entry.pendingTicks >= divisor) {
+            result = true;
+        }
+
+        return result;
+    }
+
+    /**
+     * Move the specified character horizontally at its current velocity and
+     * snap it to the floor, without collision response.
+     *
+     * @param character the character to move (not {@code null})
+     * @param numTicks the number of ticks since its previous update (&ge;1)
+     * @param elapsedTime the time since its previous update (in seconds)
+     * @param stepDown the per-tick step-down vector (not {@code null},
+     * unaffected)
+     * @param bpFilter the broadphase filter (not {@code null})
+     * @param olFilter the object-layer filter (not {@code null})
+     * @param bodyFilter the body filter (not {@code null})
+     * @param shapeFilter the shape filter (not {@code null})
+     * @param allocator the desired allocator (not {@code null})
+     */
+    private void snap(CharacterVirtual character, int numTicks,
+            float elapsedTime, Vec3Arg stepDown,
+            BroadPhaseLayerFilter bpFilter, ObjectLayerFilter olFilter,
+            BodyFilter bodyFilter, ShapeFilter shapeFilter,
+            TempAllocator allocator) {
+        character.getLinearVelocity(tmpVelocity);
+        character.getUp(tmpUp);
+
+        // Discard the vertical component of the velocity:
+        float vUp = tmpVelocity.dot(tmpUp);
+        float vx = tmpVelocity.getX() - vUp * tmpUp.getX();
+        float vy = tmpVelocity.getY() - vUp * tmpUp.getY();
+        float vz = tmpVelocity.getZ() - vUp * tmpUp.getZ();
+        tmpLocation.set(tmpLocation.xx() + vx * elapsedTime,
+                tmpLocation.yy() + vy * elapsedTime,
+                tmpLocation.zz() + vz * elapsedTime);
+        character.setPosition(tmpLocation);
+        character.setLinearVelocity(vx, vy, vz);
+
+        // Allow for the slope traversed during all the skipped ticks:
+        tmpStepDown.set(numTicks * stepDown.getX(),
+                numTicks * stepDown.getY(), numTicks * stepDown.getZ());
+        character.stickToFloor(tmpStepDown, bpFilter, olFilter, bodyFilter,
+                shapeFilter, allocator);
+    }
+    // *************************************************************************
+    // nested classes
+
+    /**
+     * Per-character state.
+     */
+    private static class Entry {
+        /**
+         * the managed character
+         */
+        final private CharacterBase character;
+        /**
+         * number of ticks between updates, or 0 to use the tier's divisor
+         */
+        private int divisor;
+        /**
+         * offset used to stagger updates (&ge;0)
+         */
+        final private int phase;
+        /**
+         * number of ticks since the previous update
+         */
+        private int pendingTicks;
+        /**
+         * time since the previous update (in seconds)
+         */
+        private float pendingTime;
+        /**
+         * current tier
+         */
+        private Tier tier = Tier.Full;
+        /**
+         * pinned tier, or {@code null} to select the tier based on distance
+         */
+        private Tier forcedTier;
+
+        /**
+         * Instantiate an entry for the specified character.
+         *
+         * @param character the character to manage (not {@code null}, alias
+         * created)
+         * @param stagger an arbitrary integer used to stagger updates
+         */
+        Entry(CharacterBase character, int stagger) {
+            this.character = character;
+            this.phase = stagger;
+        }
+    }
+}
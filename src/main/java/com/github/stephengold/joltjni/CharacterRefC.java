@@ -221,6 +221,21 @@ final public class CharacterRefC
         return result;
     }
 
+    /**
+     * Copy the normal direction at the point of contact with the supporting
+     * surface. The character is unaffected.
+     *
+     * @param storeResult storage for the direction vector (in system
+     * coordinates, not {@code null}, modified)
+     */
+    @Override
+    public void getGroundNormal(Vec3 storeResult) {
+        long characterVa = targetVa();
+        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
+        CharacterBase.getGroundNormal(characterVa, storeFloats);
+        storeResult.set(storeFloats);
+    }
+
     /**
      * Copy the location of the point of contact with the supporting surface.
      * The character is unaffected.
@@ -237,6 +252,21 @@ final public class CharacterRefC
         return result;
     }
 
+    /**
+     * Copy the location of the point of contact with the supporting surface.
+     * The character is unaffected.
+     *
+     * @param storeResult storage for the location vector (in system
+     * coordinates, not {@code null}, modified)
+     */
+    @Override
+    public void getGroundPosition(RVec3 storeResult) {
+        long characterVa = targetVa();
+        DoubleBuffer storeDoubles = Temporaries.doubleBuffer1.get();
+        CharacterBase.getGroundPosition(characterVa, storeDoubles);
+        storeResult.set(storeDoubles);
+    }
+
     /**
      * Return the relationship between the character and its supporting surface.
      * The character is unaffected.
@@ -296,6 +326,21 @@ final public class CharacterRefC
         return result;
     }
 
+    /**
+     * Copy the world-space velocity of the supporting surface. The character is
+     * unaffected.
+     *
+     * @param storeResult storage for the velocity vector (meters per second in
+     * system coordinates, not {@code null}, modified)
+     */
+    @Override
+    public void getGroundVelocity(Vec3 storeResult) {
+        long characterVa = targetVa();
+        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
+        CharacterBase.getGroundVelocity(characterVa, storeFloats);
+        storeResult.set(storeFloats);
+    }
+
     /**
      * Return the character's object layer, using the locking body interface.
      * The character is unaffected.
@@ -564,6 +609,20 @@ final public class CharacterRefC
         return result;
     }
 
+    /**
+     * Copy the character's "up" direction. The character is unaffected.
+     *
+     * @param storeResult storage for the direction vector (not {@code null},
+     * modified)
+     */
+    @Override
+    public void getUp(Vec3 storeResult) {
+        long characterVa = targetVa();
+        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
+        CharacterBase.getUp(characterVa, storeFloats);
+        storeResult.set(storeFloats);
+    }
+
     /**
      * Calculate the character's local-to-system coordinate transform using the
      * locking body interface. The character is unaffected.
@@ -379,6 +379,77 @@ public class CharacterVirtual
         setUserData(characterVa, userData);
     }
 
+    /**
+     * Snap the character down to the floor, provided it's within the specified
+     * step-down distance.
+     *
+     * @param stepDown the maximum offset to apply (not {@code null},
+     * unaffected)
+     * @param broadPhaseLayerFilter the broadphase filter used to test for
+     * collisions (not {@code null})
+     * @param objectLayerFilter the object-layer filter used to test for
+     * collisions (not {@code null})
+     * @param bodyFilter the body filter used to test for collisions (not
+     * {@code null})
+     * @param shapeFilter the shape filter used to test for collisions (not
+     * {@code null})
+     * @param allocator the desired allocator (not {@code null})
+     * @return {@code true} if the character was moved, otherwise {@code false}
+     */
+    public boolean stickToFloor(Vec3Arg stepDown,
+            BroadPhaseLayerFilter broadPhaseLayerFilter,
+            ObjectLayerFilter objectLayerFilter, BodyFilter bodyFilter,
+            ShapeFilter shapeFilter, TempAllocator allocator) {
+        long characterVa = va();
+        float dx = stepDown.getX();
+        float dy = stepDown.getY();
+        float dz = stepDown.getZ();
+        long bplFilterVa = broadPhaseLayerFilter.va();
+        long olFilterVa = objectLayerFilter.va();
+        long bodyFilterVa = bodyFilter.va();
+        long shapeFilterVa = shapeFilter.va();
+        long allocatorVa = allocator.va();
+        boolean result = stickToFloor(characterVa, dx, dy, dz,
+                bplFilterVa, olFilterVa, bodyFilterVa, shapeFilterVa,
+                allocatorVa);
+
+        return result;
+    }
+
+    /**
+     * Update the character's position and contacts without any of the
+     * stair-walking or floor-sticking extras of {@code extendedUpdate()}.
+     *
+     * @param deltaTime the time step to simulate (in seconds, &ge;0)
+     * @param gravity the gravity acceleration (in meters per second squared,
+     * not {@code null}, unaffected)
+     * @param broadPhaseLayerFilter the broadphase filter used to test for
+     * collisions (not {@code null})
+     * @param objectLayerFilter the object-layer filter used to test for
+     * collisions (not {@code null})
+     * @param bodyFilter the body filter used to test for collisions (not
+     * {@code null})
+     * @param shapeFilter the shape filter used to test for collisions (not
+     * {@code null})
+     * @param allocator the desired allocator (not {@code null})
+     */
+    public void update(float deltaTime, Vec3Arg gravity,
+            BroadPhaseLayerFilter broadPhaseLayerFilter,
+            ObjectLayerFilter objectLayerFilter, BodyFilter bodyFilter,
+            ShapeFilter shapeFilter, TempAllocator allocator) {
+        long characterVa = va();
+        float gx = gravity.getX();
+        float gy = gravity.getY();
+        float gz = gravity.getZ();
+        long bplFilterVa = broadPhaseLayerFilter.va();
+        long olFilterVa = objectLayerFilter.va();
+        long bodyFilterVa = bodyFilter.va();
+        long shapeFilterVa = shapeFilter.va();
+        long allocatorVa = allocator.va();
+        update(characterVa, deltaTime, gx, gy, gz, bplFilterVa,
+                olFilterVa, bodyFilterVa, shapeFilterVa, allocatorVa);
+    }
+
     /**
      * Update the estimated ground velocity.
      */
@@ -424,6 +495,25 @@ public class CharacterVirtual
         return result;
     }
 
+    /**
+     * Convert the specified velocity to one that won't climb steep slopes. The
+     * character is unaffected.
+     *
+     * @param desiredVelocity velocity vector (in system coordinates, not
+     * {@code null}, unaffected)
+     * @param storeResult storage for the velocity vector (in system
+     * coordinates, not {@code null}, modified)
+     */
+    @Override
+    public void cancelVelocityTowardsSteepSlopes(
+            Vec3Arg desiredVelocity, Vec3 storeResult) {
+        long characterVa = va();
+        FloatBuffer storeVelocity = Temporaries.floatBuffer1.get();
+        desiredVelocity.copyTo(storeVelocity);
+        cancelVelocityTowardsSteepSlopes(characterVa, storeVelocity);
+        storeResult.set(storeVelocity);
+    }
+
     /**
      * Test whether the character has moved onto a steep slope. The character is
      * unaffected.
@@ -477,6 +567,21 @@ public class CharacterVirtual
         return result;
     }
 
+    /**
+     * Calculate the location of the character's center of mass. The character
+     * is unaffected.
+     *
+     * @param storeResult storage for the location vector (in system
+     * coordinates, not {@code null}, modified)
+     */
+    @Override
+    public void getCenterOfMassPosition(RVec3 storeResult) {
+        long characterVa = va();
+        DoubleBuffer storeDoubles = Temporaries.doubleBuffer1.get();
+        getCenterOfMassPosition(characterVa, storeDoubles);
+        storeResult.set(storeDoubles);
+    }
+
     /**
      * Calculate the local-to-system transform of the character's center of
      * mass. The character is unaffected.
@@ -492,6 +597,20 @@ public class CharacterVirtual
         return result;
     }
 
+    /**
+     * Calculate the local-to-system transform of the character's center of
+     * mass. The character is unaffected.
+     *
+     * @param storeResult storage for the coordinate transform matrix (not
+     * {@code null}, modified)
+     */
+    @Override
+    public void getCenterOfMassTransform(RMat44 storeResult) {
+        long characterVa = va();
+        long storeVa = storeResult.va();
+        getCenterOfMassTransformInto(characterVa, storeVa);
+    }
+
     /**
      * Return the thickness of the character's padding. The character is
      * unaffected.
@@ -594,6 +713,20 @@ public class CharacterVirtual
         return result;
     }
 
+    /**
+     * Copy the linear velocity of the character. The character is unaffected.
+     *
+     * @param storeResult storage for the velocity vector (meters per second in
+     * system coordinates, not {@code null}, modified)
+     */
+    @Override
+    public void getLinearVelocity(Vec3 storeResult) {
+        long characterVa = va();
+        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
+        getLinearVelocity(characterVa, storeFloats);
+        storeResult.set(storeFloats);
+    }
+
     /**
      * Return the character's mass. The character is unaffected.
      *
@@ -687,6 +820,20 @@ public class CharacterVirtual
         return result;
     }
 
+    /**
+     * Copy the location of the character. The character is unaffected.
+     *
+     * @param storeResult storage for the location vector (in system
+     * coordinates, not {@code null}, modified)
+     */
+    @Override
+    public void getPosition(RVec3 storeResult) {
+        long characterVa = va();
+        DoubleBuffer storeDoubles = Temporaries.doubleBuffer1.get();
+        getPosition(characterVa, storeDoubles);
+        storeResult.set(storeDoubles);
+    }
+
     /**
      * Copy the position of the character. The character is unaffected.
      *
@@ -724,6 +871,20 @@ public class CharacterVirtual
         return result;
     }
 
+    /**
+     * Copy the orientation of the character. The character is unaffected.
+     *
+     * @param storeResult storage for the rotation quaternion (in system
+     * coordinates, not {@code null}, modified)
+     */
+    @Override
+    public void getRotation(Quat storeResult) {
+        long characterVa = va();
+        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
+        getRotation(characterVa, storeFloats);
+        storeResult.set(storeFloats);
+    }
+
     /**
      * Copy the local offset applied to the shape. The character is unaffected.
      *
@@ -739,6 +900,20 @@ public class CharacterVirtual
         return result;
     }
 
+    /**
+     * Copy the local offset applied to the shape. The character is unaffected.
+     *
+     * @param storeResult storage for the offset vector (in local coordinates,
+     * not {@code null}, modified)
+     */
+    @Override
+    public void getShapeOffset(Vec3 storeResult) {
+        long characterVa = va();
+        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
+        getShapeOffset(characterVa, storeFloats);
+        storeResult.set(storeFloats);
+    }
+
     /**
      * Generate a TransformedShape that represents the volume occupied by the
      * character. The character is unaffected.
@@ -783,6 +958,20 @@ public class CharacterVirtual
         return result;
     }
 
+    /**
+     * Calculate the character's local-to-system coordinate transform. The
+     * character is unaffected.
+     *
+     * @param storeResult storage for the transform matrix (not {@code null},
+     * modified)
+     */
+    @Override
+    public void getWorldTransform(RMat44 storeResult) {
+        long characterVa = va();
+        long storeVa = storeResult.va();
+        getWorldTransformInto(characterVa, storeVa);
+    }
+
     /**
      * Test whether the character is in contact with or collided with the
      * specified body during the previous time step. The character is
@@ -857,6 +1046,9 @@ public class CharacterVirtual
 
     native static long getCenterOfMassTransform(long characterVa);
 
+    native static void getCenterOfMassTransformInto(
+            long characterVa, long storeVa);
+
     native static float getCharacterPadding(long characterVa);
 
     native static long getCharacterVirtualSettings(long characterVa);
@@ -896,6 +1088,8 @@ public class CharacterVirtual
 
     native static long getWorldTransform(long characterVa);
 
+    native static void getWorldTransformInto(long characterVa, long storeVa);
+
     native static boolean hasCollidedWithBody(long characterVa, int bodyId);
 
     native static boolean hasCollidedWithCharacter(
@@ -941,9 +1135,17 @@ public class CharacterVirtual
 
     native private static void setUserData(long characterVa, long userData);
 
+    native static boolean stickToFloor(long characterVa, float dx, float dy,
+            float dz, long bpFilterVa, long olFilterVa, long bodyFilterVa,
+            long shapeFilterVa, long allocatorVa);
+
     native private static long toRef(long characterVa);
 
     native private static long toRefC(long characterVa);
 
+    native static void update(long characterVa, float deltaTime, float gx,
+            float gy, float gz, long bpFilterVa, long olFilterVa,
+            long bodyFilterVa, long shapeFilterVa, long allocatorVa);
+
     native static void updateGroundVelocity(long characterVa);
 }
@@ -0,0 +1,271 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import com.github.stephengold.joltjni.readonly.ConstExtendedUpdateSettings;
+import com.github.stephengold.joltjni.readonly.Vec3Arg;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Update many {@code CharacterVirtual} instances in parallel using a
+ * {@code JobSystem}, with a single native call per time step.
+ * <p>
+ * Desired velocities are read from a direct buffer, and the resulting
+ * positions, velocities, and ground states are written to direct buffers, all
+ * indexed by each character's position in the batch.
+ * <p>
+ * Character-vs-character interactions are resolved deterministically: the
+ * characters are binned into a grid of cubic cells, and the 8 parity classes
+ * of cells are updated one after another. Within a class, cells are updated
+ * concurrently, and characters that share a cell are updated sequentially in
+ * batch order. For this to be safe, the cell size must exceed the distance at
+ * which characters can interact, including their displacement during a
+ * step. If the cell size is zero, characters are updated fully in parallel
+ * without regard to one another.
+ * <p>
+ * While a character is updated, its char-vs-char collision interface reads
+ * the transforms of other characters, so the interface must confine its reads
+ * to characters in neighboring cells. The only supported interface is
+ * {@code CharacterVsCharacterCollisionGrid}, and the batch's cell size must
+ * be at least the grid's cell size plus twice its margin.
+ * {@code CharacterVsCharacterCollisionSimple} reads every character in its
+ * list, so it is rejected, as is any interface when the batch's cell size is
+ * zero.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class CharacterVirtualBatch {
+    // *************************************************************************
+    // constants
+
+    /**
+     * size of each per-job temporary allocator (in bytes)
+     */
+    final private static int allocatorBytes = 1 << 20;
+    // *************************************************************************
+    // fields
+
+    /**
+     * edge length of each scheduling cell (in meters, &ge;0)
+     */
+    private float cellSize;
+    /**
+     * characters in the batch, in batch order
+     */
+    final private List<CharacterVirtual> characters = new ArrayList<>(64);
+    /**
+     * per-job temporary allocators, reused between updates
+     */
+    final private List<TempAllocator> allocators = new ArrayList<>(8);
+    /**
+     * virtual addresses of the characters, in batch order
+     */
+    private long[] characterVas = new long[64];
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an empty batch with the specified cell size.
+     *
+     * @param cellSize the edge length of each scheduling cell (in meters,
+     * &ge;0, 0 to ignore character-vs-character interactions)
+     */
+    public CharacterVirtualBatch(float cellSize) {
+        setCellSize(cellSize);
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Append the specified character to the batch.
+     *
+     * @param character the character to add (not {@code null}, alias created)
+     * @return the index of the character in the batch (&ge;0)
+     */
+    public int add(CharacterVirtual character) {
+        int result = characters.size();
+        if (result == characterVas.length) {
+            long[] newVas = new long[2 * result];
+            System.arraycopy(characterVas, 0, newVas, 0, result);
+            this.characterVas = newVas;
+        }
+        characterVas[result] = character.va();
+        characters.add(character);
+
+        return result;
+    }
+
+    /**
+     * Remove all characters from the batch and free the temporary
+     * allocators.
+     */
+    public void clear() {
+        characters.clear();
+        for (TempAllocator allocator : allocators) {
+            allocator.close();
+        }
+        allocators.clear();
+    }
+
+    /**
+     * Access the character at the specified index.
+     *
+     * @param index the index in the batch (&ge;0, &lt;size)
+     * @return the pre-existing character
+     */
+    public CharacterVirtual get(int index) {
+        CharacterVirtual result = characters.get(index);
+        return result;
+    }
+
+    /**
+     * Return the edge length of each scheduling cell.
+     *
+     * @return the length (in meters, &ge;0)
+     */
+    public float getCellSize() {
+        return cellSize;
+    }
+
+    /**
+     * Alter the edge length of each scheduling cell.
+     *
+     * @param cellSize the desired length (in meters, &ge;0, 0 to ignore
+     * character-vs-character interactions)
+     */
+    public void setCellSize(float cellSize) {
+        assert cellSize >= 0f : cellSize;
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * Count the characters in the batch.
+     *
+     * @return the count (&ge;0)
+     */
+    public int size() {
+        int result = characters.size();
+        return result;
+    }
+
+    /**
+     * Apply a combination of Update, StickToFloor, and WalkStairs to every
+     * character in the batch.
+     * <p>
+     * Each character's char-vs-char collision interface must be {@code null}
+     * or a {@code CharacterVsCharacterCollisionGrid}, and it must be
+     * {@code null} if the cell size is zero.
+     *
+     * @param deltaTime the time step to simulate
+     * @param gravity the gravity acceleration vector (in meters per second
+     * squared, not {@code null}, unaffected)
+     * @param settings settings to use (not {@code null}, unaffected)
+     * @param bpFilter to test whether a character collides with a broad-phase
+     * layer (not {@code null}, unaffected)
+     * @param olFilter to test whether a character collides with an object
+     * layer (not {@code null}, unaffected)
+     * @param bodyFilter to test whether a character collides with a body (not
+     * {@code null}, unaffected)
+     * @param shapeFilter to test whether a character collides with a shape
+     * (not {@code null}, unaffected)
+     * @param jobSystem the job system to use (not {@code null})
+     * @param velocities the desired linear velocity of each character (not
+     * {@code null}, direct, 3 floats per character, unaffected)
+     * @param storePositions storage for the resulting positions (not
+     * {@code null}, direct, 3 doubles per character, modified)
+     * @param storeVelocities storage for the resulting linear velocities (not
+     * {@code null}, direct, 3 floats per character, modified)
+     * @param storeGroundStates storage for the ordinals of the resulting
+     * ground states (not {@code null}, direct, 1 int per character, modified)
+     */
+    public void update(float deltaTime, Vec3Arg gravity,
+            ConstExtendedUpdateSettings settings,
+            BroadPhaseLayerFilter bpFilter, ObjectLayerFilter olFilter,
+            BodyFilter bodyFilter, ShapeFilter shapeFilter,
+            JobSystem jobSystem, FloatBuffer velocities,
+            DoubleBuffer storePositions, FloatBuffer storeVelocities,
+            IntBuffer storeGroundStates) {
+        int numCharacters = characters.size();
+        assert velocities.capacity() >= 3 * numCharacters;
+        assert storePositions.capacity() >= 3 * numCharacters;
+        assert storeVelocities.capacity() >= 3 * numCharacters;
+        assert storeGroundStates.capacity() >= numCharacters;
+        for (CharacterVirtual character : characters) {
+            CharacterVsCharacterCollision cvc
+                    = character.getCharacterVsCharacterCollision();
+            if (cvc != null && (cellSize == 0f
+                    || !(cvc instanceof CharacterVsCharacterCollisionGrid))) {
+                throw new IllegalStateException(
+                        "unsupported char-vs-char interface: " + cvc);
+            }
+            if (cvc != null) {
+                CharacterVsCharacterCollisionGrid grid
+                        = (CharacterVsCharacterCollisionGrid) cvc;
+                float minCellSize = grid.getCellSize() + 2f * grid.getMargin();
+                if (cellSize < minCellSize) {
+                    throw new IllegalStateException("cellSize=" + cellSize
+                            + " is less than the grid's cell size plus twice"
+                            + " its margin (" + minCellSize + ")");
+                }
+            }
+        }
+
+        int numJobs = jobSystem.getMaxConcurrency();
+        while (allocators.size() < numJobs) {
+            allocators.add(
+                    new TempAllocatorImplWithMallocFallback(allocatorBytes));
+        }
+        long[] allocatorVas = new long[numJobs];
+        for (int i = 0; i < numJobs; ++i) {
+            allocatorVas[i] = allocators.get(i).va();
+        }
+
+        float gravityX = gravity.getX();
+        float gravityY = gravity.getY();
+        float gravityZ = gravity.getZ();
+        long settingsVa = settings.targetVa();
+        long bpFilterVa = bpFilter.va();
+        long olFilterVa = olFilter.va();
+        long bodyFilterVa = bodyFilter.va();
+        long shapeFilterVa = shapeFilter.va();
+        long jobSystemVa = jobSystem.va();
+        updateAll(characterVas, numCharacters, deltaTime, gravityX, gravityY,
+                gravityZ, settingsVa, bpFilterVa, olFilterVa, bodyFilterVa,
+                shapeFilterVa, jobSystemVa, allocatorVas, cellSize,
+                velocities, storePositions, storeVelocities,
+                storeGroundStates);
+    }
+    // *************************************************************************
+    // native private methods
+
+    native private static void updateAll(long[] characterVas,
+            int numCharacters, float deltaTime, float gravityX,
+            float gravityY, float gravityZ, long settingsVa, long bpFilterVa,
+            long olFilterVa, long bodyFilterVa, long shapeFilterVa,
+            long jobSystemVa, long[] allocatorVas, float cellSize,
+            FloatBuffer velocities, DoubleBuffer storePositions,
+            FloatBuffer storeVelocities, IntBuffer storeGroundStates);
+}
@@ -255,6 +255,77 @@ final public class CharacterVirtualRef
         CharacterBase.setUp(characterVa, x, y, z);
     }
 
+    /**
+     * Snap the character down to the floor, provided it's within the specified
+     * step-down distance.
+     *
+     * @param stepDown the maximum offset to apply (not {@code null},
+     * unaffected)
+     * @param broadPhaseLayerFilter the broadphase filter used to test for
+     * collisions (not {@code null})
+     * @param objectLayerFilter the object-layer filter used to test for
+     * collisions (not {@code null})
+     * @param bodyFilter the body filter used to test for collisions (not
+     * {@code null})
+     * @param shapeFilter the shape filter used to test for collisions (not
+     * {@code null})
+     * @param allocator the desired allocator (not {@code null})
+     * @return {@code true} if the character was moved, otherwise {@code false}
+     */
+    public boolean stickToFloor(Vec3Arg stepDown,
+            BroadPhaseLayerFilter broadPhaseLayerFilter,
+            ObjectLayerFilter objectLayerFilter, BodyFilter bodyFilter,
+            ShapeFilter shapeFilter, TempAllocator allocator) {
+        long characterVa = targetVa();
+        float dx = stepDown.getX();
+        float dy = stepDown.getY();
+        float dz = stepDown.getZ();
+        long bplFilterVa = broadPhaseLayerFilter.va();
+        long olFilterVa = objectLayerFilter.va();
+        long bodyFilterVa = bodyFilter.va();
+        long shapeFilterVa = shapeFilter.va();
+        long allocatorVa = allocator.va();
+        boolean result = CharacterVirtual.stickToFloor(characterVa, dx, dy, dz,
+                bplFilterVa, olFilterVa, bodyFilterVa, shapeFilterVa,
+                allocatorVa);
+
+        return result;
+    }
+
+    /**
+     * Update the character's position and contacts without any of the
+     * stair-walking or floor-sticking extras of {@code extendedUpdate()}.
+     *
+     * @param deltaTime the time step to simulate (in seconds, &ge;0)
+     * @param gravity the gravity acceleration (in meters per second squared,
+     * not {@code null}, unaffected)
+     * @param broadPhaseLayerFilter the broadphase filter used to test for
+     * collisions (not {@code null})
+     * @param objectLayerFilter the object-layer filter used to test for
+     * collisions (not {@code null})
+     * @param bodyFilter the body filter used to test for collisions (not
+     * {@code null})
+     * @param shapeFilter the shape filter used to test for collisions (not
+     * {@code null})
+     * @param allocator the desired allocator (not {@code null})
+     */
+    public void update(float deltaTime, Vec3Arg gravity,
+            BroadPhaseLayerFilter broadPhaseLayerFilter,
+            ObjectLayerFilter objectLayerFilter, BodyFilter bodyFilter,
+            ShapeFilter shapeFilter, TempAllocator allocator) {
+        long characterVa = targetVa();
+        float gx = gravity.getX();
+        float gy = gravity.getY();
+        float gz = gravity.getZ();
+        long bplFilterVa = broadPhaseLayerFilter.va();
+        long olFilterVa = objectLayerFilter.va();
+        long bodyFilterVa = bodyFilter.va();
+        long shapeFilterVa = shapeFilter.va();
+        long allocatorVa = allocator.va();
+        CharacterVirtual.update(characterVa, deltaTime, gx, gy, gz, bplFilterVa,
+                olFilterVa, bodyFilterVa, shapeFilterVa, allocatorVa);
+    }
+
     /**
      * Update the estimated ground velocity.
      */
@@ -285,6 +356,26 @@ final public class CharacterVirtualRef
         return result;
     }
 
+    /**
+     * Convert the specified velocity to one that won't climb steep slopes. The
+     * character is unaffected.
+     *
+     * @param desiredVelocity velocity vector (in system coordinates, not
+     * {@code null}, unaffected)
+     * @param storeResult storage for the velocity vector (in system
+     * coordinates, not {@code null}, modified)
+     */
+    @Override
+    public void cancelVelocityTowardsSteepSlopes(
+            Vec3Arg desiredVelocity, Vec3 storeResult) {
+        long characterVa = targetVa();
+        FloatBuffer storeVelocity = Temporaries.floatBuffer1.get();
+        desiredVelocity.copyTo(storeVelocity);
+        CharacterVirtual.cancelVelocityTowardsSteepSlopes(
+                characterVa, storeVelocity);
+        storeResult.set(storeVelocity);
+    }
+
     /**
      * Test whether the character has moved onto a steep slope. The character is
      * unaffected.
@@ -340,6 +431,21 @@ final public class CharacterVirtualRef
         return result;
     }
 
+    /**
+     * Calculate the location of the character's center of mass. The character
+     * is unaffected.
+     *
+     * @param storeResult storage for the location vector (in system
+     * coordinates, not {@code null}, modified)
+     */
+    @Override
+    public void getCenterOfMassPosition(RVec3 storeResult) {
+        long characterVa = targetVa();
+        DoubleBuffer storeDoubles = Temporaries.doubleBuffer1.get();
+        CharacterVirtual.getCenterOfMassPosition(characterVa, storeDoubles);
+        storeResult.set(storeDoubles);
+    }
+
     /**
      * Calculate the local-to-system transform of the character's center of
      * mass. The character is unaffected.
@@ -355,6 +461,20 @@ final public class CharacterVirtualRef
         return result;
     }
 
+    /**
+     * Calculate the local-to-system transform of the character's center of
+     * mass. The character is unaffected.
+     *
+     * @param storeResult storage for the coordinate transform matrix (not
+     * {@code null}, modified)
+     */
+    @Override
+    public void getCenterOfMassTransform(RMat44 storeResult) {
+        long characterVa = targetVa();
+        long storeVa = storeResult.va();
+        CharacterVirtual.getCenterOfMassTransformInto(characterVa, storeVa);
+    }
+
     /**
      * Return the thickness of the character's padding. The character is
      * unaffected.
@@ -466,6 +586,21 @@ final public class CharacterVirtualRef
         return result;
     }
 
+    /**
+     * Copy the normal direction at the point of contact with the supporting
+     * surface. The character is unaffected.
+     *
+     * @param storeResult storage for the direction vector (in system
+     * coordinates, not {@code null}, modified)
+     */
+    @Override
+    public void getGroundNormal(Vec3 storeResult) {
+        long characterVa = targetVa();
+        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
+        CharacterBase.getGroundNormal(characterVa, storeFloats);
+        storeResult.set(storeFloats);
+    }
+
     /**
      * Copy the location of the point of contact with the supporting surface.
      * The character is unaffected.
@@ -482,6 +617,21 @@ final public class CharacterVirtualRef
         return result;
     }
 
+    /**
+     * Copy the location of the point of contact with the supporting surface.
+     * The character is unaffected.
+     *
+     * @param storeResult storage for the location vector (in system
+     * coordinates, not {@code null}, modified)
+     */
+    @Override
+    public void getGroundPosition(RVec3 storeResult) {
+        long characterVa = targetVa();
+        DoubleBuffer storeDoubles = Temporaries.doubleBuffer1.get();
+        CharacterBase.getGroundPosition(characterVa, storeDoubles);
+        storeResult.set(storeDoubles);
+    }
+
     /**
      * Return the relationship between the character and its supporting surface.
      * The character is unaffected.
@@ -541,6 +691,21 @@ final public class CharacterVirtualRef
         return result;
     }
 
+    /**
+     * Copy the world-space velocity of the supporting surface. The character is
+     * unaffected.
+     *
+     * @param storeResult storage for the velocity vector (meters per second in
+     * system coordinates, not {@code null}, modified)
+     */
+    @Override
+    public void getGroundVelocity(Vec3 storeResult) {
+        long characterVa = targetVa();
+        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
+        CharacterBase.getGroundVelocity(characterVa, storeFloats);
+        storeResult.set(storeFloats);
+    }
+
     /**
      * Return the maximum angle for merging during hit reduction. The character
      * is unaffected.
@@ -599,6 +764,20 @@ final public class CharacterVirtualRef
         return result;
     }
 
+    /**
+     * Copy the linear velocity of the character. The character is unaffected.
+     *
+     * @param storeResult storage for the velocity vector (meters per second in
+     * system coordinates, not {@code null}, modified)
+     */
+    @Override
+    public void getLinearVelocity(Vec3 storeResult) {
+        long characterVa = targetVa();
+        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
+        CharacterVirtual.getLinearVelocity(characterVa, storeFloats);
+        storeResult.set(storeFloats);
+    }
+
     /**
      * Return the character's mass. The character is unaffected.
      *
@@ -696,6 +875,20 @@ final public class CharacterVirtualRef
         return result;
     }
 
+    /**
+     * Copy the location of the character. The character is unaffected.
+     *
+     * @param storeResult storage for the location vector (in system
+     * coordinates, not {@code null}, modified)
+     */
+    @Override
+    public void getPosition(RVec3 storeResult) {
+        long characterVa = targetVa();
+        DoubleBuffer storeDoubles = Temporaries.doubleBuffer1.get();
+        CharacterVirtual.getPosition(characterVa, storeDoubles);
+        storeResult.set(storeDoubles);
+    }
+
     /**
      * Copy the position of the character. The character is unaffected.
      *
@@ -747,6 +940,20 @@ final public class CharacterVirtualRef
         return result;
     }
 
+    /**
+     * Copy the orientation of the character. The character is unaffected.
+     *
+     * @param storeResult storage for the rotation quaternion (in system
+     * coordinates, not {@code null}, modified)
+     */
+    @Override
+    public void getRotation(Quat storeResult) {
+        long characterVa = targetVa();
+        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
+        CharacterVirtual.getRotation(characterVa, storeFloats);
+        storeResult.set(storeFloats);
+    }
+
     /**
      * Access the character's shape. The character is unaffected.
      *
@@ -791,6 +998,20 @@ final public class CharacterVirtualRef
         return result;
     }
 
+    /**
+     * Copy the local offset applied to the shape. The character is unaffected.
+     *
+     * @param storeResult storage for the offset vector (in local coordinates,
+     * not {@code null}, modified)
+     */
+    @Override
+    public void getShapeOffset(Vec3 storeResult) {
+        long characterVa = targetVa();
+        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
+        CharacterVirtual.getShapeOffset(characterVa, storeFloats);
+        storeResult.set(storeFloats);
+    }
+
     /**
      * Copy the supporting volume. The character is unaffected.
      *
@@ -836,6 +1057,20 @@ final public class CharacterVirtualRef
         return result;
     }
 
+    /**
+     * Copy the character's "up" direction. The character is unaffected.
+     *
+     * @param storeResult storage for the direction vector (not {@code null},
+     * modified)
+     */
+    @Override
+    public void getUp(Vec3 storeResult) {
+        long characterVa = targetVa();
+        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
+        CharacterBase.getUp(characterVa, storeFloats);
+        storeResult.set(storeFloats);
+    }
+
     /**
      * Return the character's user data: can be used for anything. The character
      * is unaffected.
@@ -865,6 +1100,20 @@ final public class CharacterVirtualRef
         return result;
     }
 
+    /**
+     * Calculate the character's local-to-system coordinate transform. The
+     * character is unaffected.
+     *
+     * @param storeResult storage for the transform matrix (not {@code null},
+     * modified)
+     */
+    @Override
+    public void getWorldTransform(RMat44 storeResult) {
+        long characterVa = targetVa();
+        long storeVa = storeResult.va();
+        CharacterVirtual.getWorldTransformInto(characterVa, storeVa);
+    }
+
     /**
      * Test whether the character is in contact with or collided with the
      * specified body during the previous time step. The character is
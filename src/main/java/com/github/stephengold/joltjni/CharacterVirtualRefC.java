@@ -102,6 +102,26 @@ final public class CharacterVirtualRefC
         return result;
     }
 
+    /**
+     * Convert the specified velocity to one that won't climb steep slopes. The
+     * character is unaffected.
+     *
+     * @param desiredVelocity velocity vector (in system coordinates, not
+     * {@code null}, unaffected)
+     * @param storeResult storage for the velocity vector (in system
+     * coordinates, not {@code null}, modified)
+     */
+    @Override
+    public void cancelVelocityTowardsSteepSlopes(
+            Vec3Arg desiredVelocity, Vec3 storeResult) {
+        long characterVa = targetVa();
+        FloatBuffer storeVelocity = Temporaries.floatBuffer1.get();
+        desiredVelocity.copyTo(storeVelocity);
+        CharacterVirtual.cancelVelocityTowardsSteepSlopes(
+                characterVa, storeVelocity);
+        storeResult.set(storeVelocity);
+    }
+
     /**
      * Test whether the character has moved onto a steep slope. The character is
      * unaffected.
@@ -157,6 +177,21 @@ final public class CharacterVirtualRefC
         return result;
     }
 
+    /**
+     * Calculate the location of the character's center of mass. The character
+     * is unaffected.
+     *
+     * @param storeResult storage for the location vector (in system
+     * coordinates, not {@code null}, modified)
+     */
+    @Override
+    public void getCenterOfMassPosition(RVec3 storeResult) {
+        long characterVa = targetVa();
+        DoubleBuffer storeDoubles = Temporaries.doubleBuffer1.get();
+        CharacterVirtual.getCenterOfMassPosition(characterVa, storeDoubles);
+        storeResult.set(storeDoubles);
+    }
+
     /**
      * Calculate the local-to-system transform of the character's center of
      * mass. The character is unaffected.
@@ -172,6 +207,20 @@ final public class CharacterVirtualRefC
         return result;
     }
 
+    /**
+     * Calculate the local-to-system transform of the character's center of
+     * mass. The character is unaffected.
+     *
+     * @param storeResult storage for the coordinate transform matrix (not
+     * {@code null}, modified)
+     */
+    @Override
+    public void getCenterOfMassTransform(RMat44 storeResult) {
+        long characterVa = targetVa();
+        long storeVa = storeResult.va();
+        CharacterVirtual.getCenterOfMassTransformInto(characterVa, storeVa);
+    }
+
     /**
      * Return the thickness of the character's padding. The character is
      * unaffected.
@@ -283,6 +332,21 @@ final public class CharacterVirtualRefC
         return result;
     }
 
+    /**
+     * Copy the normal direction at the point of contact with the supporting
+     * surface. The character is unaffected.
+     *
+     * @param storeResult storage for the direction vector (in system
+     * coordinates, not {@code null}, modified)
+     */
+    @Override
+    public void getGroundNormal(Vec3 storeResult) {
+        long characterVa = targetVa();
+        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
+        CharacterBase.getGroundNormal(characterVa, storeFloats);
+        storeResult.set(storeFloats);
+    }
+
     /**
      * Copy the location of the point of contact with the supporting surface.
      * The character is unaffected.
@@ -299,6 +363,21 @@ final public class CharacterVirtualRefC
         return result;
     }
 
+    /**
+     * Copy the location of the point of contact with the supporting surface.
+     * The character is unaffected.
+     *
+     * @param storeResult storage for the location vector (in system
+     * coordinates, not {@code null}, modified)
+     */
+    @Override
+    public void getGroundPosition(RVec3 storeResult) {
+        long characterVa = targetVa();
+        DoubleBuffer storeDoubles = Temporaries.doubleBuffer1.get();
+        CharacterBase.getGroundPosition(characterVa, storeDoubles);
+        storeResult.set(storeDoubles);
+    }
+
     /**
      * Return the relationship between the character and its supporting surface.
      * The character is unaffected.
@@ -358,6 +437,21 @@ final public class CharacterVirtualRefC
         return result;
     }
 
+    /**
+     * Copy the world-space velocity of the supporting surface. The character is
+     * unaffected.
+     *
+     * @param storeResult storage for the velocity vector (meters per second in
+     * system coordinates, not {@code null}, modified)
+     */
+    @Override
+    public void getGroundVelocity(Vec3 storeResult) {
+        long characterVa = targetVa();
+        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
+        CharacterBase.getGroundVelocity(characterVa, storeFloats);
+        storeResult.set(storeFloats);
+    }
+
     /**
      * Return the maximum angle for merging during hit reduction. The character
      * is unaffected.
@@ -416,6 +510,20 @@ final public class CharacterVirtualRefC
         return result;
     }
 
+    /**
+     * Copy the linear velocity of the character. The character is unaffected.
+     *
+     * @param storeResult storage for the velocity vector (meters per second in
+     * system coordinates, not {@code null}, modified)
+     */
+    @Override
+    public void getLinearVelocity(Vec3 storeResult) {
+        long characterVa = targetVa();
+        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
+        CharacterVirtual.getLinearVelocity(characterVa, storeFloats);
+        storeResult.set(storeFloats);
+    }
+
     /**
      * Return the character's mass. The character is unaffected.
      *
@@ -511,6 +619,20 @@ final public class CharacterVirtualRefC
         return result;
     }
 
+    /**
+     * Copy the location of the character. The character is unaffected.
+     *
+     * @param storeResult storage for the location vector (in system
+     * coordinates, not {@code null}, modified)
+     */
+    @Override
+    public void getPosition(RVec3 storeResult) {
+        long characterVa = targetVa();
+        DoubleBuffer storeDoubles = Temporaries.doubleBuffer1.get();
+        CharacterVirtual.getPosition(characterVa, storeDoubles);
+        storeResult.set(storeDoubles);
+    }
+
     /**
      * Copy the position of the character. The character is unaffected.
      *
@@ -562,6 +684,20 @@ final public class CharacterVirtualRefC
         return result;
     }
 
+    /**
+     * Copy the orientation of the character. The character is unaffected.
+     *
+     * @param storeResult storage for the rotation quaternion (in system
+     * coordinates, not {@code null}, modified)
+     */
+    @Override
+    public void getRotation(Quat storeResult) {
+        long characterVa = targetVa();
+        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
+        CharacterVirtual.getRotation(characterVa, storeFloats);
+        storeResult.set(storeFloats);
+    }
+
     /**
      * Access the character's shape. The character is unaffected.
      *
@@ -606,6 +742,20 @@ final public class CharacterVirtualRefC
         return result;
     }
 
+    /**
+     * Copy the local offset applied to the shape. The character is unaffected.
+     *
+     * @param storeResult storage for the offset vector (in local coordinates,
+     * not {@code null}, modified)
+     */
+    @Override
+    public void getShapeOffset(Vec3 storeResult) {
+        long characterVa = targetVa();
+        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
+        CharacterVirtual.getShapeOffset(characterVa, storeFloats);
+        storeResult.set(storeFloats);
+    }
+
     /**
      * Copy the supporting volume. The character is unaffected.
      *
@@ -651,6 +801,20 @@ final public class CharacterVirtualRefC
         return result;
     }
 
+    /**
+     * Copy the character's "up" direction. The character is unaffected.
+     *
+     * @param storeResult storage for the direction vector (not {@code null},
+     * modified)
+     */
+    @Override
+    public void getUp(Vec3 storeResult) {
+        long characterVa = targetVa();
+        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
+        CharacterBase.getUp(characterVa, storeFloats);
+        storeResult.set(storeFloats);
+    }
+
     /**
      * Return the character's user data: can be used for anything. The character
      * is unaffected.
@@ -680,6 +844,20 @@ final public class CharacterVirtualRefC
         return result;
     }
 
+    /**
+     * Calculate the character's local-to-system coordinate transform. The
+     * character is unaffected.
+     *
+     * @param storeResult storage for the transform matrix (not {@code null},
+     * modified)
+     */
+    @Override
+    public void getWorldTransform(RMat44 storeResult) {
+        long characterVa = targetVa();
+        long storeVa = storeResult.va();
+        CharacterVirtual.getWorldTransformInto(characterVa, storeVa);
+    }
+
     /**
      * Test whether the character is in contact with or collided with the
      * specified body during the previous time step. The character is
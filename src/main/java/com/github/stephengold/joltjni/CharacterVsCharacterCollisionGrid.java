@@ -0,0 +1,181 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import com.github.stephengold.joltjni.readonly.ConstCharacterVirtual;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An implementation of the Character-versus-Character collision interface
+ * that bins characters into a uniform grid, so that each query tests only
+ * characters in nearby cells instead of every character in the list.
+ * <p>
+ * Characters are re-binned incrementally by {@link #update()}, which should
+ * be invoked once per time step, before the characters are updated. Between
+ * updates, each character may move up to the margin specified at
+ * construction. Don't invoke {@code update()} while characters are being
+ * updated.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class CharacterVsCharacterCollisionGrid
+        extends CharacterVsCharacterCollision {
+    // *************************************************************************
+    // fields
+
+    /**
+     * Java copy of the collision list
+     */
+    final private List<CharacterVirtualRef> collisionList = new ArrayList<>(16);
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an interface with the specified grid parameters.
+     *
+     * @param cellSize the edge length of each grid cell (in meters, &gt;0,
+     * typically a few times the character width)
+     * @param margin the maximum distance any character moves between updates
+     * (in meters, &ge;0)
+     */
+    public CharacterVsCharacterCollisionGrid(float cellSize, float margin) {
+        assert cellSize > 0f : cellSize;
+        assert margin >= 0f : margin;
+
+        long interfaceVa = create(cellSize, margin);
+        setVirtualAddressAsOwner(interfaceVa);
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Add the specified character to the collision list.
+     *
+     * @param character the character to add (not {@code null}, alias created)
+     */
+    public void add(CharacterVirtual character) {
+        long interfaceVa = va();
+        long characterVa = character.targetVa();
+        add(interfaceVa, characterVa);
+
+        collisionList.add(character.toRef());
+    }
+
+    /**
+     * Count the occupied grid cells.
+     *
+     * @return the count (&ge;0)
+     */
+    public int countCells() {
+        long interfaceVa = va();
+        int result = countCells(interfaceVa);
+
+        return result;
+    }
+
+    /**
+     * Enumerate all characters in the collision list.
+     *
+     * @return a new array of pre-existing counted references
+     */
+    public CharacterVirtual[] getCharacters() {
+        int numCharacters = collisionList.size();
+        CharacterVirtual[] result = new CharacterVirtual[numCharacters];
+        for (int i = 0; i < numCharacters; ++i) {
+            result[i] = collisionList.get(i).getPtr();
+        }
+
+        return result;
+    }
+
+    /**
+     * Return the edge length of each grid cell. The grid is unaffected.
+     *
+     * @return the length (in meters, &gt;0)
+     */
+    public float getCellSize() {
+        long interfaceVa = va();
+        float result = getCellSize(interfaceVa);
+
+        return result;
+    }
+
+    /**
+     * Return the maximum distance any character may move between updates. The
+     * grid is unaffected.
+     *
+     * @return the distance (in meters, &ge;0)
+     */
+    public float getMargin() {
+        long interfaceVa = va();
+        float result = getMargin(interfaceVa);
+
+        return result;
+    }
+
+    /**
+     * Remove the specified character from the collision list.
+     *
+     * @param characterRef a counted reference to the character to remove (not
+     * {@code null})
+     */
+    public void remove(ConstCharacterVirtual characterRef) {
+        long interfaceVa = va();
+        long characterVa = characterRef.targetVa();
+        remove(interfaceVa, characterVa);
+
+        int numCharacters = collisionList.size();
+        for (int i = 0; i < numCharacters; ++i) {
+            long tmpVa = collisionList.get(i).targetVa();
+            if (tmpVa == characterVa) {
+                collisionList.remove(i);
+                break;
+            }
+        }
+    }
+
+    /**
+     * Re-bin any characters that have moved to different cells since the
+     * previous update.
+     */
+    public void update() {
+        long interfaceVa = va();
+        update(interfaceVa);
+    }
+    // *************************************************************************
+    // native private methods
+
+    native private static void add(long interfaceVa, long characterVa);
+
+    native private static int countCells(long interfaceVa);
+
+    native private static long create(float cellSize, float margin);
+
+    native private static float getCellSize(long interfaceVa);
+
+    native private static float getMargin(long interfaceVa);
+
+    native private static void remove(long interfaceVa, long characterVa);
+
+    native private static void update(long interfaceVa);
+}
@@ -42,6 +42,17 @@ public class CollideSettingsBase
      */
     CollideSettingsBase() {
     }
+
+    /**
+     * Instantiate with the specified container and native object.
+     *
+     * @param container the containing object, or {@code null} if none
+     * @param settingsVa the virtual address of the native object to assign (not
+     * zero)
+     */
+    CollideSettingsBase(JoltPhysicsObject container, long settingsVa) {
+        super(container, settingsVa);
+    }
     // *************************************************************************
     // new methods exposed
 
@@ -0,0 +1,280 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Animate many ragdolls with a single native call per time step.
+ * <p>
+ * Each entry pairs a skeletal animation and a pose with a ragdoll. During
+ * {@code update()}, every entry's animation is sampled at its own time, its
+ * joint matrices are calculated, the pose is optionally mapped from the
+ * animation's skeleton to the ragdoll's skeleton, and the ragdoll is driven
+ * towards the pose using either motors or kinematics. Entries are divided
+ * among jobs in the specified {@code JobSystem}, so distinct entries must
+ * not share poses or ragdolls.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class CrowdAnimator {
+    // *************************************************************************
+    // enums
+
+    /**
+     * Enumerate the ways to drive ragdolls towards their poses.
+     */
+    public enum Drive {
+        /**
+         * sample and map poses only, without driving the ragdolls
+         */
+        None,
+        /**
+         * drive using the constraint motors
+         */
+        Motors,
+        /**
+         * drive by moving the bodies kinematically
+         */
+        Kinematics
+    }
+    // *************************************************************************
+    // fields
+
+    /**
+     * entries in the batch, to protect native objects from garbage collection
+     */
+    final private List<Entry> entries = new ArrayList<>(64);
+    /**
+     * virtual addresses of the animations
+     */
+    private long[] animationVas = new long[64];
+    /**
+     * virtual addresses of the mappers, or zero for none
+     */
+    private long[] mapperVas = new long[64];
+    /**
+     * virtual addresses of the poses sampled from the animations
+     */
+    private long[] poseVas = new long[64];
+    /**
+     * virtual addresses of the ragdolls
+     */
+    private long[] ragdollVas = new long[64];
+    /**
+     * virtual addresses of the mapped ragdoll poses, or zero for none
+     */
+    private long[] ragdollPoseVas = new long[64];
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an empty batch.
+     */
+    public CrowdAnimator() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Append an entry whose animation uses the ragdoll's skeleton.
+     *
+     * @param animation the animation to sample (not {@code null}, alias
+     * created)
+     * @param pose storage for the sampled pose (not {@code null}, alias
+     * created)
+     * @param ragdoll the ragdoll to drive (not {@code null}, alias created)
+     * @return the index of the new entry (&ge;0)
+     */
+    public int add(
+            SkeletalAnimation animation, SkeletonPose pose, Ragdoll ragdoll) {
+        int result = add(animation, pose, null, null, ragdoll);
+        return result;
+    }
+
+    /**
+     * Append an entry whose animation uses a different skeleton than the
+     * ragdoll. The mapper's first skeleton must be the ragdoll's, and its
+     * 2nd skeleton must be the animation's.
+     *
+     * @param animation the animation to sample (not {@code null}, alias
+     * created)
+     * @param pose storage for the sampled pose (not {@code null}, alias
+     * created)
+     * @param mapper the mapper from the ragdoll's skeleton to the animation's
+     * skeleton (may be {@code null}, alias created)
+     * @param ragdollPose storage for the mapped pose (not {@code null} unless
+     * {@code mapper} is null, alias created)
+     * @param ragdoll the ragdoll to drive (not {@code null}, alias created)
+     * @return the index of the new entry (&ge;0)
+     */
+    public int add(SkeletalAnimation animation, SkeletonPose pose,
+            SkeletonMapper mapper, SkeletonPose ragdollPose, Ragdoll ragdoll) {
+        assert mapper == null || ragdollPose != null;
+
+        int result = entries.size();
+        if (result == animationVas.length) {
+            int newLength = 2 * result;
+            this.animationVas = grow(animationVas, newLength);
+            this.mapperVas = grow(mapperVas, newLength);
+            this.poseVas = grow(poseVas, newLength);
+            this.ragdollPoseVas = grow(ragdollPoseVas, newLength);
+            this.ragdollVas = grow(ragdollVas, newLength);
+        }
+
+        Entry entry = new Entry(animation, pose, mapper, ragdollPose, ragdoll);
+        entries.add(entry);
+        animationVas[result] = animation.va();
+        poseVas[result] = pose.va();
+        mapperVas[result] = (mapper == null) ? 0L : mapper.va();
+        ragdollPoseVas[result] = (mapper == null) ? 0L : ragdollPose.va();
+        ragdollVas[result] = ragdoll.va();
+
+        return result;
+    }
+
+    /**
+     * Remove all entries.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Replace the animation of the specified entry.
+     *
+     * @param index the index of the entry (&ge;0, &lt;size)
+     * @param animation the desired animation (not {@code null}, alias
+     * created)
+     */
+    public void setAnimation(int index, SkeletalAnimation animation) {
+        Entry entry = entries.get(index);
+        entry.animation = animation;
+        animationVas[index] = animation.va();
+    }
+
+    /**
+     * Count the entries.
+     *
+     * @return the count (&ge;0)
+     */
+    public int size() {
+        int result = entries.size();
+        return result;
+    }
+
+    /**
+     * Sample, map, and drive every entry in the batch.
+     *
+     * @param times the animation time for each entry (not {@code null},
+     * direct, 1 float per entry, unaffected)
+     * @param drive how to drive the ragdolls (not {@code null})
+     * @param deltaTime the time in which kinematic bodies should reach their
+     * poses (in seconds, &gt;0, ignored unless the drive is Kinematics)
+     * @param jobSystem the job system to use (not {@code null})
+     */
+    public void update(FloatBuffer times, Drive drive, float deltaTime,
+            JobSystem jobSystem) {
+        int numEntries = entries.size();
+        assert times.capacity() >= numEntries;
+        assert drive != Drive.Kinematics || deltaTime > 0f : deltaTime;
+
+        int driveOrdinal = drive.ordinal();
+        long jobSystemVa = jobSystem.va();
+        updateAll(animationVas, poseVas, mapperVas, ragdollPoseVas,
+                ragdollVas, numEntries, times, driveOrdinal, deltaTime,
+                jobSystemVa);
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Copy the specified array into a longer one.
+     *
+     * @param array the array to copy (not {@code null}, unaffected)
+     * @param newLength the length of the new array (&ge;array.length)
+     * @return a new array
+     */
+    private static long[] grow(long[] array, int newLength) {
+        long[] result = new long[newLength];
+        System.arraycopy(array, 0, result, 0, array.length);
+
+        return result;
+    }
+    // *************************************************************************
+    // nested classes
+
+    /**
+     * Aliases of the objects in one entry.
+     */
+    private static class Entry {
+        /**
+         * the animation to sample
+         */
+        private SkeletalAnimation animation;
+        /**
+         * storage for the sampled pose
+         */
+        final private SkeletonPose pose;
+        /**
+         * mapper to the ragdoll's skeleton, or {@code null} for none
+         */
+        final private SkeletonMapper mapper;
+        /**
+         * storage for the mapped pose, or {@code null} for none
+         */
+        final private SkeletonPose ragdollPose;
+        /**
+         * the ragdoll to drive
+         */
+        final private Ragdoll ragdoll;
+
+        /**
+         * Instantiate an entry.
+         *
+         * @param animation the animation to sample (alias created)
+         * @param pose storage for the sampled pose (alias created)
+         * @param mapper the mapper, or {@code null} for none (alias created)
+         * @param ragdollPose storage for the mapped pose, or {@code null} for
+         * none (alias created)
+         * @param ragdoll the ragdoll to drive (alias created)
+         */
+        Entry(SkeletalAnimation animation, SkeletonPose pose,
+                SkeletonMapper mapper, SkeletonPose ragdollPose,
+                Ragdoll ragdoll) {
+            this.animation = animation;
+            this.pose = pose;
+            this.mapper = mapper;
+            this.ragdollPose = ragdollPose;
+            this.ragdoll = ragdoll;
+        }
+    }
+    // *************************************************************************
+    // native private methods
+
+    native private static void updateAll(long[] animationVas, long[] poseVas,
+            long[] mapperVas, long[] ragdollPoseVas, long[] ragdollVas,
+            int numEntries, FloatBuffer times, int driveOrdinal,
+            float deltaTime, long jobSystemVa);
+}
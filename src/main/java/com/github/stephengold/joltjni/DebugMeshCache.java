@@ -0,0 +1,395 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import com.github.stephengold.joltjni.readonly.ConstShape;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * An LRU cache of indexed debug meshes for collision shapes, to avoid
+ * regenerating triangles every time a shape is visualized.
+ * <p>
+ * Meshes are keyed by the virtual address of the native shape and validated
+ * against its revision count, so a mesh is rebuilt only after the shape is
+ * altered. Each cached mesh holds a counted reference to its shape, so a
+ * virtual address can't be reused by a different shape while its mesh is
+ * cached.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class DebugMeshCache {
+    // *************************************************************************
+    // classes and interfaces
+
+    /**
+     * An indexed triangle mesh generated from a shape's debug triangles, in
+     * the shape's center-of-mass coordinates.
+     */
+    final public static class Mesh {
+        /**
+         * vertex indices, 3 per triangle
+         */
+        final private IntBuffer indices;
+        /**
+         * distinct vertex locations, 3 floats per vertex
+         */
+        final private FloatBuffer positions;
+        /**
+         * revision count of the shape when the mesh was generated
+         */
+        final private long revisionCount;
+        /**
+         * counted reference to the shape
+         */
+        final private ShapeRefC shapeRef;
+
+        /**
+         * Generate a mesh from the specified shape.
+         *
+         * @param shape the shape to visualize (not {@code null})
+         */
+        private Mesh(ConstShape shape) {
+            this.revisionCount = shape.getRevisionCount();
+            this.shapeRef = shape.toRefC();
+
+            int numTriangles = shape.countDebugTriangles();
+            int numCorners = 3 * numTriangles;
+            FloatBuffer soup = Jolt.newDirectFloatBuffer(3 * numCorners);
+            shape.copyDebugTriangles(soup);
+
+            // Merge corners with bitwise-identical locations:
+            Map<Vertex, Integer> indexMap = new HashMap<>(numCorners);
+            this.indices = Jolt.newDirectIntBuffer(numCorners);
+            for (int cornerIndex = 0; cornerIndex < numCorners; ++cornerIndex) {
+                int start = 3 * cornerIndex;
+                Vertex vertex = new Vertex(soup.get(start),
+                        soup.get(start + 1), soup.get(start + 2));
+                Integer vertexIndex = indexMap.get(vertex);
+                if (vertexIndex == null) {
+                    vertexIndex = indexMap.size();
+                    indexMap.put(vertex, vertexIndex);
+                }
+                indices.put(cornerIndex, vertexIndex);
+            }
+
+            int numVertices = indexMap.size();
+            this.positions = Jolt.newDirectFloatBuffer(3 * numVertices);
+            for (Map.Entry<Vertex, Integer> entry : indexMap.entrySet()) {
+                Vertex vertex = entry.getKey();
+                int start = 3 * entry.getValue();
+                positions.put(start, vertex.x);
+                positions.put(start + 1, vertex.y);
+                positions.put(start + 2, vertex.z);
+            }
+        }
+
+        /**
+         * Count the triangles in the mesh.
+         *
+         * @return the count (&gt;0)
+         */
+        public int countTriangles() {
+            int result = indices.capacity() / 3;
+            return result;
+        }
+
+        /**
+         * Count the distinct vertices in the mesh.
+         *
+         * @return the count (&gt;0)
+         */
+        public int countVertices() {
+            int result = positions.capacity() / 3;
+            return result;
+        }
+
+        /**
+         * Access the vertex indices, 3 per triangle. Don't modify the
+         * contents.
+         *
+         * @return the pre-existing direct buffer
+         */
+        public IntBuffer getIndices() {
+            return indices;
+        }
+
+        /**
+         * Access the vertex locations, 3 floats per vertex. Don't modify the
+         * contents.
+         *
+         * @return the pre-existing direct buffer
+         */
+        public FloatBuffer getPositions() {
+            return positions;
+        }
+
+        /**
+         * Return the shape's revision count when the mesh was generated.
+         *
+         * @return the count
+         */
+        public long getRevisionCount() {
+            return revisionCount;
+        }
+
+        /**
+         * Return the amount of memory used by the mesh's buffers.
+         *
+         * @return the number of bytes (&gt;0)
+         */
+        long sizeBytes() {
+            long result = 4L * (indices.capacity() + positions.capacity());
+            return result;
+        }
+    }
+
+    /**
+     * A vertex location, compared bitwise.
+     */
+    private static class Vertex {
+        /**
+         * the X coordinate
+         */
+        final float x;
+        /**
+         * the Y coordinate
+         */
+        final float y;
+        /**
+         * the Z coordinate
+         */
+        final float z;
+
+        /**
+         * Instantiate a vertex.
+         *
+         * @param x the X coordinate
+         * @param y the Y coordinate
+         * @param z the Z coordinate
+         */
+        Vertex(float x, float y, float z) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+        }
+
+        /**
+         * Test for bitwise equivalence with another Object.
+         *
+         * @param otherObject the object to compare (may be {@code null},
+         * unaffected)
+         * @return {@code true} if equivalent, otherwise {@code false}
+         */
+        @Override
+        public boolean equals(Object otherObject) {
+            boolean result;
+            if (otherObject instanceof Vertex) {
+                Vertex other = (Vertex) otherObject;
+                result = Float.floatToIntBits(x)
+                        == Float.floatToIntBits(other.x)
+                        && Float.floatToIntBits(y)
+                        == Float.floatToIntBits(other.y)
+                        && Float.floatToIntBits(z)
+                        == Float.floatToIntBits(other.z);
+            } else {
+                result = false;
+            }
+
+            return result;
+        }
+
+        /**
+         * Generate the hash code for this vertex.
+         *
+         * @return a 32-bit value for use in hashing
+         */
+        @Override
+        public int hashCode() {
+            int result = Float.floatToIntBits(x);
+            result = 31 * result + Float.floatToIntBits(y);
+            result = 31 * result + Float.floatToIntBits(z);
+
+            return result;
+        }
+    }
+    // *************************************************************************
+    // fields
+
+    /**
+     * maximum number of cached meshes
+     */
+    final private int maxEntries;
+    /**
+     * number of requests satisfied from the cache
+     */
+    private long hitCount;
+    /**
+     * number of meshes generated
+     */
+    private long buildCount;
+    /**
+     * total memory used by cached meshes (in bytes)
+     */
+    private long totalBytes;
+    /**
+     * cached meshes in least-recently-used order, keyed by shape address
+     */
+    final private Map<Long, Mesh> meshes;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an empty cache with the specified capacity.
+     *
+     * @param maxEntries the maximum number of meshes to cache (&gt;0)
+     */
+    public DebugMeshCache(int maxEntries) {
+        assert maxEntries > 0 : maxEntries;
+
+        this.maxEntries = maxEntries;
+        this.meshes = new LinkedHashMap<>(16, 0.75f, true);
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Discard all cached meshes.
+     */
+    synchronized public void clear() {
+        for (Mesh mesh : meshes.values()) {
+            mesh.shapeRef.close();
+        }
+        meshes.clear();
+        this.totalBytes = 0L;
+    }
+
+    /**
+     * Count the meshes generated, including rebuilds after shape alterations.
+     *
+     * @return the count (&ge;0)
+     */
+    synchronized public long countBuilds() {
+        return buildCount;
+    }
+
+    /**
+     * Count the cached meshes.
+     *
+     * @return the count (&ge;0)
+     */
+    synchronized public int countEntries() {
+        int result = meshes.size();
+        return result;
+    }
+
+    /**
+     * Count the requests satisfied from the cache.
+     *
+     * @return the count (&ge;0)
+     */
+    synchronized public long countHits() {
+        return hitCount;
+    }
+
+    /**
+     * Return an up-to-date debug mesh for the specified shape, generating it
+     * if necessary.
+     *
+     * @param shape the shape to visualize (not {@code null})
+     * @return a cached mesh (not {@code null})
+     */
+    synchronized public Mesh get(ConstShape shape) {
+        long shapeVa = shape.targetVa();
+        long revisionCount = shape.getRevisionCount();
+        Mesh result = meshes.get(shapeVa);
+        if (result != null && result.revisionCount == revisionCount) {
+            ++hitCount;
+            return result;
+        }
+
+        if (result != null) { // stale
+            discard(result);
+        }
+        result = new Mesh(shape);
+        ++buildCount;
+        meshes.put(shapeVa, result);
+        totalBytes += result.sizeBytes();
+
+        // Evict the least recently used meshes:
+        Iterator<Mesh> iterator = meshes.values().iterator();
+        while (meshes.size() > maxEntries) {
+            Mesh eldest = iterator.next();
+            iterator.remove();
+            discard(eldest);
+        }
+
+        return result;
+    }
+
+    /**
+     * Discard the cached mesh for the specified shape, if any.
+     *
+     * @param shape the shape (not {@code null})
+     */
+    synchronized public void invalidate(ConstShape shape) {
+        long shapeVa = shape.targetVa();
+        Mesh mesh = meshes.remove(shapeVa);
+        if (mesh != null) {
+            discard(mesh);
+        }
+    }
+
+    /**
+     * Return the maximum number of cached meshes.
+     *
+     * @return the count (&gt;0)
+     */
+    public int maxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * Return the total memory used by the cached meshes' buffers.
+     *
+     * @return the number of bytes (&ge;0)
+     */
+    synchronized public long totalBytes() {
+        return totalBytes;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Release a mesh that's been removed from the map.
+     *
+     * @param mesh the mesh to release (not {@code null})
+     */
+    private void discard(Mesh mesh) {
+        totalBytes -= mesh.sizeBytes();
+        mesh.shapeRef.close();
+    }
+}
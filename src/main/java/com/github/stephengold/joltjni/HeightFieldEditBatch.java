@@ -0,0 +1,313 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+
+/**
+ * Accumulate edits to a {@code HeightFieldShape} and apply them all with a
+ * single native call.
+ * <p>
+ * Each patch overwrites an arbitrary rectangle of height samples or material
+ * indices. Patches are applied in the order they were added, so later patches
+ * take precedence where they overlap. Height patches that overlap (after
+ * rounding out to the shape's block size) are coalesced into a single
+ * read-modify-write of the shape, and each coalesced region is re-indexed
+ * only once. Optionally, only the bodies near the edited regions are woken.
+ * <p>
+ * Patch data is staged in a direct buffer owned by the batch, so the batch
+ * can be cleared and reused from one frame to the next without reallocating.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class HeightFieldEditBatch {
+    // *************************************************************************
+    // constants
+
+    /**
+     * number of bytes in a patch header
+     */
+    final private static int headerBytes = 5 * Integer.BYTES;
+    /**
+     * record type for a patch of height samples
+     */
+    final private static int typeHeights = 0;
+    /**
+     * record type for a patch of material indices
+     */
+    final private static int typeMaterials = 1;
+    // *************************************************************************
+    // fields
+
+    /**
+     * staged patch records, in native byte order
+     */
+    private ByteBuffer data;
+    /**
+     * number of patches staged
+     */
+    private int numPatches;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an empty batch with the default initial capacity.
+     */
+    public HeightFieldEditBatch() {
+        this(4096);
+    }
+
+    /**
+     * Instantiate an empty batch with the specified initial capacity.
+     *
+     * @param initialBytes the initial capacity of the staging buffer (in bytes,
+     * &gt;0)
+     */
+    public HeightFieldEditBatch(int initialBytes) {
+        assert initialBytes > 0 : initialBytes;
+
+        this.data = Jolt.newDirectByteBuffer(initialBytes);
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Append a patch of material indices. Materials are stored per cell, so
+     * each axis has one fewer index than the shape has samples. The batch
+     * takes no reference to the array.
+     *
+     * @param startX the index of the first cell along the X axis (&ge;0)
+     * @param startY the index of the first cell along the Y axis (&ge;0)
+     * @param sizeX the number of cells along the X axis (&gt;0)
+     * @param sizeY the number of cells along the Y axis (&gt;0)
+     * @param indices the material indices, row-major with X varying fastest
+     * (not {@code null}, length&ge;sizeX*sizeY, unaffected)
+     */
+    public void addMaterials(int startX, int startY, int sizeX, int sizeY,
+            byte[] indices) {
+        int numValues = validate(startX, startY, sizeX, sizeY);
+        assert indices.length >= numValues : indices.length;
+
+        int numPadded = (numValues + 3) & ~3;
+        putHeader(typeMaterials, startX, startY, sizeX, sizeY, numPadded);
+        data.put(indices, 0, numValues);
+        for (int i = numValues; i < numPadded; ++i) {
+            data.put((byte) 0);
+        }
+    }
+
+    /**
+     * Append a patch of height samples. The batch takes no reference to the
+     * array.
+     *
+     * @param startX the index of the first sample along the X axis (&ge;0)
+     * @param startY the index of the first sample along the Y axis (&ge;0)
+     * @param sizeX the number of samples along the X axis (&gt;0)
+     * @param sizeY the number of samples along the Y axis (&gt;0)
+     * @param heights the height values, row-major with X varying fastest (not
+     * {@code null}, length&ge;sizeX*sizeY, unaffected)
+     */
+    public void addPatch(int startX, int startY, int sizeX, int sizeY,
+            float[] heights) {
+        int numValues = validate(startX, startY, sizeX, sizeY);
+        assert heights.length >= numValues : heights.length;
+
+        putHeader(typeHeights, startX, startY, sizeX, sizeY,
+                numValues * Float.BYTES);
+        data.asFloatBuffer().put(heights, 0, numValues);
+        data.position(data.position() + numValues * Float.BYTES);
+    }
+
+    /**
+     * Append a patch of height samples, copying them from the current position
+     * of the specified buffer.
+     *
+     * @param startX the index of the first sample along the X axis (&ge;0)
+     * @param startY the index of the first sample along the Y axis (&ge;0)
+     * @param sizeX the number of samples along the X axis (&gt;0)
+     * @param sizeY the number of samples along the Y axis (&gt;0)
+     * @param heights the height values, row-major with X varying fastest (not
+     * {@code null}, at least sizeX*sizeY remaining, unaffected)
+     */
+    public void addPatch(int startX, int startY, int sizeX, int sizeY,
+            FloatBuffer heights) {
+        int numValues = validate(startX, startY, sizeX, sizeY);
+        assert heights.remaining() >= numValues : heights.remaining();
+
+        putHeader(typeHeights, startX, startY, sizeX, sizeY,
+                numValues * Float.BYTES);
+        FloatBuffer source = heights.duplicate();
+        source.limit(source.position() + numValues);
+        data.asFloatBuffer().put(source);
+        data.position(data.position() + numValues * Float.BYTES);
+    }
+
+    /**
+     * Apply all staged patches to the specified shape and then clear the batch.
+     * If a body interface is specified, the shape's body is notified of the
+     * change and any bodies near the edited regions are activated.
+     *
+     * @param shape the shape to modify (not {@code null})
+     * @param allocator for temporary allocations (not {@code null})
+     * @param bodyInterface the interface to notify, or {@code null} to skip
+     * notification and activation
+     * @param terrainBodyId the ID of the body that uses {@code shape} (ignored
+     * if {@code bodyInterface} is null)
+     * @return the number of coalesced height regions written (&ge;0)
+     */
+    public int apply(HeightFieldShape shape, TempAllocator allocator,
+            BodyInterface bodyInterface, int terrainBodyId) {
+        return apply(shape, allocator, 0.996195f, bodyInterface,
+                terrainBodyId);
+    }
+
+    /**
+     * Apply all staged patches to the specified shape and then clear the batch.
+     * If a body interface is specified, the shape's body is notified of the
+     * change and any bodies near the edited regions (including material-only
+     * patches) are activated.
+     *
+     * @param shape the shape to modify (not {@code null})
+     * @param allocator for temporary allocations (not {@code null})
+     * @param cosThresholdAngle cosine of the threshold angle (default=0.996195)
+     * @param bodyInterface the interface to notify, or {@code null} to skip
+     * notification and activation
+     * @param terrainBodyId the ID of the body that uses {@code shape} (ignored
+     * if {@code bodyInterface} is null)
+     * @return the number of coalesced height regions written (&ge;0)
+     */
+    public int apply(HeightFieldShape shape, TempAllocator allocator,
+            float cosThresholdAngle, BodyInterface bodyInterface,
+            int terrainBodyId) {
+        int sampleCount = shape.getSampleCount();
+        ByteBuffer records = data.duplicate().order(data.order());
+        records.flip();
+        while (records.hasRemaining()) {
+            int type = records.getInt();
+            int startX = records.getInt();
+            int startY = records.getInt();
+            int sizeX = records.getInt();
+            int sizeY = records.getInt();
+            int limit = (type == typeHeights) ? sampleCount : sampleCount - 1;
+            if (startX + sizeX > limit || startY + sizeY > limit) {
+                throw new IllegalArgumentException(
+                        "patch exceeds sampleCount=" + sampleCount);
+            }
+            int numValues = sizeX * sizeY;
+            int numBytes = (type == typeHeights)
+                    ? numValues * Float.BYTES : (numValues + 3) & ~3;
+            records.position(records.position() + numBytes);
+        }
+
+        long shapeVa = shape.va();
+        int numBytes = data.position();
+        long allocatorVa = allocator.va();
+        long bodyInterfaceVa
+                = (bodyInterface == null) ? 0L : bodyInterface.va();
+        int result = HeightFieldShape.applyEdits(shapeVa, data, numBytes,
+                allocatorVa, cosThresholdAngle, bodyInterfaceVa,
+                terrainBodyId);
+        clear();
+        if (result < 0) {
+            throw new IllegalStateException(
+                    "material patch rejected, indices out of range?");
+        }
+
+        return result;
+    }
+
+    /**
+     * Discard all staged patches.
+     */
+    public void clear() {
+        data.clear();
+        this.numPatches = 0;
+    }
+
+    /**
+     * Count the staged patches.
+     *
+     * @return the count (&ge;0)
+     */
+    public int countPatches() {
+        return numPatches;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Ensure the staging buffer can hold the specified number of additional
+     * bytes, growing it if necessary.
+     *
+     * @param numBytes the number of bytes required (&ge;0)
+     */
+    private void ensureRemaining(int numBytes) {
+        if (data.remaining() < numBytes) {
+            int needed = data.position() + numBytes;
+            int newCapacity = Math.max(needed, 2 * data.capacity());
+            ByteBuffer newData = Jolt.newDirectByteBuffer(newCapacity);
+            data.flip();
+            newData.put(data);
+            this.data = newData;
+        }
+    }
+
+    /**
+     * Append a patch header, reserving space for its payload.
+     *
+     * @param type the record type
+     * @param startX the index of the first sample along the X axis
+     * @param startY the index of the first sample along the Y axis
+     * @param sizeX the number of samples along the X axis
+     * @param sizeY the number of samples along the Y axis
+     * @param payloadBytes the size of the payload that follows (in bytes)
+     */
+    private void putHeader(int type, int startX, int startY, int sizeX,
+            int sizeY, int payloadBytes) {
+        ensureRemaining(headerBytes + payloadBytes);
+        data.putInt(type);
+        data.putInt(startX);
+        data.putInt(startY);
+        data.putInt(sizeX);
+        data.putInt(sizeY);
+        ++numPatches;
+    }
+
+    /**
+     * Validate the bounds of a patch.
+     *
+     * @param startX the index of the first sample along the X axis
+     * @param startY the index of the first sample along the Y axis
+     * @param sizeX the number of samples along the X axis
+     * @param sizeY the number of samples along the Y axis
+     * @return the number of samples in the patch
+     */
+    private static int validate(int startX, int startY, int sizeX, int sizeY) {
+        assert startX >= 0 : startX;
+        assert startY >= 0 : startY;
+        assert sizeX > 0 : sizeX;
+        assert sizeY > 0 : sizeY;
+
+        return sizeX * sizeY;
+    }
+}
@@ -22,6 +22,7 @@ SOFTWARE.
 package com.github.stephengold.joltjni;
 
 import com.github.stephengold.joltjni.readonly.Vec3Arg;
+import java.nio.ByteBuffer;
 import java.nio.FloatBuffer;
 
 /**
@@ -73,6 +74,18 @@ public class HeightFieldShape extends Shape {
         return result;
     }
 
+    /**
+     * Return the number of samples along each edge. The shape is unaffected.
+     *
+     * @return the count (&ge;2)
+     */
+    public int getSampleCount() {
+        long shapeVa = va();
+        int result = getSampleCount(shapeVa);
+
+        return result;
+    }
+
     /**
      * Calculate the normal to the surface at the specified surface location.
      *
@@ -182,13 +195,19 @@ public class HeightFieldShape extends Shape {
                 allocatorVa, cosThresholdAngle);
     }
     // *************************************************************************
-    // native private methods
+    // native methods
+
+    native static int applyEdits(long shapeVa, ByteBuffer edits, int numBytes,
+            long allocatorVa, float cosThresholdAngle, long bodyInterfaceVa,
+            int bodyId);
 
     native private static int getBlockSize(long shapeVa);
 
     native private static void getPosition(
             long shapeVa, int x, int y, FloatBuffer storeFloats);
 
+    native private static int getSampleCount(long shapeVa);
+
     native private static void getSurfaceNormal(long shapeVa, int subShapeId,
             float x, float y, float z, float[] storeFloats);
 
@@ -0,0 +1,642 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.enumerate.EMotionType;
+import com.github.stephengold.joltjni.readonly.RVec3Arg;
+import java.nio.FloatBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Stream a large height grid into a physics system as a set of static
+ * {@code HeightFieldShape} tiles centered on one or more focus points.
+ * <p>
+ * The grid is divided into square tiles of {@code tileSamples} samples on a
+ * side. Adjacent tiles share their edge samples, so each tile spans
+ * {@code tileSamples-1} cells. Each invocation of {@link #update} requests
+ * tiles whose centers lie within the load radius of a focus point and removes
+ * tiles whose centers lie beyond the unload radius of every focus point. The
+ * gap between the 2 radii provides hysteresis.
+ * <p>
+ * Tile samples are fetched and tile shapes are built on background threads.
+ * Finished tiles are added to the system in batches during later updates.
+ * Removed tiles are pooled: a pooled tile keeps its body and shape, and its
+ * heights are overwritten in place when it's reused for another location. All
+ * tiles quantize heights over the same range, so any pooled shape can hold any
+ * tile's heights.
+ * <p>
+ * Invoke {@link #update} and {@link #clear} from a single thread, and not
+ * while the system is being stepped.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class HeightFieldTileManager {
+    // *************************************************************************
+    // classes and interfaces
+
+    /**
+     * Supply height samples for the tiles.
+     */
+    public interface SampleSource {
+        /**
+         * Copy a square block of samples. Samples outside the grid should be
+         * set to {@code HeightFieldShapeConstants.cNoCollisionValue}. Invoked
+         * on a background thread.
+         *
+         * @param startX the grid X index of the first sample (&ge;0)
+         * @param startZ the grid Z index of the first sample (&ge;0)
+         * @param numSamples the number of samples along each edge (&gt;0)
+         * @param storeSamples storage for the samples (not {@code null},
+         * row-major with X varying fastest, capacity&ge;numSamples^2,
+         * modified)
+         */
+        void copySamples(int startX, int startZ, int numSamples,
+                FloatBuffer storeSamples);
+    }
+
+    /**
+     * The state of a single tile.
+     */
+    private static class Tile {
+        /**
+         * ID of the tile's body, or {@code cInvalidBodyId} if not yet created
+         */
+        int bodyId = Jolt.cInvalidBodyId;
+        /**
+         * the tile's shape
+         */
+        HeightFieldShape shape;
+        /**
+         * counted reference to the tile's shape
+         */
+        ShapeRefC shapeRef;
+    }
+    // *************************************************************************
+    // fields
+
+    /**
+     * number of samples along each edge of the grid
+     */
+    final private int gridSamples;
+    /**
+     * maximum number of pooled tiles
+     */
+    private int maxPooled = 16;
+    /**
+     * object layer for tile bodies
+     */
+    final private int objectLayer;
+    /**
+     * number of samples along each edge of a tile
+     */
+    final private int tileSamples;
+    /**
+     * number of tiles along each edge of the grid
+     */
+    final private int tilesPerEdge;
+    /**
+     * executes the build tasks
+     */
+    private Executor executor = ForkJoinPool.commonPool();
+    /**
+     * horizontal distance between adjacent samples
+     */
+    final private float cellSize;
+    /**
+     * lowest height any tile can represent
+     */
+    final private float minHeight;
+    /**
+     * highest height any tile can represent
+     */
+    final private float maxHeight;
+    /**
+     * tiles are requested when a focus point is within this distance of their
+     * centers
+     */
+    private float loadRadius;
+    /**
+     * tiles are removed when every focus point is beyond this distance from
+     * their centers
+     */
+    private float unloadRadius;
+    /**
+     * tiles that are ready for reuse, most recently removed last
+     */
+    final private Deque<Tile> pool = new ArrayDeque<>(16);
+    /**
+     * tiles that are in the system, indexed by key
+     */
+    final private Map<Long, Tile> loaded = new HashMap<>(64);
+    /**
+     * tiles that are being built, indexed by key
+     */
+    final private Map<Long, CompletableFuture<Tile>> pending
+            = new HashMap<>(16);
+    /**
+     * the system to add tiles to
+     */
+    final private PhysicsSystem system;
+    /**
+     * location of grid sample (0,0) in system coordinates
+     */
+    final private RVec3 gridOrigin;
+    /**
+     * supplies height samples
+     */
+    final private SampleSource source;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a manager for the specified grid. Initially no tiles are
+     * loaded.
+     *
+     * @param system the system to add tiles to (not {@code null})
+     * @param source supplies height samples (not {@code null})
+     * @param gridSamples the number of samples along each edge of the grid
+     * (&ge;tileSamples)
+     * @param tileSamples the number of samples along each edge of a tile (a
+     * multiple of the block size, &ge;4)
+     * @param gridOrigin the location of grid sample (0,0) in system
+     * coordinates (not {@code null}, unaffected)
+     * @param cellSize the horizontal distance between adjacent samples
+     * (&gt;0)
+     * @param minHeight the lowest height any tile must represent
+     * @param maxHeight the highest height any tile must represent
+     * (&gt;minHeight)
+     * @param objectLayer the object layer for tile bodies
+     */
+    public HeightFieldTileManager(PhysicsSystem system, SampleSource source,
+            int gridSamples, int tileSamples, RVec3Arg gridOrigin,
+            float cellSize, float minHeight, float maxHeight,
+            int objectLayer) {
+        assert tileSamples >= 4 : tileSamples;
+        assert gridSamples >= tileSamples : gridSamples;
+        assert cellSize > 0f : cellSize;
+        assert maxHeight > minHeight : maxHeight;
+
+        this.system = system;
+        this.source = source;
+        this.gridSamples = gridSamples;
+        this.tileSamples = tileSamples;
+        this.gridOrigin = new RVec3(gridOrigin);
+        this.cellSize = cellSize;
+        this.minHeight = minHeight;
+        this.maxHeight = maxHeight;
+        this.objectLayer = objectLayer;
+
+        int cellsPerTile = tileSamples - 1;
+        this.tilesPerEdge = (gridSamples - 2) / cellsPerTile + 1;
+
+        float tileSize = cellsPerTile * cellSize;
+        this.loadRadius = tileSize;
+        this.unloadRadius = 1.5f * tileSize;
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Remove all tiles from the system, wait for pending builds, and free all
+     * tiles, including pooled ones.
+     */
+    public void clear() {
+        for (CompletableFuture<Tile> future : pending.values()) {
+            pool.addLast(future.join());
+        }
+        pending.clear();
+
+        removeTiles(new ArrayList<>(loaded.keySet()));
+        int savedMax = maxPooled;
+        maxPooled = 0;
+        trimPool();
+        maxPooled = savedMax;
+    }
+
+    /**
+     * Count the tiles in the system.
+     *
+     * @return the count (&ge;0)
+     */
+    public int countLoadedTiles() {
+        return loaded.size();
+    }
+
+    /**
+     * Count the tiles that are being built.
+     *
+     * @return the count (&ge;0)
+     */
+    public int countPendingTiles() {
+        return pending.size();
+    }
+
+    /**
+     * Count the tiles that are ready for reuse.
+     *
+     * @return the count (&ge;0)
+     */
+    public int countPooledTiles() {
+        synchronized (pool) {
+            return pool.size();
+        }
+    }
+
+    /**
+     * Create a sample source for a grid that's entirely in memory, for
+     * instance in a memory-mapped file.
+     *
+     * @param samples the height samples (not {@code null}, row-major with X
+     * varying fastest, capacity&ge;gridSamples^2, alias created)
+     * @param gridSamples the number of samples along each edge of the grid
+     * (&gt;0)
+     * @return a new source
+     */
+    public static SampleSource fromBuffer(
+            FloatBuffer samples, int gridSamples) {
+        assert samples.capacity() >= gridSamples * gridSamples;
+
+        SampleSource result = (startX, startZ, numSamples, storeSamples) -> {
+            for (int z = 0; z < numSamples; ++z) {
+                int gridZ = startZ + z;
+                for (int x = 0; x < numSamples; ++x) {
+                    int gridX = startX + x;
+                    float height;
+                    if (gridX < gridSamples && gridZ < gridSamples) {
+                        height = samples.get(gridX + gridZ * gridSamples);
+                    } else {
+                        height = HeightFieldShapeConstants.cNoCollisionValue;
+                    }
+                    storeSamples.put(x + z * numSamples, height);
+                }
+            }
+        };
+
+        return result;
+    }
+
+    /**
+     * Test whether the specified tile is in the system.
+     *
+     * @param tileX the tile's X index (&ge;0)
+     * @param tileZ the tile's Z index (&ge;0)
+     * @return {@code true} if loaded, otherwise {@code false}
+     */
+    public boolean isLoaded(int tileX, int tileZ) {
+        boolean result = loaded.containsKey(key(tileX, tileZ));
+        return result;
+    }
+
+    /**
+     * Alter which executor builds tiles.
+     *
+     * @param executor the desired executor (not {@code null}, alias created,
+     * default=the common fork-join pool)
+     */
+    public void setExecutor(Executor executor) {
+        assert executor != null;
+        this.executor = executor;
+    }
+
+    /**
+     * Alter the maximum number of pooled tiles. Excess tiles are freed during
+     * the next update.
+     *
+     * @param maxPooled the desired maximum (&ge;0, default=16)
+     */
+    public void setMaxPooled(int maxPooled) {
+        assert maxPooled >= 0 : maxPooled;
+        this.maxPooled = maxPooled;
+    }
+
+    /**
+     * Alter the load and unload radii.
+     *
+     * @param loadRadius the distance within which tiles are requested
+     * (&ge;0, default=one tile size)
+     * @param unloadRadius the distance beyond which tiles are removed
+     * (&ge;loadRadius, default=1.5 tile sizes)
+     */
+    public void setRadii(float loadRadius, float unloadRadius) {
+        assert loadRadius >= 0f : loadRadius;
+        assert unloadRadius >= loadRadius : unloadRadius;
+
+        this.loadRadius = loadRadius;
+        this.unloadRadius = unloadRadius;
+    }
+
+    /**
+     * Request tiles near the specified focus points, add finished tiles to the
+     * system, and remove distant tiles.
+     *
+     * @param focusPoints the locations to load terrain around (not
+     * {@code null}, unaffected)
+     */
+    public void update(RVec3Arg... focusPoints) {
+        // Remove tiles that are beyond the unload radius of every focus:
+        List<Long> distant = new ArrayList<>(8);
+        for (long key : loaded.keySet()) {
+            if (!isWithin(key, unloadRadius, focusPoints)) {
+                distant.add(key);
+            }
+        }
+        removeTiles(distant);
+
+        // Request tiles that are within the load radius of some focus:
+        Set<Long> wanted = new HashSet<>(64);
+        float tileSize = (tileSamples - 1) * cellSize;
+        int reach = (int) Math.ceil(loadRadius / tileSize);
+        for (RVec3Arg focus : focusPoints) {
+            int centerX = (int) Math.floor(
+                    (focus.xx() - gridOrigin.xx()) / tileSize);
+            int centerZ = (int) Math.floor(
+                    (focus.zz() - gridOrigin.zz()) / tileSize);
+            for (int tileZ = centerZ - reach; tileZ <= centerZ + reach;
+                    ++tileZ) {
+                for (int tileX = centerX - reach; tileX <= centerX + reach;
+                        ++tileX) {
+                    if (tileX >= 0 && tileX < tilesPerEdge
+                            && tileZ >= 0 && tileZ < tilesPerEdge) {
+                        long key = key(tileX, tileZ);
+                        if (isWithin(key, loadRadius, focus)) {
+                            wanted.add(key);
+                        }
+                    }
+                }
+            }
+        }
+        for (long key : wanted) {
+            if (!loaded.containsKey(key) && !pending.containsKey(key)) {
+                CompletableFuture<Tile> future = CompletableFuture
+                        .supplyAsync(() -> build(key), executor);
+                pending.put(key, future);
+            }
+        }
+
+        // Add finished tiles to the system in a single batch:
+        List<Tile> finished = new ArrayList<>(8);
+        List<Long> finishedKeys = new ArrayList<>(8);
+        Iterator<Map.Entry<Long, CompletableFuture<Tile>>> iterator
+                = pending.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, CompletableFuture<Tile>> entry = iterator.next();
+            CompletableFuture<Tile> future = entry.getValue();
+            if (future.isDone()) {
+                iterator.remove();
+                Tile tile = future.join();
+                long key = entry.getKey();
+                if (isWithin(key, unloadRadius, focusPoints)) {
+                    finished.add(tile);
+                    finishedKeys.add(key);
+                } else { // no longer needed
+                    synchronized (pool) {
+                        pool.addLast(tile);
+                    }
+                }
+            }
+        }
+        addTiles(finishedKeys, finished);
+
+        trimPool();
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Create bodies as needed and add the specified tiles to the system.
+     *
+     * @param keys the keys of the tiles (not {@code null}, unaffected)
+     * @param tiles the tiles to add (not {@code null}, same length as keys)
+     */
+    private void addTiles(List<Long> keys, List<Tile> tiles) {
+        int numTiles = tiles.size();
+        if (numTiles == 0) {
+            return;
+        }
+
+        BodyInterface bi = system.getBodyInterface();
+        BodyIdArray ids = new BodyIdArray(numTiles);
+        RVec3 location = new RVec3();
+        for (int i = 0; i < numTiles; ++i) {
+            long key = keys.get(i);
+            Tile tile = tiles.get(i);
+            locateTile(key, location);
+            if (tile.bodyId == Jolt.cInvalidBodyId) {
+                BodyCreationSettings bcs = new BodyCreationSettings(
+                        tile.shapeRef, location, new Quat(),
+                        EMotionType.Static, objectLayer);
+                Body body = bi.createBody(bcs);
+                tile.bodyId = body.getId();
+                bcs.close();
+            } else {
+                bi.setPosition(
+                        tile.bodyId, location, EActivation.DontActivate);
+            }
+            ids.set(i, tile.bodyId);
+            loaded.put(key, tile);
+        }
+
+        long addState = bi.addBodiesPrepare(ids);
+        bi.addBodiesFinalize(ids, addState, EActivation.DontActivate);
+        ids.close();
+    }
+
+    /**
+     * Build the specified tile, reusing a pooled tile if possible. Invoked on
+     * a background thread.
+     *
+     * @param key the key of the tile to build
+     * @return a tile with the requested heights (not {@code null})
+     */
+    private Tile build(long key) {
+        int startX = tileX(key) * (tileSamples - 1);
+        int startZ = tileZ(key) * (tileSamples - 1);
+        FloatBuffer samples
+                = Jolt.newDirectFloatBuffer(tileSamples * tileSamples);
+        source.copySamples(startX, startZ, tileSamples, samples);
+
+        Tile result;
+        synchronized (pool) {
+            result = pool.pollLast();
+        }
+
+        if (result == null) {
+            result = new Tile();
+            HeightFieldShapeSettings settings = new HeightFieldShapeSettings(
+                    samples, new Vec3(), new Vec3(cellSize, 1f, cellSize),
+                    tileSamples);
+            settings.setMinHeightValue(minHeight);
+            settings.setMaxHeightValue(maxHeight);
+            ShapeResult shapeResult = settings.create();
+            if (shapeResult.hasError()) {
+                throw new IllegalStateException(shapeResult.getError());
+            }
+            result.shapeRef = shapeResult.get();
+            result.shape = (HeightFieldShape) Shape.newShape(
+                    result.shapeRef.targetVa());
+            shapeResult.close();
+            settings.close();
+
+        } else { // overwrite the heights of a pooled tile in place
+            TempAllocator allocator = new TempAllocatorMalloc();
+            result.shape.setHeights(0, 0, tileSamples, tileSamples, samples,
+                    tileSamples, allocator);
+            allocator.close();
+        }
+
+        return result;
+    }
+
+    /**
+     * Test whether the center of the specified tile is within the specified
+     * horizontal distance of any of the specified points.
+     *
+     * @param key the key of the tile
+     * @param radius the distance limit (&ge;0)
+     * @param points the points to test (not {@code null}, unaffected)
+     * @return {@code true} if within the limit, otherwise {@code false}
+     */
+    private boolean isWithin(long key, float radius, RVec3Arg... points) {
+        float tileSize = (tileSamples - 1) * cellSize;
+        double centerX = gridOrigin.xx() + (tileX(key) + 0.5) * tileSize;
+        double centerZ = gridOrigin.zz() + (tileZ(key) + 0.5) * tileSize;
+        double radiusSquared = (double) radius * radius;
+        for (RVec3Arg point : points) {
+            double dx = point.xx() - centerX;
+            double dz = point.zz() - centerZ;
+            if (dx * dx + dz * dz <= radiusSquared) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Encode tile indices into a map key.
+     *
+     * @param tileX the tile's X index
+     * @param tileZ the tile's Z index
+     * @return the key
+     */
+    private static long key(int tileX, int tileZ) {
+        long result = ((long) tileX << 32) | (tileZ & 0xFFFF_FFFFL);
+        return result;
+    }
+
+    /**
+     * Calculate the body location for the specified tile.
+     *
+     * @param key the key of the tile
+     * @param storeLocation storage for the location (not {@code null},
+     * modified)
+     */
+    private void locateTile(long key, RVec3 storeLocation) {
+        float tileSize = (tileSamples - 1) * cellSize;
+        storeLocation.set(gridOrigin.xx() + tileX(key) * (double) tileSize,
+                gridOrigin.yy(),
+                gridOrigin.zz() + tileZ(key) * (double) tileSize);
+    }
+
+    /**
+     * Remove the specified tiles from the system and add them to the pool.
+     *
+     * @param keys the keys of the tiles to remove (not {@code null},
+     * unaffected)
+     */
+    private void removeTiles(List<Long> keys) {
+        int numTiles = keys.size();
+        if (numTiles == 0) {
+            return;
+        }
+
+        BodyIdArray ids = new BodyIdArray(numTiles);
+        Tile[] tiles = new Tile[numTiles];
+        for (int i = 0; i < numTiles; ++i) {
+            tiles[i] = loaded.remove(keys.get(i));
+            ids.set(i, tiles[i].bodyId);
+        }
+        system.getBodyInterface().removeBodies(ids);
+        ids.close();
+
+        // Pool the tiles only after their bodies have left the broad phase:
+        synchronized (pool) {
+            for (Tile tile : tiles) {
+                pool.addLast(tile);
+            }
+        }
+    }
+
+    /**
+     * Extract the X index from a tile key.
+     *
+     * @param key the key
+     * @return the index
+     */
+    private static int tileX(long key) {
+        int result = (int) (key >> 32);
+        return result;
+    }
+
+    /**
+     * Extract the Z index from a tile key.
+     *
+     * @param key the key
+     * @return the index
+     */
+    private static int tileZ(long key) {
+        int result = (int) key;
+        return result;
+    }
+
+    /**
+     * Free pooled tiles in excess of the limit, least recently pooled first.
+     */
+    private void trimPool() {
+        BodyInterface bi = system.getBodyInterface();
+        while (true) {
+            Tile tile;
+            synchronized (pool) {
+                if (pool.size() <= maxPooled) {
+                    return;
+                }
+                tile = pool.pollFirst();
+            }
+            if (tile.bodyId != Jolt.cInvalidBodyId) {
+                bi.destroyBody(tile.bodyId);
+            }
+            tile.shapeRef.close();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+/**
+ * A thread-confined scope for short-lived native objects. Storage for objects
+ * created in the arena comes from a native bump allocator, and all of it is
+ * freed at once when the arena is closed, without registering the individual
+ * objects with the {@code Cleaner}.
+ * <p>
+ * JVM objects created in an arena don't own their native objects, so invoking
+ * {@code close()} on them has no effect. They must not be used after the arena
+ * is closed.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class JoltArena extends JoltPhysicsObject {
+    // *************************************************************************
+    // constants
+
+    /**
+     * default size of each storage block (in bytes)
+     */
+    final public static int defaultBlockBytes = 64 * 1024;
+    // *************************************************************************
+    // fields
+
+    /**
+     * thread that created the arena
+     */
+    final private Thread ownerThread;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an arena with the default block size.
+     */
+    public JoltArena() {
+        this(defaultBlockBytes);
+    }
+
+    /**
+     * Instantiate an arena with the specified block size.
+     *
+     * @param blockBytes the size of each storage block (in bytes, &gt;0)
+     */
+    public JoltArena(int blockBytes) {
+        assert blockBytes > 0 : "blockBytes=" + blockBytes;
+
+        this.ownerThread = Thread.currentThread();
+        long arenaVa = create(blockBytes);
+        setVirtualAddress(arenaVa, () -> free(arenaVa));
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Count the storage blocks allocated so far. The arena is unaffected.
+     *
+     * @return the count (&ge;0)
+     */
+    public int countBlocks() {
+        long arenaVa = allocatorVa();
+        int result = countBlocks(arenaVa);
+
+        return result;
+    }
+
+    /**
+     * Count the bytes handed out so far, excluding alignment padding. The arena
+     * is unaffected.
+     *
+     * @return the count (&ge;0)
+     */
+    public long countBytesUsed() {
+        long arenaVa = allocatorVa();
+        long result = countBytesUsed(arenaVa);
+
+        return result;
+    }
+
+    /**
+     * Count the objects and arrays created in the arena so far. The arena is
+     * unaffected.
+     *
+     * @return the count (&ge;0)
+     */
+    public int countObjects() {
+        long arenaVa = allocatorVa();
+        int result = countObjects(arenaVa);
+
+        return result;
+    }
+
+    /**
+     * Access the thread that created the arena.
+     *
+     * @return the pre-existing instance (not {@code null})
+     */
+    public Thread getOwnerThread() {
+        return ownerThread;
+    }
+    // *************************************************************************
+    // new protected methods
+
+    /**
+     * Return the address of the native allocator, verifying that the current
+     * thread is the owner.
+     *
+     * @return the virtual address (not zero)
+     */
+    long allocatorVa() {
+        assert Thread.currentThread() == ownerThread :
+                "arena used by " + Thread.currentThread();
+        long result = va();
+
+        return result;
+    }
+    // *************************************************************************
+    // JoltPhysicsObject methods
+
+    /**
+     * Destroy all objects created in the arena and free its storage.
+     */
+    @Override
+    public void close() {
+        assert Thread.currentThread() == ownerThread :
+                "arena closed by " + Thread.currentThread();
+        super.close();
+    }
+    // *************************************************************************
+    // native private methods
+
+    native private static int countBlocks(long arenaVa);
+
+    native private static long countBytesUsed(long arenaVa);
+
+    native private static int countObjects(long arenaVa);
+
+    native private static long create(int blockBytes);
+
+    native private static void free(long arenaVa);
+}
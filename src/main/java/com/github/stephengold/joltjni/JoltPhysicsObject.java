@@ -23,9 +23,9 @@ package com.github.stephengold.joltjni;
 
 import com.github.stephengold.joltjni.readonly.ConstJoltPhysicsObject;
 import com.github.stephengold.joltjni.template.Ref;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.lang.ref.Cleaner;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * An abstract class to represent a (native) Jolt Physics object.
@@ -35,41 +35,19 @@ import java.util.concurrent.atomic.AtomicReference;
 abstract public class JoltPhysicsObject
         implements AutoCloseable, ConstJoltPhysicsObject {
     // *************************************************************************
-    // classes
+    // constants
 
     /**
-     * A static, non-capturing Runnable for the Cleaner.
+     * handle for atomic access to the {@code freeingAction} field
      */
-    private static class CleanerRunnable implements Runnable {
-        /**
-         * virtual address of the native object
-         */
-        final private AtomicLong addressRef;
-        /**
-         * reference to the native freeing action
-         */
-        final private AtomicReference<Runnable> actionRef;
-
-        /**
-         * Instantiate a cleaner action.
-         *
-         * @param actionRef the shared atomic reference (not {@code null})
-         * @param addressRef the shared address reference (not {@code null})
-         */
-        CleanerRunnable(
-                AtomicReference<Runnable> actionRef, AtomicLong addressRef) {
-            this.actionRef = actionRef;
-            this.addressRef = addressRef;
-        }
-
-        /**
-         * If the native object hasn't been freed yet, invoke its freeing action
-         * and mark it as freed.
-         */
-        @Override
-        public void run() {
-            // Delegate to the shared, static cleanup method.
-            executeCleanup(actionRef, addressRef);
+    final private static VarHandle freeingActionHandle;
+
+    static {
+        try {
+            freeingActionHandle = MethodHandles.lookup().findVarHandle(
+                    JoltPhysicsObject.class, "freeingAction", Object.class);
+        } catch (ReflectiveOperationException exception) {
+            throw new ExceptionInInitializerError(exception);
         }
     }
     // *************************************************************************
@@ -78,19 +56,21 @@ abstract public class JoltPhysicsObject
     /**
      * virtual address of the assigned native object, or 0 for none
      * <p>
-     * An AtomicLong is used so both the Cleaner and manual close() calls can
-     * safely set the address to zero after the native resource is freed,
-     * preventing use-after-free errors.
+     * The field is volatile so that a manual close() on one thread is visible
+     * to other threads, preventing use-after-free errors.
      */
-    final private AtomicLong virtualAddress = new AtomicLong(0L);
+    private volatile long virtualAddress;
     /**
-     * freeing action if the JVM object owns its assigned native object
+     * how to free the native object if the JVM object owns it: either a
+     * {@code Runnable} or (if the object is registered with the cleaner) a
+     * {@code Cleaner.Cleanable}, otherwise {@code null}
      * <p>
-     * An AtomicReference is used to ensure the freeing action is executed
-     * exactly once, either by a manual call to close() or by the Cleaner.
+     * The field is cleared atomically (via {@code freeingActionHandle}) to
+     * ensure the freeing action is executed exactly once. When a Cleanable is
+     * stored, the Cleaner itself guarantees that its action runs at most once,
+     * whether it's triggered by close() or by the Cleaner thread.
      */
-    final private AtomicReference<Runnable> freeingActionRef
-            = new AtomicReference<>();
+    private volatile Object freeingAction;
     /**
      * manage references to (native) Jolt-Physics objects, or {@code null} if
      * none
@@ -111,6 +91,17 @@ abstract public class JoltPhysicsObject
         this.containingObject = null;
     }
 
+    /**
+     * Instantiate with the specified container and no native object
+     * assigned.
+     *
+     * @param container the containing object, or {@code null} if none
+     */
+    protected JoltPhysicsObject(JoltPhysicsObject container) {
+        assert container == null || container.ownsNativeObject() : container;
+        this.containingObject = container;
+    }
+
     /**
      * Instantiate with the specified container and native object.
      *
@@ -119,7 +110,7 @@ abstract public class JoltPhysicsObject
      */
     protected JoltPhysicsObject(JoltPhysicsObject container, long va) {
         assert va  != 0L;
-        virtualAddress.set(va);
+        this.virtualAddress = va;
 
         assert container == null || container.ownsNativeObject() : container;
         this.containingObject = container;
@@ -160,7 +151,7 @@ abstract public class JoltPhysicsObject
      * @return the virtual address (not zero)
      */
     final public long va() {
-        long result = virtualAddress.get(); // Read the atomic field once.
+        long result = virtualAddress; // Read the volatile field once.
         assert result != 0L :
                 "Attempted to use an object that has already been freed: "
                 + this;
@@ -178,6 +169,19 @@ abstract public class JoltPhysicsObject
         return containingObject;
     }
 
+    /**
+     * Replace the assigned native object of a JVM object that doesn't own it.
+     * Intended for reusable views, to avoid allocating a new JVM object for
+     * each native object visited.
+     *
+     * @param va the virtual address of the native object to assign, or zero to
+     * unassign
+     */
+    final protected void reassignVirtualAddress(long va) {
+        assert freeingAction == null : "can't reassign an owner";
+        this.virtualAddress = va;
+    }
+
     /**
      * Assign a native object, assuming there's none already assigned.
      *
@@ -186,9 +190,9 @@ abstract public class JoltPhysicsObject
     final protected void setVirtualAddress(long va) {
         assert va  != 0L : "invalid virtual address";
         assert !hasAssignedNativeObject() : "native object already assigned";
-        assert freeingActionRef.get() == null;
+        assert freeingAction == null;
 
-        virtualAddress.set(va);
+        this.virtualAddress = va;
     }
 
     /**
@@ -204,12 +208,12 @@ abstract public class JoltPhysicsObject
 
         if (action != null) {
             assert containingObject == null : containingObject;
-            this.freeingActionRef.set(action);
 
-            if (cleaner != null) {
+            if (cleaner == null) {
+                this.freeingAction = action;
+            } else {
                 // Register the object with the cleaner:
-                cleaner.register(this,
-                        new CleanerRunnable(freeingActionRef, virtualAddress));
+                this.freeingAction = cleaner.register(this, action);
             }
         }
     }
@@ -222,7 +226,18 @@ abstract public class JoltPhysicsObject
      */
     @Override
     public void close() {
-        executeCleanup(freeingActionRef, virtualAddress);
+        Object action = freeingActionHandle.getAndSet(this, null);
+        if (action instanceof Cleaner.Cleanable) {
+            // Run the action now and unregister it from the cleaner:
+            ((Cleaner.Cleanable) action).clean();
+        } else if (action != null) {
+            ((Runnable) action).run();
+        }
+
+        if (action != null) {
+            // Zero the virtual address to prevent use-after-free:
+            this.virtualAddress = 0L;
+        }
     }
 
     /**
@@ -236,7 +251,7 @@ abstract public class JoltPhysicsObject
     @Override
     public int compareTo(JoltPhysicsObject other) {
         long otherVa = other.va();
-        int result = Long.compare(virtualAddress.get(), otherVa);
+        int result = Long.compare(virtualAddress, otherVa);
 
         return result;
     }
@@ -248,7 +263,7 @@ abstract public class JoltPhysicsObject
      */
     @Override
     final public boolean hasAssignedNativeObject() {
-        if (virtualAddress.get() == 0L) {
+        if (virtualAddress == 0L) {
             return false;
         } else {
             return true;
@@ -263,7 +278,7 @@ abstract public class JoltPhysicsObject
      */
     @Override
     final public boolean ownsNativeObject() {
-        if (freeingActionRef.get() == null) {
+        if (freeingAction == null) {
             return false;
         } else {
             return true;
@@ -293,7 +308,7 @@ abstract public class JoltPhysicsObject
     public long targetVaOrZero() {
         assert !(this instanceof Ref) :
                 getClass().getSimpleName() + " must override targetVaNotZero()";
-        long result = virtualAddress.get(); // Read the atomic field once.
+        long result = virtualAddress; // Read the volatile field once.
         return result;
     }
     // *************************************************************************
@@ -315,8 +330,7 @@ abstract public class JoltPhysicsObject
         } else if (otherObject != null
                 && otherObject.getClass() == getClass()) {
             JoltPhysicsObject otherJpo = (JoltPhysicsObject) otherObject;
-            result = (this.virtualAddress.get()
-                    == otherJpo.virtualAddress.get());
+            result = (this.virtualAddress == otherJpo.virtualAddress);
         } else {
             result = false;
         }
@@ -334,7 +348,7 @@ abstract public class JoltPhysicsObject
      */
     @Override
     public int hashCode() {
-        int result = (int) (virtualAddress.get() >> 4);
+        int result = (int) (virtualAddress >> 4);
         return result;
     }
 
@@ -347,30 +361,8 @@ abstract public class JoltPhysicsObject
     @Override
     public String toString() {
         String result = getClass().getSimpleName();
-        result += "#" + Long.toHexString(virtualAddress.get());
+        result += "#" + Long.toHexString(virtualAddress);
 
         return result;
     }
-    // *************************************************************************
-    // private methods
-
-    /**
-     * Atomically retrieve and execute the freeing action, then zero the virtual
-     * address.
-     *
-     * @param actionRef the atomic reference to the freeing action (not
-     * {@code null})
-     * @param addressRef the atomic reference to the virtual address (not
-     * {@code null})
-     */
-    private static void executeCleanup(
-            AtomicReference<Runnable> actionRef, AtomicLong addressRef) {
-        Runnable action = actionRef.getAndSet(null);
-        if (action != null) {
-            action.run();
-
-            // Zero the virtual address to prevent use-after-free:
-            addressRef.set(0L);
-        }
-    }
 }
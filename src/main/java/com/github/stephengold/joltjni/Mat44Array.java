@@ -53,6 +53,17 @@ public class Mat44Array extends JoltPhysicsObject {
         setVirtualAddress(arrayVa, () -> free(arrayVa));
     }
 
+    /**
+     * Instantiate an array with the specified length in the specified arena.
+     *
+     * @param arena the arena to allocate in (not {@code null}, open, owned by
+     * the current thread)
+     * @param length the desired number of matrices (&gt;0)
+     */
+    public Mat44Array(JoltArena arena, int length) {
+        this(arena, createInArena(arena.allocatorVa(), length), length);
+    }
+
     /**
      * Instantiate with the specified container and native object.
      *
@@ -115,6 +126,8 @@ public class Mat44Array extends JoltPhysicsObject {
 
     native private static long create(int length);
 
+    native private static long createInArena(long arenaVa, int length);
+
     native private static void free(long arrayVa);
 
     native private static long getMatrix(long arrayVa, int elementIndex);
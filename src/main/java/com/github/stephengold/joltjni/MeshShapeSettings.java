@@ -25,7 +25,11 @@ import com.github.stephengold.joltjni.enumerate.EShapeSubType;
 import com.github.stephengold.joltjni.readonly.ConstFloat3;
 import com.github.stephengold.joltjni.readonly.ConstTriangle;
 import com.github.stephengold.joltjni.readonly.ConstVertexList;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
 import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
 import java.util.List;
 
 /**
@@ -107,6 +111,86 @@ public class MeshShapeSettings extends ShapeSettings {
         setVirtualAddressAsCoOwner(settingsVa, EShapeSubType.Mesh);
     }
 
+    /**
+     * Instantiate settings for the specified vertices and indices, copying each
+     * buffer in bulk. Unlike the other constructors, the mesh isn't sanitized:
+     * invoke {@link #sanitize()} if it might contain degenerate or duplicate
+     * triangles.
+     *
+     * @param vertices the vertex locations (not {@code null}, direct, capacity
+     * a multiple of 3, unaffected)
+     * @param indices the vertex indices of each triangle (not {@code null},
+     * direct, capacity a multiple of 3, unaffected)
+     */
+    public MeshShapeSettings(FloatBuffer vertices, IntBuffer indices) {
+        this(vertices, indices, null, 0, null);
+    }
+
+    /**
+     * Instantiate settings for the specified vertices, indices, and materials,
+     * copying each buffer in bulk. The mesh isn't sanitized.
+     *
+     * @param vertices the vertex locations (not {@code null}, direct, capacity
+     * a multiple of 3, unaffected)
+     * @param indices the vertex indices of each triangle (not {@code null},
+     * direct, capacity a multiple of 3, unaffected)
+     * @param materialIndices the material index of each triangle (not
+     * {@code null}, direct, unaffected)
+     * @param materials the desired surface properties (not {@code null},
+     * unaffected)
+     */
+    public MeshShapeSettings(FloatBuffer vertices, IntBuffer indices,
+            ByteBuffer materialIndices, PhysicsMaterialList materials) {
+        this(vertices, indices, materialIndices, 1, materials);
+    }
+
+    /**
+     * Instantiate settings for the specified vertices, indices, and materials,
+     * copying each buffer in bulk. The mesh isn't sanitized.
+     *
+     * @param vertices the vertex locations (not {@code null}, direct, capacity
+     * a multiple of 3, unaffected)
+     * @param indices the vertex indices of each triangle (not {@code null},
+     * direct, capacity a multiple of 3, unaffected)
+     * @param materialIndices the material index of each triangle (not
+     * {@code null}, direct, unaffected)
+     * @param materials the desired surface properties (not {@code null},
+     * unaffected)
+     */
+    public MeshShapeSettings(FloatBuffer vertices, IntBuffer indices,
+            ShortBuffer materialIndices, PhysicsMaterialList materials) {
+        this(vertices, indices, materialIndices, 2, materials);
+    }
+
+    /**
+     * Instantiate settings from direct buffers.
+     *
+     * @param vertices the vertex locations (not {@code null}, direct,
+     * unaffected)
+     * @param indices the vertex indices of each triangle (not {@code null},
+     * direct, unaffected)
+     * @param materialIndices the material index of each triangle (direct,
+     * unaffected) or {@code null} for none
+     * @param bytesPerIndex the size of each material index (1 or 2)
+     * @param materials the desired surface properties (unaffected) or
+     * {@code null} for none
+     */
+    private MeshShapeSettings(FloatBuffer vertices, IntBuffer indices,
+            Buffer materialIndices, int bytesPerIndex,
+            PhysicsMaterialList materials) {
+        if (!vertices.isDirect() || !indices.isDirect()) {
+            throw new IllegalArgumentException("buffers must be direct");
+        }
+        assert vertices.capacity() % 3 == 0 : vertices.capacity();
+        assert indices.capacity() % 3 == 0 : indices.capacity();
+        assert materialIndices == null || materialIndices.isDirect();
+
+        long materialsVa = (materials == null) ? 0L : materials.va();
+        long settingsVa = createFromBuffers(vertices, indices,
+                materialIndices, bytesPerIndex, materialsVa);
+        setVirtualAddressAsCoOwner(settingsVa, EShapeSubType.Mesh);
+    }
+
     /**
      * Instantiate with the specified native object assigned.
      *
@@ -357,6 +441,19 @@ public class MeshShapeSettings extends ShapeSettings {
         reserveTriangleVertices(settingsVa, numVertices);
     }
 
+    /**
+     * Remove degenerate and duplicate triangles, as the constructors that
+     * accept vertex and triangle lists do.
+     *
+     * @return the number of triangles removed (&ge;0)
+     */
+    public int sanitize() {
+        long settingsVa = va();
+        int result = sanitize(settingsVa);
+
+        return result;
+    }
+
     /**
      * Copy the argument to the current settings.
      *
@@ -416,6 +513,10 @@ public class MeshShapeSettings extends ShapeSettings {
 
     native private static long createDefault();
 
+    native private static long createFromBuffers(FloatBuffer vertices,
+            IntBuffer indices, Buffer materialIndices, int bytesPerIndex,
+            long materialsVa);
+
     native private static long createFromTrianglesNoMats(
             int numTriangles, FloatBuffer positionBuffer);
 
@@ -441,6 +542,8 @@ public class MeshShapeSettings extends ShapeSettings {
     native private static void reserveTriangleVertices(
             long settingsVa, int numVertices);
 
+    native private static int sanitize(long settingsVa);
+
     native private static void setActiveEdgeCosThresholdAngle(
             long settingsVa, float cosine);
 
@@ -30,6 +30,7 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.HashSet;
 import java.util.Set;
@@ -133,6 +134,24 @@ final public class MiscUtil {
      */
     native public static long hashBytes(long dataVa, int inSize);
 
+    /**
+     * Return a hash code for the remaining bytes in the specified direct
+     * buffer. (see Jolt/Core/HashCombine.h)
+     *
+     * @param data the data to hash (not {@code null}, direct, position and
+     * limit unaffected)
+     * @param oldHash the old hash code
+     * @return the hash code
+     */
+    public static long hashBytes(ByteBuffer data, long oldHash) {
+        assert data.isDirect();
+        int startPosition = data.position();
+        int numBytes = data.remaining();
+        long result = hashBytes(data, startPosition, numBytes, oldHash);
+
+        return result;
+    }
+
     /**
      * Combine the specified quaternion with the specified hash code.
      *
@@ -515,6 +534,9 @@ final public class MiscUtil {
             float combinedFriction, float combinedRestitution,
             float minVelocity, int numIterations);
 
+    native private static long hashBytes(
+            ByteBuffer data, int startPosition, int numBytes, long oldHash);
+
     native private static long hashBytes(
             double xx, double yy, double zz, long oldHash);
 
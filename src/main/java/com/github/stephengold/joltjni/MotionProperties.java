@@ -301,6 +301,21 @@ public class MotionProperties
         return result;
     }
 
+    /**
+     * Copy the net force acting on the body. The properties are unaffected.
+     *
+     * @param storeResult storage for the force vector (Newtons in system
+     * coordinates, not {@code null}, modified)
+     */
+    @Override
+    public void getAccumulatedForce(Vec3 storeResult) {
+        long propertiesVa = va();
+        float x = getAccumulatedForceX(propertiesVa);
+        float y = getAccumulatedForceY(propertiesVa);
+        float z = getAccumulatedForceZ(propertiesVa);
+        storeResult.set(x, y, z);
+    }
+
     /**
      * Copy the net torque acting on the body. The properties are unaffected.
      *
@@ -317,6 +332,21 @@ public class MotionProperties
         return result;
     }
 
+    /**
+     * Copy the net torque acting on the body. The properties are unaffected.
+     *
+     * @param storeResult storage for the torque vector (Newton meters in system
+     * coordinates, not {@code null}, modified)
+     */
+    @Override
+    public void getAccumulatedTorque(Vec3 storeResult) {
+        long propertiesVa = va();
+        float x = getAccumulatedTorqueX(propertiesVa);
+        float y = getAccumulatedTorqueY(propertiesVa);
+        float z = getAccumulatedTorqueZ(propertiesVa);
+        storeResult.set(x, y, z);
+    }
+
     /**
      * Return the allowed degrees of freedom. The properties are unaffected.
      *
@@ -397,6 +427,20 @@ public class MotionProperties
         return result;
     }
 
+    /**
+     * Copy the angular velocity. The properties are unaffected.
+     *
+     * @param storeResult storage for the velocity vector (radians per second in
+     * system coordinates, not {@code null}, modified)
+     */
+    @Override
+    public void getAngularVelocity(Vec3 storeResult) {
+        long propertiesVa = va();
+        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
+        getAngularVelocity(propertiesVa, storeFloats);
+        storeResult.set(storeFloats);
+    }
+
     /**
      * Return the gravity factor. The properties are unaffected.
      *
@@ -426,6 +470,21 @@ public class MotionProperties
         return result;
     }
 
+    /**
+     * Copy the rotation that takes the inverse-inertia diagonal to local
+     * coordinates. The properties are unaffected.
+     *
+     * @param storeResult storage for the rotation quaternion (not {@code null},
+     * modified)
+     */
+    @Override
+    public void getInertiaRotation(Quat storeResult) {
+        long propertiesVa = va();
+        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
+        getInertiaRotation(propertiesVa, storeFloats);
+        storeResult.set(storeFloats);
+    }
+
     /**
      * Copy the diagonal components of the inverse inertia matrix, assuming a
      * dynamic body. The properties are unaffected.
@@ -442,6 +501,21 @@ public class MotionProperties
         return result;
     }
 
+    /**
+     * Copy the diagonal components of the inverse inertia matrix, assuming a
+     * dynamic body. The properties are unaffected.
+     *
+     * @param storeResult storage for the vector (all components &ge;0, not
+     * {@code null}, modified)
+     */
+    @Override
+    public void getInverseInertiaDiagonal(Vec3 storeResult) {
+        long propertiesVa = va();
+        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
+        getInverseInertiaDiagonal(propertiesVa, storeFloats);
+        storeResult.set(storeFloats);
+    }
+
     /**
      * Return the body's inverse mass. The properties are unaffected.
      *
@@ -496,6 +570,20 @@ public class MotionProperties
         return result;
     }
 
+    /**
+     * Copy the linear velocity. The properties are unaffected.
+     *
+     * @param storeResult storage for the velocity vector (meters per second in
+     * system coordinates, not {@code null}, modified)
+     */
+    @Override
+    public void getLinearVelocity(Vec3 storeResult) {
+        long propertiesVa = va();
+        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
+        getLinearVelocity(propertiesVa, storeFloats);
+        storeResult.set(storeFloats);
+    }
+
     /**
      * Copy the inverse-inertia matrix. The properties are unaffected.
      *
@@ -510,6 +598,18 @@ public class MotionProperties
         return result;
     }
 
+    /**
+     * Copy the inverse-inertia matrix. The properties are unaffected.
+     *
+     * @param storeResult storage for the matrix (not {@code null}, modified)
+     */
+    @Override
+    public void getLocalSpaceInverseInertia(Mat44 storeResult) {
+        long propertiesVa = va();
+        long storeVa = storeResult.va();
+        getLocalSpaceInverseInertiaInto(propertiesVa, storeVa);
+    }
+
     /**
      * Return the maximum angular speed that the body can achieve. The
      * properties are unaffected.
@@ -632,6 +732,9 @@ public class MotionProperties
 
     native private static long getLocalSpaceInverseInertia(long propertiesVa);
 
+    native private static void getLocalSpaceInverseInertiaInto(
+            long propertiesVa, long storeVa);
+
     native private static float getMaxAngularVelocity(long propertiesVa);
 
     native private static float getMaxLinearVelocity(long propertiesVa);
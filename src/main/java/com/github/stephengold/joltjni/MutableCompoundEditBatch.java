@@ -0,0 +1,290 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.readonly.ConstShape;
+import com.github.stephengold.joltjni.readonly.QuatArg;
+import com.github.stephengold.joltjni.readonly.Vec3Arg;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Queue edits to a {@code MutableCompoundShape} and apply them all with a
+ * single native call.
+ * <p>
+ * Sub-shape indices passed to {@link #modifyShape}, {@link #removeShape}, and
+ * {@link #replaceShape} refer to the shape as it was before the batch is
+ * applied. When applied, modifications and replacements take effect first,
+ * then removals (from the highest index down), and finally additions, which
+ * are appended in the order they were queued. The compound's revision count
+ * is incremented once per batch.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class MutableCompoundEditBatch {
+    // *************************************************************************
+    // constants
+
+    /**
+     * number of bytes in each edit record
+     */
+    final private static int editBytes = 48;
+    /**
+     * record type to add a sub-shape
+     */
+    final private static int editAdd = 0;
+    /**
+     * record type to remove a sub-shape
+     */
+    final private static int editRemove = 1;
+    /**
+     * record type to replace a sub-shape
+     */
+    final private static int editReplace = 2;
+    /**
+     * record type to reposition a sub-shape
+     */
+    final private static int editTransform = 3;
+    // *************************************************************************
+    // fields
+
+    /**
+     * queued edit records, in native byte order
+     */
+    private ByteBuffer data;
+    /**
+     * number of queued additions
+     */
+    private int numAdds;
+    /**
+     * number of queued edits
+     */
+    private int numEdits;
+    /**
+     * sub-shapes referenced by queued edits, to protect them from
+     * garbage collection until the batch is applied
+     */
+    final private List<ConstShape> pinnedShapes = new ArrayList<>(16);
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an empty batch.
+     */
+    public MutableCompoundEditBatch() {
+        this.data = Jolt.newDirectByteBuffer(16 * editBytes);
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Queue the addition of a sub-shape in the specified position.
+     *
+     * @param offset the desired offset (not {@code null}, unaffected)
+     * @param rotation the desired rotation (not {@code null}, not zero,
+     * unaffected)
+     * @param subshape the desired sub-shape (not {@code null})
+     * @return the modified batch, for chaining
+     */
+    public MutableCompoundEditBatch addShape(
+            Vec3Arg offset, QuatArg rotation, ConstShape subshape) {
+        put(editAdd, -1, offset, rotation, subshape);
+        ++numAdds;
+
+        return this;
+    }
+
+    /**
+     * Apply all queued edits to the specified shape and then clear the batch.
+     *
+     * @param compound the shape to modify (not {@code null})
+     * @param adjustCom {@code true} to recalculate the center of mass after
+     * editing, otherwise {@code false}
+     * @return a new array: for each original sub-shape, its new index or -1 if
+     * it was removed, followed by the new index of each addition in the order
+     * queued
+     */
+    public int[] apply(MutableCompoundShape compound, boolean adjustCom) {
+        int[] result = apply(compound, adjustCom, null, Jolt.cInvalidBodyId,
+                false, EActivation.DontActivate);
+        return result;
+    }
+
+    /**
+     * Apply all queued edits to the specified shape, notify its body, and
+     * then clear the batch.
+     *
+     * @param compound the shape to modify (not {@code null})
+     * @param adjustCom {@code true} to recalculate the center of mass after
+     * editing, otherwise {@code false}
+     * @param bodyInterface the interface to notify, or {@code null} to skip
+     * notification
+     * @param bodyId the ID of the body that uses {@code compound} (ignored if
+     * {@code bodyInterface} is null)
+     * @param updateMassProperties {@code true} to recalculate the body's mass
+     * and inertia, otherwise {@code false}
+     * @param activation whether to activate the body (not {@code null})
+     * @return a new array: for each original sub-shape, its new index or -1 if
+     * it was removed, followed by the new index of each addition in the order
+     * queued
+     */
+    public int[] apply(MutableCompoundShape compound, boolean adjustCom,
+            BodyInterface bodyInterface, int bodyId,
+            boolean updateMassProperties, EActivation activation) {
+        int numOriginal = compound.getNumSubShapes();
+        for (int i = 0; i < numEdits; ++i) {
+            int index = data.getInt(i * editBytes + 4);
+            assert index < numOriginal : index;
+        }
+        IntBuffer storeRemap = Jolt.newDirectIntBuffer(numOriginal + numAdds);
+
+        long shapeVa = compound.va();
+        long bodyInterfaceVa
+                = (bodyInterface == null) ? 0L : bodyInterface.va();
+        int activationOrdinal = activation.ordinal();
+        MutableCompoundShape.applyEdits(shapeVa, data, numEdits, adjustCom,
+                bodyInterfaceVa, bodyId, updateMassProperties,
+                activationOrdinal, storeRemap);
+        clear();
+
+        int[] result = new int[storeRemap.capacity()];
+        storeRemap.get(result);
+
+        return result;
+    }
+
+    /**
+     * Discard all queued edits.
+     */
+    public void clear() {
+        data.clear();
+        this.numAdds = 0;
+        this.numEdits = 0;
+        pinnedShapes.clear();
+    }
+
+    /**
+     * Count the queued edits.
+     *
+     * @return the count (&ge;0)
+     */
+    public int countEdits() {
+        return numEdits;
+    }
+
+    /**
+     * Queue the repositioning of the specified sub-shape.
+     *
+     * @param index the original index of the sub-shape (&ge;0)
+     * @param offset the desired offset (not {@code null}, unaffected)
+     * @param rotation the desired rotation (not {@code null}, not zero,
+     * unaffected)
+     * @return the modified batch, for chaining
+     */
+    public MutableCompoundEditBatch modifyShape(
+            int index, Vec3Arg offset, QuatArg rotation) {
+        assert index >= 0 : index;
+        put(editTransform, index, offset, rotation, null);
+
+        return this;
+    }
+
+    /**
+     * Queue the removal of the specified sub-shape. Removing the same index
+     * twice has no additional effect.
+     *
+     * @param index the original index of the sub-shape (&ge;0)
+     * @return the modified batch, for chaining
+     */
+    public MutableCompoundEditBatch removeShape(int index) {
+        assert index >= 0 : index;
+        put(editRemove, index, null, null, null);
+
+        return this;
+    }
+
+    /**
+     * Queue the replacement of the specified sub-shape.
+     *
+     * @param index the original index of the sub-shape (&ge;0)
+     * @param offset the desired offset (not {@code null}, unaffected)
+     * @param rotation the desired rotation (not {@code null}, not zero,
+     * unaffected)
+     * @param subshape the replacement sub-shape (not {@code null})
+     * @return the modified batch, for chaining
+     */
+    public MutableCompoundEditBatch replaceShape(int index, Vec3Arg offset,
+            QuatArg rotation, ConstShape subshape) {
+        assert index >= 0 : index;
+        put(editReplace, index, offset, rotation, subshape);
+
+        return this;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Append an edit record, growing the buffer if necessary.
+     *
+     * @param type the record type
+     * @param index the original sub-shape index, or -1 for an addition
+     * @param offset the sub-shape offset, or {@code null} if not applicable
+     * @param rotation the sub-shape rotation, or {@code null} if not
+     * applicable
+     * @param subshape the sub-shape, or {@code null} if not applicable
+     */
+    private void put(int type, int index, Vec3Arg offset, QuatArg rotation,
+            ConstShape subshape) {
+        if (data.remaining() < editBytes) {
+            ByteBuffer newData = Jolt.newDirectByteBuffer(2 * data.capacity());
+            data.flip();
+            newData.put(data);
+            this.data = newData;
+        }
+
+        int start = data.position();
+        data.putInt(start, type);
+        data.putInt(start + 4, index);
+        if (offset != null) {
+            data.putFloat(start + 8, offset.getX());
+            data.putFloat(start + 12, offset.getY());
+            data.putFloat(start + 16, offset.getZ());
+        }
+        if (rotation != null) {
+            data.putFloat(start + 20, rotation.getX());
+            data.putFloat(start + 24, rotation.getY());
+            data.putFloat(start + 28, rotation.getZ());
+            data.putFloat(start + 32, rotation.getW());
+        }
+        long subShapeVa = 0L;
+        if (subshape != null) {
+            subShapeVa = subshape.targetVa();
+            pinnedShapes.add(subshape);
+        }
+        data.putLong(start + 40, subShapeVa);
+        data.position(start + editBytes);
+        ++numEdits;
+    }
+}
@@ -25,6 +25,7 @@ import com.github.stephengold.joltjni.readonly.ConstShape;
 import com.github.stephengold.joltjni.readonly.QuatArg;
 import com.github.stephengold.joltjni.readonly.Vec3Arg;
 import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
 
 /**
  * A {@code CompoundShape} whose sub-shapes can be modified after the shape is
@@ -121,7 +122,7 @@ public class MutableCompoundShape extends CompoundShape {
         removeShape(shapeVa, index);
     }
     // *************************************************************************
-    // native private methods
+    // native methods
 
     native private static int addShape(
             long compoundVa, float offsetX, float offsetY, float offsetZ,
@@ -129,6 +130,11 @@ public class MutableCompoundShape extends CompoundShape {
 
     native private static void adjustCenterOfMass(long shapeVa);
 
+    native static void applyEdits(long shapeVa, ByteBuffer edits,
+            int numEdits, boolean adjustCom, long bodyInterfaceVa, int bodyId,
+            boolean updateMassProperties, int activationOrdinal,
+            IntBuffer storeRemap);
+
     native private static long createMutableCompoundShape();
 
     native private static void modifyShapes(
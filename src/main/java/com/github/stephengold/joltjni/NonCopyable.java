@@ -36,6 +36,16 @@ abstract public class NonCopyable extends JoltPhysicsObject {
     NonCopyable() {
     }
 
+    /**
+     * Instantiate with the specified container and no native object
+     * assigned.
+     *
+     * @param container the containing object, or {@code null} if none
+     */
+    NonCopyable(JoltPhysicsObject container) {
+        super(container);
+    }
+
     /**
      * Instantiate with the specified container and native object.
      *
@@ -0,0 +1,161 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bookkeeping shared by the exporters that pack a record per native object
+ * contiguously into a direct buffer: the objects in order of addition, their
+ * virtual addresses (for native code), and the index of each record's first
+ * float. For internal use of the Jolt-JNI library.
+ *
+ * @param <T> the type of object packed
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class PackedRecords<T extends JoltPhysicsObject> {
+    // *************************************************************************
+    // fields
+
+    /**
+     * index of the first float for each object, plus the total at the end
+     */
+    private int[] firstFloats = new int[65];
+    /**
+     * objects in the batch, in order of addition
+     */
+    final private List<T> objects = new ArrayList<>(64);
+    /**
+     * virtual addresses of the objects, in order of addition
+     */
+    private long[] vas = new long[64];
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an empty batch.
+     */
+    PackedRecords() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Append the specified object and reserve space for its record.
+     *
+     * @param object the object to add (not {@code null}, alias created)
+     * @param numFloats the size of the object's record (in floats, &ge;0)
+     * @return the index of the object in the batch (&ge;0)
+     */
+    int add(T object, int numFloats) {
+        assert numFloats >= 0 : numFloats;
+
+        int result = objects.size();
+        if (result == vas.length) {
+            long[] newVas = new long[2 * result];
+            System.arraycopy(vas, 0, newVas, 0, result);
+            this.vas = newVas;
+
+            int[] newFirsts = new int[2 * result + 1];
+            System.arraycopy(firstFloats, 0, newFirsts, 0, result + 1);
+            this.firstFloats = newFirsts;
+        }
+
+        vas[result] = object.va();
+        objects.add(object);
+        firstFloats[result + 1] = firstFloats[result] + numFloats;
+
+        return result;
+    }
+
+    /**
+     * Remove all objects from the batch.
+     */
+    void clear() {
+        objects.clear();
+    }
+
+    /**
+     * Return the number of floats needed to store all the records.
+     *
+     * @return the count (&ge;0)
+     */
+    int countFloats() {
+        int numObjects = objects.size();
+        int result = firstFloats[numObjects];
+
+        return result;
+    }
+
+    /**
+     * Access the object at the specified index.
+     *
+     * @param index the index in the batch (&ge;0, &lt;size)
+     * @return the pre-existing object
+     */
+    T get(int index) {
+        T result = objects.get(index);
+        return result;
+    }
+
+    /**
+     * Return the index of the first float of the specified object's record.
+     *
+     * @param index the index of the object in the batch (&ge;0, &lt;size)
+     * @return the index in the buffer (&ge;0)
+     */
+    int getFirstFloat(int index) {
+        assert index >= 0 && index < objects.size() : index;
+        int result = firstFloats[index];
+
+        return result;
+    }
+
+    /**
+     * Access the indices of the first floats, for use by native code.
+     *
+     * @return the pre-existing array (not {@code null}, length&gt;size)
+     */
+    int[] getFirstFloats() {
+        return firstFloats;
+    }
+
+    /**
+     * Access the virtual addresses of the objects, for use by native code.
+     *
+     * @return the pre-existing array (not {@code null}, length&ge;size)
+     */
+    long[] getVas() {
+        return vas;
+    }
+
+    /**
+     * Count the objects in the batch.
+     *
+     * @return the count (&ge;0)
+     */
+    int size() {
+        int result = objects.size();
+        return result;
+    }
+}
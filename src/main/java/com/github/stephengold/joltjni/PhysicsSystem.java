@@ -37,6 +37,7 @@ import com.github.stephengold.joltjni.readonly.Vec3Arg;
 import java.nio.FloatBuffer;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Perform simulation on a collection of physics objects. Bodies are added by
@@ -577,6 +578,42 @@ public class PhysicsSystem extends NonCopyable implements ConstPhysicsSystem {
         return result;
     }
 
+    /**
+     * Visit each active rigid body, rebinding a single view instead of
+     * allocating a JVM object per body. Must not be invoked during a physics
+     * update, and the action mustn't add or remove bodies.
+     *
+     * @param view the view to rebind (not {@code null}, modified)
+     * @param action the action to perform on each body (not {@code null})
+     */
+    @Override
+    public void forEachActiveBody(
+            BodyViewC view, Consumer<? super BodyViewC> action) {
+        forEachActiveBody(EBodyType.RigidBody, view, action);
+    }
+
+    /**
+     * Visit each active body of the specified type, rebinding a single view
+     * instead of allocating a JVM object per body. Must not be invoked during
+     * a physics update, and the action mustn't add or remove bodies.
+     *
+     * @param bodyType which type of bodies to visit (not {@code null})
+     * @param view the view to rebind (not {@code null}, modified)
+     * @param action the action to perform on each body (not {@code null})
+     */
+    @Override
+    public void forEachActiveBody(EBodyType bodyType, BodyViewC view,
+            Consumer<? super BodyViewC> action) {
+        long systemVa = va();
+        int ordinal = bodyType.ordinal();
+        int numBodies = getNumActiveBodies(systemVa, ordinal);
+        for (int i = 0; i < numBodies; ++i) {
+            long bodyVa = getActiveBodyVa(systemVa, ordinal, i);
+            view.bind(bodyVa);
+            action.accept(view);
+        }
+    }
+
     /**
      * Enumerate all bodies of the specified type to the specified vector.
      *
@@ -971,6 +1008,9 @@ public class PhysicsSystem extends NonCopyable implements ConstPhysicsSystem {
     native private static void getActiveBodies(
             long systemVa, int ordinal, long vectorVa);
 
+    native private static long getActiveBodyVa(
+            long systemVa, int ordinal, int index);
+
     native private static void getBodies(long systemVa, long vectorVa);
 
     native private static long getBodyActivationListener(long systemVa);
@@ -179,6 +179,23 @@ public class Ragdoll extends NonCopyable implements RefTarget {
         return storeIds;
     }
 
+    /**
+     * Enumerate all bodies in the ragdoll, which is unaffected. (native
+     * function: GetBodyIDs)
+     *
+     * @param storeIds storage for the body IDs (not {@code null}, length &ge;
+     * the number of bodies, modified)
+     * @return the number of bodies (&ge;0)
+     */
+    public int getBodyIds(int[] storeIds) {
+        long ragdollVa = va();
+        int result = getBodyCount(ragdollVa);
+        assert storeIds.length >= result : storeIds.length;
+        getBodyIds(ragdollVa, storeIds);
+
+        return result;
+    }
+
     /**
      * Access the specified constraint.
      *
@@ -0,0 +1,629 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.enumerate.EMotionType;
+import com.github.stephengold.joltjni.readonly.ConstSkeletonPose;
+import com.github.stephengold.joltjni.readonly.RVec3Arg;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A pool of pre-created ragdolls that share a single {@code RagdollSettings},
+ * to avoid allocating bodies and constraints at the moment a ragdoll is
+ * needed.
+ * <p>
+ * Idle ragdolls are kept out of the physics system (and hence out of the
+ * broadphase). {@code acquire()} poses an idle ragdoll and adds it to the
+ * system. {@code update()} recycles ragdolls that have settled or strayed
+ * beyond range of every focus point. The number of simultaneously simulated
+ * ragdolls is capped: when the cap is exceeded, the oldest simulated ragdoll
+ * is demoted, either to kinematic or to frozen (static). Either way, it keeps
+ * colliding but stops moving, and contacts can't wake it, so the cap holds.
+ * When the pool is exhausted, the oldest active ragdoll is recycled.
+ * <p>
+ * A simulated ragdoll is recycled for settling once it reaches the minimum
+ * lifetime and its bodies go to sleep. A demoted ragdoll never sleeps in the
+ * usual sense, so it's recycled once it has been demoted for the demoted
+ * lifetime instead.
+ * <p>
+ * Every part of the settings must allow dynamic or kinematic motion.
+ * Instances aren't thread-safe.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class RagdollPool {
+    // *************************************************************************
+    // enums
+
+    /**
+     * Enumerate the ways to stop simulating a ragdoll that's still active.
+     */
+    public enum Demotion {
+        /**
+         * convert all its bodies to kinematic, at rest, so the application
+         * can still drive them
+         */
+        Kinematic,
+        /**
+         * convert all its bodies to static, which also deactivates them
+         */
+        Frozen
+    }
+    // *************************************************************************
+    // constants
+
+    /**
+     * zero vector, for clearing velocities
+     */
+    final private static Vec3 zero = new Vec3();
+    // *************************************************************************
+    // fields
+
+    /**
+     * body interface of the physics system
+     */
+    final private BodyInterface bodyInterface;
+    /**
+     * how to demote simulated ragdolls in excess of the cap
+     */
+    private Demotion demotion = Demotion.Frozen;
+    /**
+     * active ragdolls, oldest first
+     */
+    final private Deque<Entry> active = new ArrayDeque<>(16);
+    /**
+     * idle ragdolls, available for use
+     */
+    final private Deque<Entry> idle = new ArrayDeque<>(16);
+    /**
+     * maximum distance from the nearest focus point before an active ragdoll
+     * is recycled (in meters, &gt;0)
+     */
+    private double range = Double.POSITIVE_INFINITY;
+    /**
+     * time a demoted ragdoll remains active before it's recycled (in seconds,
+     * &ge;0)
+     */
+    private float demotedLifetime = 5f;
+    /**
+     * minimum time a ragdoll remains active before it can be recycled for
+     * settling (in seconds, &ge;0)
+     */
+    private float minLifetime = 1f;
+    /**
+     * maximum number of simulated ragdolls (&ge;0)
+     */
+    private int maxSimulated;
+    /**
+     * number of active ragdolls that haven't been demoted (&ge;0)
+     */
+    private int numSimulated;
+    /**
+     * locations of the focus points
+     */
+    final private List<RVec3> focuses = new ArrayList<>(4);
+    /**
+     * map pooled ragdolls to their entries
+     */
+    final private Map<Ragdoll, Entry> map;
+    /**
+     * reusable temporary for root orientations
+     */
+    final private Quat tmpOrientation = new Quat();
+    /**
+     * reusable temporary for root locations
+     */
+    final private RVec3 tmpLocation = new RVec3();
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a pool and pre-create its ragdolls. If the physics system
+     * runs out of bodies, the pool will contain fewer ragdolls than requested.
+     *
+     * @param settings the settings for all ragdolls in the pool (not
+     * {@code null}, unaffected)
+     * @param system the physics system to use (not {@code null})
+     * @param groupId the collision group for the bodies
+     * @param capacity the desired number of ragdolls (&ge;0)
+     * @param maxSimulated the maximum number of ragdolls to simulate at once
+     * (&ge;0)
+     */
+    public RagdollPool(RagdollSettings settings, PhysicsSystem system,
+            int groupId, int capacity, int maxSimulated) {
+        assert capacity >= 0 : capacity;
+        assert maxSimulated >= 0 : maxSimulated;
+
+        this.bodyInterface = system.getBodyInterface();
+        this.maxSimulated = maxSimulated;
+        this.map = new IdentityHashMap<>(capacity);
+
+        for (int index = 0; index < capacity; ++index) {
+            long userData = index;
+            Ragdoll ragdoll = settings.createRagdoll(groupId, userData, system);
+            if (ragdoll == null) { // out of bodies
+                break;
+            }
+            Entry entry = new Entry(ragdoll);
+            idle.addLast(entry);
+            map.put(ragdoll, entry);
+        }
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Activate a ragdoll in the specified pose, at rest.
+     *
+     * @param pose the desired pose (not {@code null}, unaffected)
+     * @return a pooled ragdoll, or {@code null} if the pool is empty
+     */
+    public Ragdoll acquire(ConstSkeletonPose pose) {
+        Entry entry = obtainEntry();
+        if (entry == null) {
+            return null;
+        }
+
+        Ragdoll result = entry.ragdoll;
+        result.setPose(pose);
+        activate(entry);
+
+        return result;
+    }
+
+    /**
+     * Activate a ragdoll in the specified previous pose, moving towards the
+     * specified current pose. This carries the animation's velocity into the
+     * simulation.
+     *
+     * @param prevPose the pose at the start of the interval (not {@code null},
+     * unaffected)
+     * @param pose the pose at the end of the interval (not {@code null},
+     * unaffected)
+     * @param deltaTime the duration of the interval (in seconds, &gt;0)
+     * @return a pooled ragdoll, or {@code null} if the pool is empty
+     */
+    public Ragdoll acquire(ConstSkeletonPose prevPose, ConstSkeletonPose pose,
+            float deltaTime) {
+        assert deltaTime > 0f : deltaTime;
+
+        Entry entry = obtainEntry();
+        if (entry == null) {
+            return null;
+        }
+
+        Ragdoll result = entry.ragdoll;
+        result.setPose(prevPose);
+        activate(entry);
+        result.driveToPoseUsingKinematics(pose, deltaTime);
+
+        return result;
+    }
+
+    /**
+     * Add a focus point for range-based recycling.
+     *
+     * @param location the location of the new focus point (not {@code null},
+     * unaffected)
+     * @return the index of the new focus point (&ge;0)
+     */
+    public int addFocus(RVec3Arg location) {
+        int result = focuses.size();
+        focuses.add(new RVec3(location));
+
+        return result;
+    }
+
+    /**
+     * Return the number of ragdolls in the pool.
+     *
+     * @return the count (&ge;0)
+     */
+    public int capacity() {
+        int result = map.size();
+        return result;
+    }
+
+    /**
+     * Remove all focus points, disabling range-based recycling.
+     */
+    public void clearFocuses() {
+        focuses.clear();
+    }
+
+    /**
+     * Count the active ragdolls, including demoted ones.
+     *
+     * @return the count (&ge;0)
+     */
+    public int countActive() {
+        int result = active.size();
+        return result;
+    }
+
+    /**
+     * Count the idle ragdolls.
+     *
+     * @return the count (&ge;0)
+     */
+    public int countIdle() {
+        int result = idle.size();
+        return result;
+    }
+
+    /**
+     * Count the active ragdolls that haven't been demoted.
+     *
+     * @return the count (&ge;0)
+     */
+    public int countSimulated() {
+        return numSimulated;
+    }
+
+    /**
+     * Return the time a demoted ragdoll remains active before it's recycled.
+     *
+     * @return the time (in seconds, &ge;0)
+     */
+    public float getDemotedLifetime() {
+        return demotedLifetime;
+    }
+
+    /**
+     * Return how simulated ragdolls in excess of the cap are demoted.
+     *
+     * @return an enum value (not {@code null})
+     */
+    public Demotion getDemotion() {
+        return demotion;
+    }
+
+    /**
+     * Return the maximum number of ragdolls simulated at once.
+     *
+     * @return the count (&ge;0)
+     */
+    public int getMaxSimulated() {
+        return maxSimulated;
+    }
+
+    /**
+     * Test whether the specified ragdoll is active.
+     *
+     * @param ragdoll the ragdoll to test (not {@code null}, from this pool,
+     * unaffected)
+     * @return {@code true} if active, otherwise {@code false}
+     */
+    public boolean isActive(Ragdoll ragdoll) {
+        Entry entry = map.get(ragdoll);
+        boolean result = entry.isActive;
+
+        return result;
+    }
+
+    /**
+     * Test whether the specified ragdoll has been demoted.
+     *
+     * @param ragdoll the ragdoll to test (not {@code null}, from this pool,
+     * unaffected)
+     * @return {@code true} if active and demoted, otherwise {@code false}
+     */
+    public boolean isDemoted(Ragdoll ragdoll) {
+        Entry entry = map.get(ragdoll);
+        boolean result = entry.demotedAs != null;
+
+        return result;
+    }
+
+    /**
+     * Return the specified ragdoll to the pool. If it's already idle, nothing
+     * happens.
+     *
+     * @param ragdoll the ragdoll to release (not {@code null}, from this pool)
+     */
+    public void release(Ragdoll ragdoll) {
+        Entry entry = map.get(ragdoll);
+        if (entry.isActive) {
+            active.remove(entry);
+            recycle(entry);
+        }
+    }
+
+    /**
+     * Return all active ragdolls to the pool.
+     */
+    public void releaseAll() {
+        while (!active.isEmpty()) {
+            Entry entry = active.removeFirst();
+            recycle(entry);
+        }
+    }
+
+    /**
+     * Alter the time a demoted ragdoll remains active before it's recycled.
+     *
+     * @param seconds the desired time (in seconds, &ge;0, default=5)
+     */
+    public void setDemotedLifetime(float seconds) {
+        assert seconds >= 0f : seconds;
+        this.demotedLifetime = seconds;
+    }
+
+    /**
+     * Alter how simulated ragdolls in excess of the cap are demoted. Ragdolls
+     * that are already demoted are unaffected.
+     *
+     * @param demotion the desired method (not {@code null}, default=Frozen)
+     */
+    public void setDemotion(Demotion demotion) {
+        this.demotion = demotion;
+    }
+
+    /**
+     * Alter the location of the specified focus point.
+     *
+     * @param index the index of the focus point (&ge;0, &lt;numFocuses)
+     * @param location the desired location (not {@code null}, unaffected)
+     */
+    public void setFocus(int index, RVec3Arg location) {
+        RVec3 focus = focuses.get(index);
+        focus.set(location);
+    }
+
+    /**
+     * Alter the maximum number of ragdolls simulated at once. Excess ragdolls
+     * are demoted immediately.
+     *
+     * @param maxSimulated the desired maximum (&ge;0)
+     */
+    public void setMaxSimulated(int maxSimulated) {
+        assert maxSimulated >= 0 : maxSimulated;
+
+        this.maxSimulated = maxSimulated;
+        enforceCap();
+    }
+
+    /**
+     * Alter the minimum time a ragdoll remains active before it can be
+     * recycled for settling.
+     *
+     * @param seconds the desired time (in seconds, &ge;0, default=1)
+     */
+    public void setMinLifetime(float seconds) {
+        assert seconds >= 0f : seconds;
+        this.minLifetime = seconds;
+    }
+
+    /**
+     * Alter the maximum distance from the nearest focus point before an
+     * active ragdoll is recycled. Range-based recycling requires at least one
+     * focus point.
+     *
+     * @param range the desired distance (in meters, &gt;0,
+     * default=POSITIVE_INFINITY)
+     */
+    public void setRange(double range) {
+        assert range > 0. : range;
+        this.range = range;
+    }
+
+    /**
+     * Age the active ragdolls and recycle those that have settled or strayed
+     * out of range. Invoke once per tick, after the physics system has been
+     * updated.
+     *
+     * @param deltaTime the duration of the tick (in seconds, &ge;0)
+     * @return the number of ragdolls recycled (&ge;0)
+     */
+    public int update(float deltaTime) {
+        assert deltaTime >= 0f : deltaTime;
+
+        int result = 0;
+        double rangeSquared = range * range;
+        Iterator<Entry> iterator = active.iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            entry.age += deltaTime;
+
+            /*
+             * Constrained bodies share an island, so they sleep together.
+             * Demoted ragdolls no longer move, so they settle with age:
+             */
+            boolean settled;
+            if (entry.demotedAs == null) {
+                settled = entry.age >= minLifetime
+                        && !bodyInterface.isActive(entry.bodyIds[0]);
+            } else {
+                entry.demotedAge += deltaTime;
+                settled = entry.demotedAge >= demotedLifetime;
+            }
+            if (settled || isOutOfRange(entry, rangeSquared)) {
+                iterator.remove();
+                recycle(entry);
+                ++result;
+            }
+        }
+
+        return result;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Add the ragdoll of the specified idle entry to the physics system, then
+     * enforce the cap on simulated ragdolls.
+     *
+     * @param entry the entry to activate (not {@code null}, modified)
+     */
+    private void activate(Entry entry) {
+        entry.ragdoll.addToPhysicsSystem(EActivation.Activate);
+        entry.age = 0f;
+        entry.isActive = true;
+        active.addLast(entry);
+        ++numSimulated;
+
+        enforceCap();
+    }
+
+    /**
+     * Demote the oldest simulated ragdolls until the cap is satisfied.
+     */
+    private void enforceCap() {
+        Iterator<Entry> iterator = active.iterator();
+        while (numSimulated > maxSimulated && iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.demotedAs != null) {
+                continue;
+            }
+
+            EMotionType motionType = (demotion == Demotion.Kinematic)
+                    ? EMotionType.Kinematic : EMotionType.Static;
+            for (int bodyId : entry.bodyIds) {
+                bodyInterface.setLinearAndAngularVelocity(bodyId, zero, zero);
+                bodyInterface.setMotionType(
+                        bodyId, motionType, EActivation.DontActivate);
+            }
+            entry.demotedAge = 0f;
+            entry.demotedAs = demotion;
+            --numSimulated;
+        }
+    }
+
+    /**
+     * Test whether the root of the specified active entry is beyond range of
+     * every focus point.
+     *
+     * @param entry the entry to test (not {@code null}, unaffected)
+     * @param rangeSquared the square of the range (in square meters)
+     * @return {@code true} if out of range, otherwise {@code false}
+     */
+    private boolean isOutOfRange(Entry entry, double rangeSquared) {
+        if (focuses.isEmpty() || rangeSquared == Double.POSITIVE_INFINITY) {
+            return false;
+        }
+
+        entry.ragdoll.getRootTransform(tmpLocation, tmpOrientation);
+        for (RVec3 focus : focuses) {
+            double dx = tmpLocation.xx() - focus.xx();
+            double dy = tmpLocation.yy() - focus.yy();
+            double dz = tmpLocation.zz() - focus.zz();
+            if (dx * dx + dy * dy + dz * dz <= rangeSquared) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Obtain an idle entry, recycling the oldest active one if necessary.
+     *
+     * @return an idle entry, or {@code null} if the pool is empty
+     */
+    private Entry obtainEntry() {
+        Entry result = idle.pollFirst();
+        if (result == null) {
+            result = active.pollFirst();
+            if (result != null) {
+                recycle(result);
+                result = idle.removeLast();
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Remove the ragdoll of the specified entry from the physics system and
+     * return the entry to the idle queue. The entry must already have been
+     * removed from the active queue.
+     *
+     * @param entry the entry to recycle (not {@code null}, modified)
+     */
+    private void recycle(Entry entry) {
+        for (int bodyId : entry.bodyIds) {
+            if (entry.demotedAs != null) {
+                bodyInterface.setMotionType(
+                        bodyId, EMotionType.Dynamic, EActivation.DontActivate);
+            }
+            bodyInterface.setLinearAndAngularVelocity(bodyId, zero, zero);
+        }
+        entry.ragdoll.removeFromPhysicsSystem();
+
+        if (entry.demotedAs == null) {
+            --numSimulated;
+        }
+        entry.demotedAs = null;
+        entry.isActive = false;
+        idle.addLast(entry);
+    }
+    // *************************************************************************
+    // nested classes
+
+    /**
+     * Per-ragdoll state.
+     */
+    private static class Entry {
+        /**
+         * IDs of the ragdoll's bodies
+         */
+        final private int[] bodyIds;
+        /**
+         * the pooled ragdoll
+         */
+        final private Ragdoll ragdoll;
+        /**
+         * how the ragdoll was demoted, or {@code null} if it's simulated or
+         * idle
+         */
+        private Demotion demotedAs;
+        /**
+         * true if the ragdoll is in the physics system
+         */
+        private boolean isActive;
+        /**
+         * time since activation (in seconds)
+         */
+        private float age;
+        /**
+         * time since demotion (in seconds)
+         */
+        private float demotedAge;
+
+        /**
+         * Instantiate an idle entry for the specified ragdoll.
+         *
+         * @param ragdoll the ragdoll to pool (not {@code null}, alias created)
+         */
+        Entry(Ragdoll ragdoll) {
+            this.ragdoll = ragdoll;
+            this.bodyIds = ragdoll.getBodyIds();
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+
+/**
+ * Copy the poses of many ragdolls into shared direct buffers with a single
+ * native call, for upload to a GPU skinning shader.
+ * <p>
+ * Each ragdoll contributes its root offset (3 doubles) and one matrix per
+ * body, relative to the root offset. Matrices are written either as 16
+ * floats in column-major order, or compactly as 12 floats holding the
+ * upper 3 rows in row-major order (the "3x4" layout, whose implied 4th row
+ * is 0,0,0,1). The ragdolls' matrices are packed contiguously, in the order
+ * the ragdolls were added, and {@code getFirstFloat()} gives each ragdoll's
+ * starting index.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class RagdollPoseExporter {
+    // *************************************************************************
+    // fields
+
+    /**
+     * true for the 3x4 layout, false for the 4x4 layout
+     */
+    final private boolean use3x4;
+    /**
+     * ragdolls in the batch and the layout of their matrices
+     */
+    final private PackedRecords<Ragdoll> ragdolls = new PackedRecords<>();
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an empty exporter with the specified matrix layout.
+     *
+     * @param use3x4 {@code true} for 12 floats per matrix, {@code false} for
+     * 16
+     */
+    public RagdollPoseExporter(boolean use3x4) {
+        this.use3x4 = use3x4;
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Append the specified ragdoll to the batch.
+     *
+     * @param ragdoll the ragdoll to add (not {@code null}, alias created)
+     * @return the index of the ragdoll in the batch (&ge;0)
+     */
+    public int add(Ragdoll ragdoll) {
+        int numFloats = ragdoll.getBodyCount() * floatsPerMatrix();
+        int result = ragdolls.add(ragdoll, numFloats);
+
+        return result;
+    }
+
+    /**
+     * Remove all ragdolls from the batch.
+     */
+    public void clear() {
+        ragdolls.clear();
+    }
+
+    /**
+     * Return the number of floats needed to store all the matrices.
+     *
+     * @return the count (&ge;0)
+     */
+    public int countFloats() {
+        int result = ragdolls.countFloats();
+        return result;
+    }
+
+    /**
+     * Return the index of the first float of the specified ragdoll's matrices.
+     *
+     * @param index the index of the ragdoll in the batch (&ge;0, &lt;size)
+     * @return the index in the matrix buffer (&ge;0)
+     */
+    public int getFirstFloat(int index) {
+        int result = ragdolls.getFirstFloat(index);
+        return result;
+    }
+
+    /**
+     * Test whether the compact 3x4 layout is used.
+     *
+     * @return {@code true} for 12 floats per matrix, {@code false} for 16
+     */
+    public boolean is3x4() {
+        return use3x4;
+    }
+
+    /**
+     * Count the ragdolls in the batch.
+     *
+     * @return the count (&ge;0)
+     */
+    public int size() {
+        int result = ragdolls.size();
+        return result;
+    }
+
+    /**
+     * Copy the poses of all ragdolls in the batch, using the locking body
+     * interface.
+     *
+     * @param storeRootOffsets storage for the root offsets (not {@code null},
+     * direct, 3 doubles per ragdoll, modified)
+     * @param storeMatrices storage for the joint matrices (not {@code null},
+     * direct, capacity&ge;countFloats(), modified)
+     */
+    public void export(
+            DoubleBuffer storeRootOffsets, FloatBuffer storeMatrices) {
+        export(storeRootOffsets, storeMatrices, true);
+    }
+
+    /**
+     * Copy the poses of all ragdolls in the batch.
+     *
+     * @param storeRootOffsets storage for the root offsets (not {@code null},
+     * direct, 3 doubles per ragdoll, modified)
+     * @param storeMatrices storage for the joint matrices (not {@code null},
+     * direct, capacity&ge;countFloats(), modified)
+     * @param lockBodies {@code true} &rarr; use the locking body interface,
+     * {@code false} &rarr; use the non-locking body interface (default=true)
+     */
+    public void export(DoubleBuffer storeRootOffsets,
+            FloatBuffer storeMatrices, boolean lockBodies) {
+        int numRagdolls = ragdolls.size();
+        assert storeRootOffsets.capacity() >= 3 * numRagdolls;
+        assert storeMatrices.capacity() >= countFloats();
+
+        long[] ragdollVas = ragdolls.getVas();
+        exportPoses(ragdollVas, numRagdolls, use3x4, storeRootOffsets,
+                storeMatrices, lockBodies);
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Return the number of floats per matrix.
+     *
+     * @return 12 or 16
+     */
+    private int floatsPerMatrix() {
+        int result = use3x4 ? 12 : 16;
+        return result;
+    }
+    // *************************************************************************
+    // native private methods
+
+    native private static void exportPoses(long[] ragdollVas,
+            int numRagdolls, boolean use3x4, DoubleBuffer storeRootOffsets,
+            FloatBuffer storeMatrices, boolean lockBodies);
+}
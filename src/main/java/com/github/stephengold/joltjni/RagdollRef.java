@@ -184,6 +184,23 @@ final public class RagdollRef extends Ref {
         return storeIds;
     }
 
+    /**
+     * Enumerate all bodies in the ragdoll, which is unaffected. (native
+     * function: GetBodyIDs)
+     *
+     * @param storeIds storage for the body IDs (not {@code null}, length &ge;
+     * the number of bodies, modified)
+     * @return the number of bodies (&ge;0)
+     */
+    public int getBodyIds(int[] storeIds) {
+        long ragdollVa = targetVa();
+        int result = Ragdoll.getBodyCount(ragdollVa);
+        assert storeIds.length >= result : storeIds.length;
+        Ragdoll.getBodyIds(ragdollVa, storeIds);
+
+        return result;
+    }
+
     /**
      * Access the specified constraint.
      *
@@ -38,6 +38,17 @@ public class RayCastResult extends BroadPhaseCastResult {
         setVirtualAddressAsOwner(castResultVa);
     }
 
+    /**
+     * Instantiate a cast result with the default parameters in the specified
+     * arena.
+     *
+     * @param arena the arena to allocate in (not {@code null}, open, owned by
+     * the current thread)
+     */
+    public RayCastResult(JoltArena arena) {
+        super(arena, createInArena(arena.allocatorVa()));
+    }
+
     /**
      * Instantiate a cast result with the specified native object assigned but
      * not owned.
@@ -69,6 +80,8 @@ public class RayCastResult extends BroadPhaseCastResult {
     // *************************************************************************
     // native private methods
 
+    native private static long createInArena(long arenaVa);
+
     native private static long createRayCastResult();
 
     native private static int getSubShapeId2(long castResultVa);
@@ -29,6 +29,10 @@ import com.github.stephengold.joltjni.readonly.ConstShape;
 import com.github.stephengold.joltjni.readonly.Mat44Arg;
 import com.github.stephengold.joltjni.readonly.RMat44Arg;
 import com.github.stephengold.joltjni.readonly.Vec3Arg;
+import com.github.stephengold.joltjni.streamutils.IdToMaterialMap;
+import com.github.stephengold.joltjni.streamutils.IdToShapeMap;
+import com.github.stephengold.joltjni.streamutils.MaterialToIdMap;
+import com.github.stephengold.joltjni.streamutils.ShapeToIdMap;
 import com.github.stephengold.joltjni.template.RefTarget;
 import java.nio.FloatBuffer;
 
@@ -139,6 +143,28 @@ abstract public class Shape
 
         return result;
     }
+
+    /**
+     * Recreate a shape, including its child shapes and materials, from the
+     * specified stream.
+     *
+     * @param stream the stream to read (not {@code null})
+     * @param shapeMap track multiple uses of shapes (not {@code null})
+     * @param materialMap track multiple uses of physics materials (not
+     * {@code null})
+     * @return a new object
+     */
+    public static ShapeResult sRestoreWithChildren(StreamIn stream,
+            IdToShapeMap shapeMap, IdToMaterialMap materialMap) {
+        long streamVa = stream.va();
+        long shapeMapVa = shapeMap.va();
+        long materialMapVa = materialMap.va();
+        long resultVa
+                = sRestoreWithChildren(streamVa, shapeMapVa, materialMapVa);
+        ShapeResult result = new ShapeResult(resultVa, true);
+
+        return result;
+    }
     // *************************************************************************
     // new protected methods
 
@@ -254,6 +280,20 @@ abstract public class Shape
         return result;
     }
 
+    /**
+     * Locate the shape's center of mass. The shape is unaffected.
+     *
+     * @param storeResult storage for the location vector (not {@code null},
+     * modified)
+     */
+    @Override
+    public void getCenterOfMass(Vec3 storeResult) {
+        long shapeVa = va();
+        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
+        getCenterOfMass(shapeVa, storeFloats);
+        storeResult.set(storeFloats);
+    }
+
     /**
      * Return the radius of the largest sphere that fits inside the shape. The
      * shape is unaffected.
@@ -303,6 +343,20 @@ abstract public class Shape
         return result;
     }
 
+    /**
+     * Return a bounding box that includes the convex radius. The shape is
+     * unaffected.
+     *
+     * @param storeResult storage for the box (relative to the shape's center
+     * of mass, not {@code null}, modified)
+     */
+    @Override
+    public void getLocalBounds(AaBox storeResult) {
+        long shapeVa = va();
+        long storeVa = storeResult.va();
+        getLocalBoundsInto(shapeVa, storeVa);
+    }
+
     /**
      * Copy the shape's mass properties. The shape is unaffected.
      *
@@ -424,6 +478,28 @@ abstract public class Shape
         return result;
     }
 
+    /**
+     * Return the bounding box including convex radius. The shape is unaffected.
+     *
+     * @param comTransform the center-of-mass transform to apply to the shape
+     * (not {@code null}, unaffected)
+     * @param scale the scale factors to apply to the shape (not {@code null},
+     * unaffected)
+     * @param storeResult storage for the box (in system coordinates, not
+     * {@code null}, modified)
+     */
+    @Override
+    public void getWorldSpaceBounds(
+            Mat44Arg comTransform, Vec3Arg scale, AaBox storeResult) {
+        long shapeVa = va();
+        long matrixVa = comTransform.targetVa();
+        float sx = scale.getX();
+        float sy = scale.getY();
+        float sz = scale.getZ();
+        long storeVa = storeResult.va();
+        getWorldSpaceBoundsInto(shapeVa, matrixVa, sx, sy, sz, storeVa);
+    }
+
     /**
      * Return the bounding box including convex radius. The shape is unaffected.
      *
@@ -446,6 +522,28 @@ abstract public class Shape
         return result;
     }
 
+    /**
+     * Return the bounding box including convex radius. The shape is unaffected.
+     *
+     * @param comTransform the center-of-mass transform to apply to the shape
+     * (not {@code null}, unaffected)
+     * @param scale the scale factors to apply to the shape (not {@code null},
+     * unaffected)
+     * @param storeResult storage for the box (in system coordinates, not
+     * {@code null}, modified)
+     */
+    @Override
+    public void getWorldSpaceBounds(
+            RMat44Arg comTransform, Vec3Arg scale, AaBox storeResult) {
+        long shapeVa = va();
+        long rMat44Va = comTransform.targetVa();
+        float sx = scale.getX();
+        float sy = scale.getY();
+        float sz = scale.getZ();
+        long storeVa = storeResult.va();
+        getWorldSpaceBoundsRealInto(shapeVa, rMat44Va, sx, sy, sz, storeVa);
+    }
+
     /**
      * Test whether the specified scale vector is valid for wrapping the current
      * shape in a {@code ScaledShape}. The current shape is unaffected.
@@ -483,6 +581,24 @@ abstract public class Shape
         return result;
     }
 
+    /**
+     * Transform the specified scale vector such that it will be valid for
+     * wrapping the current shape in a {@code ScaledShape}. The current shape is
+     * unaffected.
+     *
+     * @param scale the proposed scale vector (not {@code null}, unaffected)
+     * @param storeResult storage for the scale vector (not {@code null},
+     * modified)
+     */
+    @Override
+    public void makeScaleValid(Vec3Arg scale, Vec3 storeResult) {
+        long shapeVa = va();
+        FloatBuffer floatBuffer = Temporaries.floatBuffer1.get();
+        scale.copyTo(floatBuffer);
+        makeScaleValid(shapeVa, floatBuffer);
+        storeResult.set(floatBuffer);
+    }
+
     /**
      * Test whether the shape can be used in a dynamic/kinematic body. The shape
      * is unaffected.
@@ -509,6 +625,25 @@ abstract public class Shape
         saveBinaryState(shapeVa, streamVa);
     }
 
+    /**
+     * Save the shape, including its child shapes and materials, to the
+     * specified binary stream. The shape is unaffected.
+     *
+     * @param stream the stream to write to (not {@code null})
+     * @param shapeMap track multiple uses of shapes (not {@code null})
+     * @param materialMap track multiple uses of physics materials (not
+     * {@code null})
+     */
+    @Override
+    public void saveWithChildren(StreamOut stream, ShapeToIdMap shapeMap,
+            MaterialToIdMap materialMap) {
+        long shapeVa = va();
+        long streamVa = stream.va();
+        long shapeMapVa = shapeMap.va();
+        long materialMapVa = materialMap.va();
+        saveWithChildren(shapeVa, streamVa, shapeMapVa, materialMapVa);
+    }
+
     /**
      * Scale the current shape, which is unaffected.
      *
@@ -605,6 +740,8 @@ abstract public class Shape
 
     native static long getLocalBounds(long shapeVa);
 
+    native static void getLocalBoundsInto(long shapeVa, long storeVa);
+
     native static long getMassProperties(long shapeVa);
 
     native static long getMaterial(long shapeVa, int subShapeId);
@@ -624,9 +761,15 @@ abstract public class Shape
     native static long getWorldSpaceBounds(
             long shapeVa, long matrixVa, float sx, float sy, float sz);
 
+    native static void getWorldSpaceBoundsInto(long shapeVa, long matrixVa,
+            float sx, float sy, float sz, long storeVa);
+
     native static long getWorldSpaceBoundsReal(
             long shapeVa, long rMat44Va, float sx, float sy, float sz);
 
+    native static void getWorldSpaceBoundsRealInto(long shapeVa,
+            long rMat44Va, float sx, float sy, float sz, long storeVa);
+
     native static boolean isValidScale(
             long shapeVa, float sx, float sy, float sz);
 
@@ -636,12 +779,18 @@ abstract public class Shape
 
     native static void saveBinaryState(long shapeVa, long streamVa);
 
+    native static void saveWithChildren(long shapeVa, long streamVa,
+            long shapeMapVa, long materialMapVa);
+
     native static long scaleShape(long shapeVa, float sx, float sy, float sz);
 
     native private static void setEmbedded(long shapeVa);
 
     native private static long sRestoreFromBinaryState(long streamVa);
 
+    native private static long sRestoreWithChildren(
+            long streamVa, long shapeMapVa, long materialMapVa);
+
     native private static long toRef(long shapeVa);
 
     native private static long toRefC(long shapeVa);
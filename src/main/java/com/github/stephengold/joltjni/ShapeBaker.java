@@ -0,0 +1,268 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import com.github.stephengold.joltjni.enumerate.EShapeSubType;
+import com.github.stephengold.joltjni.readonly.ConstShapeSettings;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Generate shapes from batches of {@code ShapeSettings} concurrently.
+ * <p>
+ * Each distinct native settings object in a batch is created exactly once.
+ * Duplicates are detected by native object identity only: distinct settings
+ * objects with identical contents are each created.
+ * <p>
+ * For thread safety, creation proceeds in phases ordered by nesting depth.
+ * Leaf settings (meshes, hulls, primitives) are created first, then compound
+ * and decorated settings whose sub-settings are all leaves, and so on. Every
+ * sub-setting reachable from the batch is created in an earlier phase than
+ * its parents, even if it isn't in the batch itself, so by the time a parent
+ * is created, Jolt has cached the results of all its sub-settings and no two
+ * tasks ever create the same settings concurrently.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class ShapeBaker {
+    // *************************************************************************
+    // fields
+
+    /**
+     * executes the creation tasks
+     */
+    final private Executor executor;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a baker that uses the common fork-join pool.
+     */
+    public ShapeBaker() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Instantiate a baker that uses the specified executor.
+     *
+     * @param executor the executor for creation tasks (not {@code null},
+     * alias created)
+     */
+    public ShapeBaker(Executor executor) {
+        assert executor != null;
+        this.executor = executor;
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Generate a {@code ShapeResult} from each of the specified settings.
+     *
+     * @param settingsArray the settings to create (not {@code null}, no
+     * {@code null} elements, unaffected)
+     * @return a new array of new results, in the same order as the settings
+     */
+    public ShapeResult[] bake(ConstShapeSettings... settingsArray) {
+        ShapeResult[] result = bake(settingsArray, null);
+        return result;
+    }
+
+    /**
+     * Generate a {@code ShapeResult} from each of the specified settings,
+     * optionally recording how long each creation took.
+     *
+     * @param settingsArray the settings to create (not {@code null}, no
+     * {@code null} elements, unaffected)
+     * @param storeNanoseconds storage for the creation time of each result (in
+     * nanoseconds, modified) or {@code null} if not needed
+     * @return a new array of new results, in the same order as the settings
+     */
+    public ShapeResult[] bake(
+            ConstShapeSettings[] settingsArray, long[] storeNanoseconds) {
+        int numSettings = settingsArray.length;
+        assert storeNanoseconds == null
+                || storeNanoseconds.length >= numSettings;
+
+        // Index the distinct native objects in the batch:
+        Map<Long, Integer> firstIndices = new HashMap<>(2 * numSettings);
+        Map<Long, ConstShapeSettings> settingsMap
+                = new HashMap<>(2 * numSettings);
+        for (int i = 0; i < numSettings; ++i) {
+            long settingsVa = settingsArray[i].targetVa();
+            if (firstIndices.putIfAbsent(settingsVa, i) == null) {
+                settingsMap.put(settingsVa, settingsArray[i]);
+            }
+        }
+
+        // Find the nesting depth of every reachable settings object:
+        Map<Long, Integer> depths = new LinkedHashMap<>(2 * numSettings);
+        for (ConstShapeSettings settings : settingsArray) {
+            depth(settings.targetVa(), depths, settingsMap);
+        }
+        List<List<Long>> phases = new ArrayList<>(4);
+        for (Map.Entry<Long, Integer> entry : depths.entrySet()) {
+            int depth = entry.getValue();
+            while (phases.size() <= depth) {
+                phases.add(new ArrayList<>(numSettings));
+            }
+            phases.get(depth).add(entry.getKey());
+        }
+
+        ShapeResult[] result = new ShapeResult[numSettings];
+        for (List<Long> phase : phases) {
+            bakeAll(phase, settingsMap, firstIndices, result,
+                    storeNanoseconds);
+        }
+
+        // Jolt caches results, so re-creating duplicate settings is cheap:
+        for (int i = 0; i < numSettings; ++i) {
+            if (result[i] == null) {
+                bakeOne(settingsArray[i], i, result, storeNanoseconds);
+            }
+        }
+
+        return result;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Create the specified settings concurrently and wait for completion.
+     *
+     * @param settingsVas the virtual addresses of the settings to create (not
+     * {@code null}, unaffected)
+     * @param settingsMap map virtual addresses to settings (not {@code null},
+     * unaffected)
+     * @param firstIndices map virtual addresses to batch indices (not
+     * {@code null}, unaffected)
+     * @param storeResults storage for the results (not {@code null}, modified)
+     * @param storeNanoseconds storage for the creation times (modified) or
+     * {@code null}
+     */
+    private void bakeAll(List<Long> settingsVas,
+            Map<Long, ConstShapeSettings> settingsMap,
+            Map<Long, Integer> firstIndices, ShapeResult[] storeResults,
+            long[] storeNanoseconds) {
+        int numTasks = settingsVas.size();
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[numTasks];
+        for (int taskIndex = 0; taskIndex < numTasks; ++taskIndex) {
+            long settingsVa = settingsVas.get(taskIndex);
+            ConstShapeSettings settings = settingsMap.get(settingsVa);
+            Integer index = firstIndices.get(settingsVa);
+            int i = (index == null) ? -1 : index;
+            futures[taskIndex] = CompletableFuture.runAsync(
+                    () -> bakeOne(
+                            settings, i, storeResults, storeNanoseconds),
+                    executor);
+        }
+        CompletableFuture.allOf(futures).join();
+    }
+
+    /**
+     * Create the specified settings on the current thread.
+     *
+     * @param settings the settings to create (not {@code null}, unaffected)
+     * @param index the index of the settings in the batch, or -1 if they're
+     * only reachable from the batch
+     * @param storeResults storage for the results (not {@code null}, modified)
+     * @param storeNanoseconds storage for the creation times (modified) or
+     * {@code null}
+     */
+    private static void bakeOne(ConstShapeSettings settings, int index,
+            ShapeResult[] storeResults, long[] storeNanoseconds) {
+        long startTime = System.nanoTime();
+        ShapeResult result = settings.create();
+        if (index < 0) { // Only the cached result is needed.
+            return;
+        }
+
+        storeResults[index] = result;
+        if (storeNanoseconds != null) {
+            storeNanoseconds[index] = System.nanoTime() - startTime;
+        }
+    }
+
+    /**
+     * Determine the nesting depth of the specified settings and of every
+     * settings object reachable from them.
+     *
+     * @param settingsVa the virtual address of the settings (not zero)
+     * @param depths map virtual addresses to depths (not {@code null}, added
+     * to)
+     * @param settingsMap map virtual addresses to settings (not {@code null},
+     * added to)
+     * @return 0 for leaf settings, otherwise one more than the maximum depth of
+     * the sub-settings
+     */
+    private static int depth(long settingsVa, Map<Long, Integer> depths,
+            Map<Long, ConstShapeSettings> settingsMap) {
+        Integer cached = depths.get(settingsVa);
+        if (cached != null) {
+            return cached;
+        }
+
+        int ordinal = (int) ShapeSettings.getUserData(settingsVa);
+        EShapeSubType subType = EShapeSubType.values()[ordinal];
+        int result = 0;
+        switch (subType) {
+            case MutableCompound:
+            case StaticCompound:
+            case OffsetCenterOfMass:
+            case RotatedTranslated:
+            case Scaled:
+                boolean compound = subType == EShapeSubType.MutableCompound
+                        || subType == EShapeSubType.StaticCompound;
+                int numSubs = countSubSettings(settingsVa, compound);
+                for (int i = 0; i < numSubs; ++i) {
+                    long subVa = getSubSettings(settingsVa, compound, i);
+                    if (subVa != 0L) {
+                        if (!settingsMap.containsKey(subVa)) {
+                            settingsMap.put(subVa,
+                                    ShapeSettings.newShapeSettings(subVa));
+                        }
+                        int subDepth = depth(subVa, depths, settingsMap);
+                        result = Math.max(result, subDepth + 1);
+                    }
+                }
+                break;
+
+            default:
+        }
+        depths.put(settingsVa, result);
+
+        return result;
+    }
+    // *************************************************************************
+    // native private methods
+
+    native private static int countSubSettings(
+            long settingsVa, boolean compound);
+
+    native private static long getSubSettings(
+            long settingsVa, boolean compound, int index);
+}
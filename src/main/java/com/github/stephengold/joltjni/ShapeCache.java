@@ -0,0 +1,512 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import com.github.stephengold.joltjni.enumerate.EStreamType;
+import com.github.stephengold.joltjni.readonly.ConstShapeSettings;
+import com.github.stephengold.joltjni.std.StringStream;
+import com.github.stephengold.joltjni.streamutils.IdToMaterialMap;
+import com.github.stephengold.joltjni.streamutils.IdToShapeMap;
+import com.github.stephengold.joltjni.streamutils.MaterialToIdMap;
+import com.github.stephengold.joltjni.streamutils.ShapeToIdMap;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A persistent cache of cooked shapes, stored in a local directory and keyed by
+ * the contents of the {@code ShapeSettings} they were created from.
+ * <p>
+ * On a miss, the shape is created from its settings and saved (with its child
+ * shapes and materials) to a file named after a hash of the serialized
+ * settings. On a later hit, even in a different process, the shape is restored
+ * from that file instead. Each file begins with a header that records the
+ * native build, the length and hash of the settings, and the length and hash
+ * of the payload; a file that fails any of these checks is deleted and
+ * treated as a miss. When the total size of the files exceeds the configured
+ * limit, the least recently used files are deleted.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class ShapeCache {
+    // *************************************************************************
+    // constants
+
+    /**
+     * number of bytes in a file header
+     */
+    final private static int headerBytes = 36;
+    /**
+     * identifies a cache file, including its format version ("JSC1")
+     */
+    final private static int magic = 0x4a534331;
+    /**
+     * seed for content hashes (matches Jolt's default for HashBytes)
+     */
+    final private static long seed = 0xcbf29ce484222325L;
+    /**
+     * filename extension for cache files
+     */
+    final private static String suffix = ".jsc";
+    // *************************************************************************
+    // fields
+
+    /**
+     * number of lookups satisfied from disk
+     */
+    private int numHits;
+    /**
+     * number of lookups that created a new shape
+     */
+    private int numMisses;
+    /**
+     * total size of the cache files (in bytes)
+     */
+    private long totalBytes;
+    /**
+     * hash of the native build, to reject files written by incompatible builds
+     */
+    final private long buildHash;
+    /**
+     * maximum total size of the cache files (in bytes)
+     */
+    final private long maxBytes;
+    /**
+     * size of each cache file in bytes, indexed by filename and ordered from
+     * least recently used to most recently used
+     */
+    final private Map<String, Long> index
+            = new LinkedHashMap<>(16, 0.75f, true);
+    /**
+     * directory that contains the cache files
+     */
+    final private Path directory;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a cache in the specified directory, indexing any files left
+     * there by earlier runs.
+     *
+     * @param directory the directory to use (not {@code null}, created if it
+     * doesn't exist)
+     * @param maxBytes the maximum total size of the cache files (in bytes,
+     * &ge;0)
+     */
+    public ShapeCache(Path directory, long maxBytes) {
+        assert maxBytes >= 0L : maxBytes;
+
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+
+        String build = Jolt.versionString() + Jolt.getConfigurationString();
+        this.buildHash = hash(build.getBytes(StandardCharsets.UTF_8));
+
+        // Index the existing files, oldest first:
+        List<Path> files = new ArrayList<>(16);
+        try {
+            Files.createDirectories(directory);
+            try (DirectoryStream<Path> stream
+                    = Files.newDirectoryStream(directory, "*" + suffix)) {
+                for (Path file : stream) {
+                    files.add(file);
+                }
+            }
+            files.sort((a, b) -> compareModifiedTimes(a, b));
+            for (Path file : files) {
+                long size = Files.size(file);
+                index.put(file.getFileName().toString(), size);
+                totalBytes += size;
+            }
+        } catch (IOException exception) {
+            throw new RuntimeException(
+                    "failed to index shape cache in " + directory, exception);
+        }
+        evict();
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Delete all cache files.
+     */
+    synchronized public void clear() {
+        for (String filename : index.keySet()) {
+            delete(filename);
+        }
+        index.clear();
+        totalBytes = 0L;
+    }
+
+    /**
+     * Count the lookups that were satisfied from disk.
+     *
+     * @return the count (&ge;0)
+     */
+    synchronized public int countHits() {
+        return numHits;
+    }
+
+    /**
+     * Count the lookups that created a new shape.
+     *
+     * @return the count (&ge;0)
+     */
+    synchronized public int countMisses() {
+        return numMisses;
+    }
+
+    /**
+     * Return the shape for the specified settings, restoring it from disk if
+     * possible, otherwise creating it and saving it to disk.
+     *
+     * @param settings the settings to use (not {@code null}, unaffected)
+     * @return a new JVM object with a new native object assigned
+     */
+    public ShapeResult create(ConstShapeSettings settings) {
+        byte[] settingsBytes = serialize(settings);
+        if (settingsBytes == null) { // settings can't be serialized
+            countMiss();
+            return settings.create();
+        }
+        long settingsHash = hash(settingsBytes);
+        String filename = String.format("%016x%s", settingsHash, suffix);
+
+        ShapeResult result = restore(
+                filename, settingsHash, settingsBytes.length);
+        if (result != null) {
+            return result;
+        }
+
+        // Cache miss:
+        result = settings.create();
+        if (!result.hasError()) {
+            ShapeRefC shapeRef = result.get();
+            byte[] payload = save(shapeRef);
+            shapeRef.close();
+            store(filename, settingsHash, settingsBytes.length, payload);
+        }
+
+        return result;
+    }
+
+    /**
+     * Access the directory that contains the cache files.
+     *
+     * @return the pre-existing instance (not {@code null})
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Return the maximum total size of the cache files.
+     *
+     * @return the limit (in bytes, &ge;0)
+     */
+    public long maxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * Return the total size of the cache files.
+     *
+     * @return the size (in bytes, &ge;0)
+     */
+    synchronized public long totalBytes() {
+        return totalBytes;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Compare the last-modified times of 2 files.
+     *
+     * @param a the first file (not {@code null})
+     * @param b the 2nd file (not {@code null})
+     * @return negative if {@code a} is older, positive if it's newer
+     */
+    private static int compareModifiedTimes(Path a, Path b) {
+        try {
+            FileTime aTime = Files.getLastModifiedTime(a);
+            FileTime bTime = Files.getLastModifiedTime(b);
+            return aTime.compareTo(bTime);
+        } catch (IOException exception) {
+            return 0;
+        }
+    }
+
+    /**
+     * Increment the miss counter.
+     */
+    synchronized private void countMiss() {
+        ++numMisses;
+    }
+
+    /**
+     * Delete the named cache file, ignoring any I/O errors.
+     *
+     * @param filename the name of the file (not {@code null})
+     */
+    private void delete(String filename) {
+        try {
+            Files.deleteIfExists(directory.resolve(filename));
+        } catch (IOException exception) {
+            // the file will be overwritten or re-indexed later
+        }
+    }
+
+    /**
+     * Delete least recently used files until the cache is within its limit.
+     */
+    synchronized private void evict() {
+        Iterator<Map.Entry<String, Long>> iterator
+                = index.entrySet().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            Map.Entry<String, Long> entry = iterator.next();
+            delete(entry.getKey());
+            totalBytes -= entry.getValue();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Hash the specified bytes using Jolt's hash function.
+     *
+     * @param bytes the bytes to hash (not {@code null}, unaffected)
+     * @return the hash code
+     */
+    private static long hash(byte[] bytes) {
+        ByteBuffer buffer = Jolt.newDirectByteBuffer(bytes.length);
+        buffer.put(bytes).flip();
+        long result = MiscUtil.hashBytes(buffer, seed);
+
+        return result;
+    }
+
+    /**
+     * Restore a shape from the named cache file, if it exists and passes all
+     * integrity checks.
+     *
+     * @param filename the name of the file (not {@code null})
+     * @param settingsHash the expected hash of the serialized settings
+     * @param settingsLength the expected length of the serialized settings
+     * @return a new JVM object with a new native object assigned, or
+     * {@code null} if the shape couldn't be restored
+     */
+    private ShapeResult restore(
+            String filename, long settingsHash, int settingsLength) {
+        synchronized (this) {
+            if (index.get(filename) == null) { // updates the access order
+                ++numMisses;
+                return null;
+            }
+        }
+
+        // Map the file into memory and verify its header and payload:
+        Path file = directory.resolve(filename);
+        ByteBuffer payload = null;
+        try (FileChannel channel
+                = FileChannel.open(file, StandardOpenOption.READ)) {
+            long fileBytes = channel.size();
+            if (fileBytes >= headerBytes && fileBytes <= Integer.MAX_VALUE) {
+                ByteBuffer bytes = channel.map(
+                        FileChannel.MapMode.READ_ONLY, 0L, fileBytes);
+                if (bytes.getInt() == magic
+                        && bytes.getLong() == buildHash
+                        && bytes.getLong() == settingsHash
+                        && bytes.getInt() == settingsLength) {
+                    long payloadHash = bytes.getLong();
+                    int payloadLength = bytes.getInt();
+                    if (payloadLength == bytes.remaining()
+                            && MiscUtil.hashBytes(bytes, seed)
+                            == payloadHash) {
+                        payload = bytes;
+                    }
+                }
+            }
+            if (payload != null) {
+                Files.setLastModifiedTime(
+                        file, FileTime.fromMillis(System.currentTimeMillis()));
+            }
+        } catch (IOException exception) {
+            payload = null;
+        }
+
+        ShapeResult result = null;
+        if (payload != null) {
+            StreamInBuffer streamIn = new StreamInBuffer(payload);
+            IdToShapeMap shapeMap = new IdToShapeMap();
+            IdToMaterialMap materialMap = new IdToMaterialMap();
+            result = Shape.sRestoreWithChildren(
+                    streamIn, shapeMap, materialMap);
+            materialMap.close();
+            shapeMap.close();
+            streamIn.close();
+
+            if (result.hasError()) {
+                result.close();
+                result = null;
+            }
+        }
+
+        synchronized (this) {
+            if (result == null) { // corrupt or unreadable, so discard it
+                Long size = index.remove(filename);
+                if (size != null) {
+                    totalBytes -= size;
+                }
+                delete(filename);
+                ++numMisses;
+            } else {
+                ++numHits;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Save the specified shape, including its child shapes and materials, to a
+     * byte array.
+     *
+     * @param shapeRef a reference to the shape to save (not {@code null},
+     * unaffected)
+     * @return a new array
+     */
+    private static byte[] save(ShapeRefC shapeRef) {
+        StringStream stringStream = new StringStream();
+        StreamOutWrapper streamOut = new StreamOutWrapper(stringStream);
+        ShapeToIdMap shapeMap = new ShapeToIdMap();
+        MaterialToIdMap materialMap = new MaterialToIdMap();
+        shapeRef.saveWithChildren(streamOut, shapeMap, materialMap);
+        materialMap.close();
+        shapeMap.close();
+        streamOut.close();
+
+        byte[] result = toBytes(stringStream);
+        stringStream.close();
+
+        return result;
+    }
+
+    /**
+     * Serialize the specified settings to a byte array.
+     *
+     * @param settings the settings to serialize (not {@code null},
+     * unaffected)
+     * @return a new array, or {@code null} if serialization failed
+     */
+    private static byte[] serialize(ConstShapeSettings settings) {
+        StringStream stringStream = new StringStream();
+        boolean success = ObjectStreamOut.sWriteObject(
+                stringStream, EStreamType.Binary, settings);
+        byte[] result = success ? toBytes(stringStream) : null;
+        stringStream.close();
+
+        return result;
+    }
+
+    /**
+     * Write a cache file, replacing any existing file with the same name, then
+     * evict files as needed. I/O errors are ignored, since the cache is only an
+     * optimization.
+     *
+     * @param filename the name of the file (not {@code null})
+     * @param settingsHash the hash of the serialized settings
+     * @param settingsLength the length of the serialized settings
+     * @param payload the saved shape (not {@code null}, unaffected)
+     */
+    private void store(String filename, long settingsHash, int settingsLength,
+            byte[] payload) {
+        int fileBytes = headerBytes + payload.length;
+        if (fileBytes > maxBytes) {
+            return;
+        }
+        ByteBuffer bytes = ByteBuffer.allocate(fileBytes);
+        bytes.putInt(magic)
+                .putLong(buildHash)
+                .putLong(settingsHash)
+                .putInt(settingsLength)
+                .putLong(hash(payload))
+                .putInt(payload.length)
+                .put(payload);
+
+        // Write to a temporary file, then rename it, so that readers never see
+        // a partially written file:
+        Path file = directory.resolve(filename);
+        Path tmpFile = null;
+        try {
+            tmpFile = Files.createTempFile(directory, "tmp", ".part");
+            Files.write(tmpFile, bytes.array());
+            Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException exception) {
+            if (tmpFile != null) {
+                try {
+                    Files.deleteIfExists(tmpFile);
+                } catch (IOException exception2) {
+                    // nothing more can be done
+                }
+            }
+            return;
+        }
+
+        synchronized (this) {
+            Long oldSize = index.put(filename, (long) fileBytes);
+            if (oldSize != null) {
+                totalBytes -= oldSize;
+            }
+            totalBytes += fileBytes;
+        }
+        evict();
+    }
+
+    /**
+     * Copy the contents of the specified stream to a byte array.
+     *
+     * @param stream the stream to copy (not {@code null}, unaffected)
+     * @return a new array
+     */
+    private static byte[] toBytes(StringStream stream) {
+        String string = stream.str();
+        int numBytes = string.length();
+        byte[] result = new byte[numBytes];
+        for (int i = 0; i < numBytes; ++i) {
+            result[i] = (byte) string.charAt(i);
+        }
+
+        return result;
+    }
+}
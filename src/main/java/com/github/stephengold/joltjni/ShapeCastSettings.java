@@ -43,6 +43,16 @@ public class ShapeCastSettings
         setVirtualAddressAsOwner(settingsVa);
     }
 
+    /**
+     * Instantiate default settings in the specified arena.
+     *
+     * @param arena the arena to allocate in (not {@code null}, open, owned by
+     * the current thread)
+     */
+    public ShapeCastSettings(JoltArena arena) {
+        super(arena, createInArena(arena.allocatorVa()));
+    }
+
     /**
      * Instantiate a copy of the specified settings.
      *
@@ -209,6 +219,8 @@ public class ShapeCastSettings
 
     native private static long createDefault();
 
+    native private static long createInArena(long arenaVa);
+
     native private static int getBackFaceModeConvex(long settingsVa);
 
     native private static int getBackFaceModeTriangles(long settingsVa);
@@ -29,6 +29,8 @@ import com.github.stephengold.joltjni.readonly.ConstShape;
 import com.github.stephengold.joltjni.readonly.Mat44Arg;
 import com.github.stephengold.joltjni.readonly.RMat44Arg;
 import com.github.stephengold.joltjni.readonly.Vec3Arg;
+import com.github.stephengold.joltjni.streamutils.MaterialToIdMap;
+import com.github.stephengold.joltjni.streamutils.ShapeToIdMap;
 import java.nio.FloatBuffer;
 
 /**
@@ -206,6 +208,20 @@ final public class ShapeRefC extends JoltPhysicsObject implements ConstShape {
         return result;
     }
 
+    /**
+     * Locate the shape's center of mass. The shape is unaffected.
+     *
+     * @param storeResult storage for the location vector (not {@code null},
+     * modified)
+     */
+    @Override
+    public void getCenterOfMass(Vec3 storeResult) {
+        long shapeVa = targetVa();
+        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
+        Shape.getCenterOfMass(shapeVa, storeFloats);
+        storeResult.set(storeFloats);
+    }
+
     /**
      * Return the radius of the largest sphere that fits inside the shape. The
      * shape is unaffected.
@@ -256,6 +272,20 @@ final public class ShapeRefC extends JoltPhysicsObject implements ConstShape {
         return result;
     }
 
+    /**
+     * Return a bounding box that includes the convex radius. The shape is
+     * unaffected.
+     *
+     * @param storeResult storage for the box (relative to the shape's center
+     * of mass, not {@code null}, modified)
+     */
+    @Override
+    public void getLocalBounds(AaBox storeResult) {
+        long shapeVa = targetVa();
+        long storeVa = storeResult.va();
+        Shape.getLocalBoundsInto(shapeVa, storeVa);
+    }
+
     /**
      * Copy the shape's mass properties. The shape is unaffected.
      *
@@ -391,6 +421,28 @@ final public class ShapeRefC extends JoltPhysicsObject implements ConstShape {
         return result;
     }
 
+    /**
+     * Return the bounding box including convex radius. The shape is unaffected.
+     *
+     * @param comTransform the center-of-mass transform to apply to the shape
+     * (not {@code null}, unaffected)
+     * @param scale the scale factors to apply to the shape (not {@code null},
+     * unaffected)
+     * @param storeResult storage for the box (in system coordinates, not
+     * {@code null}, modified)
+     */
+    @Override
+    public void getWorldSpaceBounds(
+            Mat44Arg comTransform, Vec3Arg scale, AaBox storeResult) {
+        long shapeVa = targetVa();
+        long matrixVa = comTransform.targetVa();
+        float sx = scale.getX();
+        float sy = scale.getY();
+        float sz = scale.getZ();
+        long storeVa = storeResult.va();
+        Shape.getWorldSpaceBoundsInto(shapeVa, matrixVa, sx, sy, sz, storeVa);
+    }
+
     /**
      * Return the bounding box including convex radius. The shape is unaffected.
      *
@@ -414,6 +466,29 @@ final public class ShapeRefC extends JoltPhysicsObject implements ConstShape {
         return result;
     }
 
+    /**
+     * Return the bounding box including convex radius. The shape is unaffected.
+     *
+     * @param comTransform the center-of-mass transform to apply to the shape
+     * (not {@code null}, unaffected)
+     * @param scale the scale factors to apply to the shape (not {@code null},
+     * unaffected)
+     * @param storeResult storage for the box (in system coordinates, not
+     * {@code null}, modified)
+     */
+    @Override
+    public void getWorldSpaceBounds(
+            RMat44Arg comTransform, Vec3Arg scale, AaBox storeResult) {
+        long shapeVa = targetVa();
+        long rMat44Va = comTransform.targetVa();
+        float sx = scale.getX();
+        float sy = scale.getY();
+        float sz = scale.getZ();
+        long storeVa = storeResult.va();
+        Shape.getWorldSpaceBoundsRealInto(
+                shapeVa, rMat44Va, sx, sy, sz, storeVa);
+    }
+
     /**
      * Test whether the specified scale vector is valid for wrapping the current
      * shape in a {@code ScaledShape}. The current shape is unaffected.
@@ -451,6 +526,24 @@ final public class ShapeRefC extends JoltPhysicsObject implements ConstShape {
         return result;
     }
 
+    /**
+     * Transform the specified scale vector such that it will be valid for
+     * wrapping the current shape in a {@code ScaledShape}. The current shape is
+     * unaffected.
+     *
+     * @param scale the proposed scale vector (not {@code null}, unaffected)
+     * @param storeResult storage for the scale vector (not {@code null},
+     * modified)
+     */
+    @Override
+    public void makeScaleValid(Vec3Arg scale, Vec3 storeResult) {
+        long shapeVa = targetVa();
+        FloatBuffer floatBuffer = Temporaries.floatBuffer1.get();
+        scale.copyTo(floatBuffer);
+        Shape.makeScaleValid(shapeVa, floatBuffer);
+        storeResult.set(floatBuffer);
+    }
+
     /**
      * Test whether the shape can be used in a dynamic/kinematic body. The shape
      * is unaffected.
@@ -477,6 +570,25 @@ final public class ShapeRefC extends JoltPhysicsObject implements ConstShape {
         Shape.saveBinaryState(shapeVa, streamVa);
     }
 
+    /**
+     * Save the shape, including its child shapes and materials, to the
+     * specified binary stream. The shape is unaffected.
+     *
+     * @param stream the stream to write to (not {@code null})
+     * @param shapeMap track multiple uses of shapes (not {@code null})
+     * @param materialMap track multiple uses of physics materials (not
+     * {@code null})
+     */
+    @Override
+    public void saveWithChildren(StreamOut stream, ShapeToIdMap shapeMap,
+            MaterialToIdMap materialMap) {
+        long shapeVa = targetVa();
+        long streamVa = stream.va();
+        long shapeMapVa = shapeMap.va();
+        long materialMapVa = materialMap.va();
+        Shape.saveWithChildren(shapeVa, streamVa, shapeMapVa, materialMapVa);
+    }
+
     /**
      * Scale the current shape, which is unaffected.
      *
@@ -0,0 +1,337 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import com.github.stephengold.joltjni.enumerate.EShapeSubType;
+import com.github.stephengold.joltjni.readonly.ConstShape;
+import com.github.stephengold.joltjni.readonly.Vec3Arg;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * A thread-safe registry of canonical shapes, to avoid creating duplicate
+ * native shapes with identical parameters.
+ * <p>
+ * Each request returns a new counted reference to a shared shape. A
+ * registered shape stays alive for as long as the registry holds it, even if
+ * nothing else references it, until {@link #evictUnused()} or
+ * {@link #clear()} is invoked.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class ShapeRegistry {
+    // *************************************************************************
+    // classes and interfaces
+
+    /**
+     * A registered shape and its memory footprint.
+     */
+    private static class Entry {
+        /**
+         * number of bytes of native memory used by the shape
+         */
+        final int sizeBytes;
+        /**
+         * the registered shape, which holds the registry's reference
+         */
+        final Shape shape;
+
+        /**
+         * Instantiate an entry for the specified shape.
+         *
+         * @param shape the shape to register (not {@code null}, alias
+         * created)
+         */
+        Entry(Shape shape) {
+            this.shape = shape;
+            Stats stats = shape.getStats();
+            this.sizeBytes = stats.getSizeBytes();
+            stats.close();
+        }
+    }
+
+    /**
+     * Identify a shape by its subtype and parameters.
+     */
+    private static class Key {
+        /**
+         * shape parameters, such as dimensions and scale factors
+         */
+        final private float[] parameters;
+        /**
+         * virtual address of the base shape, or zero if none
+         */
+        final private long baseVa;
+        /**
+         * the type of shape
+         */
+        final private EShapeSubType subType;
+
+        /**
+         * Instantiate a key.
+         *
+         * @param subType the type of shape (not {@code null})
+         * @param baseVa the virtual address of the base shape, or zero if none
+         * @param parameters the shape parameters (not {@code null}, alias
+         * created)
+         */
+        Key(EShapeSubType subType, long baseVa, float... parameters) {
+            this.subType = subType;
+            this.baseVa = baseVa;
+            this.parameters = parameters;
+        }
+
+        /**
+         * Test for equivalence with another Object.
+         *
+         * @param otherObject the object to compare (may be {@code null},
+         * unaffected)
+         * @return {@code true} if equivalent, otherwise {@code false}
+         */
+        @Override
+        public boolean equals(Object otherObject) {
+            boolean result;
+            if (otherObject == this) {
+                result = true;
+            } else if (otherObject instanceof Key) {
+                Key other = (Key) otherObject;
+                result = subType == other.subType && baseVa == other.baseVa
+                        && Arrays.equals(parameters, other.parameters);
+            } else {
+                result = false;
+            }
+
+            return result;
+        }
+
+        /**
+         * Generate the hash code for this key.
+         *
+         * @return a 32-bit value for use in hashing
+         */
+        @Override
+        public int hashCode() {
+            int result = 31 * subType.hashCode() + Long.hashCode(baseVa);
+            result = 31 * result + Arrays.hashCode(parameters);
+
+            return result;
+        }
+    }
+    // *************************************************************************
+    // fields
+
+    /**
+     * total native memory that duplicate shapes would have used (in bytes)
+     */
+    final private AtomicLong bytesSaved = new AtomicLong();
+    /**
+     * number of requests satisfied by an existing shape
+     */
+    final private AtomicLong duplicatesAvoided = new AtomicLong();
+    /**
+     * registered shapes
+     */
+    final private Map<Key, Entry> entries = new ConcurrentHashMap<>(256);
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an empty registry.
+     */
+    public ShapeRegistry() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Return a box with the specified half extents and the default convex
+     * radius.
+     *
+     * @param halfExtents the desired half extents on each local axis (not
+     * {@code null}, all components &gt;0, unaffected)
+     * @return a new counted reference to a shared shape
+     */
+    public ShapeRefC box(Vec3Arg halfExtents) {
+        ShapeRefC result = box(halfExtents, Jolt.cDefaultConvexRadius);
+        return result;
+    }
+
+    /**
+     * Return a box with the specified half extents and convex radius.
+     *
+     * @param halfExtents the desired half extents on each local axis (not
+     * {@code null}, all components &ge;convexRadius, unaffected)
+     * @param convexRadius the desired convex radius (default=0.05)
+     * @return a new counted reference to a shared shape
+     */
+    public ShapeRefC box(Vec3Arg halfExtents, float convexRadius) {
+        Vec3 copy = new Vec3(halfExtents);
+        Key key = new Key(EShapeSubType.Box, 0L, copy.getX(), copy.getY(),
+                copy.getZ(), convexRadius);
+        ShapeRefC result = lookup(key, () -> new BoxShape(copy, convexRadius));
+
+        return result;
+    }
+
+    /**
+     * Return the total native memory that duplicate shapes would have used,
+     * had they been created.
+     *
+     * @return the number of bytes (&ge;0)
+     */
+    public long bytesSaved() {
+        long result = bytesSaved.get();
+        return result;
+    }
+
+    /**
+     * Return a capsule with the specified dimensions.
+     *
+     * @param halfHeight half the desired height of the cylindrical portion
+     * @param radius the desired radius
+     * @return a new counted reference to a shared shape
+     */
+    public ShapeRefC capsule(float halfHeight, float radius) {
+        Key key = new Key(EShapeSubType.Capsule, 0L, halfHeight, radius);
+        ShapeRefC result
+                = lookup(key, () -> new CapsuleShape(halfHeight, radius));
+
+        return result;
+    }
+
+    /**
+     * Unregister all shapes. Shapes still referenced elsewhere remain valid.
+     */
+    public void clear() {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            iterator.remove();
+            entry.shape.close();
+        }
+    }
+
+    /**
+     * Count the requests that were satisfied by an existing shape.
+     *
+     * @return the count (&ge;0)
+     */
+    public long countDuplicatesAvoided() {
+        long result = duplicatesAvoided.get();
+        return result;
+    }
+
+    /**
+     * Count the registered shapes.
+     *
+     * @return the count (&ge;0)
+     */
+    public int countEntries() {
+        int result = entries.size();
+        return result;
+    }
+
+    /**
+     * Unregister every shape whose only reference is the registry's.
+     *
+     * @return the number of shapes unregistered (&ge;0)
+     */
+    public int evictUnused() {
+        int[] numEvicted = {0};
+        for (Key key : entries.keySet()) {
+            entries.computeIfPresent(key, (k, entry) -> {
+                if (entry.shape.getRefCount() > 1) {
+                    return entry;
+                }
+                entry.shape.close();
+                ++numEvicted[0];
+                return null;
+            });
+        }
+
+        return numEvicted[0];
+    }
+
+    /**
+     * Return a scaled version of the specified shape.
+     *
+     * @param baseShape the unscaled base shape (not {@code null})
+     * @param scaleFactors the desired scale factors (not {@code null},
+     * unaffected)
+     * @return a new counted reference to a shared shape
+     */
+    public ShapeRefC scaled(ConstShape baseShape, Vec3Arg scaleFactors) {
+        long baseVa = baseShape.targetVa();
+        Vec3 copy = new Vec3(scaleFactors);
+        Key key = new Key(EShapeSubType.Scaled, baseVa, copy.getX(),
+                copy.getY(), copy.getZ());
+        ShapeRefC result
+                = lookup(key, () -> new ScaledShape(baseShape, copy));
+
+        return result;
+    }
+
+    /**
+     * Return a sphere with the specified radius.
+     *
+     * @param radius the desired radius
+     * @return a new counted reference to a shared shape
+     */
+    public ShapeRefC sphere(float radius) {
+        Key key = new Key(EShapeSubType.Sphere, 0L, radius);
+        ShapeRefC result = lookup(key, () -> new SphereShape(radius));
+
+        return result;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Find or create the shape for the specified key and create a new
+     * reference to it. The reference is created while the key is locked, so
+     * the shape can't be evicted before the caller receives it.
+     *
+     * @param key the key to look up (not {@code null})
+     * @param factory to create the shape if it isn't registered (not
+     * {@code null})
+     * @return a new counted reference
+     */
+    private ShapeRefC lookup(Key key, Supplier<Shape> factory) {
+        ShapeRefC[] result = new ShapeRefC[1];
+        entries.compute(key, (k, entry) -> {
+            if (entry == null) {
+                entry = new Entry(factory.get());
+            } else {
+                duplicatesAvoided.incrementAndGet();
+                bytesSaved.addAndGet(entry.sizeBytes);
+            }
+            result[0] = entry.shape.toRefC();
+            return entry;
+        });
+
+        return result[0];
+    }
+}
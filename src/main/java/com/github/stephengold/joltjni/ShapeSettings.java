@@ -306,7 +306,7 @@ abstract public class ShapeSettings
 
     native static int getRefCount(long settingsVa);
 
-    native private static long getUserData(long settingsVa);
+    native static long getUserData(long settingsVa);
 
     native private static void setEmbedded(long settingsVa);
 
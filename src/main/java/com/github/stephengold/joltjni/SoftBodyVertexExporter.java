@@ -0,0 +1,171 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import com.github.stephengold.joltjni.readonly.RVec3Arg;
+import java.nio.FloatBuffer;
+
+/**
+ * Copy the vertex locations (and optionally the vertex normals) of many soft
+ * bodies into shared direct buffers with a single native call, for upload to
+ * a GPU.
+ * <p>
+ * Each soft body contributes 3 floats per vertex, in the vertex order of its
+ * shared settings. The soft bodies' vertices are packed contiguously, in the
+ * order the bodies were added, and {@code getFirstFloat()} gives each body's
+ * starting index. Locations are written relative to a specified origin.
+ * Normals are written using the same layout: each is the normalized,
+ * area-weighted sum of the normals of the faces sharing the vertex, so they
+ * match the triangles written by
+ * {@code SoftBodySharedSettings.putFaceIndices()}, with counter-clockwise
+ * winding on the front side.
+ * <p>
+ * The work is divided among jobs in a {@code JobSystem}. The physics system
+ * mustn't be updated during an export.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class SoftBodyVertexExporter {
+    // *************************************************************************
+    // fields
+
+    /**
+     * soft bodies in the batch and the layout of their vertices
+     */
+    final private PackedRecords<Body> bodies = new PackedRecords<>();
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an empty exporter.
+     */
+    public SoftBodyVertexExporter() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Append the specified soft body to the batch.
+     *
+     * @param softBody the body to add (not {@code null}, soft, alias created)
+     * @return the index of the body in the batch (&ge;0)
+     */
+    public int add(Body softBody) {
+        assert softBody.isSoftBody() : "not a soft body";
+
+        SoftBodyMotionProperties properties
+                = (SoftBodyMotionProperties) softBody.getMotionProperties();
+        int numFloats = 3 * properties.getSettings().countVertices();
+        int result = bodies.add(softBody, numFloats);
+
+        return result;
+    }
+
+    /**
+     * Remove all soft bodies from the batch.
+     */
+    public void clear() {
+        bodies.clear();
+    }
+
+    /**
+     * Return the number of floats needed to store all the locations (or all
+     * the normals).
+     *
+     * @return the count (&ge;0)
+     */
+    public int countFloats() {
+        int result = bodies.countFloats();
+        return result;
+    }
+
+    /**
+     * Copy the vertex locations of all soft bodies in the batch.
+     *
+     * @param origin the origin for the locations (in system coordinates, not
+     * {@code null}, unaffected)
+     * @param storeLocations storage for the locations (not {@code null},
+     * direct, capacity&ge;countFloats(), modified)
+     * @param jobSystem the job system to use (not {@code null})
+     */
+    public void export(RVec3Arg origin, FloatBuffer storeLocations,
+            JobSystem jobSystem) {
+        export(origin, storeLocations, null, jobSystem);
+    }
+
+    /**
+     * Copy the vertex locations of all soft bodies in the batch and
+     * optionally calculate their vertex normals.
+     *
+     * @param origin the origin for the locations (in system coordinates, not
+     * {@code null}, unaffected)
+     * @param storeLocations storage for the locations (not {@code null},
+     * direct, capacity&ge;countFloats(), modified)
+     * @param storeNormals storage for the normals (direct,
+     * capacity&ge;countFloats(), modified) or {@code null} to skip normals
+     * @param jobSystem the job system to use (not {@code null})
+     */
+    public void export(RVec3Arg origin, FloatBuffer storeLocations,
+            FloatBuffer storeNormals, JobSystem jobSystem) {
+        int numFloats = countFloats();
+        assert storeLocations.capacity() >= numFloats;
+        assert storeNormals == null || storeNormals.capacity() >= numFloats;
+
+        int numBodies = bodies.size();
+        double xx = origin.xx();
+        double yy = origin.yy();
+        double zz = origin.zz();
+        long jobSystemVa = jobSystem.va();
+        long[] bodyVas = bodies.getVas();
+        int[] firstFloats = bodies.getFirstFloats();
+        exportVertices(bodyVas, firstFloats, numBodies, xx, yy, zz,
+                storeLocations, storeNormals, jobSystemVa);
+    }
+
+    /**
+     * Return the index of the first float of the specified body's vertices.
+     *
+     * @param index the index of the body in the batch (&ge;0, &lt;size)
+     * @return the index in the location (or normal) buffer (&ge;0)
+     */
+    public int getFirstFloat(int index) {
+        int result = bodies.getFirstFloat(index);
+        return result;
+    }
+
+    /**
+     * Count the soft bodies in the batch.
+     *
+     * @return the count (&ge;0)
+     */
+    public int size() {
+        int result = bodies.size();
+        return result;
+    }
+    // *************************************************************************
+    // native private methods
+
+    native private static void exportVertices(long[] bodyVas,
+            int[] firstFloats, int numBodies, double xx, double yy, double zz,
+            FloatBuffer storeLocations, FloatBuffer storeNormals,
+            long jobSystemVa);
+}
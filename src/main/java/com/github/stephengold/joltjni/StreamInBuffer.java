@@ -0,0 +1,144 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A binary input stream that reads directly from a direct
+ * {@code ByteBuffer}, such as a memory-mapped file, without any intermediate
+ * copies. (native type: {@code BufferStreamIn}, a subclass of
+ * {@code StreamIn})
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class StreamInBuffer extends StreamIn {
+    // *************************************************************************
+    // fields
+
+    /**
+     * protect the underlying memory from garbage collection and unmapping
+     */
+    final private ByteBuffer data;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Open a stream to read the remaining bytes of the specified buffer.
+     *
+     * @param data the buffer to read (not {@code null}, direct, alias created,
+     * position and limit unaffected)
+     */
+    public StreamInBuffer(ByteBuffer data) {
+        if (!data.isDirect()) {
+            throw new IllegalArgumentException("buffer must be direct");
+        }
+        this.data = data;
+        int startPosition = data.position();
+        int numBytes = data.remaining();
+        long streamVa = createFromBuffer(data, startPosition, numBytes);
+        setVirtualAddressAsOwner(streamVa);
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Access the underlying buffer.
+     *
+     * @return the pre-existing instance (not {@code null})
+     */
+    public ByteBuffer getData() {
+        return data;
+    }
+
+    /**
+     * Test whether the stream has attempted to read past its end. The stream
+     * is unaffected.
+     *
+     * @return {@code true} if it has reached its end, otherwise {@code false}
+     */
+    public boolean isEof() {
+        long streamVa = va();
+        boolean result = isEof(streamVa);
+
+        return result;
+    }
+
+    /**
+     * Test whether a read has failed. The stream is unaffected.
+     *
+     * @return {@code true} if a read has failed, otherwise {@code false}
+     */
+    public boolean isFailed() {
+        long streamVa = va();
+        boolean result = isFailed(streamVa);
+
+        return result;
+    }
+
+    /**
+     * Map the specified file into memory and open a stream to read it.
+     *
+     * @param file the path to the file (not {@code null})
+     * @return a new object
+     * @throws IOException if the file can't be opened or mapped
+     */
+    public static StreamInBuffer map(Path file) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel
+                = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0L, size);
+        }
+        StreamInBuffer result = new StreamInBuffer(buffer);
+
+        return result;
+    }
+
+    /**
+     * Return the number of bytes read so far. The stream is unaffected.
+     *
+     * @return the count (&ge;0)
+     */
+    public long tell() {
+        long streamVa = va();
+        long result = tell(streamVa);
+
+        return result;
+    }
+    // *************************************************************************
+    // native private methods
+
+    native private static long createFromBuffer(
+            ByteBuffer data, int startPosition, int numBytes);
+
+    native private static boolean isEof(long streamVa);
+
+    native private static boolean isFailed(long streamVa);
+
+    native private static long tell(long streamVa);
+}
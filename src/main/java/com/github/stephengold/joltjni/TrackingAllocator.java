@@ -0,0 +1,185 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import com.github.stephengold.joltjni.enumerate.EAllocationTag;
+
+/**
+ * Utility methods to route Jolt's native allocations through a tracking
+ * allocator that attributes them to subsystems and (optionally) serves small
+ * blocks from per-thread free lists.
+ * <p>
+ * Allocations are attributed to the tag of the allocating thread. Glue code
+ * tags the creation of bodies, shapes, constraints (including vehicle
+ * constraints), soft bodies, and temporary allocators, as well as
+ * physics-system initialization and broad-phase optimization. Applications
+ * may tag other sections of code using {@link #setThreadTag(EAllocationTag)}.
+ * <p>
+ * Attribution has limits. Jolt allocates the body manager, broad phase, and
+ * contact-constraint manager in a single call, so they share the
+ * {@code SystemInit} tag. Allocations that Jolt makes during a physics update
+ * (for instance, by job-system worker threads) are attributed to the tag of
+ * the thread that makes them, normally {@code Other}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class TrackingAllocator {
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private TrackingAllocator() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Count the native allocations attributed to the specified tag since the
+     * allocator was registered.
+     *
+     * @param tag which subsystem (not {@code null})
+     * @return the count (&ge;0)
+     */
+    public static long countAllocations(EAllocationTag tag) {
+        int ordinal = tag.ordinal();
+        long result = countAllocations(ordinal);
+
+        return result;
+    }
+
+    /**
+     * Count the native frees attributed to the specified tag since the
+     * allocator was registered.
+     *
+     * @param tag which subsystem (not {@code null})
+     * @return the count (&ge;0)
+     */
+    public static long countFrees(EAllocationTag tag) {
+        int ordinal = tag.ordinal();
+        long result = countFrees(ordinal);
+
+        return result;
+    }
+
+    /**
+     * Return the number of bytes currently allocated and attributed to the
+     * specified tag, excluding allocator overhead.
+     *
+     * @param tag which subsystem (not {@code null})
+     * @return the number of bytes
+     */
+    public static long getLiveBytes(EAllocationTag tag) {
+        int ordinal = tag.ordinal();
+        long result = getLiveBytes(ordinal);
+
+        return result;
+    }
+
+    /**
+     * Return the maximum number of bytes attributed to the specified tag since
+     * the allocator was registered or the peaks were reset.
+     *
+     * @param tag which subsystem (not {@code null})
+     * @return the number of bytes
+     * @see #resetPeaks()
+     */
+    public static long getPeakBytes(EAllocationTag tag) {
+        int ordinal = tag.ordinal();
+        long result = getPeakBytes(ordinal);
+
+        return result;
+    }
+
+    /**
+     * Return the tag applied to native allocations made by the current thread.
+     *
+     * @return an enum value (not {@code null})
+     */
+    public static EAllocationTag getThreadTag() {
+        int ordinal = getThreadTagOrdinal();
+        EAllocationTag result = EAllocationTag.values()[ordinal];
+
+        return result;
+    }
+
+    /**
+     * Test whether the tracking allocator is registered and serves small blocks
+     * from per-thread free lists.
+     *
+     * @return {@code true} if pooled, otherwise {@code false}
+     */
+    native public static boolean isPooled();
+
+    /**
+     * Test whether the tracking allocator is registered with Jolt.
+     *
+     * @return {@code true} if registered, otherwise {@code false}
+     */
+    native public static boolean isRegistered();
+
+    /**
+     * Register the tracking allocator with Jolt, in place of
+     * {@link Jolt#registerDefaultAllocator()}. This must be done before any
+     * other Jolt function is called.
+     *
+     * @param pooled {@code true} to serve small blocks from per-thread free
+     * lists, {@code false} to pass all requests through to malloc/free
+     */
+    native public static void register(boolean pooled);
+
+    /**
+     * Reset the peak counters of all tags to their current live byte counts.
+     */
+    native public static void resetPeaks();
+
+    /**
+     * Alter the tag applied to native allocations made by the current thread.
+     * Allocations made by glue code on behalf of a specific subsystem are
+     * tagged regardless.
+     *
+     * @param tag the desired subsystem (not {@code null})
+     * @return the previous tag (not {@code null})
+     */
+    public static EAllocationTag setThreadTag(EAllocationTag tag) {
+        int ordinal = tag.ordinal();
+        int previousOrdinal = setThreadTag(ordinal);
+        EAllocationTag result = EAllocationTag.values()[previousOrdinal];
+
+        return result;
+    }
+    // *************************************************************************
+    // native private methods
+
+    native private static long countAllocations(int ordinal);
+
+    native private static long countFrees(int ordinal);
+
+    native private static long getLiveBytes(int ordinal);
+
+    native private static long getPeakBytes(int ordinal);
+
+    native private static int getThreadTagOrdinal();
+
+    native private static int setThreadTag(int ordinal);
+}
@@ -275,6 +275,19 @@ public class VehicleConstraint
         return result;
     }
 
+    /**
+     * Copy the gravity override. The constraint is unaffected.
+     *
+     * @param storeResult storage for the vector (not {@code null}, modified)
+     */
+    @Override
+    public void getGravityOverride(Vec3 storeResult) {
+        long constraintVa = va();
+        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
+        getGravityOverride(constraintVa, storeFloats);
+        storeResult.set(storeFloats);
+    }
+
     /**
      * Copy the local "forward" direction. The constraint is unaffected.
      *
@@ -290,6 +303,20 @@ public class VehicleConstraint
         return result;
     }
 
+    /**
+     * Copy the local "forward" direction. The constraint is unaffected.
+     *
+     * @param storeResult storage for the direction vector (not {@code null},
+     * modified)
+     */
+    @Override
+    public void getLocalForward(Vec3 storeResult) {
+        long constraintVa = va();
+        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
+        getLocalForward(constraintVa, storeFloats);
+        storeResult.set(storeFloats);
+    }
+
     /**
      * Copy the local "up" direction. The constraint is unaffected.
      *
@@ -305,6 +332,20 @@ public class VehicleConstraint
         return result;
     }
 
+    /**
+     * Copy the local "up" direction. The constraint is unaffected.
+     *
+     * @param storeResult storage for the direction vector (not {@code null},
+     * modified)
+     */
+    @Override
+    public void getLocalUp(Vec3 storeResult) {
+        long constraintVa = va();
+        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
+        getLocalUp(constraintVa, storeFloats);
+        storeResult.set(storeFloats);
+    }
+
     /**
      * Return the vehicle's maximum pitch/roll angle. The constraint is
      * unaffected.
@@ -438,6 +479,32 @@ public class VehicleConstraint
         return result;
     }
 
+    /**
+     * Copy the world transform of the specified wheel. The constraint is
+     * unaffected.
+     *
+     * @param wheelIndex the index of the wheel to query (&ge;0)
+     * @param right the wheel's axis of rotation (a unit vector in the wheel's
+     * model space)
+     * @param up the "up" direction (a unit vector in the wheel's model space)
+     * @param storeResult storage for the coordinate transform matrix (not
+     * {@code null}, modified)
+     */
+    @Override
+    public void getWheelWorldTransform(
+            int wheelIndex, Vec3Arg right, Vec3Arg up, RMat44 storeResult) {
+        long constraintVa = va();
+        float rx = right.getX();
+        float ry = right.getY();
+        float rz = right.getZ();
+        float ux = up.getX();
+        float uy = up.getY();
+        float uz = up.getZ();
+        long storeVa = storeResult.va();
+        getWheelWorldTransformInto(
+                constraintVa, wheelIndex, rx, ry, rz, ux, uy, uz, storeVa);
+    }
+
     /**
      * Copy the "up" direction based on gravity. The constraint is unaffected.
      *
@@ -453,6 +520,20 @@ public class VehicleConstraint
         return result;
     }
 
+    /**
+     * Copy the "up" direction based on gravity. The constraint is unaffected.
+     *
+     * @param storeResult storage for the direction vector (in system
+     * coordinates, not {@code null}, modified)
+     */
+    @Override
+    public void getWorldUp(Vec3 storeResult) {
+        long constraintVa = va();
+        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
+        getWorldUp(constraintVa, storeFloats);
+        storeResult.set(storeFloats);
+    }
+
     /**
      * Test whether gravity is overridden. The constraint is unaffected.
      *
@@ -543,6 +624,10 @@ public class VehicleConstraint
     native static long getWheelWorldTransform(long constraintVa, int wheelIndex,
             float rx, float ry, float rz, float ux, float uy, float uz);
 
+    native static void getWheelWorldTransformInto(long constraintVa,
+            int wheelIndex, float rx, float ry, float rz, float ux, float uy,
+            float uz, long storeVa);
+
     native static void getWheelWorldTransformComponents(long constraintVa,
             int wheelIndex, DoubleBuffer storeDoubles, FloatBuffer storeFloats);
 
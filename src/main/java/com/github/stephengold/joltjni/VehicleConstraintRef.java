@@ -216,6 +216,19 @@ final public class VehicleConstraintRef
         return result;
     }
 
+    /**
+     * Copy the gravity override. The constraint is unaffected.
+     *
+     * @param storeResult storage for the vector (not {@code null}, modified)
+     */
+    @Override
+    public void getGravityOverride(Vec3 storeResult) {
+        long constraintVa = targetVa();
+        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
+        VehicleConstraint.getGravityOverride(constraintVa, storeFloats);
+        storeResult.set(storeFloats);
+    }
+
     /**
      * Copy the local "forward" direction. The constraint is unaffected.
      *
@@ -231,6 +244,20 @@ final public class VehicleConstraintRef
         return result;
     }
 
+    /**
+     * Copy the local "forward" direction. The constraint is unaffected.
+     *
+     * @param storeResult storage for the direction vector (not {@code null},
+     * modified)
+     */
+    @Override
+    public void getLocalForward(Vec3 storeResult) {
+        long constraintVa = targetVa();
+        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
+        VehicleConstraint.getLocalForward(constraintVa, storeFloats);
+        storeResult.set(storeFloats);
+    }
+
     /**
      * Copy the local "up" direction. The constraint is unaffected.
      *
@@ -246,6 +273,20 @@ final public class VehicleConstraintRef
         return result;
     }
 
+    /**
+     * Copy the local "up" direction. The constraint is unaffected.
+     *
+     * @param storeResult storage for the direction vector (not {@code null},
+     * modified)
+     */
+    @Override
+    public void getLocalUp(Vec3 storeResult) {
+        long constraintVa = targetVa();
+        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
+        VehicleConstraint.getLocalUp(constraintVa, storeFloats);
+        storeResult.set(storeFloats);
+    }
+
     /**
      * Return the vehicle's maximum pitch/roll angle. The constraint is
      * unaffected.
@@ -441,6 +482,32 @@ final public class VehicleConstraintRef
         return result;
     }
 
+    /**
+     * Copy the world transform of the specified wheel. The constraint is
+     * unaffected.
+     *
+     * @param wheelIndex the index of the wheel to query (&ge;0)
+     * @param right the wheel's axis of rotation (a unit vector in the wheel's
+     * model space)
+     * @param up the "up" direction (a unit vector in the wheel's model space)
+     * @param storeResult storage for the coordinate transform matrix (not
+     * {@code null}, modified)
+     */
+    @Override
+    public void getWheelWorldTransform(
+            int wheelIndex, Vec3Arg right, Vec3Arg up, RMat44 storeResult) {
+        long constraintVa = targetVa();
+        float rx = right.getX();
+        float ry = right.getY();
+        float rz = right.getZ();
+        float ux = up.getX();
+        float uy = up.getY();
+        float uz = up.getZ();
+        long storeVa = storeResult.va();
+        VehicleConstraint.getWheelWorldTransformInto(
+                constraintVa, wheelIndex, rx, ry, rz, ux, uy, uz, storeVa);
+    }
+
     /**
      * Copy the "up" direction based on gravity. The constraint is unaffected.
      *
@@ -456,6 +523,20 @@ final public class VehicleConstraintRef
         return result;
     }
 
+    /**
+     * Copy the "up" direction based on gravity. The constraint is unaffected.
+     *
+     * @param storeResult storage for the direction vector (in system
+     * coordinates, not {@code null}, modified)
+     */
+    @Override
+    public void getWorldUp(Vec3 storeResult) {
+        long constraintVa = targetVa();
+        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
+        VehicleConstraint.getWorldUp(constraintVa, storeFloats);
+        storeResult.set(storeFloats);
+    }
+
     /**
      * Test whether the constraint is active. The constraint is unaffected.
      *
@@ -0,0 +1,202 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import com.github.stephengold.joltjni.readonly.RVec3Arg;
+import com.github.stephengold.joltjni.readonly.Vec3Arg;
+import java.nio.FloatBuffer;
+
+/**
+ * Exchange driver inputs and wheel states with many wheeled vehicles using a
+ * single native call in each direction.
+ * <p>
+ * Driver inputs are read from a direct buffer holding 4 floats per vehicle:
+ * forward, right, brake, and hand brake. Vehicle states are written to a
+ * direct buffer in which each vehicle occupies a contiguous record: the
+ * engine speed (in RPM) and the current gear, followed by 9 floats per wheel:
+ * the location of the wheel (relative to a specified origin), its orientation
+ * (as a quaternion in X,Y,Z,W order), and its longitudinal and lateral slip.
+ * {@code getFirstFloat()} gives the start of each vehicle's record.
+ * <p>
+ * Every vehicle must use a {@code WheeledVehicleController}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class VehicleFleet {
+    // *************************************************************************
+    // constants
+
+    /**
+     * number of floats per vehicle, excluding wheels
+     */
+    final public static int floatsPerVehicle = 2;
+    /**
+     * number of floats per wheel
+     */
+    final public static int floatsPerWheel = 9;
+    // *************************************************************************
+    // fields
+
+    /**
+     * vehicles in the fleet and the layout of their state records
+     */
+    final private PackedRecords<VehicleConstraint> vehicles
+            = new PackedRecords<>();
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an empty fleet.
+     */
+    public VehicleFleet() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Append the specified vehicle to the fleet.
+     *
+     * @param vehicle the vehicle to add (not {@code null}, with a wheeled
+     * controller, alias created)
+     * @return the index of the vehicle in the fleet (&ge;0)
+     */
+    public int add(VehicleConstraint vehicle) {
+        assert vehicle.getController() instanceof WheeledVehicleController;
+
+        int numWheels = vehicle.countWheels();
+        int numFloats = floatsPerVehicle + floatsPerWheel * numWheels;
+        int result = vehicles.add(vehicle, numFloats);
+
+        return result;
+    }
+
+    /**
+     * Remove all vehicles from the fleet.
+     */
+    public void clear() {
+        vehicles.clear();
+    }
+
+    /**
+     * Return the number of floats needed to store the states of all vehicles.
+     *
+     * @return the count (&ge;0)
+     */
+    public int countStateFloats() {
+        int result = vehicles.countFloats();
+        return result;
+    }
+
+    /**
+     * Copy the state of every vehicle in the fleet. Invoke after the physics
+     * system has been updated.
+     *
+     * @param wheelRight the wheel's rotation axis, in the wheel's model space
+     * (not {@code null}, unaffected)
+     * @param wheelUp the wheel's "up" direction when the wheel is in the
+     * neutral position, in the wheel's model space (not {@code null},
+     * unaffected)
+     * @param origin the location to subtract from all wheel locations (not
+     * {@code null}, unaffected)
+     * @param storeStates storage for the vehicle states (not {@code null},
+     * direct, capacity&ge;countStateFloats(), modified)
+     */
+    public void exportStates(Vec3Arg wheelRight, Vec3Arg wheelUp,
+            RVec3Arg origin, FloatBuffer storeStates) {
+        int numVehicles = vehicles.size();
+        assert storeStates.capacity() >= countStateFloats();
+
+        float rx = wheelRight.getX();
+        float ry = wheelRight.getY();
+        float rz = wheelRight.getZ();
+        float ux = wheelUp.getX();
+        float uy = wheelUp.getY();
+        float uz = wheelUp.getZ();
+        double ox = origin.xx();
+        double oy = origin.yy();
+        double oz = origin.zz();
+        long[] vehicleVas = vehicles.getVas();
+        exportStates(vehicleVas, numVehicles, rx, ry, rz, ux, uy, uz, ox, oy,
+                oz, storeStates);
+    }
+
+    /**
+     * Access the vehicle at the specified index.
+     *
+     * @param index the index in the fleet (&ge;0, &lt;size)
+     * @return the pre-existing vehicle
+     */
+    public VehicleConstraint get(int index) {
+        VehicleConstraint result = vehicles.get(index);
+        return result;
+    }
+
+    /**
+     * Return the index of the first float of the specified vehicle's state.
+     *
+     * @param index the index of the vehicle in the fleet (&ge;0, &lt;size)
+     * @return the index in the state buffer (&ge;0)
+     */
+    public int getFirstFloat(int index) {
+        int result = vehicles.getFirstFloat(index);
+        return result;
+    }
+
+    /**
+     * Apply driver inputs to every vehicle in the fleet. Invoke before the
+     * physics system is updated.
+     *
+     * @param inputs the forward, right, brake, and hand-brake inputs for each
+     * vehicle (not {@code null}, direct, 4 floats per vehicle, unaffected)
+     * @param bodyInterface the interface used to activate the bodies of
+     * vehicles with non-zero inputs, or {@code null} to skip activation
+     */
+    public void setDriverInputs(
+            FloatBuffer inputs, BodyInterface bodyInterface) {
+        int numVehicles = vehicles.size();
+        assert inputs.capacity() >= 4 * numVehicles;
+
+        long bodyInterfaceVa
+                = (bodyInterface == null) ? 0L : bodyInterface.va();
+        long[] vehicleVas = vehicles.getVas();
+        setDriverInputs(vehicleVas, numVehicles, inputs, bodyInterfaceVa);
+    }
+
+    /**
+     * Count the vehicles in the fleet.
+     *
+     * @return the count (&ge;0)
+     */
+    public int size() {
+        int result = vehicles.size();
+        return result;
+    }
+    // *************************************************************************
+    // native private methods
+
+    native private static void exportStates(long[] vehicleVas,
+            int numVehicles, float rx, float ry, float rz, float ux, float uy,
+            float uz, double ox, double oy, double oz, FloatBuffer storeStates);
+
+    native private static void setDriverInputs(long[] vehicleVas,
+            int numVehicles, FloatBuffer inputs, long bodyInterfaceVa);
+}
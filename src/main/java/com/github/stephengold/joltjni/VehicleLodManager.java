@@ -0,0 +1,622 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.enumerate.EMotionType;
+import com.github.stephengold.joltjni.readonly.QuatArg;
+import com.github.stephengold.joltjni.readonly.RVec3Arg;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reduce the per-tick cost of vehicles that are far from every focus point
+ * (typically the players' cameras) by simulating them more cheaply.
+ * <p>
+ * Each vehicle is assigned to one of 3 tiers, based on its distance to the
+ * nearest focus point:
+ * <ul>
+ * <li>{@code Full} vehicles are simulated with their own collision tester and
+ * collision-test rates,</li>
+ * <li>{@code Reduced} vehicles are simulated using a ray tester derived from
+ * their own tester, which tests for wheel collisions once every few steps,
+ * and</li>
+ * <li>{@code Kinematic} vehicles are moved kinematically toward targets
+ * supplied by the application (typically from a path-following AI), with
+ * their constraints disabled and no wheel collision tests.</li>
+ * </ul>
+ * Tier boundaries use hysteresis so vehicles near a boundary don't flip back
+ * and forth. Velocities are preserved across every transition, and when a
+ * vehicle is promoted from {@code Kinematic}, its wheels are spun up to match
+ * its forward speed, so it doesn't lurch or skid.
+ * <p>
+ * Every vehicle body must allow both dynamic and kinematic motion (see
+ * {@code BodyCreationSettings.setAllowDynamicOrKinematic()}), and every
+ * vehicle must have a collision tester when it's added. Each vehicle's
+ * {@code Reduced} ray tester uses the object layer and filters of that
+ * tester, with the vehicle's local "up" direction as the ray's "up"
+ * direction. A kinematic vehicle with no target continues in a straight line
+ * at its current velocity.
+ * <p>
+ * {@code update()} should be invoked once per tick, before the physics system
+ * is updated. Instances aren't thread-safe.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class VehicleLodManager {
+    // *************************************************************************
+    // enums
+
+    /**
+     * Enumerate the simulation tiers, from most to least expensive.
+     */
+    public enum Tier {
+        /**
+         * dynamic, with the vehicle's own collision tester and rates
+         */
+        Full,
+        /**
+         * dynamic, with a ray tester and a reduced collision-test rate
+         */
+        Reduced,
+        /**
+         * kinematic, with the constraint disabled
+         */
+        Kinematic
+    }
+    // *************************************************************************
+    // fields
+
+    /**
+     * minimum distance from the nearest focus point for the {@code Reduced}
+     * tier (in meters, &ge;0)
+     */
+    private double fullDistance = 50.;
+    /**
+     * fraction by which a demotion threshold exceeds the corresponding
+     * promotion threshold (&ge;0)
+     */
+    private double hysteresis = 0.1;
+    /**
+     * minimum distance from the nearest focus point for the {@code Kinematic}
+     * tier (in meters, &ge;fullDistance)
+     */
+    private double reducedDistance = 150.;
+    /**
+     * number of simulation steps between wheel-collision tests in the
+     * {@code Reduced} tier (&ge;1)
+     */
+    private int reducedSteps = 4;
+    /**
+     * vehicles in order of addition
+     */
+    final private List<Entry> entries = new ArrayList<>(64);
+    /**
+     * locations of the focus points
+     */
+    final private List<RVec3> focuses = new ArrayList<>(4);
+    /**
+     * map vehicles to their entries
+     */
+    final private Map<VehicleConstraint, Entry> map
+            = new IdentityHashMap<>(64);
+    /**
+     * reusable temporary for orientations
+     */
+    final private Quat tmpOrientation = new Quat();
+    /**
+     * reusable temporary for locations
+     */
+    final private RVec3 tmpLocation = new RVec3();
+    /**
+     * reusable temporary for angular velocities
+     */
+    final private Vec3 tmpAngularVelocity = new Vec3();
+    /**
+     * reusable temporary for forward directions
+     */
+    final private Vec3 tmpForward = new Vec3();
+    /**
+     * reusable temporary for linear velocities
+     */
+    final private Vec3 tmpLinearVelocity = new Vec3();
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a manager with no vehicles and no focus points.
+     */
+    public VehicleLodManager() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Add the specified vehicle to the manager, initially in the {@code Full}
+     * tier. Its current collision tester and collision-test rates are
+     * recorded for use in the {@code Full} tier.
+     *
+     * @param vehicle the vehicle to add (not {@code null}, not already added,
+     * dynamic, alias created)
+     */
+    public void add(VehicleConstraint vehicle) {
+        assert !map.containsKey(vehicle);
+        assert vehicle.getVehicleCollisionTester() != null : "no tester";
+
+        Entry entry = new Entry(vehicle);
+        entries.add(entry);
+        map.put(vehicle, entry);
+    }
+
+    /**
+     * Add a focus point.
+     *
+     * @param location the location of the new focus point (not {@code null},
+     * unaffected)
+     * @return the index of the new focus point (&ge;0)
+     */
+    public int addFocus(RVec3Arg location) {
+        int result = focuses.size();
+        focuses.add(new RVec3(location));
+
+        return result;
+    }
+
+    /**
+     * Remove all focus points. Until a focus point is added, all vehicles will
+     * be promoted to the {@code Full} tier.
+     */
+    public void clearFocuses() {
+        focuses.clear();
+    }
+
+    /**
+     * Count the focus points.
+     *
+     * @return the count (&ge;0)
+     */
+    public int countFocuses() {
+        int result = focuses.size();
+        return result;
+    }
+
+    /**
+     * Count the managed vehicles currently in the specified tier.
+     *
+     * @param tier the tier to count (not {@code null})
+     * @return the count (&ge;0)
+     */
+    public int countVehicles(Tier tier) {
+        int result = 0;
+        for (Entry entry : entries) {
+            if (entry.tier == tier) {
+                ++result;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Return the number of simulation steps between wheel-collision tests in
+     * the {@code Reduced} tier.
+     *
+     * @return the number of steps (&ge;1)
+     */
+    public int getReducedSteps() {
+        return reducedSteps;
+    }
+
+    /**
+     * Return the tier of the specified vehicle.
+     *
+     * @param vehicle the vehicle to query (not {@code null}, managed)
+     * @return the tier (not {@code null})
+     */
+    public Tier getTier(VehicleConstraint vehicle) {
+        Entry entry = map.get(vehicle);
+        Tier result = entry.tier;
+
+        return result;
+    }
+
+    /**
+     * Remove the specified vehicle from the manager, restoring its original
+     * collision tester, collision-test rates, and dynamic motion.
+     *
+     * @param vehicle the vehicle to remove (not {@code null})
+     * @param bodyInterface the interface to use (not {@code null})
+     * @return {@code true} if the vehicle was managed, otherwise
+     * {@code false}
+     */
+    public boolean remove(
+            VehicleConstraint vehicle, BodyInterface bodyInterface) {
+        Entry entry = map.remove(vehicle);
+        if (entry == null) {
+            return false;
+        }
+
+        entries.remove(entry);
+        if (entry.tier != Tier.Full) {
+            bodyInterface.getPositionAndRotation(
+                    entry.bodyId, tmpLocation, tmpOrientation);
+            transition(entry, Tier.Full, bodyInterface);
+        }
+
+        return true;
+    }
+
+    /**
+     * Alter the location of the specified focus point.
+     *
+     * @param index the index of the focus point (&ge;0, &lt;numFocuses)
+     * @param location the desired location (not {@code null}, unaffected)
+     */
+    public void setFocus(int index, RVec3Arg location) {
+        RVec3 focus = focuses.get(index);
+        focus.set(location);
+    }
+
+    /**
+     * Pin the specified vehicle to a tier, regardless of distance.
+     *
+     * @param vehicle the vehicle to alter (not {@code null}, managed)
+     * @param tier the desired tier, or {@code null} to select the tier based
+     * on distance (default=null)
+     */
+    public void setForcedTier(VehicleConstraint vehicle, Tier tier) {
+        Entry entry = map.get(vehicle);
+        entry.forcedTier = tier;
+    }
+
+    /**
+     * Alter the fraction by which demotion thresholds exceed promotion
+     * thresholds.
+     *
+     * @param fraction the desired fraction (&ge;0, default=0.1)
+     */
+    public void setHysteresis(double fraction) {
+        assert fraction >= 0. : fraction;
+        this.hysteresis = fraction;
+    }
+
+    /**
+     * Set the location and orientation that the specified vehicle should
+     * reach at the end of the next tick, if it's in the {@code Kinematic}
+     * tier. The target is consumed by the next invocation of {@code update()}
+     * and ignored in the other tiers.
+     *
+     * @param vehicle the vehicle to steer (not {@code null}, managed)
+     * @param location the desired location of the vehicle body (in system
+     * coordinates, not {@code null}, unaffected)
+     * @param orientation the desired orientation of the vehicle body (not
+     * {@code null}, normalized, unaffected)
+     */
+    public void setPathTarget(VehicleConstraint vehicle, RVec3Arg location,
+            QuatArg orientation) {
+        Entry entry = map.get(vehicle);
+        entry.targetLocation.set(location);
+        entry.targetOrientation.set(orientation);
+        entry.hasTarget = true;
+    }
+
+    /**
+     * Alter the number of simulation steps between wheel-collision tests in
+     * the {@code Reduced} tier. The new rate is applied to vehicles as they
+     * enter the tier.
+     *
+     * @param numSteps the desired number of steps (&ge;1, default=4)
+     */
+    public void setReducedSteps(int numSteps) {
+        assert numSteps >= 1 : numSteps;
+        this.reducedSteps = numSteps;
+    }
+
+    /**
+     * Alter the distances at which vehicles are promoted to the {@code Full}
+     * and {@code Reduced} tiers.
+     *
+     * @param fullDistance the distance from the nearest focus point within
+     * which vehicles are in the {@code Full} tier (in meters, &ge;0,
+     * default=50)
+     * @param reducedDistance the distance from the nearest focus point within
+     * which vehicles are in the {@code Reduced} tier or better (in meters,
+     * &ge;fullDistance, default=150)
+     */
+    public void setTierDistances(double fullDistance, double reducedDistance) {
+        assert fullDistance >= 0. : fullDistance;
+        assert reducedDistance >= fullDistance : reducedDistance;
+
+        this.fullDistance = fullDistance;
+        this.reducedDistance = reducedDistance;
+    }
+
+    /**
+     * Count the managed vehicles.
+     *
+     * @return the count (&ge;0)
+     */
+    public int size() {
+        int result = entries.size();
+        return result;
+    }
+
+    /**
+     * Re-evaluate the tiers of all managed vehicles, perform any transitions,
+     * and move the kinematic vehicles toward their targets. Invoke once per
+     * tick, before the physics system is updated.
+     *
+     * @param deltaTime the duration of the tick (in seconds, &gt;0)
+     * @param bodyInterface the interface to use (not {@code null})
+     * @return the number of vehicles that changed tiers (&ge;0)
+     */
+    public int update(float deltaTime, BodyInterface bodyInterface) {
+        assert deltaTime > 0f : deltaTime;
+
+        int result = 0;
+        for (Entry entry : entries) {
+            bodyInterface.getPositionAndRotation(
+                    entry.bodyId, tmpLocation, tmpOrientation);
+            Tier newTier = classify(entry);
+            if (newTier != entry.tier) {
+                transition(entry, newTier, bodyInterface);
+                ++result;
+            }
+
+            if (entry.tier == Tier.Kinematic && entry.hasTarget) {
+                bodyInterface.moveKinematic(entry.bodyId,
+                        entry.targetLocation, entry.targetOrientation,
+                        deltaTime);
+            }
+            entry.hasTarget = false;
+        }
+
+        return result;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Create a ray tester for the {@code Reduced} tier of the specified
+     * entry. It tests the same object layer and filters as the vehicle's
+     * original tester, using the vehicle's local "up" direction.
+     *
+     * @param entry the entry to use (not {@code null}, unaffected)
+     * @return a new tester
+     */
+    private static VehicleCollisionTesterRay createReducedTester(Entry entry) {
+        VehicleCollisionTester original = entry.tester;
+        int objectLayer = original.getObjectLayer();
+        Vec3 up = entry.vehicle.getLocalUp();
+        VehicleCollisionTesterRay result
+                = new VehicleCollisionTesterRay(objectLayer, up);
+
+        BodyFilter bodyFilter = original.getBodyFilter();
+        if (bodyFilter != null) {
+            result.setBodyFilter(bodyFilter);
+        }
+        BroadPhaseLayerFilter bpFilter = original.getBroadPhaseLayerFilter();
+        if (bpFilter != null) {
+            result.setBroadPhaseLayerFilter(bpFilter);
+        }
+        ObjectLayerFilter olFilter = original.getObjectLayerFilter();
+        if (olFilter != null) {
+            result.setObjectLayerFilter(olFilter);
+        }
+
+        return result;
+    }
+
+    /**
+     * Select a tier for the specified entry, given the location of its vehicle
+     * in {@code tmpLocation}.
+     *
+     * @param entry the entry to evaluate (not {@code null}, unaffected)
+     * @return the selected tier (not {@code null})
+     */
+    private Tier classify(Entry entry) {
+        if (entry.forcedTier != null) {
+            return entry.forcedTier;
+        } else if (focuses.isEmpty()) {
+            return Tier.Full;
+        }
+
+        double minSquared = Double.POSITIVE_INFINITY;
+        for (RVec3 focus : focuses) {
+            double dx = tmpLocation.xx() - focus.xx();
+            double dy = tmpLocation.yy() - focus.yy();
+            double dz = tmpLocation.zz() - focus.zz();
+            double squared = dx * dx + dy * dy + dz * dz;
+            minSquared = Math.min(minSquared, squared);
+        }
+        double distance = Math.sqrt(minSquared);
+
+        // Demotion requires exceeding the threshold by the hysteresis:
+        Tier oldTier = entry.tier;
+        double demote = 1. + hysteresis;
+        double fullLimit = (oldTier == Tier.Full)
+                ? demote * fullDistance : fullDistance;
+        double reducedLimit = (oldTier == Tier.Kinematic)
+                ? reducedDistance : demote * reducedDistance;
+        Tier result;
+        if (distance <= fullLimit) {
+            result = Tier.Full;
+        } else if (distance <= reducedLimit) {
+            result = Tier.Reduced;
+        } else {
+            result = Tier.Kinematic;
+        }
+
+        return result;
+    }
+
+    /**
+     * Spin every wheel of the specified vehicle to match the vehicle's
+     * forward speed, given its orientation in {@code tmpOrientation} and its
+     * linear velocity in {@code tmpLinearVelocity}.
+     *
+     * @param vehicle the vehicle to modify (not {@code null})
+     */
+    private void matchWheelSpeeds(VehicleConstraint vehicle) {
+        vehicle.getLocalForward(tmpForward);
+        tmpForward.rotateInPlace(tmpOrientation);
+        float forwardSpeed = tmpLinearVelocity.dot(tmpForward);
+
+        int numWheels = vehicle.countWheels();
+        for (int wheelIndex = 0; wheelIndex < numWheels; ++wheelIndex) {
+            Wheel wheel = vehicle.getWheel(wheelIndex);
+            float radius = wheel.getSettings().getRadius();
+            wheel.setAngularVelocity(forwardSpeed / radius);
+        }
+    }
+
+    /**
+     * Move the specified entry to a new tier, given the orientation of its
+     * vehicle in {@code tmpOrientation}.
+     *
+     * @param entry the entry to modify (not {@code null})
+     * @param newTier the desired tier (not {@code null}, not the current tier)
+     * @param bodyInterface the interface to use (not {@code null})
+     */
+    private void transition(
+            Entry entry, Tier newTier, BodyInterface bodyInterface) {
+        VehicleConstraint vehicle = entry.vehicle;
+        int bodyId = entry.bodyId;
+
+        // Capture the velocities before changing the motion type:
+        bodyInterface.getLinearVelocity(bodyId, tmpLinearVelocity);
+        bodyInterface.getAngularVelocity(bodyId, tmpAngularVelocity);
+
+        switch (newTier) {
+            case Full:
+                vehicle.setVehicleCollisionTester(entry.tester);
+                vehicle.setNumStepsBetweenCollisionTestActive(
+                        entry.numStepsActive);
+                vehicle.setNumStepsBetweenCollisionTestInactive(
+                        entry.numStepsInactive);
+                break;
+
+            case Reduced:
+                if (entry.reducedTester == null) {
+                    entry.reducedTester = createReducedTester(entry);
+                }
+                vehicle.setVehicleCollisionTester(entry.reducedTester);
+                vehicle.setNumStepsBetweenCollisionTestActive(reducedSteps);
+                vehicle.setNumStepsBetweenCollisionTestInactive(
+                        reducedSteps);
+                break;
+
+            case Kinematic:
+                vehicle.setEnabled(false);
+                vehicle.setNumStepsBetweenCollisionTestActive(0);
+                vehicle.setNumStepsBetweenCollisionTestInactive(0);
+                bodyInterface.setMotionType(
+                        bodyId, EMotionType.Kinematic, EActivation.Activate);
+                break;
+
+            default:
+                throw new IllegalArgumentException("tier = " + newTier);
+        }
+
+        if (entry.tier == Tier.Kinematic) { // promotion to a dynamic tier
+            bodyInterface.setMotionType(
+                    bodyId, EMotionType.Dynamic, EActivation.Activate);
+            vehicle.setEnabled(true);
+            matchWheelSpeeds(vehicle);
+        }
+        bodyInterface.setLinearAndAngularVelocity(
+                bodyId, tmpLinearVelocity, tmpAngularVelocity);
+
+        entry.tier = newTier;
+    }
+    // *************************************************************************
+    // nested classes
+
+    /**
+     * Per-vehicle state.
+     */
+    private static class Entry {
+        /**
+         * {@code true} if a kinematic target was set since the previous update
+         */
+        private boolean hasTarget;
+        /**
+         * ID of the vehicle body
+         */
+        final private int bodyId;
+        /**
+         * original number of steps between collision tests when active
+         */
+        final private int numStepsActive;
+        /**
+         * original number of steps between collision tests when inactive
+         */
+        final private int numStepsInactive;
+        /**
+         * target orientation for the {@code Kinematic} tier
+         */
+        final private Quat targetOrientation = new Quat();
+        /**
+         * target location for the {@code Kinematic} tier
+         */
+        final private RVec3 targetLocation = new RVec3();
+        /**
+         * current tier
+         */
+        private Tier tier = Tier.Full;
+        /**
+         * pinned tier, or {@code null} to select the tier based on distance
+         */
+        private Tier forcedTier;
+        /**
+         * the managed vehicle
+         */
+        final private VehicleConstraint vehicle;
+        /**
+         * original collision tester, used in the {@code Full} tier
+         */
+        final private VehicleCollisionTester tester;
+        /**
+         * ray tester for the {@code Reduced} tier, or {@code null} if not yet
+         * created
+         */
+        private VehicleCollisionTesterRay reducedTester;
+
+        /**
+         * Instantiate an entry for the specified vehicle.
+         *
+         * @param vehicle the vehicle to manage (not {@code null}, alias
+         * created)
+         */
+        Entry(VehicleConstraint vehicle) {
+            this.vehicle = vehicle;
+            this.bodyId = vehicle.getVehicleBody().getId();
+            this.numStepsActive
+                    = vehicle.getNumStepsBetweenCollisionTestActive();
+            this.numStepsInactive
+                    = vehicle.getNumStepsBetweenCollisionTestInactive();
+            this.tester = vehicle.getVehicleCollisionTester();
+        }
+    }
+}
@@ -79,6 +79,17 @@ public class Wheel extends NonCopyable implements ConstWheel {
 
         return result;
     }
+
+    /**
+     * Alter the wheel's angular velocity.
+     *
+     * @param omega the desired angular velocity (in radians per second,
+     * positive when the vehicle is moving forward)
+     */
+    public void setAngularVelocity(float omega) {
+        long wheelVa = va();
+        setAngularVelocity(wheelVa, omega);
+    }
     // *************************************************************************
     // ConstWheel methods
 
@@ -358,4 +369,6 @@ public class Wheel extends NonCopyable implements ConstWheel {
     native private static boolean hasContact(long wheelVa);
 
     native private static boolean hasHitHardPoint(long wheelVa);
+
+    native private static void setAngularVelocity(long wheelVa, float omega);
 }
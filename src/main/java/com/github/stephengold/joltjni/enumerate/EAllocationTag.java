@@ -0,0 +1,68 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni.enumerate;
+
+/**
+ * Enumerate the subsystems to which {@code TrackingAllocator} attributes native
+ * allocations.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public enum EAllocationTag {
+    // *************************************************************************
+    // values - sequence must match "glue/TrackingAllocator.h"
+
+    /**
+     * allocations not attributed to any specific subsystem
+     */
+    Other,
+    /**
+     * rigid bodies and their motion properties
+     */
+    Bodies,
+    /**
+     * shapes and the results of shape creation
+     */
+    Shapes,
+    /**
+     * broad-phase optimization
+     */
+    BroadPhase,
+    /**
+     * constraints
+     */
+    Constraints,
+    /**
+     * soft bodies
+     */
+    SoftBodies,
+    /**
+     * temporary allocators
+     */
+    Temp,
+    /**
+     * structures allocated when a physics system is initialized: the body
+     * manager, broad phase, contact-constraint manager, and so on (Jolt
+     * allocates these in a single call, so they can't be told apart)
+     */
+    SystemInit
+}
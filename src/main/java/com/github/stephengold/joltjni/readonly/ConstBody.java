@@ -21,6 +21,7 @@ SOFTWARE.
  */
 package com.github.stephengold.joltjni.readonly;
 
+import com.github.stephengold.joltjni.AaBox;
 import com.github.stephengold.joltjni.BodyCreationSettings;
 import com.github.stephengold.joltjni.Quat;
 import com.github.stephengold.joltjni.RMat44;
@@ -54,6 +55,14 @@ public interface ConstBody extends ConstJoltPhysicsObject {
      */
     Vec3 getAccumulatedForce();
 
+    /**
+     * Copy the net force acting on the body. The body is unaffected.
+     *
+     * @param storeResult storage for the force vector (Newtons in system
+     * coordinates, not {@code null}, modified)
+     */
+    void getAccumulatedForce(Vec3 storeResult);
+
     /**
      * Copy the net torque acting on the body. The body is unaffected.
      *
@@ -61,6 +70,14 @@ public interface ConstBody extends ConstJoltPhysicsObject {
      */
     Vec3 getAccumulatedTorque();
 
+    /**
+     * Copy the net torque acting on the body. The body is unaffected.
+     *
+     * @param storeResult storage for the torque vector (Newton meters in
+     * system coordinates, not {@code null}, modified)
+     */
+    void getAccumulatedTorque(Vec3 storeResult);
+
     /**
      * Test whether the body is allowed to fall asleep. The body is unaffected.
      *
@@ -75,6 +92,14 @@ public interface ConstBody extends ConstJoltPhysicsObject {
      */
     Vec3 getAngularVelocity();
 
+    /**
+     * Copy the body's angular velocity. The body is unaffected.
+     *
+     * @param storeResult storage for the velocity vector (radians per second
+     * in system coordinates, not {@code null}, modified)
+     */
+    void getAngularVelocity(Vec3 storeResult);
+
     /**
      * Generate settings to reconstruct the (rigid) body. The body is
      * unaffected.
@@ -132,6 +157,15 @@ public interface ConstBody extends ConstJoltPhysicsObject {
      */
     RMat44 getCenterOfMassTransform();
 
+    /**
+     * Copy the coordinate transform of the body's center of mass. The body is
+     * unaffected.
+     *
+     * @param storeResult storage for the transform matrix (relative to system
+     * coordinates, not {@code null}, modified)
+     */
+    void getCenterOfMassTransform(RMat44 storeResult);
+
     /**
      * Access the body's collision group.
      *
@@ -170,6 +204,15 @@ public interface ConstBody extends ConstJoltPhysicsObject {
      */
     RMat44 getInverseCenterOfMassTransform();
 
+    /**
+     * Copy the inverse coordinate transform of the body's center of mass. The
+     * body is unaffected.
+     *
+     * @param storeResult storage for the transform matrix (relative to local
+     * coordinates, not {@code null}, modified)
+     */
+    void getInverseCenterOfMassTransform(RMat44 storeResult);
+
     /**
      * Copy the body's linear velocity. The body is unaffected.
      *
@@ -177,6 +220,14 @@ public interface ConstBody extends ConstJoltPhysicsObject {
      */
     Vec3 getLinearVelocity();
 
+    /**
+     * Copy the body's linear velocity. The body is unaffected.
+     *
+     * @param storeResult storage for the velocity vector (meters per second in
+     * system coordinates, not {@code null}, modified)
+     */
+    void getLinearVelocity(Vec3 storeResult);
+
     /**
      * Access the body's motion properties if it is dynamic or kinematic.
      *
@@ -217,6 +268,15 @@ public interface ConstBody extends ConstJoltPhysicsObject {
      */
     RVec3 getPosition();
 
+    /**
+     * Copy the location of the body's origin (which might not coincide with its
+     * center of mass). The body is unaffected.
+     *
+     * @param storeLocation storage for the location (in system coordinates, not
+     * {@code null}, modified)
+     */
+    void getPosition(RVec3 storeLocation);
+
     /**
      * Copy the position of the body. The body is unaffected.
      *
@@ -241,6 +301,14 @@ public interface ConstBody extends ConstJoltPhysicsObject {
      */
     Quat getRotation();
 
+    /**
+     * Copy the body's orientation. The body is unaffected.
+     *
+     * @param storeResult storage for the rotation quaternion (relative to the
+     * system axes, not {@code null}, modified)
+     */
+    void getRotation(Quat storeResult);
+
     /**
      * Access the body's shape. The body is unaffected.
      *
@@ -288,6 +356,14 @@ public interface ConstBody extends ConstJoltPhysicsObject {
      */
     ConstAaBox getWorldSpaceBounds();
 
+    /**
+     * Copy the body's bounding box. The body is unaffected.
+     *
+     * @param storeResult storage for the bounding box (in system coordinates,
+     * not {@code null}, modified)
+     */
+    void getWorldSpaceBounds(AaBox storeResult);
+
     /**
      * Copy the surface normal of a particular subshape at the specified
      * location. The body is unaffected.
@@ -298,6 +374,18 @@ public interface ConstBody extends ConstJoltPhysicsObject {
      */
     Vec3 getWorldSpaceSurfaceNormal(int subShapeId, RVec3Arg location);
 
+    /**
+     * Copy the surface normal of a particular subshape at the specified
+     * location. The body is unaffected.
+     *
+     * @param subShapeId the ID of the sub-shape to use
+     * @param location the location to use (not {@code null}, unaffected)
+     * @param storeResult storage for the direction vector (not {@code null},
+     * modified)
+     */
+    void getWorldSpaceSurfaceNormal(
+            int subShapeId, RVec3Arg location, Vec3 storeResult);
+
     /**
      * Copy the world transform. The body is unaffected.
      *
@@ -305,6 +393,14 @@ public interface ConstBody extends ConstJoltPhysicsObject {
      */
     RMat44 getWorldTransform();
 
+    /**
+     * Copy the world transform. The body is unaffected.
+     *
+     * @param storeResult storage for the matrix (relative to system
+     * coordinates, not {@code null}, modified)
+     */
+    void getWorldTransform(RMat44 storeResult);
+
     /**
      * Test whether the body is deactivated. The body is unaffected.
      *
@@ -69,6 +69,15 @@ public interface ConstCharacterBase extends ConstJoltPhysicsObject {
      */
     Vec3 getGroundNormal();
 
+    /**
+     * Copy the normal direction at the point of contact with the supporting
+     * surface. The character is unaffected.
+     *
+     * @param storeResult storage for the direction vector (in system
+     * coordinates, not {@code null}, modified)
+     */
+    void getGroundNormal(Vec3 storeResult);
+
     /**
      * Copy the location of the point of contact with the supporting surface.
      * The character is unaffected.
@@ -77,6 +86,15 @@ public interface ConstCharacterBase extends ConstJoltPhysicsObject {
      */
     RVec3 getGroundPosition();
 
+    /**
+     * Copy the location of the point of contact with the supporting surface.
+     * The character is unaffected.
+     *
+     * @param storeResult storage for the location vector (in system
+     * coordinates, not {@code null}, modified)
+     */
+    void getGroundPosition(RVec3 storeResult);
+
     /**
      * Return the relationship between the character and its supporting surface.
      * The character is unaffected.
@@ -109,6 +127,15 @@ public interface ConstCharacterBase extends ConstJoltPhysicsObject {
      */
     Vec3 getGroundVelocity();
 
+    /**
+     * Copy the world-space velocity of the supporting surface. The character is
+     * unaffected.
+     *
+     * @param storeResult storage for the velocity vector (meters per second in
+     * system coordinates, not {@code null}, modified)
+     */
+    void getGroundVelocity(Vec3 storeResult);
+
     /**
      * Access the physics system to which the character's body belongs, if any.
      * The character is unaffected.
@@ -155,6 +182,14 @@ public interface ConstCharacterBase extends ConstJoltPhysicsObject {
      */
     Vec3 getUp();
 
+    /**
+     * Copy the character's "up" direction. The character is unaffected.
+     *
+     * @param storeResult storage for the direction vector (not {@code null},
+     * modified)
+     */
+    void getUp(Vec3 storeResult);
+
     /**
      * Test whether the specified normal direction is too steep. The character
      * is unaffected.
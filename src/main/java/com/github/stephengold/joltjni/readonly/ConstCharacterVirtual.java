@@ -46,6 +46,18 @@ public interface ConstCharacterVirtual extends ConstCharacterBase {
      */
     Vec3 cancelVelocityTowardsSteepSlopes(Vec3Arg desiredVelocity);
 
+    /**
+     * Convert the specified velocity to one that won't climb steep slopes. The
+     * character is unaffected.
+     *
+     * @param desiredVelocity velocity vector (in system coordinates, not
+     * {@code null}, unaffected)
+     * @param storeResult storage for the velocity vector (in system
+     * coordinates, not {@code null}, modified)
+     */
+    void cancelVelocityTowardsSteepSlopes(
+            Vec3Arg desiredVelocity, Vec3 storeResult);
+
     /**
      * Test whether the character has moved onto a steep slope. The character is
      * unaffected.
@@ -71,6 +83,15 @@ public interface ConstCharacterVirtual extends ConstCharacterBase {
      */
     RVec3 getCenterOfMassPosition();
 
+    /**
+     * Calculate the location of the character's center of mass. The character
+     * is unaffected.
+     *
+     * @param storeResult storage for the location vector (in system
+     * coordinates, not {@code null}, modified)
+     */
+    void getCenterOfMassPosition(RVec3 storeResult);
+
     /**
      * Calculate the local-to-system transform of the character's center of
      * mass. The character is unaffected.
@@ -79,6 +100,15 @@ public interface ConstCharacterVirtual extends ConstCharacterBase {
      */
     RMat44 getCenterOfMassTransform();
 
+    /**
+     * Calculate the local-to-system transform of the character's center of
+     * mass. The character is unaffected.
+     *
+     * @param storeResult storage for the coordinate transform matrix (not
+     * {@code null}, modified)
+     */
+    void getCenterOfMassTransform(RMat44 storeResult);
+
     /**
      * Return the thickness of the character's padding. The character is
      * unaffected.
@@ -133,6 +163,14 @@ public interface ConstCharacterVirtual extends ConstCharacterBase {
      */
     Vec3 getLinearVelocity();
 
+    /**
+     * Copy the linear velocity of the character. The character is unaffected.
+     *
+     * @param storeResult storage for the velocity vector (meters per second in
+     * system coordinates, not {@code null}, modified)
+     */
+    void getLinearVelocity(Vec3 storeResult);
+
     /**
      * Return the character's mass. The character is unaffected.
      *
@@ -178,6 +216,14 @@ public interface ConstCharacterVirtual extends ConstCharacterBase {
      */
     RVec3 getPosition();
 
+    /**
+     * Copy the location of the character. The character is unaffected.
+     *
+     * @param storeResult storage for the location vector (in system
+     * coordinates, not {@code null}, modified)
+     */
+    void getPosition(RVec3 storeResult);
+
     /**
      * Copy the position of the character. The character is unaffected.
      *
@@ -195,6 +241,14 @@ public interface ConstCharacterVirtual extends ConstCharacterBase {
      */
     Quat getRotation();
 
+    /**
+     * Copy the orientation of the character. The character is unaffected.
+     *
+     * @param storeResult storage for the rotation quaternion (in system
+     * coordinates, not {@code null}, modified)
+     */
+    void getRotation(Quat storeResult);
+
     /**
      * Copy the local offset applied to the shape. The character is unaffected.
      *
@@ -202,6 +256,14 @@ public interface ConstCharacterVirtual extends ConstCharacterBase {
      */
     Vec3 getShapeOffset();
 
+    /**
+     * Copy the local offset applied to the shape. The character is unaffected.
+     *
+     * @param storeResult storage for the offset vector (in local coordinates,
+     * not {@code null}, modified)
+     */
+    void getShapeOffset(Vec3 storeResult);
+
     /**
      * Generate a TransformedShape that represents the volume occupied by the
      * character. The character is unaffected.
@@ -226,6 +288,15 @@ public interface ConstCharacterVirtual extends ConstCharacterBase {
      */
     RMat44 getWorldTransform();
 
+    /**
+     * Calculate the character's local-to-system coordinate transform. The
+     * character is unaffected.
+     *
+     * @param storeResult storage for the transform matrix (not {@code null},
+     * modified)
+     */
+    void getWorldTransform(RMat44 storeResult);
+
     /**
      * Test whether the character is in contact with or collided with the
      * specified body during the previous time step. The character is
@@ -41,6 +41,14 @@ public interface ConstMotionProperties extends ConstJoltPhysicsObject {
      */
     Vec3 getAccumulatedForce();
 
+    /**
+     * Copy the net force acting on the body. The properties are unaffected.
+     *
+     * @param storeResult storage for the force vector (Newtons in system
+     * coordinates, not {@code null}, modified)
+     */
+    void getAccumulatedForce(Vec3 storeResult);
+
     /**
      * Copy the net torque acting on the body. The properties are unaffected.
      *
@@ -48,6 +56,14 @@ public interface ConstMotionProperties extends ConstJoltPhysicsObject {
      */
     Vec3 getAccumulatedTorque();
 
+    /**
+     * Copy the net torque acting on the body. The properties are unaffected.
+     *
+     * @param storeResult storage for the torque vector (Newton meters in system
+     * coordinates, not {@code null}, modified)
+     */
+    void getAccumulatedTorque(Vec3 storeResult);
+
     /**
      * Return the allowed degrees of freedom. The properties are unaffected.
      *
@@ -85,6 +101,14 @@ public interface ConstMotionProperties extends ConstJoltPhysicsObject {
      */
     Vec3 getAngularVelocity();
 
+    /**
+     * Copy the angular velocity. The properties are unaffected.
+     *
+     * @param storeResult storage for the velocity vector (radians per second in
+     * system coordinates, not {@code null}, modified)
+     */
+    void getAngularVelocity(Vec3 storeResult);
+
     /**
      * Return the gravity factor. The properties are unaffected.
      *
@@ -100,6 +124,15 @@ public interface ConstMotionProperties extends ConstJoltPhysicsObject {
      */
     Quat getInertiaRotation();
 
+    /**
+     * Copy the rotation that takes the inverse-inertia diagonal to local
+     * coordinates. The properties are unaffected.
+     *
+     * @param storeResult storage for the rotation quaternion (not {@code null},
+     * modified)
+     */
+    void getInertiaRotation(Quat storeResult);
+
     /**
      * Copy the diagonal components of the inverse inertia matrix, assuming a
      * dynamic body. The properties are unaffected.
@@ -108,6 +141,15 @@ public interface ConstMotionProperties extends ConstJoltPhysicsObject {
      */
     Vec3 getInverseInertiaDiagonal();
 
+    /**
+     * Copy the diagonal components of the inverse inertia matrix, assuming a
+     * dynamic body. The properties are unaffected.
+     *
+     * @param storeResult storage for the vector (all components &ge;0, not
+     * {@code null}, modified)
+     */
+    void getInverseInertiaDiagonal(Vec3 storeResult);
+
     /**
      * Return the body's inverse mass. The properties are unaffected.
      *
@@ -136,6 +178,14 @@ public interface ConstMotionProperties extends ConstJoltPhysicsObject {
      */
     Vec3 getLinearVelocity();
 
+    /**
+     * Copy the linear velocity. The properties are unaffected.
+     *
+     * @param storeResult storage for the velocity vector (meters per second in
+     * system coordinates, not {@code null}, modified)
+     */
+    void getLinearVelocity(Vec3 storeResult);
+
     /**
      * Copy the inverse-inertia matrix. The properties are unaffected.
      *
@@ -143,6 +193,13 @@ public interface ConstMotionProperties extends ConstJoltPhysicsObject {
      */
     Mat44 getLocalSpaceInverseInertia();
 
+    /**
+     * Copy the inverse-inertia matrix. The properties are unaffected.
+     *
+     * @param storeResult storage for the matrix (not {@code null}, modified)
+     */
+    void getLocalSpaceInverseInertia(Mat44 storeResult);
+
     /**
      * Return the maximum angular speed that the body can achieve. The
      * properties are unaffected.
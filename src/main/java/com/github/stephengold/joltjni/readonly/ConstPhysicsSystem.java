@@ -24,6 +24,7 @@ package com.github.stephengold.joltjni.readonly;
 import com.github.stephengold.joltjni.AaBox;
 import com.github.stephengold.joltjni.BodyActivationListener;
 import com.github.stephengold.joltjni.BodyIdVector;
+import com.github.stephengold.joltjni.BodyViewC;
 import com.github.stephengold.joltjni.CombineFunction;
 import com.github.stephengold.joltjni.Constraints;
 import com.github.stephengold.joltjni.ContactListener;
@@ -35,6 +36,7 @@ import com.github.stephengold.joltjni.StateRecorder;
 import com.github.stephengold.joltjni.StateRecorderFilter;
 import com.github.stephengold.joltjni.Vec3;
 import com.github.stephengold.joltjni.enumerate.EBodyType;
+import java.util.function.Consumer;
 
 /**
  * Read-only access to a {@code PhysicsSystem}.
@@ -52,6 +54,28 @@ public interface ConstPhysicsSystem extends ConstJoltPhysicsObject {
      */
     boolean containsConstraint(ConstConstraint constraint);
 
+    /**
+     * Visit each active rigid body, rebinding a single view instead of
+     * allocating a JVM object per body. Must not be invoked during a physics
+     * update, and the action mustn't add or remove bodies.
+     *
+     * @param view the view to rebind (not {@code null}, modified)
+     * @param action the action to perform on each body (not {@code null})
+     */
+    void forEachActiveBody(BodyViewC view, Consumer<? super BodyViewC> action);
+
+    /**
+     * Visit each active body of the specified type, rebinding a single view
+     * instead of allocating a JVM object per body. Must not be invoked during
+     * a physics update, and the action mustn't add or remove bodies.
+     *
+     * @param bodyType which type of bodies to visit (not {@code null})
+     * @param view the view to rebind (not {@code null}, modified)
+     * @param action the action to perform on each body (not {@code null})
+     */
+    void forEachActiveBody(EBodyType bodyType, BodyViewC view,
+            Consumer<? super BodyViewC> action);
+
     /**
      * Enumerate all bodies of the specified type to the specified vector.
      *
@@ -31,6 +31,8 @@ import com.github.stephengold.joltjni.StreamOut;
 import com.github.stephengold.joltjni.Vec3;
 import com.github.stephengold.joltjni.enumerate.EShapeSubType;
 import com.github.stephengold.joltjni.enumerate.EShapeType;
+import com.github.stephengold.joltjni.streamutils.MaterialToIdMap;
+import com.github.stephengold.joltjni.streamutils.ShapeToIdMap;
 import java.nio.FloatBuffer;
 
 /**
@@ -93,6 +95,14 @@ public interface ConstShape extends ConstJoltPhysicsObject {
      */
     Vec3 getCenterOfMass();
 
+    /**
+     * Locate the shape's center of mass. The shape is unaffected.
+     *
+     * @param storeResult storage for the location vector (not {@code null},
+     * modified)
+     */
+    void getCenterOfMass(Vec3 storeResult);
+
     /**
      * Return the radius of the largest sphere that fits inside the shape. The
      * shape is unaffected.
@@ -122,6 +132,15 @@ public interface ConstShape extends ConstJoltPhysicsObject {
      */
     AaBox getLocalBounds();
 
+    /**
+     * Return a bounding box that includes the convex radius. The shape is
+     * unaffected.
+     *
+     * @param storeResult storage for the box (relative to the shape's center
+     * of mass, not {@code null}, modified)
+     */
+    void getLocalBounds(AaBox storeResult);
+
     /**
      * Copy the shape's mass properties. The shape is unaffected.
      *
@@ -193,6 +212,19 @@ public interface ConstShape extends ConstJoltPhysicsObject {
      */
     AaBox getWorldSpaceBounds(Mat44Arg comTransform, Vec3Arg scale);
 
+    /**
+     * Return the bounding box including convex radius. The shape is unaffected.
+     *
+     * @param comTransform the center-of-mass transform to apply to the shape
+     * (not {@code null}, unaffected)
+     * @param scale the scale factors to apply to the shape (not {@code null},
+     * unaffected)
+     * @param storeResult storage for the box (in system coordinates, not
+     * {@code null}, modified)
+     */
+    void getWorldSpaceBounds(
+            Mat44Arg comTransform, Vec3Arg scale, AaBox storeResult);
+
     /**
      * Return the bounding box including convex radius. The shape is unaffected.
      *
@@ -204,6 +236,19 @@ public interface ConstShape extends ConstJoltPhysicsObject {
      */
     AaBox getWorldSpaceBounds(RMat44Arg comTransform, Vec3Arg scale);
 
+    /**
+     * Return the bounding box including convex radius. The shape is unaffected.
+     *
+     * @param comTransform the center-of-mass transform to apply to the shape
+     * (not {@code null}, unaffected)
+     * @param scale the scale factors to apply to the shape (not {@code null},
+     * unaffected)
+     * @param storeResult storage for the box (in system coordinates, not
+     * {@code null}, modified)
+     */
+    void getWorldSpaceBounds(
+            RMat44Arg comTransform, Vec3Arg scale, AaBox storeResult);
+
     /**
      * Test whether the specified scale vector is valid for wrapping the current
      * shape in a {@code ScaledShape}. The current shape is unaffected.
@@ -223,6 +268,17 @@ public interface ConstShape extends ConstJoltPhysicsObject {
      */
     Vec3 makeScaleValid(Vec3Arg scale);
 
+    /**
+     * Transform the specified scale vector such that it will be valid for
+     * wrapping the current shape in a {@code ScaledShape}. The current shape is
+     * unaffected.
+     *
+     * @param scale the proposed scale vector (not {@code null}, unaffected)
+     * @param storeResult storage for the scale vector (not {@code null},
+     * modified)
+     */
+    void makeScaleValid(Vec3Arg scale, Vec3 storeResult);
+
     /**
      * Test whether the shape can be used in a dynamic/kinematic body. The shape
      * is unaffected.
@@ -238,6 +294,18 @@ public interface ConstShape extends ConstJoltPhysicsObject {
      */
     void saveBinaryState(StreamOut stream);
 
+    /**
+     * Save the shape, including its child shapes and materials, to the
+     * specified binary stream. The shape is unaffected.
+     *
+     * @param stream the stream to write to (not {@code null})
+     * @param shapeMap track multiple uses of shapes (not {@code null})
+     * @param materialMap track multiple uses of physics materials (not
+     * {@code null})
+     */
+    void saveWithChildren(StreamOut stream, ShapeToIdMap shapeMap,
+            MaterialToIdMap materialMap);
+
     /**
      * Scale the current shape, which is unaffected.
      *
@@ -64,6 +64,13 @@ public interface ConstVehicleConstraint extends ConstConstraint {
      */
     Vec3 getGravityOverride();
 
+    /**
+     * Copy the gravity override. The constraint is unaffected.
+     *
+     * @param storeResult storage for the vector (not {@code null}, modified)
+     */
+    void getGravityOverride(Vec3 storeResult);
+
     /**
      * Copy the local "forward" direction. The constraint is unaffected.
      *
@@ -71,6 +78,14 @@ public interface ConstVehicleConstraint extends ConstConstraint {
      */
     Vec3 getLocalForward();
 
+    /**
+     * Copy the local "forward" direction. The constraint is unaffected.
+     *
+     * @param storeResult storage for the direction vector (not {@code null},
+     * modified)
+     */
+    void getLocalForward(Vec3 storeResult);
+
     /**
      * Copy the local "up" direction. The constraint is unaffected.
      *
@@ -78,6 +93,14 @@ public interface ConstVehicleConstraint extends ConstConstraint {
      */
     Vec3 getLocalUp();
 
+    /**
+     * Copy the local "up" direction. The constraint is unaffected.
+     *
+     * @param storeResult storage for the direction vector (not {@code null},
+     * modified)
+     */
+    void getLocalUp(Vec3 storeResult);
+
     /**
      * Return the vehicle's maximum pitch/roll angle. The constraint is
      * unaffected.
@@ -153,6 +176,20 @@ public interface ConstVehicleConstraint extends ConstConstraint {
     RMat44 getWheelWorldTransform(
             int wheelIndex, Vec3Arg right, Vec3Arg up);
 
+    /**
+     * Copy the world transform of the specified wheel. The constraint is
+     * unaffected.
+     *
+     * @param wheelIndex the index of the wheel to query (&ge;0)
+     * @param right the wheel's axis of rotation (a unit vector in the wheel's
+     * model space)
+     * @param up the "up" direction (a unit vector in the wheel's model space)
+     * @param storeResult storage for the coordinate transform matrix (not
+     * {@code null}, modified)
+     */
+    void getWheelWorldTransform(
+            int wheelIndex, Vec3Arg right, Vec3Arg up, RMat44 storeResult);
+
     /**
      * Copy the "up" direction based on gravity. The constraint is unaffected.
      *
@@ -160,6 +197,14 @@ public interface ConstVehicleConstraint extends ConstConstraint {
      */
     Vec3 getWorldUp();
 
+    /**
+     * Copy the "up" direction based on gravity. The constraint is unaffected.
+     *
+     * @param storeResult storage for the direction vector (in system
+     * coordinates, not {@code null}, modified)
+     */
+    void getWorldUp(Vec3 storeResult);
+
     /**
      * Test whether gravity is overridden. The constraint is unaffected.
      *
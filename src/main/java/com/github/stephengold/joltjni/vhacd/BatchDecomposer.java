@@ -0,0 +1,429 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni.vhacd;
+
+import com.github.stephengold.joltjni.StaticCompoundShapeSettings;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+/**
+ * Decompose many meshes concurrently using V-HACD, caching the results.
+ * <p>
+ * Decompositions run on a fixed number of worker threads, each with its own
+ * {@code Decomposer}. Results are delivered through futures as they complete,
+ * so callers can consume hulls in completion order rather than submission
+ * order. Results are cached by mesh content and tuning parameters: submitting
+ * an identical mesh with equal parameters (even while the first decomposition
+ * is still running) returns the same hulls without decomposing again.
+ * <p>
+ * Cached hulls are shared between all callers that request them and should
+ * not be closed until the cache is cleared. Progress listeners aren't
+ * supported. Once the batch decomposer is closed, further submissions are
+ * rejected.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class BatchDecomposer implements AutoCloseable {
+    // *************************************************************************
+    // classes and interfaces
+
+    /**
+     * Identify a decomposition by mesh content and tuning parameters.
+     */
+    private static class Key {
+        /**
+         * vertex locations of the mesh
+         */
+        final private float[] locations;
+        /**
+         * hash code of the mesh content and parameters
+         */
+        final private int hashCode;
+        /**
+         * vertex indices of the mesh
+         */
+        final private int[] indices;
+        /**
+         * tuning parameters
+         */
+        final private Parameters params;
+
+        /**
+         * Instantiate a key for the specified mesh and parameters.
+         *
+         * @param locations the vertex locations (not {@code null}, alias
+         * created)
+         * @param indices the vertex indices (not {@code null}, alias created)
+         * @param params the tuning parameters (not {@code null}, alias
+         * created)
+         */
+        Key(float[] locations, int[] indices, Parameters params) {
+            this.locations = locations;
+            this.indices = indices;
+            this.params = params;
+            this.hashCode = 31 * (31 * Arrays.hashCode(locations)
+                    + Arrays.hashCode(indices)) + params.hashCode();
+        }
+
+        /**
+         * Test for equivalence with another Object.
+         *
+         * @param otherObject the object to compare (may be {@code null},
+         * unaffected)
+         * @return {@code true} if equivalent, otherwise {@code false}
+         */
+        @Override
+        public boolean equals(Object otherObject) {
+            boolean result;
+            if (otherObject == this) {
+                result = true;
+            } else if (otherObject instanceof Key) {
+                Key other = (Key) otherObject;
+                result = hashCode == other.hashCode
+                        && Arrays.equals(locations, other.locations)
+                        && Arrays.equals(indices, other.indices)
+                        && params.equals(other.params);
+            } else {
+                result = false;
+            }
+
+            return result;
+        }
+
+        /**
+         * Generate the hash code for this key.
+         *
+         * @return a 32-bit value for use in hashing
+         */
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+    // *************************************************************************
+    // fields
+
+    /**
+     * count of requests satisfied from the cache
+     */
+    final private AtomicLong hitCount = new AtomicLong();
+    /**
+     * count of requests that required decomposition
+     */
+    final private AtomicLong missCount = new AtomicLong();
+    /**
+     * true once {@code close()} has been invoked
+     */
+    private volatile boolean isClosed;
+    /**
+     * every decomposer created by this instance, for cleanup
+     */
+    final private List<Decomposer> allDecomposers = new ArrayList<>(8);
+    /**
+     * cached and in-flight results
+     */
+    final private Map<Key, CompletableFuture<List<ConvexHull>>> cache
+            = new ConcurrentHashMap<>(256);
+    /**
+     * decomposers that aren't currently in use
+     */
+    final private Queue<Decomposer> idleDecomposers
+            = new ConcurrentLinkedQueue<>();
+    /**
+     * worker threads
+     */
+    final private ExecutorService executor;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a batch decomposer with one worker per available processor.
+     */
+    public BatchDecomposer() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Instantiate a batch decomposer with the specified number of workers.
+     *
+     * @param numThreads the maximum number of concurrent decompositions
+     * (&gt;0)
+     */
+    public BatchDecomposer(int numThreads) {
+        assert numThreads > 0 : numThreads;
+
+        this.executor = Executors.newFixedThreadPool(numThreads, runnable -> {
+            Thread result = new Thread(runnable, "V-HACD worker");
+            result.setDaemon(true);
+            return result;
+        });
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Discard all cached results. In-flight decompositions are unaffected.
+     */
+    public void clearCache() {
+        cache.clear();
+    }
+
+    /**
+     * Count the cached results, including in-flight decompositions.
+     *
+     * @return the count (&ge;0)
+     */
+    public int countCached() {
+        int result = cache.size();
+        return result;
+    }
+
+    /**
+     * Count the requests satisfied from the cache.
+     *
+     * @return the count (&ge;0)
+     */
+    public long countHits() {
+        long result = hitCount.get();
+        return result;
+    }
+
+    /**
+     * Count the requests that required decomposition.
+     *
+     * @return the count (&ge;0)
+     */
+    public long countMisses() {
+        long result = missCount.get();
+        return result;
+    }
+
+    /**
+     * Decompose all the specified meshes, invoking the specified consumer as
+     * each result becomes available. The consumer may be invoked concurrently
+     * from worker threads.
+     *
+     * @param locationList the vertex locations of each mesh (not
+     * {@code null}, unaffected)
+     * @param indexList the vertex indices of each mesh (not {@code null}, same
+     * size as {@code locationList}, unaffected)
+     * @param params the tuning parameters to use (not {@code null},
+     * unaffected)
+     * @param consumer invoked with the index of each mesh and its hulls (not
+     * {@code null})
+     * @return a future that completes after every mesh has been consumed
+     */
+    public CompletableFuture<Void> decomposeAll(List<float[]> locationList,
+            List<int[]> indexList, Parameters params,
+            BiConsumer<Integer, List<ConvexHull>> consumer) {
+        int numMeshes = locationList.size();
+        assert indexList.size() == numMeshes : indexList.size();
+        Objects.requireNonNull(consumer, "consumer must not be null");
+
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[numMeshes];
+        for (int meshIndex = 0; meshIndex < numMeshes; ++meshIndex) {
+            float[] locations = locationList.get(meshIndex);
+            int[] indices = indexList.get(meshIndex);
+            int index = meshIndex;
+            futures[meshIndex] = submit(locations, indices, params)
+                    .thenAccept(hulls -> consumer.accept(index, hulls));
+        }
+        CompletableFuture<Void> result = CompletableFuture.allOf(futures);
+
+        return result;
+    }
+
+    /**
+     * Decompose the specified mesh asynchronously, or return a cached result
+     * if an identical mesh was submitted with equal parameters.
+     *
+     * @param locations the locations of all mesh vertices (not {@code null},
+     * length a multiple of 3, unaffected)
+     * @param indices the vertex indices of all mesh triangles (not
+     * {@code null}, length a multiple of 3, unaffected)
+     * @param params the tuning parameters to use (not {@code null},
+     * unaffected)
+     * @return a future for an unmodifiable list of hulls, which is empty if the
+     * algorithm failed
+     * @throws IllegalStateException if the batch decomposer has been closed
+     */
+    public CompletableFuture<List<ConvexHull>> submit(
+            float[] locations, int[] indices, Parameters params) {
+        Objects.requireNonNull(locations, "locations must not be null");
+        Objects.requireNonNull(indices, "indices must not be null");
+        assert locations.length % 3 == 0 : locations.length;
+        assert indices.length % 3 == 0 : indices.length;
+        if (isClosed) {
+            throw new IllegalStateException("batch decomposer is closed");
+        }
+
+        Parameters paramsCopy = new Parameters(params);
+        Key probe = new Key(locations, indices, paramsCopy);
+        CompletableFuture<List<ConvexHull>> result = cache.get(probe);
+        if (result != null) {
+            hitCount.incrementAndGet();
+            paramsCopy.close();
+            return result;
+        }
+
+        // Copy the mesh, since the caller may modify it while queued:
+        Key key = new Key(locations.clone(), indices.clone(), paramsCopy);
+        CompletableFuture<List<ConvexHull>> future = new CompletableFuture<>();
+        result = cache.putIfAbsent(key, future);
+        if (result != null) { // another thread submitted the same mesh
+            hitCount.incrementAndGet();
+            paramsCopy.close();
+            return result;
+        }
+
+        missCount.incrementAndGet();
+        try {
+            executor.execute(() -> {
+                try {
+                    List<ConvexHull> hulls
+                            = decompose(key.locations, key.indices, key.params);
+                    future.complete(hulls);
+                } catch (Throwable throwable) {
+                    cache.remove(key, future);
+                    future.completeExceptionally(throwable);
+                }
+            });
+        } catch (RejectedExecutionException exception) { // closed meanwhile
+            cache.remove(key, future);
+            future.cancel(false);
+            throw new IllegalStateException(
+                    "batch decomposer is closed", exception);
+        }
+
+        return future;
+    }
+
+    /**
+     * Decompose the specified mesh asynchronously and convert the hulls into
+     * compound-shape settings, ready to create a shape.
+     *
+     * @param locations the locations of all mesh vertices (not {@code null},
+     * length a multiple of 3, unaffected)
+     * @param indices the vertex indices of all mesh triangles (not
+     * {@code null}, length a multiple of 3, unaffected)
+     * @param params the tuning parameters to use (not {@code null},
+     * unaffected)
+     * @return a future for new settings
+     */
+    public CompletableFuture<StaticCompoundShapeSettings> submitCompound(
+            float[] locations, int[] indices, Parameters params) {
+        CompletableFuture<StaticCompoundShapeSettings> result
+                = submit(locations, indices, params).thenApply(hulls -> {
+                    StaticCompoundShapeSettings settings
+                            = new StaticCompoundShapeSettings();
+                    settings.addHulls(hulls);
+                    return settings;
+                });
+
+        return result;
+    }
+    // *************************************************************************
+    // AutoCloseable methods
+
+    /**
+     * Stop the workers and free the decomposers. Queued decompositions are
+     * cancelled, and decompositions already in progress are allowed to finish
+     * before their decomposers are freed. Cached hulls remain valid.
+     */
+    @Override
+    public void close() {
+        this.isClosed = true;
+        executor.shutdownNow();
+        for (CompletableFuture<List<ConvexHull>> future : cache.values()) {
+            future.cancel(false);
+        }
+
+        // A native decomposition can't be interrupted, so wait for it:
+        boolean interrupted = false;
+        while (!executor.isTerminated()) {
+            try {
+                executor.awaitTermination(1L, TimeUnit.SECONDS);
+            } catch (InterruptedException exception) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        synchronized (allDecomposers) {
+            for (Decomposer decomposer : allDecomposers) {
+                decomposer.close();
+            }
+            allDecomposers.clear();
+        }
+        idleDecomposers.clear();
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Decompose a mesh on the current thread, using an idle decomposer if one
+     * is available.
+     *
+     * @param locations the vertex locations (not {@code null}, unaffected)
+     * @param indices the vertex indices (not {@code null}, unaffected)
+     * @param params the tuning parameters (not {@code null}, unaffected)
+     * @return a new unmodifiable list
+     */
+    private List<ConvexHull> decompose(
+            float[] locations, int[] indices, Parameters params) {
+        Decomposer decomposer = idleDecomposers.poll();
+        if (decomposer == null) {
+            decomposer = new Decomposer();
+            synchronized (allDecomposers) {
+                allDecomposers.add(decomposer);
+            }
+        }
+
+        List<ConvexHull> result;
+        try {
+            // Copy the hulls, since the decomposer reuses its collection:
+            result = new ArrayList<>(
+                    decomposer.decompose(locations, indices, params));
+        } finally {
+            idleDecomposers.add(decomposer);
+        }
+        result = Collections.unmodifiableList(result);
+
+        return result;
+    }
+}
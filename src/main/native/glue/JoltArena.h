@@ -0,0 +1,152 @@
+#ifndef _Included_JoltArena
+#define _Included_JoltArena
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+/*
+ * Author: Stephen Gold
+ */
+#include <algorithm>
+#include <new>
+#include <type_traits>
+#include <utility>
+
+/*
+ * A thread-confined bump allocator for short-lived glue objects.
+ * Storage is carved from large blocks and released all at once
+ * when the arena is destroyed.
+ */
+class JoltArena {
+    // a non-trivial destructor that must run before the storage is freed:
+    struct Cleanup {
+        void (*mpDestroy)(void *);
+        void *mpObject;
+    };
+    // a block of raw storage:
+    struct Block {
+        JPH::uint8 *mpBytes;
+        size_t mNumBytes;
+    };
+    JPH::Array<Block> mBlocks;
+    JPH::Array<Cleanup> mCleanups;
+    const size_t mBlockSize;
+    size_t mBlockOffset = 0; // offset of the first free byte in the last block
+    size_t mNumBytesUsed = 0;
+    JPH::uint32 mNumObjects = 0;
+
+    template <class T>
+    static void sDestroy(void *pObject) {
+        static_cast<T *> (pObject)->~T();
+    }
+
+    template <class T>
+    void AddCleanup(T *pObject) {
+        if constexpr (!std::is_trivially_destructible_v<T>) {
+            mCleanups.push_back({&sDestroy<T>, pObject});
+        }
+        ++mNumObjects;
+    }
+
+public:
+    explicit JoltArena(size_t inBlockSize) : mBlockSize(inBlockSize) {
+        JPH_ASSERT(inBlockSize > 0);
+    }
+
+    JoltArena(const JoltArena&) = delete;
+    JoltArena& operator=(const JoltArena&) = delete;
+
+    ~JoltArena() {
+        // Destroy objects in reverse order of construction:
+        for (auto it = mCleanups.rbegin(); it != mCleanups.rend(); ++it) {
+            (*it->mpDestroy)(it->mpObject);
+        }
+        for (const Block& block : mBlocks) {
+            JPH::AlignedFree(block.mpBytes);
+        }
+    }
+
+    // Allocate uninitialized storage:
+    void *Allocate(size_t inNumBytes, size_t inAlignment) {
+        JPH_ASSERT(JPH::IsPowerOf2(inAlignment));
+        if (!mBlocks.empty()) {
+            const Block& last = mBlocks.back();
+            const size_t start
+                    = (mBlockOffset + inAlignment - 1) & ~(inAlignment - 1);
+            if (start + inNumBytes <= last.mNumBytes) {
+                mBlockOffset = start + inNumBytes;
+                mNumBytesUsed += inNumBytes;
+                return last.mpBytes + start;
+            }
+        }
+        // Start a new block, oversized if necessary:
+        const size_t numBytes = std::max(mBlockSize, inNumBytes);
+        const size_t alignment = std::max(inAlignment, size_t(16));
+        JPH::uint8 * const pBytes = static_cast<JPH::uint8 *> (
+                JPH::AlignedAllocate(numBytes, alignment));
+        mBlocks.push_back({pBytes, numBytes});
+        mBlockOffset = inNumBytes;
+        mNumBytesUsed += inNumBytes;
+        return pBytes;
+    }
+
+    // Construct a single object in the arena:
+    template <class T, class... Args>
+    T *New(Args&&... args) {
+        void * const pStorage = Allocate(sizeof(T), alignof(T));
+        T * const pResult = ::new (pStorage) T(std::forward<Args>(args)...);
+        AddCleanup(pResult);
+        return pResult;
+    }
+
+    // Construct an array of default-initialized objects in the arena:
+    template <class T>
+    T *NewArray(size_t inLength) {
+        JPH_ASSERT(inLength > 0);
+        void * const pStorage = Allocate(inLength * sizeof(T), alignof(T));
+        T * const pResult = static_cast<T *> (pStorage);
+        for (size_t i = 0; i < inLength; ++i) {
+            T * const pElement = ::new (pResult + i) T();
+            if constexpr (!std::is_trivially_destructible_v<T>) {
+                mCleanups.push_back({&sDestroy<T>, pElement});
+            }
+        }
+        ++mNumObjects;
+        return pResult;
+    }
+
+    // Return the total number of blocks allocated:
+    JPH::uint32 GetNumBlocks() const {
+        return (JPH::uint32) mBlocks.size();
+    }
+
+    // Return the total number of bytes handed out, excluding padding:
+    size_t GetNumBytesUsed() const {
+        return mNumBytesUsed;
+    }
+
+    // Return the number of objects and arrays constructed in the arena:
+    JPH::uint32 GetNumObjects() const {
+        return mNumObjects;
+    }
+};
+
+#endif
@@ -0,0 +1,61 @@
+#ifndef _Included_ParallelRuns
+#define _Included_ParallelRuns
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+/*
+ * Author: Stephen Gold
+ */
+#include "Jolt/Jolt.h"
+#include "Jolt/Core/JobSystem.h"
+
+/*
+ * Divide the indices [0, numItems) into contiguous runs, one per job (at most
+ * maxJobs), and invoke function(begin, end, jobIndex) for each run using
+ * the specified job system. Returns once every run has completed.
+ */
+template <class F>
+void RunInParallel(JPH::JobSystem *pJobSystem, const char *pName,
+        JPH::uint numItems, JPH::uint maxJobs, const F& function) {
+    if (numItems == 0) {
+        return;
+    }
+
+    const JPH::uint numJobs
+            = JPH::min(numItems, JPH::max(1U, maxJobs));
+    JPH::Array<JPH::JobHandle> handles;
+    handles.reserve(numJobs);
+    for (JPH::uint jobIndex = 0; jobIndex < numJobs; ++jobIndex) {
+        const JPH::uint begin = numItems * jobIndex / numJobs;
+        const JPH::uint end = numItems * (jobIndex + 1) / numJobs;
+        handles.push_back(pJobSystem->CreateJob(pName, JPH::Color::sGreen,
+                [&function, begin, end, jobIndex]() {
+            function(begin, end, jobIndex);
+        }));
+    }
+    JPH::JobSystem::Barrier * const pBarrier = pJobSystem->CreateBarrier();
+    pBarrier->AddJobs(handles.data(), handles.size());
+    pJobSystem->WaitForJobs(pBarrier);
+    pJobSystem->DestroyBarrier(pBarrier);
+}
+
+#endif
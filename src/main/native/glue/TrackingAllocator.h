@@ -0,0 +1,70 @@
+#ifndef _Included_TrackingAllocator
+#define _Included_TrackingAllocator
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+/*
+ * Author: Stephen Gold
+ */
+
+/*
+ * Allocation tags, used to attribute native allocations to subsystems.
+ * Sequence must match the EAllocationTag enum in Java.
+ */
+enum class EAllocationTag : int {
+    Other,
+    Bodies,
+    Shapes,
+    BroadPhase,
+    Constraints,
+    SoftBodies,
+    Temp,
+    SystemInit,
+    Count
+};
+
+/*
+ * Replace the current thread's allocation tag.
+ * Returns the previous tag.
+ */
+EAllocationTag SetAllocationTag(EAllocationTag tag);
+
+/*
+ * Tag all allocations made by the current thread during the lifetime
+ * of the scope, then restore the previous tag.
+ */
+class AllocationTagScope {
+    const EAllocationTag mSavedTag;
+public:
+    explicit AllocationTagScope(EAllocationTag tag)
+    : mSavedTag(SetAllocationTag(tag)) {
+    }
+
+    ~AllocationTagScope() {
+        SetAllocationTag(mSavedTag);
+    }
+
+    AllocationTagScope(const AllocationTagScope&) = delete;
+    AllocationTagScope& operator=(const AllocationTagScope&) = delete;
+};
+
+#endif
@@ -30,6 +30,7 @@ SOFTWARE.
 
 #include "auto/com_github_stephengold_joltjni_AllHitCastRayCollector.h"
 #include "glue/glue.h"
+#include "glue/JoltArena.h"
 
 using namespace JPH;
 
@@ -54,6 +55,19 @@ JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_AllHitCastRayCollecto
 JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_AllHitCastRayCollector_createDefault
   BODYOF_CREATE_DEFAULT(AllHitCollisionCollector<CastRayCollector>)
 
+/*
+ * Class:     com_github_stephengold_joltjni_AllHitCastRayCollector
+ * Method:    createInArena
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_AllHitCastRayCollector_createInArena
+  (JNIEnv *, jclass, jlong arenaVa) {
+    JoltArena * const pArena = reinterpret_cast<JoltArena *> (arenaVa);
+    AllHitCollisionCollector<CastRayCollector> * const pResult
+            = pArena->New<AllHitCollisionCollector<CastRayCollector>>();
+    return reinterpret_cast<jlong> (pResult);
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_AllHitCastRayCollector
  * Method:    getHit
@@ -0,0 +1,442 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+/*
+ * Author: Stephen Gold
+ */
+#include "Jolt/Jolt.h"
+#include "Jolt/Core/Mutex.h"
+#include "Jolt/Core/UnorderedMap.h"
+#include "Jolt/Physics/Body/BodyLock.h"
+#include "Jolt/Physics/Character/CharacterVirtual.h"
+#include "Jolt/Physics/PhysicsSystem.h"
+#include "auto/com_github_stephengold_joltjni_BufferedCharacterContactListener.h"
+#include "glue/glue.h"
+
+using namespace JPH;
+
+// event types, matching the ordinals of BufferedCharacterContactListener.Event
+enum EEvent : uint32 {
+    cAdded, cPersisted, cRemoved, cCharacterAdded, cCharacterPersisted,
+    cCharacterRemoved, cRejected, cNumEvents
+};
+
+/*
+ * A character contact listener that applies simple rules natively and
+ * accumulates per-character event counts, plus a bounded log of added,
+ * removed, and rejected contacts, for harvesting after the update.
+ */
+class BufferedCharacterContactListener : public CharacterContactListener {
+public:
+    struct Event {
+        const CharacterVirtual *mpCharacter;
+        uint32 mType;
+        uint32 mOtherId;
+        uint32 mSubShapeId;
+    };
+
+    BufferedCharacterContactListener(
+            const PhysicsSystem *inSystem, uint inMaxEvents)
+    : mpSystem(inSystem), mMaxEvents(inMaxEvents) {
+        mEvents.reserve(inMaxEvents);
+    }
+
+    // Copy the accumulated data into the specified buffers and reset it.
+    uint Collect(jbyte *outSummaries, jbyte *outEvents) {
+        lock_guard<Mutex> lock(mMutex);
+
+        for (const auto& pair : mSummaries) {
+            const jlong characterVa = reinterpret_cast<jlong> (pair.first);
+            memcpy(outSummaries, &characterVa, sizeof(jlong));
+            memcpy(outSummaries + sizeof(jlong), pair.second.mCounts,
+                    sizeof(pair.second.mCounts));
+            outSummaries += cSummaryBytes;
+        }
+        for (const Event& event : mEvents) {
+            const jlong characterVa
+                    = reinterpret_cast<jlong> (event.mpCharacter);
+            memcpy(outEvents, &characterVa, sizeof(jlong));
+            memcpy(outEvents + 8, &event.mType, sizeof(uint32));
+            memcpy(outEvents + 12, &event.mOtherId, sizeof(uint32));
+            memcpy(outEvents + 16, &event.mSubShapeId, sizeof(uint32));
+            outEvents += cEventBytes;
+        }
+
+        const uint result = mNumDropped;
+        mSummaries.clear();
+        mEvents.clear();
+        mNumDropped = 0;
+
+        return result;
+    }
+
+    uint CountEvents() {
+        lock_guard<Mutex> lock(mMutex);
+        return (uint) mEvents.size();
+    }
+
+    uint CountSummaries() {
+        lock_guard<Mutex> lock(mMutex);
+        return (uint) mSummaries.size();
+    }
+
+    void OnAdjustBodyVelocity(const CharacterVirtual *, const Body&,
+            Vec3& ioLinearVelocity, Vec3& ioAngularVelocity) override {
+        ioLinearVelocity *= mBodyVelocityScale;
+        ioAngularVelocity *= mBodyVelocityScale;
+    }
+
+    void OnCharacterContactAdded(const CharacterVirtual *inCharacter,
+            const CharacterContact& inContact,
+            CharacterContactSettings&) override {
+        const uint32 otherId = inContact.mCharacterIDB.GetValue();
+        Record(inCharacter, cCharacterAdded, otherId,
+                inContact.mSubShapeIDB.GetValue(), true);
+    }
+
+    void OnCharacterContactPersisted(const CharacterVirtual *inCharacter,
+            const CharacterContact&, CharacterContactSettings&) override {
+        Record(inCharacter, cCharacterPersisted, 0, 0, false);
+    }
+
+    void OnCharacterContactRemoved(const CharacterVirtual *inCharacter,
+            const CharacterID& inOtherCharacterID,
+            const SubShapeID& inSubShapeID2) override {
+        Record(inCharacter, cCharacterRemoved, inOtherCharacterID.GetValue(),
+                inSubShapeID2.GetValue(), true);
+    }
+
+    void OnContactAdded(const CharacterVirtual *inCharacter,
+            const CharacterContact &inContact,
+            CharacterContactSettings& ioSettings) override {
+        ApplySettings(ioSettings);
+        const uint32 bodyId = inContact.mBodyB.GetIndexAndSequenceNumber();
+        Record(inCharacter, cAdded, bodyId, inContact.mSubShapeIDB.GetValue(),
+                true);
+    }
+
+    void OnContactPersisted(const CharacterVirtual *inCharacter,
+            const CharacterContact &,
+            CharacterContactSettings& ioSettings) override {
+        ApplySettings(ioSettings);
+        Record(inCharacter, cPersisted, 0, 0, false);
+    }
+
+    void OnContactRemoved(const CharacterVirtual *inCharacter,
+            const BodyID& inBodyID2, const SubShapeID& inSubShapeID2) override {
+        Record(inCharacter, cRemoved, inBodyID2.GetIndexAndSequenceNumber(),
+                inSubShapeID2.GetValue(), true);
+    }
+
+    void OnContactSolve(const CharacterVirtual *inCharacter, const BodyID&,
+            const SubShapeID&, RVec3Arg, Vec3Arg inContactNormal,
+            Vec3Arg inContactVelocity, const PhysicsMaterial *, Vec3Arg,
+            Vec3& ioNewCharacterVelocity) override {
+        /*
+         * Don't let the character slide down stationary, walkable slopes,
+         * as in Jolt's CharacterVirtualTest sample:
+         */
+        if (!mAllowSliding && inContactVelocity.IsNearZero()
+                && !inCharacter->IsSlopeTooSteep(inContactNormal)) {
+            ioNewCharacterVelocity = Vec3::sZero();
+        }
+    }
+
+    bool OnContactValidate(const CharacterVirtual *inCharacter,
+            const CharacterContact& inContact) override {
+        if (mNumIgnoredLayers == 0) {
+            return true;
+        }
+
+        bool result = true;
+        const BodyLockInterface& lockInterface
+                = mpSystem->GetBodyLockInterface();
+        {
+            const BodyLockRead lock(lockInterface, inContact.mBodyB);
+            if (lock.Succeeded()) {
+                const ObjectLayer layer = lock.GetBody().GetObjectLayer();
+                result = (layer >= mIgnoredLayers.size())
+                        || !mIgnoredLayers[layer];
+            }
+        }
+        if (!result) {
+            const uint32 bodyId = inContact.mBodyB.GetIndexAndSequenceNumber();
+            Record(inCharacter, cRejected, bodyId,
+                    inContact.mSubShapeIDB.GetValue(), true);
+        }
+
+        return result;
+    }
+
+    void SetLayerIgnored(ObjectLayer inLayer, bool inIgnore) {
+        if (inLayer >= mIgnoredLayers.size()) {
+            if (!inIgnore) {
+                return;
+            }
+            mIgnoredLayers.resize(inLayer + 1, false);
+        }
+        if (mIgnoredLayers[inLayer] != inIgnore) {
+            mIgnoredLayers[inLayer] = inIgnore;
+            mNumIgnoredLayers += inIgnore ? 1 : -1;
+        }
+    }
+
+    // bytes per summary record: characterVa plus 7 counts, padded to 8 bytes
+    static constexpr uint cSummaryBytes = 40;
+    // bytes per event record: characterVa, type, other ID, sub-shape ID
+    static constexpr uint cEventBytes = 24;
+
+    const PhysicsSystem * const mpSystem;
+    const uint mMaxEvents;
+    bool mAllowSliding = true;
+    bool mCanPushCharacter = true;
+    bool mCanReceiveImpulses = true;
+    float mBodyVelocityScale = 1.0f;
+    Array<bool> mIgnoredLayers;
+    int mNumIgnoredLayers = 0;
+
+private:
+    struct Summary {
+        uint32 mCounts[cNumEvents] = {};
+    };
+
+    void ApplySettings(CharacterContactSettings& ioSettings) const {
+        ioSettings.mCanPushCharacter &= mCanPushCharacter;
+        ioSettings.mCanReceiveImpulses &= mCanReceiveImpulses;
+    }
+
+    // Characters may be updated concurrently, so recording is serialized.
+    void Record(const CharacterVirtual *inCharacter, uint32 inType,
+            uint32 inOtherId, uint32 inSubShapeId, bool inLog) {
+        lock_guard<Mutex> lock(mMutex);
+        ++mSummaries[inCharacter].mCounts[inType];
+        if (inLog) {
+            if (mEvents.size() < mMaxEvents) {
+                const Event event{inCharacter, inType, inOtherId, inSubShapeId};
+                mEvents.push_back(event);
+            } else {
+                ++mNumDropped;
+            }
+        }
+    }
+
+    Array<Event> mEvents;
+    Mutex mMutex;
+    uint mNumDropped = 0;
+    UnorderedMap<const CharacterVirtual *, Summary> mSummaries;
+};
+
+/*
+ * Class:     com_github_stephengold_joltjni_BufferedCharacterContactListener
+ * Method:    collect
+ * Signature: (JLjava/nio/ByteBuffer;Ljava/nio/ByteBuffer;)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_BufferedCharacterContactListener_collect
+  (JNIEnv *pEnv, jclass, jlong listenerVa, jobject summaryBuffer,
+  jobject eventBuffer) {
+    BufferedCharacterContactListener * const pListener
+            = reinterpret_cast<BufferedCharacterContactListener *> (listenerVa);
+    DIRECT_BYTE_BUFFER(pEnv, summaryBuffer, pSummaries, summaryBytes);
+    DIRECT_BYTE_BUFFER(pEnv, eventBuffer, pEvents, eventBytes);
+    JPH_ASSERT(summaryBytes >= pListener->CountSummaries()
+            * BufferedCharacterContactListener::cSummaryBytes);
+    JPH_ASSERT(eventBytes >= pListener->CountEvents()
+            * BufferedCharacterContactListener::cEventBytes);
+    const uint result = pListener->Collect(pSummaries, pEvents);
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_BufferedCharacterContactListener
+ * Method:    countEvents
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_BufferedCharacterContactListener_countEvents
+  (JNIEnv *, jclass, jlong listenerVa) {
+    BufferedCharacterContactListener * const pListener
+            = reinterpret_cast<BufferedCharacterContactListener *> (listenerVa);
+    const uint result = pListener->CountEvents();
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_BufferedCharacterContactListener
+ * Method:    countSummaries
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_BufferedCharacterContactListener_countSummaries
+  (JNIEnv *, jclass, jlong listenerVa) {
+    BufferedCharacterContactListener * const pListener
+            = reinterpret_cast<BufferedCharacterContactListener *> (listenerVa);
+    const uint result = pListener->CountSummaries();
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_BufferedCharacterContactListener
+ * Method:    create
+ * Signature: (JI)J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_BufferedCharacterContactListener_create
+  (JNIEnv *, jclass, jlong systemVa, jint maxEvents) {
+    const PhysicsSystem * const pSystem
+            = reinterpret_cast<PhysicsSystem *> (systemVa);
+    BufferedCharacterContactListener * const pResult
+            = new BufferedCharacterContactListener(pSystem, maxEvents);
+    TRACE_NEW("BufferedCharacterContactListener", pResult)
+    return reinterpret_cast<jlong> (pResult);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_BufferedCharacterContactListener
+ * Method:    free
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_BufferedCharacterContactListener_free
+  BODYOF_FREE(BufferedCharacterContactListener)
+
+/*
+ * Class:     com_github_stephengold_joltjni_BufferedCharacterContactListener
+ * Method:    getAllowSliding
+ * Signature: (J)Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_github_stephengold_joltjni_BufferedCharacterContactListener_getAllowSliding
+  (JNIEnv *, jclass, jlong listenerVa) {
+    const BufferedCharacterContactListener * const pListener
+            = reinterpret_cast<BufferedCharacterContactListener *> (listenerVa);
+    const bool result = pListener->mAllowSliding;
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_BufferedCharacterContactListener
+ * Method:    getBodyVelocityScale
+ * Signature: (J)F
+ */
+JNIEXPORT jfloat JNICALL Java_com_github_stephengold_joltjni_BufferedCharacterContactListener_getBodyVelocityScale
+  (JNIEnv *, jclass, jlong listenerVa) {
+    const BufferedCharacterContactListener * const pListener
+            = reinterpret_cast<BufferedCharacterContactListener *> (listenerVa);
+    const float result = pListener->mBodyVelocityScale;
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_BufferedCharacterContactListener
+ * Method:    getCanPushCharacter
+ * Signature: (J)Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_github_stephengold_joltjni_BufferedCharacterContactListener_getCanPushCharacter
+  (JNIEnv *, jclass, jlong listenerVa) {
+    const BufferedCharacterContactListener * const pListener
+            = reinterpret_cast<BufferedCharacterContactListener *> (listenerVa);
+    const bool result = pListener->mCanPushCharacter;
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_BufferedCharacterContactListener
+ * Method:    getCanReceiveImpulses
+ * Signature: (J)Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_github_stephengold_joltjni_BufferedCharacterContactListener_getCanReceiveImpulses
+  (JNIEnv *, jclass, jlong listenerVa) {
+    const BufferedCharacterContactListener * const pListener
+            = reinterpret_cast<BufferedCharacterContactListener *> (listenerVa);
+    const bool result = pListener->mCanReceiveImpulses;
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_BufferedCharacterContactListener
+ * Method:    isLayerIgnored
+ * Signature: (JI)Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_github_stephengold_joltjni_BufferedCharacterContactListener_isLayerIgnored
+  (JNIEnv *, jclass, jlong listenerVa, jint layer) {
+    const BufferedCharacterContactListener * const pListener
+            = reinterpret_cast<BufferedCharacterContactListener *> (listenerVa);
+    const ObjectLayer objectLayer = (ObjectLayer) layer;
+    const bool result = objectLayer < pListener->mIgnoredLayers.size()
+            && pListener->mIgnoredLayers[objectLayer];
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_BufferedCharacterContactListener
+ * Method:    setAllowSliding
+ * Signature: (JZ)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_BufferedCharacterContactListener_setAllowSliding
+  (JNIEnv *, jclass, jlong listenerVa, jboolean allow) {
+    BufferedCharacterContactListener * const pListener
+            = reinterpret_cast<BufferedCharacterContactListener *> (listenerVa);
+    pListener->mAllowSliding = allow;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_BufferedCharacterContactListener
+ * Method:    setBodyVelocityScale
+ * Signature: (JF)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_BufferedCharacterContactListener_setBodyVelocityScale
+  (JNIEnv *, jclass, jlong listenerVa, jfloat scale) {
+    BufferedCharacterContactListener * const pListener
+            = reinterpret_cast<BufferedCharacterContactListener *> (listenerVa);
+    pListener->mBodyVelocityScale = scale;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_BufferedCharacterContactListener
+ * Method:    setCanPushCharacter
+ * Signature: (JZ)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_BufferedCharacterContactListener_setCanPushCharacter
+  (JNIEnv *, jclass, jlong listenerVa, jboolean enable) {
+    BufferedCharacterContactListener * const pListener
+            = reinterpret_cast<BufferedCharacterContactListener *> (listenerVa);
+    pListener->mCanPushCharacter = enable;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_BufferedCharacterContactListener
+ * Method:    setCanReceiveImpulses
+ * Signature: (JZ)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_BufferedCharacterContactListener_setCanReceiveImpulses
+  (JNIEnv *, jclass, jlong listenerVa, jboolean enable) {
+    BufferedCharacterContactListener * const pListener
+            = reinterpret_cast<BufferedCharacterContactListener *> (listenerVa);
+    pListener->mCanReceiveImpulses = enable;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_BufferedCharacterContactListener
+ * Method:    setLayerIgnored
+ * Signature: (JIZ)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_BufferedCharacterContactListener_setLayerIgnored
+  (JNIEnv *, jclass, jlong listenerVa, jint layer, jboolean ignore) {
+    BufferedCharacterContactListener * const pListener
+            = reinterpret_cast<BufferedCharacterContactListener *> (listenerVa);
+    pListener->SetLayerIgnored((ObjectLayer) layer, ignore);
+}
@@ -312,6 +312,18 @@ JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_Body_getCenterOfMass
     return reinterpret_cast<jlong> (pResult);
 }
 
+/*
+ * Class:     com_github_stephengold_joltjni_Body
+ * Method:    getCenterOfMassTransformInto
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_Body_getCenterOfMassTransformInto
+  (JNIEnv *, jclass, jlong bodyVa, jlong storeVa) {
+    const Body * const pBody = reinterpret_cast<Body *> (bodyVa);
+    RMat44 * const pStore = reinterpret_cast<RMat44 *> (storeVa);
+    *pStore = pBody->GetCenterOfMassTransform();
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_Body
  * Method:    getCollisionGroup
@@ -374,6 +386,18 @@ JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_Body_getInverseCente
     return reinterpret_cast<jlong> (pResult);
 }
 
+/*
+ * Class:     com_github_stephengold_joltjni_Body
+ * Method:    getInverseCenterOfMassTransformInto
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_Body_getInverseCenterOfMassTransformInto
+  (JNIEnv *, jclass, jlong bodyVa, jlong storeVa) {
+    const Body * const pBody = reinterpret_cast<Body *> (bodyVa);
+    RMat44 * const pStore = reinterpret_cast<RMat44 *> (storeVa);
+    *pStore = pBody->GetInverseCenterOfMassTransform();
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_Body
  * Method:    getLinearVelocity
@@ -559,6 +583,18 @@ JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_Body_getWorldSpaceBo
     return reinterpret_cast<jlong> (&result);
 }
 
+/*
+ * Class:     com_github_stephengold_joltjni_Body
+ * Method:    getWorldSpaceBoundsInto
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_Body_getWorldSpaceBoundsInto
+  (JNIEnv *, jclass, jlong bodyVa, jlong storeVa) {
+    const Body * const pBody = reinterpret_cast<Body *> (bodyVa);
+    AABox * const pStore = reinterpret_cast<AABox *> (storeVa);
+    *pStore = pBody->GetWorldSpaceBounds();
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_Body
  * Method:    getWorldSpaceSurfaceNormal
@@ -593,6 +629,18 @@ JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_Body_getWorldTransfo
     return reinterpret_cast<jlong> (pResult);
 }
 
+/*
+ * Class:     com_github_stephengold_joltjni_Body
+ * Method:    getWorldTransformInto
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_Body_getWorldTransformInto
+  (JNIEnv *, jclass, jlong bodyVa, jlong storeVa) {
+    const Body * const pBody = reinterpret_cast<Body *> (bodyVa);
+    RMat44 * const pStore = reinterpret_cast<RMat44 *> (storeVa);
+    *pStore = pBody->GetWorldTransform();
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_Body
  * Method:    isActive
@@ -27,6 +27,7 @@ SOFTWARE.
 #include "Jolt/Physics/Body/BodyID.h"
 #include "auto/com_github_stephengold_joltjni_BodyIdArray.h"
 #include "glue/glue.h"
+#include "glue/JoltArena.h"
 
 using namespace JPH;
 
@@ -60,6 +61,18 @@ JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_BodyIdArray_createFr
     return reinterpret_cast<jlong> (pArray);
 }
 
+/*
+ * Class:     com_github_stephengold_joltjni_BodyIdArray
+ * Method:    createInArena
+ * Signature: (JI)J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_BodyIdArray_createInArena
+  (JNIEnv *, jclass, jlong arenaVa, jint length) {
+    JoltArena * const pArena = reinterpret_cast<JoltArena *> (arenaVa);
+    BodyID * const pResult = pArena->NewArray<BodyID>(length);
+    return reinterpret_cast<jlong> (pResult);
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_BodyIdArray
  * Method:    free
@@ -31,6 +31,7 @@ SOFTWARE.
 
 #include "auto/com_github_stephengold_joltjni_BodyInterface.h"
 #include "glue/glue.h"
+#include "glue/TrackingAllocator.h"
 
 using namespace JPH;
 
@@ -251,6 +252,7 @@ JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_BodyInterface_addTorq
  */
 JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_BodyInterface_createBody
   (JNIEnv *, jclass, jlong bodyInterfaceVa, jlong settingsVa) {
+    const AllocationTagScope tagScope(EAllocationTag::Bodies);
     BodyInterface * const pInterface
             = reinterpret_cast<BodyInterface *> (bodyInterfaceVa);
     const BodyCreationSettings * const pSettings
@@ -267,6 +269,7 @@ JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_BodyInterface_create
 JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_BodyInterface_createConstraint
   (JNIEnv *, jclass, jlong bodyInterfaceVa, jlong settingsVa, jint body1Id,
   jint body2Id) {
+    const AllocationTagScope tagScope(EAllocationTag::Constraints);
     BodyInterface * const pInterface
             = reinterpret_cast<BodyInterface *> (bodyInterfaceVa);
     const TwoBodyConstraintSettings * const pSettings
@@ -285,6 +288,7 @@ JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_BodyInterface_create
  */
 JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_BodyInterface_createSoftBody
   (JNIEnv *, jclass, jlong bodyInterfaceVa, jlong settingsVa) {
+    const AllocationTagScope tagScope(EAllocationTag::SoftBodies);
     BodyInterface * const pInterface
             = reinterpret_cast<BodyInterface *> (bodyInterfaceVa);
     const SoftBodyCreationSettings * const pSettings
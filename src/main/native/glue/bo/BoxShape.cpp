@@ -27,6 +27,7 @@ SOFTWARE.
 #include "Jolt/Physics/Collision/Shape/BoxShape.h"
 #include "auto/com_github_stephengold_joltjni_BoxShape.h"
 #include "glue/glue.h"
+#include "glue/TrackingAllocator.h"
 
 using namespace JPH;
 
@@ -38,6 +39,7 @@ using namespace JPH;
 JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_BoxShape_createBoxShape
   (JNIEnv *, jclass, jfloat xHalfExtent, jfloat yHalfExtent, jfloat zHalfExtent,
   jfloat convexRadius, jlong materialVa) {
+    const AllocationTagScope tagScope(EAllocationTag::Shapes);
     const Vec3 halfExtents(xHalfExtent, yHalfExtent, zHalfExtent);
     const PhysicsMaterial * const pMaterial
             = reinterpret_cast<PhysicsMaterial *> (materialVa);
@@ -27,6 +27,7 @@ SOFTWARE.
 #include "Jolt/Physics/Collision/Shape/CapsuleShape.h"
 #include "auto/com_github_stephengold_joltjni_CapsuleShape.h"
 #include "glue/glue.h"
+#include "glue/TrackingAllocator.h"
 
 using namespace JPH;
 
@@ -37,6 +38,7 @@ using namespace JPH;
  */
 JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_CapsuleShape_createCapsuleShape
   (JNIEnv *, jclass, jfloat halfHeight, jfloat radius) {
+    const AllocationTagScope tagScope(EAllocationTag::Shapes);
     CapsuleShape * const pResult = new CapsuleShape(halfHeight, radius);
     TRACE_NEW_TARGET("CapsuleShape", pResult)
     return reinterpret_cast<jlong> (pResult);
@@ -0,0 +1,117 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+/*
+ * Author: Stephen Gold
+ */
+#include "Jolt/Jolt.h"
+#include "Jolt/Core/JobSystem.h"
+#include "Jolt/Physics/Ragdoll/Ragdoll.h"
+#include "Jolt/Skeleton/SkeletalAnimation.h"
+#include "Jolt/Skeleton/SkeletonMapper.h"
+#include "Jolt/Skeleton/SkeletonPose.h"
+
+#include "auto/com_github_stephengold_joltjni_CrowdAnimator.h"
+#include "glue/glue.h"
+#include "glue/ParallelRuns.h"
+
+using namespace JPH;
+
+// drive modes, matching the ordinals of CrowdAnimator.Drive
+enum EDrive : jint {
+    cNone, cMotors, cKinematics
+};
+
+/*
+ * Copy the specified Java array of virtual addresses into a native array of
+ * pointers.
+ */
+template <class T>
+static void copyPointers(JNIEnv *pEnv, jlongArray vaArray, jint count,
+        Array<jlong>& tmpVas, Array<T *>& outPointers) {
+    pEnv->GetLongArrayRegion(vaArray, 0, count, tmpVas.data());
+    EXCEPTION_CHECK(pEnv)
+    for (jint i = 0; i < count; ++i) {
+        outPointers[i] = reinterpret_cast<T *> (tmpVas[i]);
+    }
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_CrowdAnimator
+ * Method:    updateAll
+ * Signature: ([J[J[J[J[JILjava/nio/FloatBuffer;IFJ)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_CrowdAnimator_updateAll
+  (JNIEnv *pEnv, jclass, jlongArray animationVas, jlongArray poseVas,
+  jlongArray mapperVas, jlongArray ragdollPoseVas, jlongArray ragdollVas,
+  jint numEntries, jobject times, jint driveOrdinal, jfloat deltaTime,
+  jlong jobSystemVa) {
+    if (numEntries <= 0) {
+        return;
+    }
+
+    Array<jlong> tmpVas(numEntries);
+    Array<const SkeletalAnimation *> animations(numEntries);
+    copyPointers(pEnv, animationVas, numEntries, tmpVas, animations);
+    Array<SkeletonPose *> poses(numEntries);
+    copyPointers(pEnv, poseVas, numEntries, tmpVas, poses);
+    Array<const SkeletonMapper *> mappers(numEntries);
+    copyPointers(pEnv, mapperVas, numEntries, tmpVas, mappers);
+    Array<SkeletonPose *> ragdollPoses(numEntries);
+    copyPointers(pEnv, ragdollPoseVas, numEntries, tmpVas, ragdollPoses);
+    Array<Ragdoll *> ragdolls(numEntries);
+    copyPointers(pEnv, ragdollVas, numEntries, tmpVas, ragdolls);
+
+    DIRECT_FLOAT_BUFFER(pEnv, times, pTimes, capacityFloats);
+    JPH_ASSERT(capacityFloats >= numEntries);
+    JobSystem * const pJobSystem = reinterpret_cast<JobSystem *> (jobSystemVa);
+
+    // Divide the entries into contiguous runs, one per job:
+    const uint maxJobs = pJobSystem->GetMaxConcurrency();
+    RunInParallel(pJobSystem, "CrowdAnimator", numEntries, maxJobs,
+            [&](uint begin, uint end, uint) {
+        for (uint i = begin; i < end; ++i) {
+            SkeletonPose * const pPose = poses[i];
+            animations[i]->Sample(pTimes[i], *pPose);
+            pPose->CalculateJointMatrices();
+
+            // Map the pose to the ragdoll's skeleton, if necessary:
+            const SkeletonPose *pDrivePose = pPose;
+            const SkeletonMapper * const pMapper = mappers[i];
+            if (pMapper != nullptr) {
+                SkeletonPose * const pRagdollPose = ragdollPoses[i];
+                pRagdollPose->SetRootOffset(pPose->GetRootOffset());
+                pMapper->MapReverse(pPose->GetJointMatrices().data(),
+                        pRagdollPose->GetJointMatrices().data());
+                pRagdollPose->CalculateJointStates();
+                pDrivePose = pRagdollPose;
+            }
+
+            if (driveOrdinal == cMotors) {
+                ragdolls[i]->DriveToPoseUsingMotors(*pDrivePose);
+            } else if (driveOrdinal == cKinematics) {
+                ragdolls[i]->DriveToPoseUsingKinematics(
+                        *pDrivePose, deltaTime);
+            }
+        }
+    });
+}
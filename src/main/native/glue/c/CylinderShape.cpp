@@ -27,6 +27,7 @@ SOFTWARE.
 #include "Jolt/Physics/Collision/Shape/CylinderShape.h"
 #include "auto/com_github_stephengold_joltjni_CylinderShape.h"
 #include "glue/glue.h"
+#include "glue/TrackingAllocator.h"
 
 using namespace JPH;
 
@@ -37,6 +38,7 @@ using namespace JPH;
  */
 JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_CylinderShape_createCylinderShape
   (JNIEnv *, jclass, jfloat halfHeight, jfloat radius, jfloat convexRadius) {
+    const AllocationTagScope tagScope(EAllocationTag::Shapes);
     CylinderShape * const pResult
             = new CylinderShape(halfHeight, radius, convexRadius);
     TRACE_NEW_TARGET("CylinderShape", pResult)
@@ -193,6 +193,19 @@ JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_CharacterVirtual_get
     return reinterpret_cast<jlong> (pResult);
 }
 
+/*
+ * Class:     com_github_stephengold_joltjni_CharacterVirtual
+ * Method:    getCenterOfMassTransformInto
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_CharacterVirtual_getCenterOfMassTransformInto
+  (JNIEnv *, jclass, jlong characterVa, jlong storeVa) {
+    const CharacterVirtual * const pCharacter
+            = reinterpret_cast<CharacterVirtual *> (characterVa);
+    RMat44 * const pStore = reinterpret_cast<RMat44 *> (storeVa);
+    *pStore = pCharacter->GetCenterOfMassTransform();
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_CharacterVirtual
  * Method:    getCharacterPadding
@@ -450,6 +463,19 @@ JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_CharacterVirtual_get
     return reinterpret_cast<jlong> (pResult);
 }
 
+/*
+ * Class:     com_github_stephengold_joltjni_CharacterVirtual
+ * Method:    getWorldTransformInto
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_CharacterVirtual_getWorldTransformInto
+  (JNIEnv *, jclass, jlong characterVa, jlong storeVa) {
+    const CharacterVirtual * const pCharacter
+            = reinterpret_cast<CharacterVirtual *> (characterVa);
+    RMat44 * const pStore = reinterpret_cast<RMat44 *> (storeVa);
+    *pStore = pCharacter->GetWorldTransform();
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_CharacterVirtual
  * Method:    hasCollidedWithBody
@@ -683,6 +709,33 @@ JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_CharacterVirtual_setU
     pCharacter->SetUserData(userData);
 }
 
+/*
+ * Class:     com_github_stephengold_joltjni_CharacterVirtual
+ * Method:    stickToFloor
+ * Signature: (JFFFJJJJJ)Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_github_stephengold_joltjni_CharacterVirtual_stickToFloor
+  (JNIEnv *, jclass, jlong characterVa, jfloat dx, jfloat dy, jfloat dz,
+  jlong bpFilterVa, jlong olFilterVa, jlong bodyFilterVa, jlong shapeFilterVa,
+  jlong allocatorVa) {
+    CharacterVirtual * const pCharacter
+            = reinterpret_cast<CharacterVirtual *> (characterVa);
+    const Vec3 stepDown(dx, dy, dz);
+    const BroadPhaseLayerFilter * const pBpFilter
+            = reinterpret_cast<BroadPhaseLayerFilter *> (bpFilterVa);
+    const ObjectLayerFilter * const pOlFilter
+            = reinterpret_cast<ObjectLayerFilter *> (olFilterVa);
+    const BodyFilter * const pBodyFilter
+            = reinterpret_cast<BodyFilter *> (bodyFilterVa);
+    const ShapeFilter * const pShapeFilter
+            = reinterpret_cast<ShapeFilter *> (shapeFilterVa);
+    TempAllocator * const pAllocator
+            = reinterpret_cast<TempAllocator *> (allocatorVa);
+    bool result = pCharacter->StickToFloor(stepDown, *pBpFilter, *pOlFilter,
+            *pBodyFilter, *pShapeFilter, *pAllocator);
+    return result;
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_CharacterVirtual
  * Method:    toRef
@@ -713,6 +766,32 @@ JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_CharacterVirtual_toR
     return reinterpret_cast<jlong> (pResult);
 }
 
+/*
+ * Class:     com_github_stephengold_joltjni_CharacterVirtual
+ * Method:    update
+ * Signature: (JFFFFJJJJJ)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_CharacterVirtual_update
+  (JNIEnv *, jclass, jlong characterVa, jfloat deltaTime, jfloat gx,
+  jfloat gy, jfloat gz, jlong bpFilterVa, jlong olFilterVa,
+  jlong bodyFilterVa, jlong shapeFilterVa, jlong allocatorVa) {
+    CharacterVirtual * const pCharacter
+            = reinterpret_cast<CharacterVirtual *> (characterVa);
+    const Vec3 gravity(gx, gy, gz);
+    const BroadPhaseLayerFilter * const pBpFilter
+            = reinterpret_cast<BroadPhaseLayerFilter *> (bpFilterVa);
+    const ObjectLayerFilter * const pOlFilter
+            = reinterpret_cast<ObjectLayerFilter *> (olFilterVa);
+    const BodyFilter * const pBodyFilter
+            = reinterpret_cast<BodyFilter *> (bodyFilterVa);
+    const ShapeFilter * const pShapeFilter
+            = reinterpret_cast<ShapeFilter *> (shapeFilterVa);
+    TempAllocator * const pAllocator
+            = reinterpret_cast<TempAllocator *> (allocatorVa);
+    pCharacter->Update(deltaTime, gravity, *pBpFilter, *pOlFilter,
+            *pBodyFilter, *pShapeFilter, *pAllocator);
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_CharacterVirtual
  * Method:    updateGroundVelocity
@@ -0,0 +1,187 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+/*
+ * Author: Stephen Gold
+ */
+#include "Jolt/Jolt.h"
+#include "Jolt/Core/JobSystem.h"
+#include "Jolt/Core/QuickSort.h"
+#include "Jolt/Physics/Character/CharacterVirtual.h"
+
+#include "auto/com_github_stephengold_joltjni_CharacterVirtualBatch.h"
+#include "glue/glue.h"
+#include "glue/ParallelRuns.h"
+
+using namespace JPH;
+
+/*
+ * A character's place in the update schedule.
+ */
+struct ScheduleEntry {
+    uint mIndex; // index of the character in the batch
+    uint mColor; // parity class of the cell, in the range [0, 8)
+    int32 mCellX, mCellY, mCellZ; // grid cell containing the character
+
+    bool SameCell(const ScheduleEntry& other) const {
+        return mColor == other.mColor && mCellX == other.mCellX
+                && mCellY == other.mCellY && mCellZ == other.mCellZ;
+    }
+};
+
+/*
+ * Class:     com_github_stephengold_joltjni_CharacterVirtualBatch
+ * Method:    updateAll
+ * Signature: ([JIFFFFJJJJJJ[JFLjava/nio/FloatBuffer;Ljava/nio/DoubleBuffer;Ljava/nio/FloatBuffer;Ljava/nio/IntBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_CharacterVirtualBatch_updateAll
+  (JNIEnv *pEnv, jclass, jlongArray characterVas, jint numCharacters,
+  jfloat deltaTime, jfloat gravityX, jfloat gravityY, jfloat gravityZ,
+  jlong settingsVa, jlong bpFilterVa, jlong olFilterVa, jlong bodyFilterVa,
+  jlong shapeFilterVa, jlong jobSystemVa, jlongArray allocatorVas,
+  jfloat cellSize, jobject velocities, jobject storePositions,
+  jobject storeVelocities, jobject storeGroundStates) {
+    Array<jlong> vas(numCharacters);
+    pEnv->GetLongArrayRegion(characterVas, 0, numCharacters, vas.data());
+    EXCEPTION_CHECK(pEnv)
+    Array<CharacterVirtual *> characters(numCharacters);
+    for (jint i = 0; i < numCharacters; ++i) {
+        characters[i] = reinterpret_cast<CharacterVirtual *> (vas[i]);
+    }
+    const jsize numAllocators = pEnv->GetArrayLength(allocatorVas);
+    EXCEPTION_CHECK(pEnv)
+    vas.resize(numAllocators);
+    pEnv->GetLongArrayRegion(allocatorVas, 0, numAllocators, vas.data());
+    EXCEPTION_CHECK(pEnv)
+    Array<TempAllocator *> allocators(numAllocators);
+    for (jsize i = 0; i < numAllocators; ++i) {
+        allocators[i] = reinterpret_cast<TempAllocator *> (vas[i]);
+    }
+
+    const Vec3 gravity(gravityX, gravityY, gravityZ);
+    const CharacterVirtual::ExtendedUpdateSettings * const pSettings
+            = reinterpret_cast<CharacterVirtual::ExtendedUpdateSettings *> (settingsVa);
+    const BroadPhaseLayerFilter * const pBpFilter
+            = reinterpret_cast<BroadPhaseLayerFilter *> (bpFilterVa);
+    const ObjectLayerFilter * const pOlFilter
+            = reinterpret_cast<ObjectLayerFilter *> (olFilterVa);
+    const BodyFilter * const pBodyFilter
+            = reinterpret_cast<BodyFilter *> (bodyFilterVa);
+    const ShapeFilter * const pShapeFilter
+            = reinterpret_cast<ShapeFilter *> (shapeFilterVa);
+    JobSystem * const pJobSystem = reinterpret_cast<JobSystem *> (jobSystemVa);
+
+    // Apply the desired velocities and schedule the characters:
+    const DIRECT_FLOAT_BUFFER(pEnv, velocities, pVelocities, capacityVelocities);
+    JPH_ASSERT(capacityVelocities >= 3 * numCharacters);
+    Array<ScheduleEntry> schedule(numCharacters);
+    for (jint i = 0; i < numCharacters; ++i) {
+        CharacterVirtual * const pCharacter = characters[i];
+        const Vec3 velocity(
+                pVelocities[3 * i], pVelocities[3 * i + 1], pVelocities[3 * i + 2]);
+        pCharacter->SetLinearVelocity(velocity);
+
+        ScheduleEntry& entry = schedule[i];
+        entry.mIndex = i;
+        if (cellSize > 0.0f) {
+            const RVec3 location = pCharacter->GetPosition() / cellSize;
+            entry.mCellX = (int32) floor(location.GetX());
+            entry.mCellY = (int32) floor(location.GetY());
+            entry.mCellZ = (int32) floor(location.GetZ());
+            entry.mColor = (entry.mCellX & 1) | (entry.mCellY & 1) << 1
+                    | (entry.mCellZ & 1) << 2;
+        } else { // every character in its own cell
+            entry.mCellX = i;
+            entry.mCellY = 0;
+            entry.mCellZ = 0;
+            entry.mColor = 0;
+        }
+    }
+    QuickSort(schedule.begin(), schedule.end(),
+            [](const ScheduleEntry& a, const ScheduleEntry& b) {
+        if (a.mColor != b.mColor) return a.mColor < b.mColor;
+        if (a.mCellX != b.mCellX) return a.mCellX < b.mCellX;
+        if (a.mCellY != b.mCellY) return a.mCellY < b.mCellY;
+        if (a.mCellZ != b.mCellZ) return a.mCellZ < b.mCellZ;
+        return a.mIndex < b.mIndex;
+    });
+
+    /*
+     * Update one color at a time. Cells of the same color are at least one
+     * cell apart, so their characters can be updated concurrently. Characters
+     * that share a cell are updated sequentially, in batch order, by a single
+     * job. The Java class admits only char-vs-char interfaces that read
+     * characters in neighboring cells, which aren't updated concurrently:
+     */
+    uint colorStart = 0;
+    while (colorStart < schedule.size()) {
+        const uint color = schedule[colorStart].mColor;
+        uint colorEnd = colorStart;
+        Array<uint> cellStarts;
+        while (colorEnd < schedule.size() && schedule[colorEnd].mColor == color) {
+            if (colorEnd == colorStart
+                    || !schedule[colorEnd].SameCell(schedule[colorEnd - 1])) {
+                cellStarts.push_back(colorEnd);
+            }
+            ++colorEnd;
+        }
+        cellStarts.push_back(colorEnd);
+
+        // Divide the cells into contiguous runs, one per allocator:
+        const uint numCells = cellStarts.size() - 1;
+        const uint maxJobs = numAllocators;
+        RunInParallel(pJobSystem, "CharacterVirtualBatch", numCells, maxJobs,
+                [&](uint beginCell, uint endCell, uint jobIndex) {
+            TempAllocator * const pAllocator = allocators[jobIndex];
+            const uint end = cellStarts[endCell];
+            for (uint j = cellStarts[beginCell]; j < end; ++j) {
+                CharacterVirtual * const pCharacter
+                        = characters[schedule[j].mIndex];
+                pCharacter->ExtendedUpdate(deltaTime, gravity, *pSettings,
+                        *pBpFilter, *pOlFilter, *pBodyFilter,
+                        *pShapeFilter, *pAllocator);
+            }
+        });
+
+        colorStart = colorEnd;
+    }
+
+    // Write the results:
+    DIRECT_DOUBLE_BUFFER(pEnv, storePositions, pPositions, capacityPositions);
+    JPH_ASSERT(capacityPositions >= 3 * numCharacters);
+    DIRECT_FLOAT_BUFFER(pEnv, storeVelocities, pStoreVelocities, capacityStore);
+    JPH_ASSERT(capacityStore >= 3 * numCharacters);
+    DIRECT_INT_BUFFER(pEnv, storeGroundStates, pGroundStates, capacityStates);
+    JPH_ASSERT(capacityStates >= numCharacters);
+    for (jint i = 0; i < numCharacters; ++i) {
+        const CharacterVirtual * const pCharacter = characters[i];
+        const RVec3 location = pCharacter->GetPosition();
+        pPositions[3 * i] = location.GetX();
+        pPositions[3 * i + 1] = location.GetY();
+        pPositions[3 * i + 2] = location.GetZ();
+        const Vec3 velocity = pCharacter->GetLinearVelocity();
+        pStoreVelocities[3 * i] = velocity.GetX();
+        pStoreVelocities[3 * i + 1] = velocity.GetY();
+        pStoreVelocities[3 * i + 2] = velocity.GetZ();
+        pGroundStates[i] = (jint) pCharacter->GetGroundState();
+    }
+}
@@ -0,0 +1,391 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+/*
+ * Author: Stephen Gold
+ */
+#include "Jolt/Jolt.h"
+#include "Jolt/Core/UnorderedMap.h"
+#include "Jolt/Geometry/RayAABox.h"
+#include "Jolt/Physics/Character/CharacterVirtual.h"
+#include "Jolt/Physics/Collision/CollisionDispatch.h"
+#include "Jolt/Physics/Collision/ShapeCast.h"
+#include "auto/com_github_stephengold_joltjni_CharacterVsCharacterCollisionGrid.h"
+#include "glue/glue.h"
+
+using namespace JPH;
+
+/*
+ * A character-vs-character collision interface that bins characters into a
+ * uniform grid, so each query tests only characters in nearby cells.
+ */
+class CharacterVsCharacterCollisionGrid
+        : public CharacterVsCharacterCollision {
+public:
+    CharacterVsCharacterCollisionGrid(float inCellSize, float inMargin)
+    : mCellSize(inCellSize), mMargin(inMargin) {
+    }
+
+    void Add(CharacterVirtual *inCharacter) {
+        const uint64 key = CellKey(inCharacter->GetCenterOfMassPosition());
+        const Entry entry{inCharacter, key};
+        mEntries.push_back(entry);
+        mCells[key].push_back(inCharacter);
+        mMaxExtent = max(mMaxExtent, Extent(inCharacter));
+    }
+
+    uint CountCells() const {
+        return (uint) mCells.size();
+    }
+
+    float GetCellSize() const {
+        return mCellSize;
+    }
+
+    float GetMargin() const {
+        return mMargin;
+    }
+
+    void Remove(const CharacterVirtual *inCharacter) {
+        for (uint i = 0; i < mEntries.size(); ++i) {
+            if (mEntries[i].mpCharacter == inCharacter) {
+                RemoveFromCell(inCharacter, mEntries[i].mCellKey);
+                mEntries.erase(mEntries.begin() + i);
+                return;
+            }
+        }
+    }
+
+    /*
+     * Re-bin characters that changed cells since the previous update:
+     */
+    void Update() {
+        mMaxExtent = 0.0f;
+        for (Entry& entry : mEntries) {
+            const CharacterVirtual * const pCharacter = entry.mpCharacter;
+            const uint64 key = CellKey(pCharacter->GetCenterOfMassPosition());
+            if (key != entry.mCellKey) {
+                RemoveFromCell(pCharacter, entry.mCellKey);
+                mCells[key].push_back(pCharacter);
+                entry.mCellKey = key;
+            }
+            mMaxExtent = max(mMaxExtent, Extent(pCharacter));
+        }
+    }
+
+    void CollideCharacter(const CharacterVirtual *inCharacter,
+            RMat44Arg inCenterOfMassTransform,
+            const CollideShapeSettings& inCollideShapeSettings,
+            RVec3Arg inBaseOffset, CollideShapeCollector& ioCollector)
+            const override {
+        // Make shape 1 relative to inBaseOffset:
+        const Mat44 transform1 = inCenterOfMassTransform.PostTranslated(
+                -inBaseOffset).ToMat44();
+        const Shape * const pShape = inCharacter->GetShape();
+        CollideShapeSettings settings = inCollideShapeSettings;
+        const AABox bounds
+                = pShape->GetWorldSpaceBounds(transform1, Vec3::sOne());
+
+        const float reach
+                = inCollideShapeSettings.mMaxSeparationDistance + mMaxExtent;
+        Array<const CharacterVirtual *> candidates;
+        GatherCandidates(bounds, inBaseOffset, reach, candidates);
+
+        for (const CharacterVirtual *c : candidates) {
+            if (c == inCharacter || ioCollector.ShouldEarlyOut()) {
+                continue;
+            }
+            // Make shape 2 relative to inBaseOffset:
+            const Mat44 transform2 = c->GetCenterOfMassTransform()
+                    .PostTranslated(-inBaseOffset).ToMat44();
+
+            // Include the padding of character 2, to detect its outer shell:
+            settings.mMaxSeparationDistance
+                    = inCollideShapeSettings.mMaxSeparationDistance
+                    + c->GetCharacterPadding();
+
+            const Shape * const pOtherShape = c->GetShape();
+            AABox otherBounds
+                    = pOtherShape->GetWorldSpaceBounds(transform2, Vec3::sOne());
+            otherBounds.ExpandBy(
+                    Vec3::sReplicate(settings.mMaxSeparationDistance));
+            if (!bounds.Overlaps(otherBounds)) {
+                continue;
+            }
+
+            // The collector needs to know which character was hit:
+            ioCollector.SetUserData(reinterpret_cast<uint64> (c));
+            CollisionDispatch::sCollideShapeVsShape(pShape, pOtherShape,
+                    Vec3::sOne(), Vec3::sOne(), transform1, transform2,
+                    SubShapeIDCreator(), SubShapeIDCreator(), settings,
+                    ioCollector);
+        }
+        ioCollector.SetUserData(0);
+    }
+
+    void CastCharacter(const CharacterVirtual *inCharacter,
+            RMat44Arg inCenterOfMassTransform, Vec3Arg inDirection,
+            const ShapeCastSettings& inShapeCastSettings,
+            RVec3Arg inBaseOffset, CastShapeCollector& ioCollector)
+            const override {
+        // Make the cast relative to inBaseOffset:
+        const Mat44 transform1 = inCenterOfMassTransform.PostTranslated(
+                -inBaseOffset).ToMat44();
+        const ShapeCast shapeCast(
+                inCharacter->GetShape(), Vec3::sOne(), transform1, inDirection);
+        const Vec3 origin = shapeCast.mShapeWorldBounds.GetCenter();
+        const Vec3 extents = shapeCast.mShapeWorldBounds.GetExtent();
+
+        // The swept bounds cover both ends of the cast:
+        const AABox& startBounds = shapeCast.mShapeWorldBounds;
+        AABox sweptBounds = startBounds;
+        sweptBounds.Encapsulate(startBounds.mMin + inDirection);
+        sweptBounds.Encapsulate(startBounds.mMax + inDirection);
+        Array<const CharacterVirtual *> candidates;
+        GatherCandidates(sweptBounds, inBaseOffset, mMaxExtent, candidates);
+
+        for (const CharacterVirtual *c : candidates) {
+            if (c == inCharacter || ioCollector.ShouldEarlyOut()) {
+                continue;
+            }
+            // Make shape 2 relative to inBaseOffset:
+            const Mat44 transform2 = c->GetCenterOfMassTransform()
+                    .PostTranslated(-inBaseOffset).ToMat44();
+
+            // Sweep the character's bounds against the other's bounds:
+            const Shape * const pOtherShape = c->GetShape();
+            const AABox otherBounds
+                    = pOtherShape->GetWorldSpaceBounds(transform2, Vec3::sOne());
+            if (!RayAABoxHits(origin, inDirection, otherBounds.mMin - extents,
+                    otherBounds.mMax + extents)) {
+                continue;
+            }
+
+            // The collector needs to know which character was hit:
+            ioCollector.SetUserData(reinterpret_cast<uint64> (c));
+            CollisionDispatch::sCastShapeVsShapeWorldSpace(shapeCast,
+                    inShapeCastSettings, pOtherShape, Vec3::sOne(),
+                    ShapeFilter(), transform2, SubShapeIDCreator(),
+                    SubShapeIDCreator(), ioCollector);
+        }
+        ioCollector.SetUserData(0);
+    }
+
+private:
+    struct Entry {
+        const CharacterVirtual *mpCharacter;
+        uint64 mCellKey; // the cell where the character is binned
+    };
+
+    uint64 CellKey(int32 x, int32 y, int32 z) const {
+        const uint64 mask = (1 << 21) - 1;
+        return ((uint64) (x & mask) << 42) | ((uint64) (y & mask) << 21)
+                | (uint64) (z & mask);
+    }
+
+    /*
+     * Extract one signed coordinate from a cell key:
+     */
+    static int32 CellCoordinate(uint64 inKey, int inShift) {
+        // Shift the 21-bit field to the top, then sign-extend it:
+        return (int32) ((int64) (inKey << (43 - inShift)) >> 43);
+    }
+
+    uint64 CellKey(RVec3Arg inLocation) const {
+        const RVec3 cell = inLocation / mCellSize;
+        return CellKey((int32) floor(cell.GetX()), (int32) floor(cell.GetY()),
+                (int32) floor(cell.GetZ()));
+    }
+
+    /*
+     * Return the maximum distance from a character's center of mass to any
+     * point of its padded shape:
+     */
+    static float Extent(const CharacterVirtual *pCharacter) {
+        const AABox bounds = pCharacter->GetShape()->GetLocalBounds();
+        const float result = Vec3::sMax(bounds.mMin.Abs(), bounds.mMax.Abs())
+                .Length() + pCharacter->GetCharacterPadding();
+        return result;
+    }
+
+    /*
+     * Enumerate characters binned in cells that might overlap the specified
+     * bounds (relative to inBaseOffset) expanded by inReach:
+     */
+    void GatherCandidates(const AABox& inBounds, RVec3Arg inBaseOffset,
+            float inReach, Array<const CharacterVirtual *>& outCandidates)
+            const {
+        const float reach = inReach + mMargin;
+        const RVec3 minLocation = inBaseOffset + RVec3(inBounds.mMin)
+                - RVec3::sReplicate(reach);
+        const RVec3 maxLocation = inBaseOffset + RVec3(inBounds.mMax)
+                + RVec3::sReplicate(reach);
+        const double minX = floor(minLocation.GetX() / mCellSize);
+        const double minY = floor(minLocation.GetY() / mCellSize);
+        const double minZ = floor(minLocation.GetZ() / mCellSize);
+        const double maxX = floor(maxLocation.GetX() / mCellSize);
+        const double maxY = floor(maxLocation.GetY() / mCellSize);
+        const double maxZ = floor(maxLocation.GetZ() / mCellSize);
+        const double numCells = (maxX - minX + 1.0) * (maxY - minY + 1.0)
+                * (maxZ - minZ + 1.0);
+
+        if (numCells > (double) mCells.size()) {
+            // Walking the occupied cells is cheaper than probing every cell:
+            for (const auto& cell : mCells) {
+                const int32 x = CellCoordinate(cell.first, 42);
+                const int32 y = CellCoordinate(cell.first, 21);
+                const int32 z = CellCoordinate(cell.first, 0);
+                if (x >= minX && x <= maxX && y >= minY && y <= maxY
+                        && z >= minZ && z <= maxZ) {
+                    outCandidates.insert(outCandidates.end(),
+                            cell.second.begin(), cell.second.end());
+                }
+            }
+            return;
+        }
+
+        for (int32 x = (int32) minX; x <= (int32) maxX; ++x) {
+            for (int32 y = (int32) minY; y <= (int32) maxY; ++y) {
+                for (int32 z = (int32) minZ; z <= (int32) maxZ; ++z) {
+                    const auto it = mCells.find(CellKey(x, y, z));
+                    if (it != mCells.end()) {
+                        outCandidates.insert(outCandidates.end(),
+                                it->second.begin(), it->second.end());
+                    }
+                }
+            }
+        }
+    }
+
+    void RemoveFromCell(const CharacterVirtual *pCharacter, uint64 key) {
+        const auto it = mCells.find(key);
+        JPH_ASSERT(it != mCells.end());
+        Array<const CharacterVirtual *>& cell = it->second;
+        for (uint i = 0; i < cell.size(); ++i) {
+            if (cell[i] == pCharacter) {
+                cell.erase(cell.begin() + i);
+                break;
+            }
+        }
+        if (cell.empty()) {
+            mCells.erase(it);
+        }
+    }
+
+    Array<Entry> mEntries; // in the order added
+    float mCellSize; // edge length of each cell
+    float mMargin; // allowance for movement since the latest update
+    float mMaxExtent = 0.0f; // largest padded extent of any character
+    UnorderedMap<uint64, Array<const CharacterVirtual *>> mCells;
+};
+
+/*
+ * Class:     com_github_stephengold_joltjni_CharacterVsCharacterCollisionGrid
+ * Method:    add
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_CharacterVsCharacterCollisionGrid_add
+  (JNIEnv *, jclass, jlong interfaceVa, jlong characterVa) {
+    CharacterVsCharacterCollisionGrid * const pCollision
+            = reinterpret_cast<CharacterVsCharacterCollisionGrid *> (interfaceVa);
+    CharacterVirtual * const pCharacter
+            = reinterpret_cast<CharacterVirtual *> (characterVa);
+    pCollision->Add(pCharacter);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_CharacterVsCharacterCollisionGrid
+ * Method:    countCells
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_CharacterVsCharacterCollisionGrid_countCells
+  (JNIEnv *, jclass, jlong interfaceVa) {
+    const CharacterVsCharacterCollisionGrid * const pCollision
+            = reinterpret_cast<CharacterVsCharacterCollisionGrid *> (interfaceVa);
+    const uint result = pCollision->CountCells();
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_CharacterVsCharacterCollisionGrid
+ * Method:    create
+ * Signature: (FF)J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_CharacterVsCharacterCollisionGrid_create
+  (JNIEnv *, jclass, jfloat cellSize, jfloat margin) {
+    CharacterVsCharacterCollisionGrid * const pResult
+            = new CharacterVsCharacterCollisionGrid(cellSize, margin);
+    TRACE_NEW("CharacterVsCharacterCollisionGrid", pResult)
+    return reinterpret_cast<jlong> (pResult);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_CharacterVsCharacterCollisionGrid
+ * Method:    getCellSize
+ * Signature: (J)F
+ */
+JNIEXPORT jfloat JNICALL Java_com_github_stephengold_joltjni_CharacterVsCharacterCollisionGrid_getCellSize
+  (JNIEnv *, jclass, jlong interfaceVa) {
+    const CharacterVsCharacterCollisionGrid * const pCollision
+            = reinterpret_cast<CharacterVsCharacterCollisionGrid *> (interfaceVa);
+    const float result = pCollision->GetCellSize();
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_CharacterVsCharacterCollisionGrid
+ * Method:    getMargin
+ * Signature: (J)F
+ */
+JNIEXPORT jfloat JNICALL Java_com_github_stephengold_joltjni_CharacterVsCharacterCollisionGrid_getMargin
+  (JNIEnv *, jclass, jlong interfaceVa) {
+    const CharacterVsCharacterCollisionGrid * const pCollision
+            = reinterpret_cast<CharacterVsCharacterCollisionGrid *> (interfaceVa);
+    const float result = pCollision->GetMargin();
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_CharacterVsCharacterCollisionGrid
+ * Method:    remove
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_CharacterVsCharacterCollisionGrid_remove
+  (JNIEnv *, jclass, jlong interfaceVa, jlong characterVa) {
+    CharacterVsCharacterCollisionGrid * const pCollision
+            = reinterpret_cast<CharacterVsCharacterCollisionGrid *> (interfaceVa);
+    const CharacterVirtual * const pCharacter
+            = reinterpret_cast<CharacterVirtual *> (characterVa);
+    pCollision->Remove(pCharacter);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_CharacterVsCharacterCollisionGrid
+ * Method:    update
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_CharacterVsCharacterCollisionGrid_update
+  (JNIEnv *, jclass, jlong interfaceVa) {
+    CharacterVsCharacterCollisionGrid * const pCollision
+            = reinterpret_cast<CharacterVsCharacterCollisionGrid *> (interfaceVa);
+    pCollision->Update();
+}
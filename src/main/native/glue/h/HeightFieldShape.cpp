@@ -26,6 +26,8 @@ SOFTWARE.
 #include "Jolt/Jolt.h"
 #include "Jolt/Physics/Collision/Shape/HeightFieldShape.h"
 #include "Jolt/Physics/Collision/Shape/SubShapeID.h"
+#include "Jolt/Physics/Body/BodyInterface.h"
+#include "Jolt/Core/QuickSort.h"
 #include "glue/glue.h"
 
 #include "auto/com_github_stephengold_joltjni_HeightFieldShape.h"
@@ -33,6 +35,11 @@ SOFTWARE.
 
 using namespace JPH;
 
+/*
+ * margin added around each edited region when waking bodies:
+ */
+static const float cWakeMargin = 0.1f;
+
 // Verify global constants defined in HeightFieldShapeConstants.java:
 void HeightFieldShape_verifyGlobalConstants() {
     JPH_ASSERT(com_github_stephengold_joltjni_HeightFieldShapeConstants_cNoCollisionValue == HeightFieldShapeConstants::cNoCollisionValue);
@@ -45,6 +52,231 @@ void HeightFieldShape_verifyGlobalConstants() {
     JPH_ASSERT(com_github_stephengold_joltjni_HeightFieldShapeConstants_cMaxBitsPerSample == HeightFieldShapeConstants::cMaxBitsPerSample);
 }
 
+/*
+ * A rectangular height patch in an edit batch.
+ */
+struct HeightPatch {
+    uint mStartX, mStartY, mSizeX, mSizeY; // the samples to overwrite
+    const float *mpHeights; // mSizeX * mSizeY values, X varying fastest
+};
+
+/*
+ * A block-aligned region covering one or more overlapping patches.
+ */
+struct EditRegion {
+    uint mMinX, mMinY, mMaxX, mMaxY; // exclusive upper bounds
+    Array<uint> mPatchIndices; // in batch order
+
+    bool Overlaps(const EditRegion& other) const {
+        return mMinX < other.mMaxX && other.mMinX < mMaxX
+                && mMinY < other.mMaxY && other.mMinY < mMaxY;
+    }
+};
+
+/*
+ * Calculate a world-space box around the specified samples and height range,
+ * for waking the bodies near an edit:
+ */
+static AABox WakeBox(const HeightFieldShape *pShape, uint lowX, uint lowY,
+        uint highX, uint highY, float minHeight, float maxHeight,
+        RMat44Arg worldTransform) {
+    const Vec3 corner0 = pShape->GetPosition(lowX, lowY);
+    const Vec3 corner1 = pShape->GetPosition(highX, highY);
+    AABox result(Vec3(corner0.GetX(), minHeight, corner0.GetZ()),
+            Vec3(corner1.GetX(), maxHeight, corner1.GetZ()));
+    result = result.Transformed(worldTransform);
+    result.ExpandBy(Vec3::sReplicate(cWakeMargin));
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_HeightFieldShape
+ * Method:    applyEdits
+ * Signature: (JLjava/nio/ByteBuffer;IJFJI)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_HeightFieldShape_applyEdits
+  (JNIEnv *pEnv, jclass, jlong shapeVa, jobject edits, jint numBytes,
+  jlong allocatorVa, jfloat cosThresholdAngle, jlong bodyInterfaceVa,
+  jint bodyId) {
+    HeightFieldShape * const pShape
+            = reinterpret_cast<HeightFieldShape *> (shapeVa);
+    DIRECT_BYTE_BUFFER(pEnv, edits, pBytes, capacityBytes);
+    JPH_ASSERT(numBytes <= capacityBytes);
+    TempAllocator * const pAllocator
+            = reinterpret_cast<TempAllocator *> (allocatorVa);
+    const uint blockSize = pShape->GetBlockSize();
+    const uint sampleCount = pShape->GetSampleCount();
+
+    BodyInterface * const pInterface
+            = reinterpret_cast<BodyInterface *> (bodyInterfaceVa);
+    const BodyID id(bodyId);
+    RMat44 worldTransform = RMat44::sIdentity();
+    if (pInterface != nullptr && numBytes > 0) {
+        worldTransform = pInterface->GetWorldTransform(id);
+    }
+    Array<AABox> wakeBoxes;
+    Array<float> heights;
+
+    // Parse the records, applying material patches immediately:
+    Array<HeightPatch> patches;
+    uint numMaterialPatches = 0;
+    bool materialsRejected = false;
+    const int32 *pWord = reinterpret_cast<const int32 *> (pBytes);
+    const int32 * const pEnd = pWord + numBytes / 4;
+    while (pWord < pEnd) {
+        const int32 type = *pWord++;
+        const uint startX = *pWord++;
+        const uint startY = *pWord++;
+        const uint sizeX = *pWord++;
+        const uint sizeY = *pWord++;
+        const uint numValues = sizeX * sizeY;
+        if (type == 0) { // heights
+            const HeightPatch patch{startX, startY, sizeX, sizeY,
+                reinterpret_cast<const float *> (pWord)};
+            patches.push_back(patch);
+            pWord += numValues;
+        } else { // material indices, padded to a whole number of words
+            JPH_ASSERT(startX + sizeX < sampleCount);
+            JPH_ASSERT(startY + sizeY < sampleCount);
+            const uint8 * const pIndices
+                    = reinterpret_cast<const uint8 *> (pWord);
+            if (pShape->SetMaterials(startX, startY, sizeX, sizeY, pIndices,
+                    sizeX, nullptr, *pAllocator)) {
+                ++numMaterialPatches;
+            } else {
+                materialsRejected = true;
+            }
+            pWord += (numValues + 3) / 4;
+
+            // Record the neighborhood of the edited cells for waking bodies:
+            if (pInterface != nullptr) {
+                const uint numSamplesX = sizeX + 1;
+                const uint numSamplesY = sizeY + 1;
+                heights.resize(numSamplesX * numSamplesY);
+                pShape->GetHeights(startX, startY, numSamplesX, numSamplesY,
+                        heights.data(), numSamplesX);
+                float minHeight = FLT_MAX;
+                float maxHeight = -FLT_MAX;
+                for (float h : heights) {
+                    if (h != HeightFieldShapeConstants::cNoCollisionValue) {
+                        minHeight = min(minHeight, h);
+                        maxHeight = max(maxHeight, h);
+                    }
+                }
+                if (minHeight <= maxHeight) {
+                    wakeBoxes.push_back(WakeBox(pShape, startX, startY,
+                            startX + sizeX, startY + sizeY, minHeight,
+                            maxHeight, worldTransform));
+                }
+            }
+        }
+    }
+
+    // Coalesce overlapping patches into block-aligned regions:
+    Array<EditRegion> regions;
+    for (uint i = 0; i < patches.size(); ++i) {
+        const HeightPatch& patch = patches[i];
+        EditRegion region;
+        region.mMinX = patch.mStartX / blockSize * blockSize;
+        region.mMinY = patch.mStartY / blockSize * blockSize;
+        region.mMaxX = min(sampleCount, AlignUp(
+                patch.mStartX + patch.mSizeX, blockSize));
+        region.mMaxY = min(sampleCount, AlignUp(
+                patch.mStartY + patch.mSizeY, blockSize));
+        region.mPatchIndices.push_back(i);
+        for (uint j = 0; j < regions.size();) {
+            if (regions[j].Overlaps(region)) {
+                const EditRegion& other = regions[j];
+                region.mMinX = min(region.mMinX, other.mMinX);
+                region.mMinY = min(region.mMinY, other.mMinY);
+                region.mMaxX = max(region.mMaxX, other.mMaxX);
+                region.mMaxY = max(region.mMaxY, other.mMaxY);
+                Array<uint> merged = other.mPatchIndices;
+                merged.insert(merged.end(), region.mPatchIndices.begin(),
+                        region.mPatchIndices.end());
+                QuickSort(merged.begin(), merged.end());
+                region.mPatchIndices = merged;
+                regions.erase(regions.begin() + j);
+                j = 0; // the grown region may now overlap earlier ones
+            } else {
+                ++j;
+            }
+        }
+        regions.push_back(region);
+    }
+
+    // Read, patch, and write each region:
+    for (const EditRegion& region : regions) {
+        const uint sizeX = region.mMaxX - region.mMinX;
+        const uint sizeY = region.mMaxY - region.mMinY;
+        heights.resize(sizeX * sizeY);
+        pShape->GetHeights(region.mMinX, region.mMinY, sizeX, sizeY,
+                heights.data(), sizeX);
+
+        // Track the vertical extent of both the old and new heights:
+        float minHeight = FLT_MAX;
+        float maxHeight = -FLT_MAX;
+        for (float h : heights) {
+            if (h != HeightFieldShapeConstants::cNoCollisionValue) {
+                minHeight = min(minHeight, h);
+                maxHeight = max(maxHeight, h);
+            }
+        }
+        for (uint patchIndex : region.mPatchIndices) {
+            const HeightPatch& patch = patches[patchIndex];
+            for (uint y = 0; y < patch.mSizeY; ++y) {
+                for (uint x = 0; x < patch.mSizeX; ++x) {
+                    const float h = patch.mpHeights[x + y * patch.mSizeX];
+                    const uint rx = patch.mStartX + x - region.mMinX;
+                    const uint ry = patch.mStartY + y - region.mMinY;
+                    heights[rx + ry * sizeX] = h;
+                    if (h != HeightFieldShapeConstants::cNoCollisionValue) {
+                        minHeight = min(minHeight, h);
+                        maxHeight = max(maxHeight, h);
+                    }
+                }
+            }
+        }
+        pShape->SetHeights(region.mMinX, region.mMinY, sizeX, sizeY,
+                heights.data(), sizeX, *pAllocator, cosThresholdAngle);
+
+        // Record the neighborhood of the edited region for waking bodies:
+        if (pInterface != nullptr && minHeight <= maxHeight) {
+            // include the cells adjacent to the edited samples:
+            const uint lowX = region.mMinX > 0 ? region.mMinX - 1 : 0;
+            const uint lowY = region.mMinY > 0 ? region.mMinY - 1 : 0;
+            const uint highX = min(region.mMaxX, sampleCount - 1);
+            const uint highY = min(region.mMaxY, sampleCount - 1);
+            wakeBoxes.push_back(WakeBox(pShape, lowX, lowY, highX, highY,
+                    minHeight, maxHeight, worldTransform));
+        }
+    }
+
+    /*
+     * Notify the body once all regions and materials are written,
+     * then wake its neighbors:
+     */
+    if (pInterface != nullptr && (!regions.empty() || numMaterialPatches > 0)) {
+        pInterface->NotifyShapeChanged(
+                id, Vec3::sZero(), false, EActivation::DontActivate);
+        const BroadPhaseLayerFilter bplFilter;
+        const ObjectLayerFilter olFilter;
+        for (const AABox& box : wakeBoxes) {
+            pInterface->ActivateBodiesInAABox(box, bplFilter, olFilter);
+        }
+    }
+
+    if (!patches.empty() || numMaterialPatches > 0) {
+        uint64 revisionCount = pShape->GetUserData();
+        ++revisionCount;
+        pShape->SetUserData(revisionCount);
+    }
+
+    // A negative result indicates that Jolt rejected a material patch:
+    const jint result = materialsRejected ? -1 : (jint) regions.size();
+    return result;
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_HeightFieldShape
  * Method:    getBlockSize
@@ -75,6 +307,19 @@ JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_HeightFieldShape_getP
     pFloats[2] = result.GetZ();
 }
 
+/*
+ * Class:     com_github_stephengold_joltjni_HeightFieldShape
+ * Method:    getSampleCount
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_HeightFieldShape_getSampleCount
+  (JNIEnv *, jclass, jlong shapeVa) {
+    const HeightFieldShape * const pShape
+            = reinterpret_cast<HeightFieldShape *> (shapeVa);
+    const uint result = pShape->GetSampleCount();
+    return result;
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_HeightFieldShape
  * Method:    getSurfaceNormal
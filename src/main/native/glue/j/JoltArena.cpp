@@ -0,0 +1,87 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+/*
+ * Author: Stephen Gold
+ */
+#include "Jolt/Jolt.h"
+#include "auto/com_github_stephengold_joltjni_JoltArena.h"
+#include "glue/glue.h"
+#include "glue/JoltArena.h"
+
+using namespace JPH;
+
+/*
+ * Class:     com_github_stephengold_joltjni_JoltArena
+ * Method:    countBlocks
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_JoltArena_countBlocks
+  (JNIEnv *, jclass, jlong arenaVa) {
+    const JoltArena * const pArena = reinterpret_cast<JoltArena *> (arenaVa);
+    const uint32 result = pArena->GetNumBlocks();
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_JoltArena
+ * Method:    countBytesUsed
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_JoltArena_countBytesUsed
+  (JNIEnv *, jclass, jlong arenaVa) {
+    const JoltArena * const pArena = reinterpret_cast<JoltArena *> (arenaVa);
+    const size_t result = pArena->GetNumBytesUsed();
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_JoltArena
+ * Method:    countObjects
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_JoltArena_countObjects
+  (JNIEnv *, jclass, jlong arenaVa) {
+    const JoltArena * const pArena = reinterpret_cast<JoltArena *> (arenaVa);
+    const uint32 result = pArena->GetNumObjects();
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_JoltArena
+ * Method:    create
+ * Signature: (I)J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_JoltArena_create
+  (JNIEnv *, jclass, jint blockBytes) {
+    JoltArena * const pResult = new JoltArena(blockBytes);
+    TRACE_NEW("JoltArena", pResult)
+    return reinterpret_cast<jlong> (pResult);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_JoltArena
+ * Method:    free
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_JoltArena_free
+  BODYOF_FREE(JoltArena)
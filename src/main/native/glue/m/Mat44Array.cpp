@@ -27,6 +27,7 @@ SOFTWARE.
 #include "Jolt/Math/Mat44.h"
 #include "auto/com_github_stephengold_joltjni_Mat44Array.h"
 #include "glue/glue.h"
+#include "glue/JoltArena.h"
 
 using namespace JPH;
 
@@ -45,6 +46,21 @@ JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_Mat44Array_create
     return reinterpret_cast<jlong> (pArray);
 }
 
+/*
+ * Class:     com_github_stephengold_joltjni_Mat44Array
+ * Method:    createInArena
+ * Signature: (JI)J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_Mat44Array_createInArena
+  (JNIEnv *, jclass, jlong arenaVa, jint length) {
+    JoltArena * const pArena = reinterpret_cast<JoltArena *> (arenaVa);
+    Mat44 * const pResult = pArena->NewArray<Mat44>(length);
+    for (int32_t i = 0; i < length; ++i) {
+        pResult[i] = Mat44::sIdentity();
+    }
+    return reinterpret_cast<jlong> (pResult);
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_Mat44Array
  * Method:    free
@@ -27,6 +27,7 @@ SOFTWARE.
 #include "Jolt/Physics/Collision/Shape/MeshShape.h"
 #include "auto/com_github_stephengold_joltjni_MeshShapeSettings.h"
 #include "glue/glue.h"
+#include <cstring>
 
 using namespace JPH;
 
@@ -80,6 +81,66 @@ JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_MeshShapeSettings_cr
 JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_MeshShapeSettings_createDefault
   BODYOF_CREATE_DEFAULT_TARGET(MeshShapeSettings)
 
+/*
+ * Class:     com_github_stephengold_joltjni_MeshShapeSettings
+ * Method:    createFromBuffers
+ * Signature: (Ljava/nio/FloatBuffer;Ljava/nio/IntBuffer;Ljava/nio/Buffer;IJ)J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_MeshShapeSettings_createFromBuffers
+  (JNIEnv *pEnv, jclass, jobject vertices, jobject indices,
+  jobject materialIndices, jint bytesPerIndex, jlong materialsVa) {
+    const DIRECT_FLOAT_BUFFER(pEnv, vertices, pFloats, capacityFloats);
+    const DIRECT_INT_BUFFER(pEnv, indices, pInts, capacityInts);
+    const jlong numVertices = capacityFloats / 3;
+    const jlong numTriangles = capacityInts / 3;
+    MeshShapeSettings * const pResult = new MeshShapeSettings();
+    TRACE_NEW_TARGET("MeshShapeSettings", pResult)
+
+    // Float3 is tightly packed, so the vertices can be copied in bulk:
+    static_assert(sizeof(Float3) == 3 * sizeof(float));
+    pResult->mTriangleVertices.resize(numVertices);
+    memcpy(pResult->mTriangleVertices.data(), pFloats,
+            numVertices * sizeof(Float3));
+
+    const uint8 *pBytes = nullptr;
+    const uint16 *pShorts = nullptr;
+    if (materialIndices != nullptr) {
+        void * const pAddress = pEnv->GetDirectBufferAddress(materialIndices);
+        JPH_ASSERT(pAddress);
+        JPH_ASSERT(pEnv->GetDirectBufferCapacity(materialIndices)
+                >= numTriangles);
+        if (bytesPerIndex == 1) {
+            pBytes = reinterpret_cast<uint8 *> (pAddress);
+        } else {
+            JPH_ASSERT(bytesPerIndex == 2);
+            pShorts = reinterpret_cast<uint16 *> (pAddress);
+        }
+    }
+    pResult->mIndexedTriangles.resize(numTriangles);
+    IndexedTriangle *pTriangle = pResult->mIndexedTriangles.data();
+    for (jlong i = 0; i < numTriangles; ++i, ++pTriangle) {
+        pTriangle->mIdx[0] = pInts[3 * i];
+        pTriangle->mIdx[1] = pInts[3 * i + 1];
+        pTriangle->mIdx[2] = pInts[3 * i + 2];
+        if (pBytes != nullptr) {
+            pTriangle->mMaterialIndex = pBytes[i];
+        } else if (pShorts != nullptr) {
+            pTriangle->mMaterialIndex = pShorts[i];
+        } else {
+            pTriangle->mMaterialIndex = 0;
+        }
+        pTriangle->mUserData = 0;
+    }
+
+    if (materialsVa != 0) {
+        const PhysicsMaterialList * const pMaterials
+                = reinterpret_cast<PhysicsMaterialList *> (materialsVa);
+        pResult->mMaterials = *pMaterials;
+    }
+
+    return reinterpret_cast<jlong> (pResult);
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_MeshShapeSettings
  * Method:    createFromTrianglesNoMats
@@ -260,6 +321,21 @@ JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_MeshShapeSettings_res
     pSettings->mTriangleVertices.reserve(numVertices);
 }
 
+/*
+ * Class:     com_github_stephengold_joltjni_MeshShapeSettings
+ * Method:    sanitize
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_MeshShapeSettings_sanitize
+  (JNIEnv *, jclass, jlong settingsVa) {
+    MeshShapeSettings * const pSettings
+            = reinterpret_cast<MeshShapeSettings *> (settingsVa);
+    const size_t oldCount = pSettings->mIndexedTriangles.size();
+    pSettings->Sanitize();
+    const jint result = oldCount - pSettings->mIndexedTriangles.size();
+    return result;
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_MeshShapeSettings
  * Method:    setActiveEdgeCosThresholdAngle
@@ -52,6 +52,20 @@ JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_MiscUtil_hashBytes__
     return result;
 }
 
+/*
+ * Class:     com_github_stephengold_joltjni_MiscUtil
+ * Method:    hashBytes
+ * Signature: (Ljava/nio/ByteBuffer;IIJ)J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_MiscUtil_hashBytes__Ljava_nio_ByteBuffer_2IIJ
+  (JNIEnv *pEnv, jclass, jobject data, jint startPosition, jint numBytes,
+  jlong oldHash) {
+    DIRECT_BYTE_BUFFER(pEnv, data, pBytes, capacityBytes);
+    JPH_ASSERT(startPosition + numBytes <= capacityBytes);
+    const uint64 result = HashBytes(pBytes + startPosition, numBytes, oldHash);
+    return result;
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_MiscUtil
  * Method:    hashCombine
@@ -315,6 +315,19 @@ JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_MotionProperties_get
     return reinterpret_cast<jlong> (pResult);
 }
 
+/*
+ * Class:     com_github_stephengold_joltjni_MotionProperties
+ * Method:    getLocalSpaceInverseInertiaInto
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_MotionProperties_getLocalSpaceInverseInertiaInto
+  (JNIEnv *, jclass, jlong propertiesVa, jlong storeVa) {
+    const MotionProperties * const pProperties
+            = reinterpret_cast<MotionProperties *> (propertiesVa);
+    Mat44 * const pStore = reinterpret_cast<Mat44 *> (storeVa);
+    *pStore = pProperties->GetLocalSpaceInverseInertia();
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_MotionProperties
  * Method:    getMaxAngularVelocity
@@ -25,11 +25,25 @@ SOFTWARE.
  */
 #include "Jolt/Jolt.h"
 #include "Jolt/Physics/Collision/Shape/MutableCompoundShape.h"
+#include "Jolt/Physics/Body/BodyInterface.h"
 #include "auto/com_github_stephengold_joltjni_MutableCompoundShape.h"
 #include "glue/glue.h"
+#include "glue/TrackingAllocator.h"
 
 using namespace JPH;
 
+/*
+ * edit-record types, which must match MutableCompoundEditBatch.java:
+ */
+static const int32 cEditAdd = 0;
+static const int32 cEditRemove = 1;
+static const int32 cEditReplace = 2;
+static const int32 cEditTransform = 3;
+/*
+ * the size of each edit record (in bytes):
+ */
+static const int cEditBytes = 48;
+
 /*
  * Class:     com_github_stephengold_joltjni_MutableCompoundShape
  * Method:    addShape
@@ -65,6 +79,95 @@ JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_MutableCompoundShape_
     pCompound->SetUserData(revisionCount);
 }
 
+/*
+ * Class:     com_github_stephengold_joltjni_MutableCompoundShape
+ * Method:    applyEdits
+ * Signature: (JLjava/nio/ByteBuffer;IZJIZILjava/nio/IntBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_MutableCompoundShape_applyEdits
+  (JNIEnv *pEnv, jclass, jlong shapeVa, jobject edits, jint numEdits,
+  jboolean adjustCom, jlong bodyInterfaceVa, jint bodyId,
+  jboolean updateMassProperties, jint activationOrdinal, jobject storeRemap) {
+    MutableCompoundShape * const pCompound
+            = reinterpret_cast<MutableCompoundShape *> (shapeVa);
+    DIRECT_BYTE_BUFFER(pEnv, edits, pBytes, capacityBytes);
+    JPH_ASSERT(numEdits * cEditBytes <= capacityBytes);
+    DIRECT_INT_BUFFER(pEnv, storeRemap, pRemap, capacityInts);
+    const uint numOriginal = pCompound->GetNumSubShapes();
+    JPH_ASSERT(numOriginal <= capacityInts);
+    const Vec3 prevCom = pCompound->GetCenterOfMass();
+
+    // Replace and transform first, while the original indices are valid:
+    Array<bool> removed(numOriginal, false);
+    for (jint i = 0; i < numEdits; ++i) {
+        const jbyte * const pRecord = pBytes + i * cEditBytes;
+        const int32 type = *reinterpret_cast<const int32 *> (pRecord);
+        const uint index = *reinterpret_cast<const int32 *> (pRecord + 4);
+        const float * const pFloats
+                = reinterpret_cast<const float *> (pRecord + 8);
+        const Vec3 offset(pFloats[0], pFloats[1], pFloats[2]);
+        const Quat rotation(pFloats[3], pFloats[4], pFloats[5], pFloats[6]);
+        const Shape * const pShape = reinterpret_cast<const Shape *> (
+                *reinterpret_cast<const jlong *> (pRecord + 40));
+        if (type == cEditRemove) {
+            removed[index] = true;
+        } else if (type == cEditReplace) {
+            pCompound->ModifyShape(index, offset, rotation, pShape);
+        } else if (type == cEditTransform) {
+            pCompound->ModifyShape(index, offset, rotation);
+        }
+    }
+
+    /*
+     * Remove from the highest index down, so the remaining indices stay
+     * valid and fewer sub-shape bounds get shifted:
+     */
+    for (uint i = numOriginal; i > 0; --i) {
+        if (removed[i - 1]) {
+            pCompound->RemoveShape(i - 1);
+        }
+    }
+    uint newIndex = 0;
+    for (uint i = 0; i < numOriginal; ++i) {
+        pRemap[i] = removed[i] ? -1 : newIndex++;
+    }
+
+    // Append additions in batch order:
+    uint remapIndex = numOriginal;
+    for (jint i = 0; i < numEdits; ++i) {
+        const jbyte * const pRecord = pBytes + i * cEditBytes;
+        const int32 type = *reinterpret_cast<const int32 *> (pRecord);
+        if (type == cEditAdd) {
+            const float * const pFloats
+                    = reinterpret_cast<const float *> (pRecord + 8);
+            const Vec3 offset(pFloats[0], pFloats[1], pFloats[2]);
+            const Quat rotation(
+                    pFloats[3], pFloats[4], pFloats[5], pFloats[6]);
+            const Shape * const pShape = reinterpret_cast<const Shape *> (
+                    *reinterpret_cast<const jlong *> (pRecord + 40));
+            JPH_ASSERT(remapIndex < capacityInts);
+            pRemap[remapIndex++]
+                    = pCompound->AddShape(offset, rotation, pShape);
+        }
+    }
+
+    if (adjustCom) {
+        pCompound->AdjustCenterOfMass();
+    }
+    uint64 revisionCount = pCompound->GetUserData();
+    ++revisionCount;
+    pCompound->SetUserData(revisionCount);
+
+    if (bodyInterfaceVa != 0) {
+        BodyInterface * const pInterface
+                = reinterpret_cast<BodyInterface *> (bodyInterfaceVa);
+        const BodyID id(bodyId);
+        const EActivation activationMode = (EActivation) activationOrdinal;
+        pInterface->NotifyShapeChanged(
+                id, prevCom, updateMassProperties, activationMode);
+    }
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_MutableCompoundShape
  * Method:    createMutableCompoundShape
@@ -72,6 +175,7 @@ JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_MutableCompoundShape_
  */
 JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_MutableCompoundShape_createMutableCompoundShape
   (JNIEnv *, jclass) {
+    const AllocationTagScope tagScope(EAllocationTag::Shapes);
     MutableCompoundShape * const pCompound = new MutableCompoundShape();
     TRACE_NEW_TARGET("MutableCompoundShape", pCompound)
     return reinterpret_cast<jlong> (pCompound);
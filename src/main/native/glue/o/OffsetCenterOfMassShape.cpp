@@ -27,6 +27,7 @@ SOFTWARE.
 #include "Jolt/Physics/Collision/Shape/OffsetCenterOfMassShape.h"
 #include "auto/com_github_stephengold_joltjni_OffsetCenterOfMassShape.h"
 #include "glue/glue.h"
+#include "glue/TrackingAllocator.h"
 
 using namespace JPH;
 
@@ -38,6 +39,7 @@ using namespace JPH;
 JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_OffsetCenterOfMassShape_createShape
   (JNIEnv *, jclass, jlong baseShapeVa, jfloat offsetX, jfloat offsetY,
   jfloat offsetZ) {
+    const AllocationTagScope tagScope(EAllocationTag::Shapes);
     const Shape * const pBase = reinterpret_cast<Shape *> (baseShapeVa);
     const Vec3 offset(offsetX, offsetY, offsetZ);
     OffsetCenterOfMassShape * const pResult
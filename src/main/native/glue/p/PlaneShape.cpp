@@ -27,6 +27,7 @@ SOFTWARE.
 #include "Jolt/Physics/Collision/Shape/PlaneShape.h"
 #include "auto/com_github_stephengold_joltjni_PlaneShape.h"
 #include "glue/glue.h"
+#include "glue/TrackingAllocator.h"
 
 using namespace JPH;
 
@@ -38,6 +39,7 @@ using namespace JPH;
 JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_PlaneShape_createShape
   (JNIEnv *, jclass, jfloat nx, jfloat ny, jfloat nz, jfloat planeConstant,
   jlong materialVa, jfloat halfExtent) {
+    const AllocationTagScope tagScope(EAllocationTag::Shapes);
     const Vec3 normal(nx, ny, nz);
     const Plane plane(normal, planeConstant);
     const PhysicsMaterial * const pMaterial
@@ -29,6 +29,7 @@ SOFTWARE.
 
 #include "auto/com_github_stephengold_joltjni_PhysicsSystem.h"
 #include "glue/glue.h"
+#include "glue/TrackingAllocator.h"
 #include <iostream>
 
 using namespace JPH;
@@ -220,6 +221,23 @@ JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_PhysicsSystem_getActi
     pSystem->GetActiveBodies(bodyType, *pVector);
 }
 
+/*
+ * Class:     com_github_stephengold_joltjni_PhysicsSystem
+ * Method:    getActiveBodyVa
+ * Signature: (JII)J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_PhysicsSystem_getActiveBodyVa
+  (JNIEnv *, jclass, jlong systemVa, jint ordinal, jint index) {
+    const PhysicsSystem * const pSystem
+            = reinterpret_cast<PhysicsSystem *> (systemVa);
+    const EBodyType bodyType = (EBodyType)ordinal;
+    JPH_ASSERT(index >= 0 && (uint32) index < pSystem->GetNumActiveBodies(bodyType));
+    const BodyID * const pIds = pSystem->GetActiveBodiesUnsafe(bodyType);
+    const BodyLockInterfaceNoLock& bli = pSystem->GetBodyLockInterfaceNoLock();
+    const Body * const pResult = bli.TryGetBody(pIds[index]);
+    return reinterpret_cast<jlong> (pResult);
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_PhysicsSystem
  * Method:    getBodies
@@ -479,6 +497,7 @@ JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_PhysicsSystem_init
   (JNIEnv *, jclass, jlong systemVa, jint maxBodies, jint numBodyMutexes,
   jint maxBodyPairs, jint maxContactConstraints, jlong mapVa, jlong ovbFilterVa,
   jlong ovoFilterVa) {
+    const AllocationTagScope tagScope(EAllocationTag::SystemInit);
     PhysicsSystem * const pSystem
             = reinterpret_cast<PhysicsSystem *> (systemVa);
     const BroadPhaseLayerInterface * const pMap
@@ -498,6 +517,7 @@ JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_PhysicsSystem_init
  */
 JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_PhysicsSystem_optimizeBroadPhase
   (JNIEnv *, jclass, jlong systemVa) {
+    const AllocationTagScope tagScope(EAllocationTag::BroadPhase);
     PhysicsSystem * const pSystem
             = reinterpret_cast<PhysicsSystem *> (systemVa);
     pSystem->OptimizeBroadPhase();
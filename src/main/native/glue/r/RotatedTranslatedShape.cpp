@@ -27,6 +27,7 @@ SOFTWARE.
 #include "Jolt/Physics/Collision/Shape/RotatedTranslatedShape.h"
 #include "auto/com_github_stephengold_joltjni_RotatedTranslatedShape.h"
 #include "glue/glue.h"
+#include "glue/TrackingAllocator.h"
 
 using namespace JPH;
 
@@ -38,6 +39,7 @@ using namespace JPH;
 JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_RotatedTranslatedShape_createRotatedTranslatedShape
   (JNIEnv *, jclass, jfloat offsetX, jfloat offsetY, jfloat offsetZ,
   jfloat rotX, jfloat rotY, jfloat rotZ, jfloat rotW, jlong baseShapeVa) {
+    const AllocationTagScope tagScope(EAllocationTag::Shapes);
     const Vec3 offset(offsetX, offsetY, offsetZ);
     const Quat rotation(rotX, rotY, rotZ, rotW);
     const Shape * const pBase = reinterpret_cast<Shape *> (baseShapeVa);
@@ -0,0 +1,79 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+/*
+ * Author: Stephen Gold
+ */
+#include "Jolt/Jolt.h"
+#include "Jolt/Physics/Ragdoll/Ragdoll.h"
+
+#include "auto/com_github_stephengold_joltjni_RagdollPoseExporter.h"
+#include "glue/glue.h"
+
+using namespace JPH;
+
+/*
+ * Class:     com_github_stephengold_joltjni_RagdollPoseExporter
+ * Method:    exportPoses
+ * Signature: ([JIZLjava/nio/DoubleBuffer;Ljava/nio/FloatBuffer;Z)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_RagdollPoseExporter_exportPoses
+  (JNIEnv *pEnv, jclass, jlongArray ragdollVas, jint numRagdolls,
+  jboolean use3x4, jobject storeRootOffsets, jobject storeMatrices,
+  jboolean lockBodies) {
+    Array<jlong> vas(numRagdolls);
+    pEnv->GetLongArrayRegion(ragdollVas, 0, numRagdolls, vas.data());
+    EXCEPTION_CHECK(pEnv)
+    DIRECT_DOUBLE_BUFFER(pEnv, storeRootOffsets, pOffsets, capacityDoubles);
+    JPH_ASSERT(capacityDoubles >= 3 * numRagdolls);
+    DIRECT_FLOAT_BUFFER(pEnv, storeMatrices, pFloats, capacityFloats);
+    jfloat *pOut = pFloats;
+
+    Array<Mat44> matrices;
+    for (jint i = 0; i < numRagdolls; ++i) {
+        Ragdoll * const pRagdoll = reinterpret_cast<Ragdoll *> (vas[i]);
+        const size_t numBodies = pRagdoll->GetBodyCount();
+        matrices.resize(numBodies);
+        RVec3 rootOffset;
+        pRagdoll->GetPose(rootOffset, matrices.data(), lockBodies);
+        pOffsets[3 * i] = rootOffset.GetX();
+        pOffsets[3 * i + 1] = rootOffset.GetY();
+        pOffsets[3 * i + 2] = rootOffset.GetZ();
+
+        if (use3x4) {
+            JPH_ASSERT(pOut + 12 * numBodies <= pFloats + capacityFloats);
+            for (const Mat44& matrix : matrices) {
+                for (int row = 0; row < 3; ++row) {
+                    for (int column = 0; column < 4; ++column) {
+                        *pOut++ = matrix(row, column);
+                    }
+                }
+            }
+        } else {
+            JPH_ASSERT(pOut + 16 * numBodies <= pFloats + capacityFloats);
+            for (const Mat44& matrix : matrices) {
+                matrix.StoreFloat4x4((Float4 *) pOut);
+                pOut += 16;
+            }
+        }
+    }
+}
@@ -27,9 +27,22 @@ SOFTWARE.
 #include "Jolt/Physics/Collision/CastResult.h"
 #include "auto/com_github_stephengold_joltjni_RayCastResult.h"
 #include "glue/glue.h"
+#include "glue/JoltArena.h"
 
 using namespace JPH;
 
+/*
+ * Class:     com_github_stephengold_joltjni_RayCastResult
+ * Method:    createInArena
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_RayCastResult_createInArena
+  (JNIEnv *, jclass, jlong arenaVa) {
+    JoltArena * const pArena = reinterpret_cast<JoltArena *> (arenaVa);
+    RayCastResult * const pResult = pArena->New<RayCastResult>();
+    return reinterpret_cast<jlong> (pResult);
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_RayCastResult
  * Method:    createRayCastResult
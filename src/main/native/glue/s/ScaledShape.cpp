@@ -27,6 +27,7 @@ SOFTWARE.
 #include "Jolt/Physics/Collision/Shape/ScaledShape.h"
 #include "auto/com_github_stephengold_joltjni_ScaledShape.h"
 #include "glue/glue.h"
+#include "glue/TrackingAllocator.h"
 
 using namespace JPH;
 
@@ -37,6 +38,7 @@ using namespace JPH;
  */
 JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_ScaledShape_createScaledShape
   (JNIEnv *, jclass, jlong baseShapeVa, jfloat x, jfloat y, jfloat z) {
+    const AllocationTagScope tagScope(EAllocationTag::Shapes);
     const Shape * const pBase = reinterpret_cast<Shape *> (baseShapeVa);
     const Vec3 factors(x, y, z);
     ScaledShape * const pResult = new ScaledShape(pBase, factors);
@@ -27,6 +27,7 @@ SOFTWARE.
 #include "Jolt/Physics/Collision/Shape/SphereShape.h"
 #include "auto/com_github_stephengold_joltjni_SphereShape.h"
 #include "glue/glue.h"
+#include "glue/TrackingAllocator.h"
 
 using namespace JPH;
 
@@ -37,6 +38,7 @@ using namespace JPH;
  */
 JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_SphereShape_createSphereShape
   (JNIEnv *, jclass, jfloat radius) {
+    const AllocationTagScope tagScope(EAllocationTag::Shapes);
     SphereShape * const pResult = new SphereShape(radius);
     TRACE_NEW_TARGET("SphereShape", pResult)
     return reinterpret_cast<jlong> (pResult);
@@ -224,6 +224,18 @@ JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_Shape_getLocalBounds
     return reinterpret_cast<jlong> (pResult);
 }
 
+/*
+ * Class:     com_github_stephengold_joltjni_Shape
+ * Method:    getLocalBoundsInto
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_Shape_getLocalBoundsInto
+  (JNIEnv *, jclass, jlong shapeVa, jlong storeVa) {
+    const Shape * const pShape = reinterpret_cast<Shape *> (shapeVa);
+    AABox * const pStore = reinterpret_cast<AABox *> (storeVa);
+    *pStore = pShape->GetLocalBounds();
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_Shape
  * Method:    getMassProperties
@@ -342,6 +354,21 @@ JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_Shape_getWorldSpaceB
     return reinterpret_cast<jlong> (pResult);
 }
 
+/*
+ * Class:     com_github_stephengold_joltjni_Shape
+ * Method:    getWorldSpaceBoundsInto
+ * Signature: (JJFFFJ)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_Shape_getWorldSpaceBoundsInto
+  (JNIEnv *, jclass, jlong shapeVa, jlong matrixVa, jfloat sx, jfloat sy, jfloat sz,
+  jlong storeVa) {
+    const Shape * const pShape = reinterpret_cast<Shape *> (shapeVa);
+    const Mat44 * const pMatrix = reinterpret_cast<Mat44 *> (matrixVa);
+    const Vec3 scale(sx, sy, sz);
+    AABox * const pStore = reinterpret_cast<AABox *> (storeVa);
+    *pStore = pShape->GetWorldSpaceBounds(*pMatrix, scale);
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_Shape
  * Method:    getWorldSpaceBoundsReal
@@ -358,6 +385,21 @@ JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_Shape_getWorldSpaceB
     return reinterpret_cast<jlong> (pResult);
 }
 
+/*
+ * Class:     com_github_stephengold_joltjni_Shape
+ * Method:    getWorldSpaceBoundsRealInto
+ * Signature: (JJFFFJ)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_Shape_getWorldSpaceBoundsRealInto
+  (JNIEnv *, jclass, jlong shapeVa, jlong rMat44Va, jfloat sx, jfloat sy, jfloat sz,
+  jlong storeVa) {
+    const Shape * const pShape = reinterpret_cast<Shape *> (shapeVa);
+    const RMat44 * const pMatrix = reinterpret_cast<RMat44 *> (rMat44Va);
+    const Vec3 scale(sx, sy, sz);
+    AABox * const pStore = reinterpret_cast<AABox *> (storeVa);
+    *pStore = pShape->GetWorldSpaceBounds(*pMatrix, scale);
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_Shape
  * Method:    isValidScale
@@ -412,6 +454,23 @@ JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_Shape_saveBinaryState
     pShape->SaveBinaryState(*pStream);
 }
 
+/*
+ * Class:     com_github_stephengold_joltjni_Shape
+ * Method:    saveWithChildren
+ * Signature: (JJJJ)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_Shape_saveWithChildren
+  (JNIEnv *, jclass, jlong shapeVa, jlong streamVa, jlong shapeMapVa,
+  jlong materialMapVa) {
+    const Shape * const pShape = reinterpret_cast<Shape *> (shapeVa);
+    StreamOut * const pStream = reinterpret_cast<StreamOut *> (streamVa);
+    Shape::ShapeToIDMap * const pShapeMap
+            = reinterpret_cast<Shape::ShapeToIDMap *> (shapeMapVa);
+    Shape::MaterialToIDMap * const pMaterialMap
+            = reinterpret_cast<Shape::MaterialToIDMap *> (materialMapVa);
+    pShape->SaveWithChildren(*pStream, *pShapeMap, *pMaterialMap);
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_Shape
  * Method:    scaleShape
@@ -452,6 +511,25 @@ JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_Shape_sRestoreFromBi
     return reinterpret_cast<jlong> (pResult);
 }
 
+/*
+ * Class:     com_github_stephengold_joltjni_Shape
+ * Method:    sRestoreWithChildren
+ * Signature: (JJJ)J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_Shape_sRestoreWithChildren
+  (JNIEnv *, jclass, jlong streamVa, jlong shapeMapVa, jlong materialMapVa) {
+    StreamIn * const pStream = reinterpret_cast<StreamIn *> (streamVa);
+    Shape::IDToShapeMap * const pShapeMap
+            = reinterpret_cast<Shape::IDToShapeMap *> (shapeMapVa);
+    Shape::IDToMaterialMap * const pMaterialMap
+            = reinterpret_cast<Shape::IDToMaterialMap *> (materialMapVa);
+    ShapeSettings::ShapeResult *pResult = new ShapeSettings::ShapeResult();
+    TRACE_NEW("ShapeResult", pResult)
+    *pResult = Shape::sRestoreWithChildren(
+            *pStream, *pShapeMap, *pMaterialMap);
+    return reinterpret_cast<jlong> (pResult);
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_Shape
  * Method:    toRef
@@ -0,0 +1,69 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+/*
+ * Author: Stephen Gold
+ */
+#include "Jolt/Jolt.h"
+#include "Jolt/Physics/Collision/Shape/CompoundShape.h"
+#include "Jolt/Physics/Collision/Shape/DecoratedShape.h"
+
+#include "auto/com_github_stephengold_joltjni_ShapeBaker.h"
+
+using namespace JPH;
+
+/*
+ * Class:     com_github_stephengold_joltjni_ShapeBaker
+ * Method:    countSubSettings
+ * Signature: (JZ)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_ShapeBaker_countSubSettings
+  (JNIEnv *, jclass, jlong settingsVa, jboolean compound) {
+    if (compound) {
+        const CompoundShapeSettings * const pSettings
+                = reinterpret_cast<CompoundShapeSettings *> (settingsVa);
+        const jint result = pSettings->mSubShapes.size();
+        return result;
+    } else {
+        return 1;
+    }
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_ShapeBaker
+ * Method:    getSubSettings
+ * Signature: (JZI)J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_ShapeBaker_getSubSettings
+  (JNIEnv *, jclass, jlong settingsVa, jboolean compound, jint index) {
+    const ShapeSettings *pResult;
+    if (compound) {
+        const CompoundShapeSettings * const pSettings
+                = reinterpret_cast<CompoundShapeSettings *> (settingsVa);
+        pResult = pSettings->mSubShapes[index].mShape.GetPtr();
+    } else {
+        const DecoratedShapeSettings * const pSettings
+                = reinterpret_cast<DecoratedShapeSettings *> (settingsVa);
+        pResult = pSettings->mInnerShape.GetPtr();
+    }
+    return reinterpret_cast<jlong> (pResult);
+}
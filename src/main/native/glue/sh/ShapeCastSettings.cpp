@@ -27,6 +27,7 @@ SOFTWARE.
 #include "Jolt/Physics/Collision/ShapeCast.h"
 #include "auto/com_github_stephengold_joltjni_ShapeCastSettings.h"
 #include "glue/glue.h"
+#include "glue/JoltArena.h"
 
 using namespace JPH;
 
@@ -54,6 +55,18 @@ JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_ShapeCastSettings_cr
 JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_ShapeCastSettings_createDefault
   BODYOF_CREATE_DEFAULT(ShapeCastSettings)
 
+/*
+ * Class:     com_github_stephengold_joltjni_ShapeCastSettings
+ * Method:    createInArena
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_ShapeCastSettings_createInArena
+  (JNIEnv *, jclass, jlong arenaVa) {
+    JoltArena * const pArena = reinterpret_cast<JoltArena *> (arenaVa);
+    ShapeCastSettings * const pResult = pArena->New<ShapeCastSettings>();
+    return reinterpret_cast<jlong> (pResult);
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_ShapeCastSettings
  * Method:    getBackFaceModeConvex
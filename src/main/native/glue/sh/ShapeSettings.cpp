@@ -29,6 +29,7 @@ SOFTWARE.
 #include "auto/com_github_stephengold_joltjni_ShapeSettings.h"
 #include "auto/com_github_stephengold_joltjni_ShapeSettingsRef.h"
 #include "glue/glue.h"
+#include "glue/TrackingAllocator.h"
 
 using namespace JPH;
 
@@ -58,6 +59,7 @@ JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_ShapeSettings_clearCa
  */
 JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_ShapeSettings_create
   (JNIEnv *, jclass, jlong settingsVa) {
+    const AllocationTagScope tagScope(EAllocationTag::Shapes);
     ShapeSettings * const pSettings
             = reinterpret_cast<ShapeSettings *> (settingsVa);
     const uint64 savedUserData = pSettings->mUserData;
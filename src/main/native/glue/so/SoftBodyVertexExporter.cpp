@@ -0,0 +1,119 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+/*
+ * Author: Stephen Gold
+ */
+#include "Jolt/Jolt.h"
+#include "Jolt/Core/JobSystem.h"
+#include "Jolt/Physics/Body/Body.h"
+#include "Jolt/Physics/SoftBody/SoftBodyMotionProperties.h"
+
+#include "auto/com_github_stephengold_joltjni_SoftBodyVertexExporter.h"
+#include "glue/glue.h"
+#include "glue/ParallelRuns.h"
+
+using namespace JPH;
+
+/*
+ * Write the vertex locations of a single soft body, relative to the specified
+ * origin, and optionally calculate its vertex normals.
+ */
+static void exportBody(const Body *pBody, RVec3Arg origin,
+        jfloat *pLocations, jfloat *pNormals) {
+    const SoftBodyMotionProperties * const pProperties
+            = static_cast<const SoftBodyMotionProperties *> (
+                    pBody->GetMotionProperties());
+    const Vec3 offset = Vec3(pBody->GetCenterOfMassPosition() - origin);
+    const Array<SoftBodyVertex>& vertices = pProperties->GetVertices();
+    const size_t numVertices = vertices.size();
+    for (size_t i = 0; i < numVertices; ++i) {
+        const Vec3 location = vertices[i].mPosition + offset;
+        location.StoreFloat3(reinterpret_cast<Float3 *> (pLocations + 3 * i));
+    }
+    if (pNormals == nullptr) {
+        return;
+    }
+
+    // Accumulate area-weighted face normals at each vertex:
+    Array<Vec3> sums(numVertices, Vec3::sZero());
+    const SoftBodySharedSettings * const pSettings = pProperties->GetSettings();
+    for (const SoftBodySharedSettings::Face& face : pSettings->mFaces) {
+        const Vec3 x0 = vertices[face.mVertex[0]].mPosition;
+        const Vec3 x1 = vertices[face.mVertex[1]].mPosition;
+        const Vec3 x2 = vertices[face.mVertex[2]].mPosition;
+        const Vec3 faceNormal = (x1 - x0).Cross(x2 - x0);
+        sums[face.mVertex[0]] += faceNormal;
+        sums[face.mVertex[1]] += faceNormal;
+        sums[face.mVertex[2]] += faceNormal;
+    }
+    for (size_t i = 0; i < numVertices; ++i) {
+        const Vec3 normal = sums[i].NormalizedOr(Vec3::sZero());
+        normal.StoreFloat3(reinterpret_cast<Float3 *> (pNormals + 3 * i));
+    }
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_SoftBodyVertexExporter
+ * Method:    exportVertices
+ * Signature: ([J[IIDDDLjava/nio/FloatBuffer;Ljava/nio/FloatBuffer;J)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_SoftBodyVertexExporter_exportVertices
+  (JNIEnv *pEnv, jclass, jlongArray bodyVas, jintArray firstFloats,
+  jint numBodies, jdouble xx, jdouble yy, jdouble zz,
+  jobject storeLocations, jobject storeNormals, jlong jobSystemVa) {
+    if (numBodies <= 0) {
+        return;
+    }
+
+    Array<jlong> vas(numBodies);
+    pEnv->GetLongArrayRegion(bodyVas, 0, numBodies, vas.data());
+    EXCEPTION_CHECK(pEnv)
+    Array<jint> firsts(numBodies + 1);
+    pEnv->GetIntArrayRegion(firstFloats, 0, numBodies + 1, firsts.data());
+    EXCEPTION_CHECK(pEnv)
+
+    DIRECT_FLOAT_BUFFER(pEnv, storeLocations, pLocations, capacityLocations);
+    JPH_ASSERT(capacityLocations >= firsts[numBodies]);
+    jfloat *pNormals = nullptr;
+    if (storeNormals != nullptr) {
+        DIRECT_FLOAT_BUFFER(pEnv, storeNormals, pFloats, capacityNormals);
+        JPH_ASSERT(capacityNormals >= firsts[numBodies]);
+        pNormals = pFloats;
+    }
+    const RVec3 origin(xx, yy, zz);
+    JobSystem * const pJobSystem = reinterpret_cast<JobSystem *> (jobSystemVa);
+
+    // Divide the bodies into contiguous runs, one per job:
+    const uint maxJobs = pJobSystem->GetMaxConcurrency();
+    RunInParallel(pJobSystem, "SoftBodyVertexExporter", numBodies, maxJobs,
+            [&](uint begin, uint end, uint) {
+        for (uint i = begin; i < end; ++i) {
+            const Body * const pBody = reinterpret_cast<Body *> (vas[i]);
+            JPH_ASSERT(pBody->IsSoftBody());
+            const jint first = firsts[i];
+            jfloat * const pBodyNormals
+                    = (pNormals == nullptr) ? nullptr : pNormals + first;
+            exportBody(pBody, origin, pLocations + first, pBodyNormals);
+        }
+    });
+}
@@ -0,0 +1,133 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+/*
+ * Author: Stephen Gold
+ */
+#include "Jolt/Jolt.h"
+#include "Jolt/Core/StreamIn.h"
+#include "auto/com_github_stephengold_joltjni_StreamInBuffer.h"
+#include "glue/glue.h"
+#include <cstring>
+
+using namespace JPH;
+
+/*
+ * A StreamIn that reads from a fixed block of memory owned by Java.
+ */
+class BufferStreamIn : public StreamIn {
+public:
+    /*
+     * constructor:
+     */
+    BufferStreamIn(const jbyte *pData, size_t numBytes)
+            : mpData(pData), mNumBytes(numBytes) {
+    }
+
+    bool IsEOF() const override {
+        return mEof;
+    }
+
+    bool IsFailed() const override {
+        return mFailed;
+    }
+
+    void ReadBytes(void *outData, size_t inNumBytes) override {
+        const size_t available = mNumBytes - mPosition;
+        if (inNumBytes <= available) {
+            memcpy(outData, mpData + mPosition, inNumBytes);
+            mPosition += inNumBytes;
+        } else {
+            // Short read: copy what remains and zero the rest.
+            memcpy(outData, mpData + mPosition, available);
+            memset((char *) outData + available, 0, inNumBytes - available);
+            mPosition = mNumBytes;
+            mEof = true;
+            mFailed = true;
+        }
+    }
+
+    size_t Tell() const {
+        return mPosition;
+    }
+
+private:
+    bool mEof = false;
+    bool mFailed = false;
+    const jbyte * const mpData;
+    const size_t mNumBytes;
+    size_t mPosition = 0;
+};
+
+/*
+ * Class:     com_github_stephengold_joltjni_StreamInBuffer
+ * Method:    createFromBuffer
+ * Signature: (Ljava/nio/ByteBuffer;II)J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_StreamInBuffer_createFromBuffer
+  (JNIEnv *pEnv, jclass, jobject data, jint startPosition, jint numBytes) {
+    DIRECT_BYTE_BUFFER(pEnv, data, pBytes, capacityBytes);
+    JPH_ASSERT(startPosition + numBytes <= capacityBytes);
+    BufferStreamIn * const pResult
+            = new BufferStreamIn(pBytes + startPosition, numBytes);
+    TRACE_NEW("BufferStreamIn", pResult)
+    return reinterpret_cast<jlong> (pResult);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_StreamInBuffer
+ * Method:    isEof
+ * Signature: (J)Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_github_stephengold_joltjni_StreamInBuffer_isEof
+  (JNIEnv *, jclass, jlong streamVa) {
+    const BufferStreamIn * const pStream
+            = reinterpret_cast<BufferStreamIn *> (streamVa);
+    const bool result = pStream->IsEOF();
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_StreamInBuffer
+ * Method:    isFailed
+ * Signature: (J)Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_github_stephengold_joltjni_StreamInBuffer_isFailed
+  (JNIEnv *, jclass, jlong streamVa) {
+    const BufferStreamIn * const pStream
+            = reinterpret_cast<BufferStreamIn *> (streamVa);
+    const bool result = pStream->IsFailed();
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_StreamInBuffer
+ * Method:    tell
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_StreamInBuffer_tell
+  (JNIEnv *, jclass, jlong streamVa) {
+    const BufferStreamIn * const pStream
+            = reinterpret_cast<BufferStreamIn *> (streamVa);
+    const size_t result = pStream->Tell();
+    return result;
+}
@@ -28,6 +28,7 @@ SOFTWARE.
 
 #include "auto/com_github_stephengold_joltjni_TempAllocatorImpl.h"
 #include "glue/glue.h"
+#include "glue/TrackingAllocator.h"
 #include <iostream>
 
 using namespace JPH;
@@ -46,6 +47,7 @@ JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_TempAllocatorImpl_cr
         return 0;
     }
 #endif
+    const AllocationTagScope tagScope(EAllocationTag::Temp);
     TempAllocatorImpl * const pResult = new TempAllocatorImpl(numBytes);
     TRACE_NEW("TempAllocatorImpl", pResult)
     return reinterpret_cast<jlong> (pResult);
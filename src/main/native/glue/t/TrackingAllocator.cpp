@@ -0,0 +1,357 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+/*
+ * Author: Stephen Gold
+ */
+#include "Jolt/Jolt.h"
+#include "auto/com_github_stephengold_joltjni_TrackingAllocator.h"
+#include "glue/glue.h"
+#include "glue/TrackingAllocator.h"
+#include <algorithm>
+#include <atomic>
+#include <cstdint>
+#include <cstdlib>
+#include <cstring>
+#include <iostream>
+
+using namespace JPH;
+
+// per-tag allocation counters:
+struct TagCounters {
+    std::atomic<uint64> mNumAllocations{0};
+    std::atomic<uint64> mNumFrees{0};
+    std::atomic<int64> mLiveBytes{0};
+    std::atomic<int64> mPeakBytes{0};
+};
+static TagCounters sCounters[static_cast<int> (EAllocationTag::Count)];
+
+// header stored immediately before each block handed out to Jolt:
+struct alignas(16) TrackingHeader {
+    void *mpBase; // start of the underlying storage
+    uint64 mNumBytes; // number of bytes requested
+    int32 mTag; // allocation tag at the time of allocation
+    int32 mSizeClass; // size class of the storage, or -1 if not pooled
+};
+
+// size classes for pooled storage: 64, 128, ..., 8192 bytes
+static constexpr int32 cNumSizeClasses = 8;
+static constexpr size_t cMinClassBytes = 64;
+// maximum number of free blocks cached per size class per thread:
+static constexpr uint32 cMaxCachedBlocks = 64;
+
+static std::atomic<bool> sPooled{false};
+
+// tag applied to allocations made by the current thread:
+static thread_local EAllocationTag tCurrentTag = EAllocationTag::Other;
+
+// per-thread free lists of pooled storage, to avoid contention in malloc():
+struct ThreadCache {
+    void *mpHeads[cNumSizeClasses] = {};
+    uint32 mCounts[cNumSizeClasses] = {};
+
+    ~ThreadCache();
+};
+static thread_local ThreadCache tCache;
+// set once the current thread's cache has been destroyed:
+static thread_local bool tCacheDestroyed = false;
+
+ThreadCache::~ThreadCache() {
+    tCacheDestroyed = true;
+    for (int32 i = 0; i < cNumSizeClasses; ++i) {
+        void *pBlock = mpHeads[i];
+        while (pBlock != nullptr) {
+            void * const pNext = *static_cast<void **> (pBlock);
+            std::free(pBlock);
+            pBlock = pNext;
+        }
+        mpHeads[i] = nullptr;
+        mCounts[i] = 0;
+    }
+}
+
+EAllocationTag SetAllocationTag(EAllocationTag tag) {
+    const EAllocationTag result = tCurrentTag;
+    tCurrentTag = tag;
+    return result;
+}
+
+static void CountAllocation(int32 tag, uint64 numBytes) {
+    TagCounters& counters = sCounters[tag];
+    counters.mNumAllocations.fetch_add(1, std::memory_order_relaxed);
+    const int64 delta = static_cast<int64> (numBytes);
+    const int64 live
+            = counters.mLiveBytes.fetch_add(delta, std::memory_order_relaxed)
+            + delta;
+    int64 peak = counters.mPeakBytes.load(std::memory_order_relaxed);
+    while (live > peak && !counters.mPeakBytes.compare_exchange_weak(
+            peak, live, std::memory_order_relaxed)) {
+    }
+}
+
+static void CountFree(int32 tag, uint64 numBytes) {
+    TagCounters& counters = sCounters[tag];
+    counters.mNumFrees.fetch_add(1, std::memory_order_relaxed);
+    counters.mLiveBytes.fetch_sub(
+            static_cast<int64> (numBytes), std::memory_order_relaxed);
+}
+
+static int32 SizeClassOf(size_t numBytes) {
+    size_t classBytes = cMinClassBytes;
+    for (int32 result = 0; result < cNumSizeClasses; ++result) {
+        if (numBytes <= classBytes) {
+            return result;
+        }
+        classBytes <<= 1;
+    }
+    return -1;
+}
+
+static void *AcquireStorage(size_t numBytes, int32& storeSizeClass) {
+    const bool pooled = sPooled.load(std::memory_order_relaxed);
+    const int32 sizeClass = pooled ? SizeClassOf(numBytes) : -1;
+    storeSizeClass = sizeClass;
+    if (sizeClass < 0) {
+        return std::malloc(numBytes);
+    }
+    if (!tCacheDestroyed) {
+        ThreadCache& cache = tCache;
+        void * const pBlock = cache.mpHeads[sizeClass];
+        if (pBlock != nullptr) {
+            cache.mpHeads[sizeClass] = *static_cast<void **> (pBlock);
+            --cache.mCounts[sizeClass];
+            return pBlock;
+        }
+    }
+    return std::malloc(cMinClassBytes << sizeClass);
+}
+
+static void ReleaseStorage(void *pBase, int32 sizeClass) {
+    if (sizeClass >= 0 && !tCacheDestroyed) {
+        ThreadCache& cache = tCache;
+        if (cache.mCounts[sizeClass] < cMaxCachedBlocks) {
+            *static_cast<void **> (pBase) = cache.mpHeads[sizeClass];
+            cache.mpHeads[sizeClass] = pBase;
+            ++cache.mCounts[sizeClass];
+            return;
+        }
+    }
+    std::free(pBase);
+}
+
+static void *TrackedAllocateWithTag(
+        size_t numBytes, size_t alignment, int32 tag) {
+    if (alignment < alignof(TrackingHeader)) {
+        alignment = alignof(TrackingHeader);
+    }
+    const size_t storageBytes = numBytes + sizeof(TrackingHeader) + alignment;
+    int32 sizeClass;
+    void * const pBase = AcquireStorage(storageBytes, sizeClass);
+    if (pBase == nullptr) {
+        return nullptr;
+    }
+    const uintptr_t firstByte = reinterpret_cast<uintptr_t> (pBase)
+            + sizeof(TrackingHeader) + alignment - 1;
+    const uintptr_t mask = ~static_cast<uintptr_t> (alignment - 1);
+    const uintptr_t address = firstByte & mask;
+    TrackingHeader * const pHeader
+            = reinterpret_cast<TrackingHeader *> (address) - 1;
+    pHeader->mpBase = pBase;
+    pHeader->mNumBytes = numBytes;
+    pHeader->mTag = tag;
+    pHeader->mSizeClass = sizeClass;
+    CountAllocation(tag, numBytes);
+
+    return reinterpret_cast<void *> (address);
+}
+
+static void *TrackedAlignedAllocate(size_t numBytes, size_t alignment) {
+    const int32 tag = static_cast<int32> (tCurrentTag);
+    return TrackedAllocateWithTag(numBytes, alignment, tag);
+}
+
+static void TrackedFree(void *pBlock) {
+    if (pBlock == nullptr) {
+        return;
+    }
+    const TrackingHeader * const pHeader
+            = static_cast<TrackingHeader *> (pBlock) - 1;
+    void * const pBase = pHeader->mpBase;
+    const int32 sizeClass = pHeader->mSizeClass;
+    CountFree(pHeader->mTag, pHeader->mNumBytes);
+    ReleaseStorage(pBase, sizeClass);
+}
+
+static void *TrackedAllocate(size_t numBytes) {
+    return TrackedAlignedAllocate(numBytes, alignof(TrackingHeader));
+}
+
+static void *TrackedReallocate(void *pBlock, size_t oldBytes, size_t newBytes) {
+    if (pBlock == nullptr) {
+        return TrackedAllocate(newBytes);
+    }
+    // keep attributing the storage to its original tag:
+    const TrackingHeader * const pHeader
+            = static_cast<TrackingHeader *> (pBlock) - 1;
+    void * const pResult = TrackedAllocateWithTag(
+            newBytes, alignof(TrackingHeader), pHeader->mTag);
+    if (pResult != nullptr) {
+        std::memcpy(pResult, pBlock, std::min(oldBytes, newBytes));
+        TrackedFree(pBlock);
+    }
+    return pResult;
+}
+
+static bool IsRegistered() {
+#ifdef JPH_DISABLE_CUSTOM_ALLOCATOR
+    return false;
+#else
+    return Allocate == TrackedAllocate;
+#endif
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_TrackingAllocator
+ * Method:    countAllocations
+ * Signature: (I)J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_TrackingAllocator_countAllocations
+  (JNIEnv *, jclass, jint ordinal) {
+    const TagCounters& counters = sCounters[ordinal];
+    const uint64 result
+            = counters.mNumAllocations.load(std::memory_order_relaxed);
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_TrackingAllocator
+ * Method:    countFrees
+ * Signature: (I)J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_TrackingAllocator_countFrees
+  (JNIEnv *, jclass, jint ordinal) {
+    const TagCounters& counters = sCounters[ordinal];
+    const uint64 result = counters.mNumFrees.load(std::memory_order_relaxed);
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_TrackingAllocator
+ * Method:    getLiveBytes
+ * Signature: (I)J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_TrackingAllocator_getLiveBytes
+  (JNIEnv *, jclass, jint ordinal) {
+    const TagCounters& counters = sCounters[ordinal];
+    const int64 result = counters.mLiveBytes.load(std::memory_order_relaxed);
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_TrackingAllocator
+ * Method:    getPeakBytes
+ * Signature: (I)J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_TrackingAllocator_getPeakBytes
+  (JNIEnv *, jclass, jint ordinal) {
+    const TagCounters& counters = sCounters[ordinal];
+    const int64 result = counters.mPeakBytes.load(std::memory_order_relaxed);
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_TrackingAllocator
+ * Method:    getThreadTagOrdinal
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_TrackingAllocator_getThreadTagOrdinal
+  (JNIEnv *, jclass) {
+    const jint result = static_cast<jint> (tCurrentTag);
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_TrackingAllocator
+ * Method:    isPooled
+ * Signature: ()Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_github_stephengold_joltjni_TrackingAllocator_isPooled
+  (JNIEnv *, jclass) {
+    const bool result = IsRegistered() && sPooled.load();
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_TrackingAllocator
+ * Method:    isRegistered
+ * Signature: ()Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_github_stephengold_joltjni_TrackingAllocator_isRegistered
+  (JNIEnv *, jclass) {
+    const bool result = IsRegistered();
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_TrackingAllocator
+ * Method:    register
+ * Signature: (Z)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_TrackingAllocator_register
+  (JNIEnv *, jclass, jboolean pooled) {
+#ifdef JPH_DISABLE_CUSTOM_ALLOCATOR
+    std::cerr << "Can't register a tracking allocator!" << std::endl;
+#else
+    sPooled.store(pooled);
+    Allocate = TrackedAllocate;
+    Reallocate = TrackedReallocate;
+    Free = TrackedFree;
+    AlignedAllocate = TrackedAlignedAllocate;
+    AlignedFree = TrackedFree;
+#endif
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_TrackingAllocator
+ * Method:    resetPeaks
+ * Signature: ()V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_TrackingAllocator_resetPeaks
+  (JNIEnv *, jclass) {
+    for (TagCounters& counters : sCounters) {
+        const int64 live = counters.mLiveBytes.load(std::memory_order_relaxed);
+        counters.mPeakBytes.store(live, std::memory_order_relaxed);
+    }
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_TrackingAllocator
+ * Method:    setThreadTag
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_TrackingAllocator_setThreadTag
+  (JNIEnv *, jclass, jint ordinal) {
+    const EAllocationTag tag = static_cast<EAllocationTag> (ordinal);
+    const EAllocationTag previous = SetAllocationTag(tag);
+    const jint result = static_cast<jint> (previous);
+    return result;
+}
@@ -29,6 +29,7 @@ SOFTWARE.
 #include "auto/com_github_stephengold_joltjni_TwoBodyConstraintSettings.h"
 #include "auto/com_github_stephengold_joltjni_TwoBodyConstraintSettingsRef.h"
 #include "glue/glue.h"
+#include "glue/TrackingAllocator.h"
 
 using namespace JPH;
 
@@ -46,6 +47,7 @@ IMPLEMENT_REF(TwoBodyConstraintSettings,
  */
 JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_TwoBodyConstraintSettings_createConstraint
   (JNIEnv *, jclass, jlong settingsVa, jlong body1Va, jlong body2Va) {
+    const AllocationTagScope tagScope(EAllocationTag::Constraints);
     const TwoBodyConstraintSettings * const pSettings
             = reinterpret_cast<TwoBodyConstraintSettings *> (settingsVa);
     Body * const pBody1 = reinterpret_cast<Body *> (body1Va);
@@ -27,6 +27,7 @@ SOFTWARE.
 #include "Jolt/Physics/Collision/Shape/TriangleShape.h"
 #include "auto/com_github_stephengold_joltjni_TriangleShape.h"
 #include "glue/glue.h"
+#include "glue/TrackingAllocator.h"
 
 using namespace JPH;
 
@@ -38,6 +39,7 @@ using namespace JPH;
 JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_TriangleShape_createTriangleShape
   (JNIEnv *, jclass, jfloat v1x, jfloat v1y, jfloat v1z, jfloat v2x, jfloat v2y,
   jfloat v2z, jfloat v3x, jfloat v3y, jfloat v3z, float convexRadius) {
+    const AllocationTagScope tagScope(EAllocationTag::Shapes);
     const Vec3 v1(v1x, v1y, v1z);
     const Vec3 v2(v2x, v2y, v2z);
     const Vec3 v3(v3x, v3y, v3z);
@@ -30,6 +30,7 @@ SOFTWARE.
 #include "auto/com_github_stephengold_joltjni_VehicleConstraint.h"
 #include "auto/com_github_stephengold_joltjni_VehicleConstraintRef.h"
 #include "glue/glue.h"
+#include "glue/TrackingAllocator.h"
 
 using namespace JPH;
 
@@ -74,6 +75,7 @@ JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_VehicleConstraint_cou
  */
 JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_VehicleConstraint_createConstraint
   (JNIEnv *, jclass, jlong bodyVa, jlong settingsVa) {
+    const AllocationTagScope tagScope(EAllocationTag::Constraints);
     Body * const pBody = reinterpret_cast<Body *> (bodyVa);
     VehicleConstraintSettings * const pSettings
             = reinterpret_cast<VehicleConstraintSettings *> (settingsVa);
@@ -297,6 +299,22 @@ JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_VehicleConstraint_ge
     return reinterpret_cast<jlong> (pResult);
 }
 
+/*
+ * Class:     com_github_stephengold_joltjni_VehicleConstraint
+ * Method:    getWheelWorldTransformInto
+ * Signature: (JIFFFFFFJ)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_VehicleConstraint_getWheelWorldTransformInto
+  (JNIEnv *, jclass, jlong constraintVa, jint wheelIndex, jfloat rx, jfloat ry, jfloat rz,
+  jfloat ux, jfloat uy, jfloat uz, jlong storeVa) {
+    const VehicleConstraint * const pConstraint
+            = reinterpret_cast<VehicleConstraint *> (constraintVa);
+    const Vec3 right(rx, ry, rz);
+    const Vec3 up(ux, uy, uz);
+    RMat44 * const pStore = reinterpret_cast<RMat44 *> (storeVa);
+    *pStore = pConstraint->GetWheelWorldTransform(wheelIndex, right, up);
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_VehicleConstraint
  * Method:    getWheelWorldTransformComponents
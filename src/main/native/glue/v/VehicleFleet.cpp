@@ -0,0 +1,119 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+/*
+ * Author: Stephen Gold
+ */
+#include "Jolt/Jolt.h"
+#include "Jolt/Physics/Body/BodyInterface.h"
+#include "Jolt/Physics/Vehicle/VehicleConstraint.h"
+#include "Jolt/Physics/Vehicle/WheeledVehicleController.h"
+
+#include "auto/com_github_stephengold_joltjni_VehicleFleet.h"
+#include "glue/glue.h"
+
+using namespace JPH;
+
+/*
+ * Class:     com_github_stephengold_joltjni_VehicleFleet
+ * Method:    exportStates
+ * Signature: ([JIFFFFFFDDDLjava/nio/FloatBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_VehicleFleet_exportStates
+  (JNIEnv *pEnv, jclass, jlongArray vehicleVas, jint numVehicles, jfloat rx,
+  jfloat ry, jfloat rz, jfloat ux, jfloat uy, jfloat uz, jdouble ox,
+  jdouble oy, jdouble oz, jobject storeStates) {
+    Array<jlong> vas(numVehicles);
+    pEnv->GetLongArrayRegion(vehicleVas, 0, numVehicles, vas.data());
+    EXCEPTION_CHECK(pEnv)
+    DIRECT_FLOAT_BUFFER(pEnv, storeStates, pFloats, capacityFloats);
+    const Vec3 wheelRight(rx, ry, rz);
+    const Vec3 wheelUp(ux, uy, uz);
+    const RVec3 origin(ox, oy, oz);
+
+    jfloat *pOut = pFloats;
+    for (jint i = 0; i < numVehicles; ++i) {
+        const VehicleConstraint * const pVehicle
+                = reinterpret_cast<VehicleConstraint *> (vas[i]);
+        const WheeledVehicleController * const pController
+                = static_cast<const WheeledVehicleController *> (
+                        pVehicle->GetController());
+        const uint numWheels = (uint) pVehicle->GetWheels().size();
+        JPH_ASSERT(pOut + 2 + 9 * numWheels <= pFloats + capacityFloats);
+
+        *pOut++ = pController->GetEngine().GetCurrentRPM();
+        *pOut++ = (jfloat) pController->GetTransmission().GetCurrentGear();
+        for (uint wheelIndex = 0; wheelIndex < numWheels; ++wheelIndex) {
+            const RMat44 transform = pVehicle->GetWheelWorldTransform(
+                    wheelIndex, wheelRight, wheelUp);
+            const Vec3 location = Vec3(transform.GetTranslation() - origin);
+            *pOut++ = location.GetX();
+            *pOut++ = location.GetY();
+            *pOut++ = location.GetZ();
+            const Quat rotation = transform.GetRotation().GetQuaternion();
+            *pOut++ = rotation.GetX();
+            *pOut++ = rotation.GetY();
+            *pOut++ = rotation.GetZ();
+            *pOut++ = rotation.GetW();
+            const WheelWV * const pWheel = static_cast<const WheelWV *> (
+                    pVehicle->GetWheel(wheelIndex));
+            *pOut++ = pWheel->mLongitudinalSlip;
+            *pOut++ = pWheel->mLateralSlip;
+        }
+    }
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_VehicleFleet
+ * Method:    setDriverInputs
+ * Signature: ([JILjava/nio/FloatBuffer;J)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_VehicleFleet_setDriverInputs
+  (JNIEnv *pEnv, jclass, jlongArray vehicleVas, jint numVehicles,
+  jobject inputs, jlong bodyInterfaceVa) {
+    Array<jlong> vas(numVehicles);
+    pEnv->GetLongArrayRegion(vehicleVas, 0, numVehicles, vas.data());
+    EXCEPTION_CHECK(pEnv)
+    DIRECT_FLOAT_BUFFER(pEnv, inputs, pInputs, capacityFloats);
+    JPH_ASSERT(capacityFloats >= 4 * numVehicles);
+    BodyInterface * const pInterface
+            = reinterpret_cast<BodyInterface *> (bodyInterfaceVa);
+
+    for (jint i = 0; i < numVehicles; ++i) {
+        VehicleConstraint * const pVehicle
+                = reinterpret_cast<VehicleConstraint *> (vas[i]);
+        WheeledVehicleController * const pController
+                = static_cast<WheeledVehicleController *> (
+                        pVehicle->GetController());
+        const float forward = pInputs[4 * i];
+        const float right = pInputs[4 * i + 1];
+        const float brake = pInputs[4 * i + 2];
+        const float handBrake = pInputs[4 * i + 3];
+        pController->SetDriverInput(forward, right, brake, handBrake);
+
+        // A sleeping vehicle won't respond to input unless it's activated:
+        if (pInterface != nullptr && (forward != 0.0f || right != 0.0f
+                || brake != 0.0f || handBrake != 0.0f)) {
+            pInterface->ActivateBody(pVehicle->GetVehicleBody()->GetID());
+        }
+    }
+}
@@ -252,4 +252,15 @@ JNIEXPORT jboolean JNICALL Java_com_github_stephengold_joltjni_Wheel_hasHitHardP
     const Wheel * const pWheel = reinterpret_cast<Wheel *> (wheelVa);
     const bool result = pWheel->HasHitHardPoint();
     return result;
-}
\ No newline at end of file
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_Wheel
+ * Method:    setAngularVelocity
+ * Signature: (JF)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_Wheel_setAngularVelocity
+  (JNIEnv *, jclass, jlong wheelVa, jfloat omega) {
+    Wheel * const pWheel = reinterpret_cast<Wheel *> (wheelVa);
+    pWheel->SetAngularVelocity(omega);
+}
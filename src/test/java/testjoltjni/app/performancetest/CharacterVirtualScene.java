@@ -38,6 +38,19 @@ import static com.github.stephengold.joltjni.operator.Op.*;
 // A scene that drops a number of virtual characters on a scene and simulates them
 class CharacterVirtualScene implements PerformanceTestScene
 {
+	CharacterVirtualScene()
+	{
+		this(10, 10, false);
+	}
+
+	// Scale the number of characters, optionally resolving character-vs-character collisions using a uniform grid
+	CharacterVirtualScene(int inNumCharactersX, int inNumCharactersY, boolean inUseGrid)
+	{
+		cNumCharactersX = inNumCharactersX;
+		cNumCharactersY = inNumCharactersY;
+		mCharacterVsCharacterGrid = inUseGrid? new CharacterVsCharacterCollisionGrid(2.0f, 0.5f) : null;
+	}
+
 public
 	String	GetName()
 	{
@@ -143,8 +156,11 @@ public
 				settings.setSupportingVolume (new Plane(Vec3.sAxisY(), -cCharacterRadiusStanding)); // Accept contacts that touch the lower sphere of the capsule
 				settings.setInnerBodyShape ( inner_standing_shape);
 				settings.setInnerBodyLayer ( Layers.MOVING);
-				CharacterVirtual character = new CharacterVirtual(settings,new RVec3(4.0 * x - 20.0, 2.0, 4.0 * y - 20.0), Quat.sIdentity(), 0, inPhysicsSystem);
-				character.setCharacterVsCharacterCollision(mCharacterVsCharacterCollision);
+				CharacterVirtual character = new CharacterVirtual(settings,new RVec3(40.0 / cNumCharactersX * x - 20.0, 2.0, 40.0 / cNumCharactersY * y - 20.0), Quat.sIdentity(), 0, inPhysicsSystem);
+				if (mCharacterVsCharacterGrid != null)
+					character.setCharacterVsCharacterCollision(mCharacterVsCharacterGrid);
+				else
+					character.setCharacterVsCharacterCollision(mCharacterVsCharacterCollision);
 				character.setListener(new CustomCharacterContactListener() {
     public void onCharacterContactAdded(long characterVa, long otherCharacterVa, int subShapeId2, double contactLocationX, double contactLocationY,
             double contactLocationZ, float contactNormalX, float contactNormalY, float contactNormalZ, long settingsVa) {
@@ -178,7 +194,10 @@ public
     }
                                 });
 				mCharacters.add(character.toRef());
-				mCharacterVsCharacterCollision.add(character);
+				if (mCharacterVsCharacterGrid != null)
+					mCharacterVsCharacterGrid.add(character);
+				else
+					mCharacterVsCharacterCollision.add(character);
 			}
 
 		// Start at time 0
@@ -192,6 +211,10 @@ public
 		mTime += inDeltaTime;
 		long count = (long)(mTime / 2.0f) * cNumCharactersX * cNumCharactersY;
 
+		// Re-bin characters that moved to other grid cells
+		if (mCharacterVsCharacterGrid != null)
+			mCharacterVsCharacterGrid.update();
+
 		for (CharacterVirtualRef ch : mCharacters)
 		{
 			// Calculate new vertical velocity
@@ -247,7 +270,10 @@ public
 	public void			StopTest(PhysicsSystem inPhysicsSystem)
 	{
 		for (CharacterVirtualRef ch : mCharacters)
-			mCharacterVsCharacterCollision.remove(ch.getPtr());
+			if (mCharacterVsCharacterGrid != null)
+				mCharacterVsCharacterGrid.remove(ch.getPtr());
+			else
+				mCharacterVsCharacterCollision.remove(ch.getPtr());
 		mCharacters.clear();
 	}
 
@@ -304,8 +330,8 @@ public
 	}
 
 private
-	static final int	cNumCharactersX = 10;
-	static final int	cNumCharactersY = 10;
+	final int			cNumCharactersX;
+	final int			cNumCharactersY;
 	static final float	cCharacterHeightStanding = 1.35f;
 	static final float	cCharacterRadiusStanding = 0.3f;
 	static final float	cInnerShapeFraction = 0.9f;
@@ -316,5 +342,6 @@ private
 	List<BodyCreationSettings> mWorld=new ArrayList<>();
 	List<CharacterVirtualRef> mCharacters=new ArrayList<>();
 	CharacterVsCharacterCollisionSimple mCharacterVsCharacterCollision=new CharacterVsCharacterCollisionSimple();
+	final CharacterVsCharacterCollisionGrid mCharacterVsCharacterGrid;
         PhysicsSystem mPhysicsSystem;
 };
@@ -98,6 +98,10 @@ public static void main(  String[] argv)throws IOException
 				scene = new LargeMeshScene();
 			else if (arg.substring(3).equals("CharacterVirtual"))
 				scene = new CharacterVirtualScene();
+			else if (arg.substring(3).equals("CharacterVirtualMany"))
+				scene = new CharacterVirtualScene(30, 30, false);
+			else if (arg.substring(3).equals("CharacterVirtualGrid"))
+				scene = new CharacterVirtualScene(30, 30, true);
 			else if (arg.substring(3).equals("MaxBodies"))
 				scene = new MaxBodiesScene();
 			else if (arg.substring(3).equals("HighSpeed"))
@@ -173,7 +177,7 @@ public static void main(  String[] argv)throws IOException
 		{
 			// Print usage
 			Trace("Usage:\n"
-				 + "-s=<scene>: Select scene (Ragdoll, RagdollSinglePile, ConvexVsMesh, Pyramid, LargeMesh, CharacterVirtual, MaxBodies, HighSpeed)\n"
+				 + "-s=<scene>: Select scene (Ragdoll, RagdollSinglePile, ConvexVsMesh, Pyramid, LargeMesh, CharacterVirtual, CharacterVirtualMany, CharacterVirtualGrid, MaxBodies, HighSpeed)\n"
 				 + "-i=<num physics steps>: Number of physics steps to simulate (default 500)\n"
 				 + "-q=<quality>: Test only with specified quality (Discrete, LinearCast)\n"
 				 + "-t=<num threads>: Test only with N threads (default is to iterate over 1 .. num hardware threads)\n"
@@ -0,0 +1,495 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.AaBox;
+import com.github.stephengold.joltjni.Body;
+import com.github.stephengold.joltjni.BodyCreationSettings;
+import com.github.stephengold.joltjni.BodyFilter;
+import com.github.stephengold.joltjni.BodyInterface;
+import com.github.stephengold.joltjni.BoxShape;
+import com.github.stephengold.joltjni.BroadPhaseLayerFilter;
+import com.github.stephengold.joltjni.CapsuleShape;
+import com.github.stephengold.joltjni.Character;
+import com.github.stephengold.joltjni.CharacterRef;
+import com.github.stephengold.joltjni.CharacterRefC;
+import com.github.stephengold.joltjni.CharacterSettings;
+import com.github.stephengold.joltjni.CharacterVirtual;
+import com.github.stephengold.joltjni.CharacterVirtualSettings;
+import com.github.stephengold.joltjni.ExtendedUpdateSettings;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.JobSystem;
+import com.github.stephengold.joltjni.JobSystemThreadPool;
+import com.github.stephengold.joltjni.Mat44;
+import com.github.stephengold.joltjni.MotionProperties;
+import com.github.stephengold.joltjni.ObjectLayerFilter;
+import com.github.stephengold.joltjni.Part;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.RMat44;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.Ragdoll;
+import com.github.stephengold.joltjni.RagdollRef;
+import com.github.stephengold.joltjni.RagdollSettings;
+import com.github.stephengold.joltjni.ShapeFilter;
+import com.github.stephengold.joltjni.ShapeRefC;
+import com.github.stephengold.joltjni.Skeleton;
+import com.github.stephengold.joltjni.SphereShape;
+import com.github.stephengold.joltjni.SwingTwistConstraintSettings;
+import com.github.stephengold.joltjni.TempAllocator;
+import com.github.stephengold.joltjni.TempAllocatorImpl;
+import com.github.stephengold.joltjni.Vec3;
+import com.github.stephengold.joltjni.VehicleCollisionTesterRay;
+import com.github.stephengold.joltjni.VehicleConstraint;
+import com.github.stephengold.joltjni.VehicleConstraintRef;
+import com.github.stephengold.joltjni.VehicleConstraintSettings;
+import com.github.stephengold.joltjni.WheelSettingsWv;
+import com.github.stephengold.joltjni.WheeledVehicleControllerSettings;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.enumerate.EMotionType;
+import com.github.stephengold.joltjni.enumerate.EPhysicsUpdateError;
+import com.github.stephengold.joltjni.readonly.ConstShape;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests to verify that the "store-into" getters of
+ * {@code Body}, {@code CharacterRef}, {@code CharacterRefC},
+ * {@code CharacterVirtual}, {@code MotionProperties}, {@code Ragdoll},
+ * {@code RagdollRef}, {@code Shape}, {@code ShapeRefC},
+ * {@code VehicleConstraint}, and {@code VehicleConstraintRef} don't allocate
+ * on the Java heap.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class AllocationFreeGetterTest {
+    // *************************************************************************
+    // constants
+
+    /**
+     * number of steps to simulate before measuring
+     */
+    final private static int numWarmupSteps = 200;
+    /**
+     * number of steps to simulate while measuring
+     */
+    final private static int numMeasuredSteps = 100;
+    // *************************************************************************
+    // fields
+
+    /**
+     * storage for bounding boxes
+     */
+    private static AaBox storeBox;
+    /**
+     * dynamic body under test
+     */
+    private static Body ball;
+    /**
+     * counted reference to a character, under test
+     */
+    private static CharacterRef characterRef;
+    /**
+     * counted reference to a read-only character, under test
+     */
+    private static CharacterRefC characterRefC;
+    /**
+     * character under test
+     */
+    private static CharacterVirtual character;
+    /**
+     * shape of the dynamic body
+     */
+    private static ConstShape ballShape;
+    /**
+     * settings for updating the character
+     */
+    private static ExtendedUpdateSettings updateSettings;
+    /**
+     * storage for body IDs
+     */
+    private static int[] storeIds;
+    /**
+     * storage for single-precision matrices
+     */
+    private static Mat44 storeMatrix;
+    /**
+     * motion properties of the dynamic body
+     */
+    private static MotionProperties ballProperties;
+    /**
+     * system to simulate
+     */
+    private static PhysicsSystem physicsSystem;
+    /**
+     * storage for rotations
+     */
+    private static Quat storeRotation;
+    /**
+     * ragdoll under test
+     */
+    private static Ragdoll ragdoll;
+    /**
+     * counted reference to the ragdoll, under test
+     */
+    private static RagdollRef ragdollRef;
+    /**
+     * storage for location-precision matrices
+     */
+    private static RMat44 storeRMatrix;
+    /**
+     * storage for locations
+     */
+    private static RVec3 storeLocation;
+    /**
+     * counted reference to the shape of the dynamic body, under test
+     */
+    private static ShapeRefC ballShapeRef;
+    /**
+     * gravity acceleration applied to the character
+     */
+    private static Vec3 gravity;
+    /**
+     * storage for single-precision vectors
+     */
+    private static Vec3 storeVector;
+    /**
+     * scale factors (1,1,1)
+     */
+    private static Vec3 unitScale;
+    /**
+     * wheel axis used to calculate wheel transforms
+     */
+    private static Vec3 wheelRight;
+    /**
+     * wheel "up" direction used to calculate wheel transforms
+     */
+    private static Vec3 wheelUp;
+    /**
+     * vehicle under test
+     */
+    private static VehicleConstraint vehicle;
+    /**
+     * counted reference to the vehicle, under test
+     */
+    private static VehicleConstraintRef vehicleRef;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Simulate bodies and a character, reading their state using only
+     * store-into getters, and verify that no Java heap is allocated.
+     */
+    @Test
+    public void testAllocationFreeGetters() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean sunBean
+                = (com.sun.management.ThreadMXBean) bean;
+        Assume.assumeTrue(sunBean.isThreadAllocatedMemorySupported());
+        sunBean.setThreadAllocatedMemoryEnabled(true);
+
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        int maxBodies = 8;
+        physicsSystem = TestUtils.newPhysicsSystem(maxBodies);
+        BodyInterface bodyInterface = physicsSystem.getBodyInterface();
+
+        BodyCreationSettings floorSettings = new BodyCreationSettings(
+                new BoxShape(100f, 1f, 100f), new RVec3(0., -1., 0.),
+                new Quat(), EMotionType.Static, TestUtils.objLayerNonMoving);
+        bodyInterface.createAndAddBody(floorSettings, EActivation.DontActivate);
+
+        BodyCreationSettings ballSettings = new BodyCreationSettings(
+                new SphereShape(0.5f), new RVec3(5., 20., 0.), new Quat(),
+                EMotionType.Dynamic, TestUtils.objLayerMoving);
+        ball = bodyInterface.createBody(ballSettings);
+        bodyInterface.addBody(ball.getId(), EActivation.Activate);
+        ballProperties = ball.getMotionProperties();
+        ballShape = ball.getShape();
+        ballShapeRef = ballShape.toRefC();
+
+        CharacterVirtualSettings characterSettings
+                = new CharacterVirtualSettings();
+        characterSettings.setShape(new CapsuleShape(0.5f, 0.3f));
+        character = new CharacterVirtual(characterSettings,
+                new RVec3(0., 2., 0.), new Quat(), 0L, physicsSystem);
+
+        CharacterSettings bodyCharacterSettings = new CharacterSettings();
+        bodyCharacterSettings.setShape(new CapsuleShape(0.5f, 0.3f));
+        bodyCharacterSettings.setLayer(TestUtils.objLayerMoving);
+        Character bodyCharacter = new Character(bodyCharacterSettings,
+                new RVec3(-5., 2., 0.), new Quat(), 0L, physicsSystem);
+        bodyCharacter.addToPhysicsSystem();
+        characterRef = bodyCharacter.toRef();
+        characterRefC = bodyCharacter.toRefC();
+
+        vehicle = createVehicle(bodyInterface);
+        vehicleRef = vehicle.toRef();
+        physicsSystem.addConstraint(vehicle);
+        physicsSystem.addStepListener(vehicle.getStepListener());
+        wheelRight = new Vec3(1f, 0f, 0f);
+        wheelUp = new Vec3(0f, 1f, 0f);
+
+        RagdollSettings ragdollSettings = createRagdollSettings();
+        ragdoll = ragdollSettings.createRagdoll(0, 0L, physicsSystem);
+        ragdoll.addToPhysicsSystem(EActivation.Activate);
+        ragdollRef = ragdoll.toRef();
+        storeIds = new int[ragdoll.getBodyCount()];
+
+        final int numBytes = 1 << 18; // 256 KiB
+        TempAllocator tempAllocator = new TempAllocatorImpl(numBytes);
+        int numThreads = 1;
+        JobSystem jobSystem = new JobSystemThreadPool(
+                Jolt.cMaxPhysicsJobs, Jolt.cMaxPhysicsBarriers, numThreads);
+        BroadPhaseLayerFilter bpFilter = new BroadPhaseLayerFilter();
+        ObjectLayerFilter olFilter = new ObjectLayerFilter();
+        BodyFilter bodyFilter = new BodyFilter();
+        ShapeFilter shapeFilter = new ShapeFilter();
+
+        gravity = new Vec3(0f, -9.81f, 0f);
+        unitScale = Vec3.sOne();
+        storeBox = new AaBox();
+        storeLocation = new RVec3();
+        storeMatrix = new Mat44();
+        storeRMatrix = new RMat44();
+        storeRotation = new Quat();
+        storeVector = new Vec3();
+        updateSettings = new ExtendedUpdateSettings();
+
+        int errors = simulate(numWarmupSteps, tempAllocator, jobSystem,
+                bpFilter, olFilter, bodyFilter, shapeFilter);
+        Assert.assertEquals(EPhysicsUpdateError.None, errors);
+
+        // Measure the overhead of the measurement itself:
+        long threadId = Thread.currentThread().getId();
+        long before = sunBean.getThreadAllocatedBytes(threadId);
+        long after = sunBean.getThreadAllocatedBytes(threadId);
+        long overhead = after - before;
+
+        before = sunBean.getThreadAllocatedBytes(threadId);
+        errors = simulate(numMeasuredSteps, tempAllocator, jobSystem,
+                bpFilter, olFilter, bodyFilter, shapeFilter);
+        after = sunBean.getThreadAllocatedBytes(threadId);
+        Assert.assertEquals(EPhysicsUpdateError.None, errors);
+        Assert.assertEquals(0L, after - before - overhead);
+
+        // The ball should have come to rest on the floor:
+        ball.getPosition(storeLocation);
+        Assert.assertEquals(0.5, storeLocation.yy(), 0.05);
+
+        // The getters should agree with the ones that allocate:
+        Assert.assertEquals(2, ragdollRef.getBodyIds(storeIds));
+        Assert.assertArrayEquals(ragdoll.getBodyIds(), storeIds);
+        vehicleRef.getLocalUp(storeVector);
+        Assert.assertEquals(vehicle.getLocalUp(), storeVector);
+        characterRefC.getUp(storeVector);
+        Assert.assertEquals(characterRef.getUp(), storeVector);
+
+        ragdoll.removeFromPhysicsSystem();
+        physicsSystem.removeStepListener(vehicle.getStepListener());
+        physicsSystem.removeConstraint(vehicle);
+
+        TestUtils.testClose(bpFilter, olFilter, bodyFilter, shapeFilter,
+                jobSystem, tempAllocator, updateSettings);
+        TestUtils.cleanupPhysicsSystem(physicsSystem);
+        TestUtils.cleanup();
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Create settings for a 2-part ragdoll.
+     *
+     * @return a new object
+     */
+    private static RagdollSettings createRagdollSettings() {
+        Skeleton skeleton = new Skeleton();
+        int rootIndex = skeleton.addJoint("root");
+        skeleton.addJoint("head", rootIndex);
+
+        RagdollSettings result = new RagdollSettings();
+        result.setSkeleton(skeleton);
+        result.resizeParts(2);
+        Part[] parts = result.getParts();
+        for (int i = 0; i < 2; ++i) {
+            parts[i].setShape(new BoxShape(0.2f));
+            parts[i].setPosition(new RVec3(5., 1. + 0.5 * i, 5.));
+            parts[i].setMotionType(EMotionType.Dynamic);
+            parts[i].setObjectLayer(TestUtils.objLayerMoving);
+        }
+        SwingTwistConstraintSettings joint
+                = new SwingTwistConstraintSettings();
+        joint.setPosition1(new RVec3(5., 1.25, 5.));
+        joint.setPosition2(new RVec3(5., 1.25, 5.));
+        parts[1].setToParent(joint);
+        result.disableParentChildCollisions();
+
+        return result;
+    }
+
+    /**
+     * Create a 4-wheeled vehicle and add its body to the physics system.
+     *
+     * @param bodyInterface the interface to use (not {@code null})
+     * @return a new vehicle constraint, not yet added to the system
+     */
+    private static VehicleConstraint createVehicle(
+            BodyInterface bodyInterface) {
+        BodyCreationSettings carSettings = new BodyCreationSettings(
+                new BoxShape(0.9f, 0.2f, 2f), new RVec3(0., 1., 10.),
+                new Quat(), EMotionType.Dynamic, TestUtils.objLayerMoving);
+        Body carBody = bodyInterface.createBody(carSettings);
+        bodyInterface.addBody(carBody.getId(), EActivation.Activate);
+
+        VehicleConstraintSettings settings = new VehicleConstraintSettings();
+        for (int i = 0; i < 4; ++i) {
+            WheelSettingsWv wheel = new WheelSettingsWv();
+            float x = (i % 2 == 0) ? -0.9f : 0.9f;
+            float z = (i < 2) ? 1.5f : -1.5f;
+            wheel.setPosition(new Vec3(x, -0.2f, z));
+            settings.addWheels(wheel);
+        }
+        settings.setController(new WheeledVehicleControllerSettings());
+
+        VehicleConstraint result = new VehicleConstraint(carBody, settings);
+        result.setVehicleCollisionTester(
+                new VehicleCollisionTesterRay(TestUtils.objLayerMoving));
+
+        return result;
+    }
+
+    /**
+     * Read the state of the ball and the character using only store-into
+     * getters.
+     */
+    private static void readState() {
+        ball.getAccumulatedForce(storeVector);
+        ball.getAccumulatedTorque(storeVector);
+        ball.getAngularVelocity(storeVector);
+        ball.getCenterOfMassPosition(storeLocation);
+        ball.getCenterOfMassTransform(storeRMatrix);
+        ball.getInverseCenterOfMassTransform(storeRMatrix);
+        ball.getLinearVelocity(storeVector);
+        ball.getPositionAndRotation(storeLocation, storeRotation);
+        ball.getRotation(storeRotation);
+        ball.getWorldSpaceBounds(storeBox);
+        ball.getWorldTransform(storeRMatrix);
+        ball.getPosition(storeLocation);
+        ball.getWorldSpaceSurfaceNormal(0, storeLocation, storeVector);
+
+        ballProperties.getAccumulatedForce(storeVector);
+        ballProperties.getAccumulatedTorque(storeVector);
+        ballProperties.getAngularVelocity(storeVector);
+        ballProperties.getInertiaRotation(storeRotation);
+        ballProperties.getInverseInertiaDiagonal(storeVector);
+        ballProperties.getLinearVelocity(storeVector);
+        ballProperties.getLocalSpaceInverseInertia(storeMatrix);
+
+        ballShape.getCenterOfMass(storeVector);
+        ballShape.getLocalBounds(storeBox);
+        ballShape.getWorldSpaceBounds(storeRMatrix, unitScale, storeBox);
+        ballShape.makeScaleValid(storeVector, storeVector);
+
+        character.getCenterOfMassPosition(storeLocation);
+        character.getCenterOfMassTransform(storeRMatrix);
+        character.getGroundNormal(storeVector);
+        character.getGroundPosition(storeLocation);
+        character.getGroundVelocity(storeVector);
+        character.getLinearVelocity(storeVector);
+        character.getPositionAndRotation(storeLocation, storeRotation);
+        character.getShapeOffset(storeVector);
+        character.getUp(storeVector);
+        character.getWorldTransform(storeRMatrix);
+        character.cancelVelocityTowardsSteepSlopes(storeVector, storeVector);
+        character.getPosition(storeLocation);
+        character.getRotation(storeRotation);
+
+        characterRef.getGroundNormal(storeVector);
+        characterRef.getGroundPosition(storeLocation);
+        characterRef.getGroundVelocity(storeVector);
+        characterRef.getUp(storeVector);
+        characterRefC.getGroundNormal(storeVector);
+        characterRefC.getGroundPosition(storeLocation);
+        characterRefC.getGroundVelocity(storeVector);
+        characterRefC.getUp(storeVector);
+
+        ballShapeRef.getCenterOfMass(storeVector);
+        ballShapeRef.getLocalBounds(storeBox);
+        ballShapeRef.getWorldSpaceBounds(storeRMatrix, unitScale, storeBox);
+        ballShapeRef.makeScaleValid(unitScale, storeVector);
+
+        ragdoll.getBodyIds(storeIds);
+        ragdollRef.getBodyIds(storeIds);
+
+        vehicle.getGravityOverride(storeVector);
+        vehicle.getLocalForward(storeVector);
+        vehicle.getLocalUp(storeVector);
+        vehicle.getWheelWorldTransform(0, wheelRight, wheelUp, storeRMatrix);
+        vehicle.getWorldUp(storeVector);
+        vehicleRef.getGravityOverride(storeVector);
+        vehicleRef.getLocalForward(storeVector);
+        vehicleRef.getLocalUp(storeVector);
+        vehicleRef.getWheelWorldTransform(
+                0, wheelRight, wheelUp, storeRMatrix);
+        vehicleRef.getWorldUp(storeVector);
+    }
+
+    /**
+     * Simulate the specified number of steps, reading state after each one.
+     *
+     * @param numSteps the number of steps to simulate (&ge;0)
+     * @param tempAllocator for temporary allocations (not {@code null})
+     * @param jobSystem the job system to use (not {@code null})
+     * @param bpFilter the broadphase-layer filter for the character (not
+     * {@code null})
+     * @param olFilter the object-layer filter for the character (not
+     * {@code null})
+     * @param bodyFilter the body filter for the character (not {@code null})
+     * @param shapeFilter the shape filter for the character (not {@code null})
+     * @return the bitwise OR of all update errors
+     */
+    private static int simulate(int numSteps, TempAllocator tempAllocator,
+            JobSystem jobSystem, BroadPhaseLayerFilter bpFilter,
+            ObjectLayerFilter olFilter, BodyFilter bodyFilter,
+            ShapeFilter shapeFilter) {
+        final float deltaTime = 1 / 60f;
+        final int numCollisionSteps = 1;
+
+        int result = EPhysicsUpdateError.None;
+        for (int i = 0; i < numSteps; ++i) {
+            character.extendedUpdate(deltaTime, gravity, updateSettings,
+                    bpFilter, olFilter, bodyFilter, shapeFilter,
+                    tempAllocator);
+            result |= physicsSystem.update(
+                    deltaTime, numCollisionSteps, tempAllocator, jobSystem);
+            readState();
+        }
+
+        return result;
+    }
+}
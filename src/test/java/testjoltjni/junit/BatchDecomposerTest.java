@@ -0,0 +1,129 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.StaticCompoundShapeSettings;
+import com.github.stephengold.joltjni.vhacd.BatchDecomposer;
+import com.github.stephengold.joltjni.vhacd.ConvexHull;
+import com.github.stephengold.joltjni.vhacd.Parameters;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for {@code BatchDecomposer}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class BatchDecomposerTest {
+    // *************************************************************************
+    // constants
+
+    /**
+     * vertex locations for an L-shaped mesh
+     */
+    final private static float[] locationArray = {
+        0f, 0f, 0f,
+        2f, 0f, 0f,
+        2f, 1f, 0f,
+        1f, 1f, 0f,
+        1f, 3f, 0f,
+        0f, 3f, 0f,
+        0f, 0f, 1f,
+        2f, 0f, 1f,
+        2f, 1f, 1f,
+        1f, 1f, 1f,
+        1f, 3f, 1f,
+        0f, 3f, 1f
+    };
+
+    /**
+     * vertex indices for an L-shaped mesh of triangles
+     */
+    final private static int[] indexArray = {
+        0, 1, 7, 0, 7, 6,
+        0, 6, 11, 0, 11, 5,
+        4, 5, 11, 4, 11, 10,
+        3, 4, 10, 3, 10, 9,
+        2, 3, 9, 2, 9, 8,
+        1, 2, 8, 1, 8, 7,
+        0, 3, 2, 0, 2, 1,
+        0, 5, 4, 0, 4, 3,
+        6, 8, 9, 6, 7, 8,
+        6, 10, 11, 6, 9, 10
+    };
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Test concurrent decomposition and result caching.
+     */
+    @Test
+    public void testBatchDecomposer() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        BatchDecomposer batch = new BatchDecomposer(2);
+        Parameters parameters = new Parameters();
+
+        List<ConvexHull> hulls = batch
+                .submit(locationArray, indexArray, parameters).join();
+        Assert.assertEquals(3, hulls.size());
+        Assert.assertEquals(1L, batch.countMisses());
+
+        // An identical request is served from the cache:
+        List<ConvexHull> cached = batch
+                .submit(locationArray, indexArray, parameters).join();
+        Assert.assertSame(hulls, cached);
+        Assert.assertEquals(1L, batch.countHits());
+
+        // Different parameters require a new decomposition:
+        parameters.setMaxConvexHulls(2);
+        StaticCompoundShapeSettings compound = batch
+                .submitCompound(locationArray, indexArray, parameters).join();
+        Assert.assertEquals(2L, batch.countMisses());
+        Assert.assertEquals(2, batch.countCached());
+
+        // A mesh of the same size with different content isn't a cache hit:
+        float[] stretched = locationArray.clone();
+        stretched[13] = 4f;
+        List<ConvexHull> stretchedHulls
+                = batch.submit(stretched, indexArray, parameters).join();
+        Assert.assertNotSame(hulls, stretchedHulls);
+        Assert.assertEquals(3L, batch.countMisses());
+
+        batch.close();
+
+        // Submissions are rejected once the batch is closed:
+        try {
+            batch.submit(locationArray, indexArray, parameters);
+            Assert.fail("expected an IllegalStateException");
+        } catch (IllegalStateException exception) {
+            // expected
+        }
+        TestUtils.testClose(compound, parameters);
+        TestUtils.testClose(hulls);
+        TestUtils.testClose(stretchedHulls);
+        TestUtils.cleanup();
+    }
+}
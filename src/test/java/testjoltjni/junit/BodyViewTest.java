@@ -0,0 +1,163 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.BodyCreationSettings;
+import com.github.stephengold.joltjni.BodyInterface;
+import com.github.stephengold.joltjni.BodyLockMultiRead;
+import com.github.stephengold.joltjni.BodyLockMultiWrite;
+import com.github.stephengold.joltjni.BodyLockRead;
+import com.github.stephengold.joltjni.BodyLockWrite;
+import com.github.stephengold.joltjni.BodyView;
+import com.github.stephengold.joltjni.BodyViewC;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.SphereShape;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.enumerate.EMotionType;
+import com.github.stephengold.joltjni.readonly.ConstBodyLockInterface;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for {@code BodyView} and {@code BodyViewC}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class BodyViewTest {
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Test views bound by locks and by {@code forEachActiveBody()}.
+     */
+    @Test
+    public void testBodyView() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        // Create 3 dynamic bodies and 1 static body:
+        PhysicsSystem system = TestUtils.newPhysicsSystem(4);
+        BodyInterface bi = system.getBodyInterface();
+        SphereShape shape = new SphereShape(1f);
+        int[] dynamicIds = new int[3];
+        for (int i = 0; i < dynamicIds.length; ++i) {
+            BodyCreationSettings bcs = new BodyCreationSettings(shape,
+                    new RVec3(5. * i, 10., 0.), new Quat(),
+                    EMotionType.Dynamic, TestUtils.objLayerMoving);
+            dynamicIds[i] = bi.createAndAddBody(bcs, EActivation.Activate);
+            TestUtils.testClose(bcs);
+        }
+        BodyCreationSettings bcs = new BodyCreationSettings(shape,
+                new RVec3(0., -10., 0.), new Quat(), EMotionType.Static,
+                TestUtils.objLayerNonMoving);
+        int staticId = bi.createAndAddBody(bcs, EActivation.DontActivate);
+
+        // Visit the active bodies through a single read-only view:
+        BodyViewC viewC = new BodyViewC(system);
+        Assert.assertFalse(viewC.isBound());
+        Set<Integer> visited = new HashSet<>(4);
+        system.forEachActiveBody(viewC, body -> {
+            Assert.assertTrue(body.isDynamic());
+            Assert.assertTrue(body.isActive());
+            Assert.assertEquals(
+                    bi.getPosition(body.getId()), body.getPosition());
+            Assert.assertNotNull(body.getMotionProperties());
+            visited.add(body.getId());
+        });
+        Assert.assertEquals(dynamicIds.length, visited.size());
+        for (int bodyId : dynamicIds) {
+            Assert.assertTrue(visited.contains(bodyId));
+        }
+        Assert.assertFalse(visited.contains(staticId));
+
+        // Write through a write lock, then read back through a read lock:
+        ConstBodyLockInterface bli = system.getBodyLockInterface();
+        BodyView view = new BodyView(system);
+        {
+            BodyLockWrite lock = new BodyLockWrite(bli, dynamicIds[1]);
+            Assert.assertSame(view, lock.getBody(view));
+            view.setFriction(0.25f);
+            view.getMotionProperties().setLinearDamping(0.5f);
+            lock.releaseLock();
+            TestUtils.testClose(lock);
+        }
+        {
+            BodyLockRead lock = new BodyLockRead(bli, dynamicIds[1]);
+            Assert.assertSame(viewC, lock.getBody(viewC));
+            Assert.assertEquals(dynamicIds[1], viewC.getId());
+            Assert.assertEquals(0.25f, viewC.getFriction(), 0f);
+            Assert.assertEquals(0.5f,
+                    viewC.getMotionProperties().getLinearDamping(), 0f);
+            lock.releaseLock();
+            TestUtils.testClose(lock);
+        }
+
+        // A failed lock unbinds the view:
+        {
+            BodyLockRead lock = new BodyLockRead(bli, Jolt.cInvalidBodyId);
+            Assert.assertFalse(lock.succeeded());
+            Assert.assertNull(lock.getBody(viewC));
+            Assert.assertFalse(viewC.isBound());
+            lock.releaseLock();
+            TestUtils.testClose(lock);
+        }
+        {
+            BodyLockWrite lock = new BodyLockWrite(bli, Jolt.cInvalidBodyId);
+            Assert.assertNull(lock.getBody(view));
+            Assert.assertFalse(view.isBound());
+            lock.releaseLock();
+            TestUtils.testClose(lock);
+        }
+
+        // Multi-body locks:
+        {
+            BodyLockMultiWrite multi
+                    = new BodyLockMultiWrite(bli, dynamicIds);
+            for (int i = 0; i < dynamicIds.length; ++i) {
+                multi.getBody(i, view).setUserData(100L + i);
+            }
+            multi.releaseLocks();
+            TestUtils.testClose(multi.getBodyIdArray(), multi);
+        }
+        {
+            BodyLockMultiRead multi = new BodyLockMultiRead(bli, dynamicIds);
+            for (int i = 0; i < dynamicIds.length; ++i) {
+                Assert.assertEquals(
+                        100L + i, multi.getBody(i, viewC).getUserData());
+            }
+            multi.releaseLocks();
+            TestUtils.testClose(multi.getBodyIdArray(), multi);
+        }
+
+        view.unbind();
+        viewC.unbind();
+        TestUtils.testClose(bli, bcs, shape);
+        TestUtils.cleanupPhysicsSystem(system);
+        TestUtils.cleanup();
+    }
+}
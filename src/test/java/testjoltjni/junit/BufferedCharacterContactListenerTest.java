@@ -0,0 +1,142 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.BodyCreationSettings;
+import com.github.stephengold.joltjni.BodyFilter;
+import com.github.stephengold.joltjni.BodyInterface;
+import com.github.stephengold.joltjni.BoxShape;
+import com.github.stephengold.joltjni.BufferedCharacterContactListener;
+import com.github.stephengold.joltjni.BufferedCharacterContactListener.EventType;
+import com.github.stephengold.joltjni.CapsuleShape;
+import com.github.stephengold.joltjni.CharacterVirtual;
+import com.github.stephengold.joltjni.CharacterVirtualSettings;
+import com.github.stephengold.joltjni.ExtendedUpdateSettings;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.ShapeFilter;
+import com.github.stephengold.joltjni.TempAllocatorMalloc;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.enumerate.EMotionType;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for {@code BufferedCharacterContactListener}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class BufferedCharacterContactListenerTest {
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Test event buffering and the layer rule.
+     */
+    @Test
+    public void testBufferedCharacterContactListener() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        PhysicsSystem physicsSystem = TestUtils.newPhysicsSystem(10);
+        BodyInterface bodyInterface = physicsSystem.getBodyInterface();
+        BoxShape floorShape = new BoxShape(20f, 1f, 20f);
+        BodyCreationSettings bcs = new BodyCreationSettings(floorShape,
+                new RVec3(0., -1., 0.), new Quat(), EMotionType.Static,
+                TestUtils.objLayerNonMoving);
+        int floorId
+                = bodyInterface.createAndAddBody(bcs, EActivation.DontActivate);
+        physicsSystem.optimizeBroadPhase();
+
+        CharacterVirtualSettings settings = new CharacterVirtualSettings();
+        settings.setShape(new CapsuleShape(0.5f, 0.3f));
+        CharacterVirtual character = new CharacterVirtual(settings,
+                new RVec3(0., 0.8, 0.), new Quat(), 0L, physicsSystem);
+        BufferedCharacterContactListener listener
+                = new BufferedCharacterContactListener(physicsSystem, 4);
+        character.setListener(listener);
+
+        ExtendedUpdateSettings eus = new ExtendedUpdateSettings();
+        BodyFilter bodyFilter = new BodyFilter();
+        ShapeFilter shapeFilter = new ShapeFilter();
+        TempAllocatorMalloc allocator = new TempAllocatorMalloc();
+
+        // The first update adds a contact with the floor:
+        update(character, physicsSystem, eus, bodyFilter, shapeFilter,
+                allocator);
+        Assert.assertEquals(1, listener.collect());
+        Assert.assertEquals(character.va(), listener.getSummaryCharacterVa(0));
+        Assert.assertEquals(1, listener.getCount(character, EventType.Added));
+        Assert.assertEquals(1, listener.countEvents());
+        Assert.assertEquals(EventType.Added, listener.getEventType(0));
+        Assert.assertEquals(floorId, listener.getEventOtherId(0));
+        Assert.assertEquals(0, listener.countDroppedEvents());
+
+        // The second update only persists it:
+        update(character, physicsSystem, eus, bodyFilter, shapeFilter,
+                allocator);
+        listener.collect();
+        Assert.assertEquals(0, listener.getCount(character, EventType.Added));
+        Assert.assertEquals(0, listener.countEvents());
+        Assert.assertTrue(
+                listener.getCount(character, EventType.Persisted) > 0);
+
+        // Ignoring the floor's layer rejects the contact:
+        listener.setLayerIgnored(TestUtils.objLayerNonMoving, true);
+        Assert.assertTrue(listener.isLayerIgnored(TestUtils.objLayerNonMoving));
+        update(character, physicsSystem, eus, bodyFilter, shapeFilter,
+                allocator);
+        listener.collect();
+        Assert.assertTrue(listener.getCount(character, EventType.Rejected) > 0);
+
+        character.setListener(null);
+        TestUtils.testClose(allocator, shapeFilter, bodyFilter, eus, listener);
+        TestUtils.testClose(character, settings, bcs, floorShape);
+        TestUtils.cleanupPhysicsSystem(physicsSystem);
+        TestUtils.cleanup();
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Update the specified character by one sixtieth of a second.
+     *
+     * @param character the character to update (not {@code null})
+     * @param system the physics system (not {@code null})
+     * @param settings the extended-update settings (not {@code null})
+     * @param bodyFilter the body filter (not {@code null})
+     * @param shapeFilter the shape filter (not {@code null})
+     * @param allocator the allocator (not {@code null})
+     */
+    private static void update(CharacterVirtual character,
+            PhysicsSystem system, ExtendedUpdateSettings settings,
+            BodyFilter bodyFilter, ShapeFilter shapeFilter,
+            TempAllocatorMalloc allocator) {
+        character.extendedUpdate(1f / 60f, system.getGravity(), settings,
+                system.getDefaultBroadPhaseLayerFilter(
+                        TestUtils.objLayerMoving),
+                system.getDefaultLayerFilter(TestUtils.objLayerMoving),
+                bodyFilter, shapeFilter, allocator);
+    }
+}
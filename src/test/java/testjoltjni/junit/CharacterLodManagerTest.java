@@ -0,0 +1,161 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.BodyCreationSettings;
+import com.github.stephengold.joltjni.BodyFilter;
+import com.github.stephengold.joltjni.BodyInterface;
+import com.github.stephengold.joltjni.BoxShape;
+import com.github.stephengold.joltjni.CapsuleShape;
+import com.github.stephengold.joltjni.CharacterLodManager;
+import com.github.stephengold.joltjni.CharacterVirtual;
+import com.github.stephengold.joltjni.CharacterVirtualSettings;
+import com.github.stephengold.joltjni.ExtendedUpdateSettings;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.ShapeFilter;
+import com.github.stephengold.joltjni.TempAllocatorMalloc;
+import com.github.stephengold.joltjni.Vec3;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.enumerate.EMotionType;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for {@code CharacterLodManager}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class CharacterLodManagerTest {
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Test tier selection, update scheduling, and time accumulation.
+     */
+    @Test
+    public void testCharacterLodManager() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        PhysicsSystem physicsSystem = TestUtils.newPhysicsSystem(10);
+        BodyInterface bodyInterface = physicsSystem.getBodyInterface();
+        BoxShape floorShape = new BoxShape(200f, 1f, 200f);
+        BodyCreationSettings bcs = new BodyCreationSettings(floorShape,
+                new RVec3(0., -1., 0.), new Quat(), EMotionType.Static,
+                TestUtils.objLayerNonMoving);
+        bodyInterface.createAndAddBody(bcs, EActivation.DontActivate);
+        physicsSystem.optimizeBroadPhase();
+
+        CharacterVirtualSettings settings = new CharacterVirtualSettings();
+        settings.setShape(new CapsuleShape(0.5f, 0.3f));
+        double[] xs = {5., 21., 40., 100.};
+        CharacterVirtual[] characters = new CharacterVirtual[xs.length];
+        CharacterLodManager manager = new CharacterLodManager();
+        for (int i = 0; i < xs.length; ++i) {
+            characters[i] = new CharacterVirtual(settings,
+                    new RVec3(xs[i], 0.8, 0.), new Quat(), 0L, physicsSystem);
+            manager.add(characters[i]);
+        }
+        Assert.assertEquals(xs.length, manager.size());
+        Assert.assertEquals(xs.length,
+                manager.countCharacters(CharacterLodManager.Tier.Full));
+        manager.addFocus(new RVec3());
+
+        ExtendedUpdateSettings eus = new ExtendedUpdateSettings();
+        BodyFilter bodyFilter = new BodyFilter();
+        ShapeFilter shapeFilter = new ShapeFilter();
+        TempAllocatorMalloc allocator = new TempAllocatorMalloc();
+        final float deltaTime = 1f / 60f;
+        final int numTicks = 24;
+        int numUpdates = 0;
+        for (int tick = 0; tick < numTicks; ++tick) {
+            numUpdates += update(manager, deltaTime, physicsSystem, eus,
+                    bodyFilter, shapeFilter, allocator);
+
+            Assert.assertEquals(0f,
+                    manager.getPendingTime(characters[0]), 0f);
+            Assert.assertTrue(manager.getPendingTime(characters[2])
+                    < 3f * deltaTime + 1e-6f);
+            Assert.assertTrue(manager.getPendingTime(characters[3])
+                    < 8f * deltaTime + 1e-6f);
+        }
+
+        // The character just beyond 20 m stays in Full due to hysteresis:
+        Assert.assertEquals(CharacterLodManager.Tier.Full,
+                manager.getTier(characters[1]));
+        Assert.assertEquals(CharacterLodManager.Tier.Reduced,
+                manager.getTier(characters[2]));
+        Assert.assertEquals(CharacterLodManager.Tier.GroundSnap,
+                manager.getTier(characters[3]));
+        Assert.assertEquals(24 + 24 + 8 + 3, numUpdates);
+
+        // Moving the focus promotes the distant character and flushes its time:
+        manager.setFocus(0, new RVec3(100., 0., 0.));
+        update(manager, deltaTime, physicsSystem, eus, bodyFilter,
+                shapeFilter, allocator);
+        Assert.assertEquals(CharacterLodManager.Tier.Full,
+                manager.getTier(characters[3]));
+        Assert.assertEquals(0f, manager.getPendingTime(characters[3]), 0f);
+        Assert.assertEquals(CharacterLodManager.Tier.GroundSnap,
+                manager.getTier(characters[0]));
+
+        Assert.assertTrue(manager.remove(characters[0]));
+        Assert.assertFalse(manager.remove(characters[0]));
+        Assert.assertEquals(xs.length - 1, manager.size());
+
+        TestUtils.testClose(allocator, shapeFilter, bodyFilter, eus);
+        TestUtils.testClose(characters);
+        TestUtils.testClose(settings, bcs, floorShape);
+        TestUtils.cleanupPhysicsSystem(physicsSystem);
+        TestUtils.cleanup();
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Advance the managed characters by one tick.
+     *
+     * @param manager the manager to use (not {@code null})
+     * @param deltaTime the duration of the tick (in seconds)
+     * @param system the physics system (not {@code null})
+     * @param settings the extended-update settings (not {@code null})
+     * @param bodyFilter the body filter (not {@code null})
+     * @param shapeFilter the shape filter (not {@code null})
+     * @param allocator the allocator (not {@code null})
+     * @return the number of characters updated
+     */
+    private static int update(CharacterLodManager manager, float deltaTime,
+            PhysicsSystem system, ExtendedUpdateSettings settings,
+            BodyFilter bodyFilter, ShapeFilter shapeFilter,
+            TempAllocatorMalloc allocator) {
+        int result = manager.update(deltaTime, system.getGravity(), settings,
+                system.getDefaultBroadPhaseLayerFilter(
+                        TestUtils.objLayerMoving),
+                system.getDefaultLayerFilter(TestUtils.objLayerMoving),
+                bodyFilter, shapeFilter, allocator);
+
+        return result;
+    }
+}
@@ -0,0 +1,272 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.BodyCreationSettings;
+import com.github.stephengold.joltjni.BodyFilter;
+import com.github.stephengold.joltjni.BodyInterface;
+import com.github.stephengold.joltjni.BoxShape;
+import com.github.stephengold.joltjni.BroadPhaseLayerFilter;
+import com.github.stephengold.joltjni.CapsuleShape;
+import com.github.stephengold.joltjni.CharacterVirtual;
+import com.github.stephengold.joltjni.CharacterVirtualBatch;
+import com.github.stephengold.joltjni.CharacterVirtualSettings;
+import com.github.stephengold.joltjni.CharacterVsCharacterCollisionGrid;
+import com.github.stephengold.joltjni.CharacterVsCharacterCollisionSimple;
+import com.github.stephengold.joltjni.ExtendedUpdateSettings;
+import com.github.stephengold.joltjni.JobSystemThreadPool;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.ObjectLayerFilter;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.ShapeFilter;
+import com.github.stephengold.joltjni.TempAllocatorMalloc;
+import com.github.stephengold.joltjni.Vec3;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.enumerate.EMotionType;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for {@code CharacterVirtualBatch}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class CharacterVirtualBatchTest {
+    // *************************************************************************
+    // constants
+
+    /**
+     * edge length of each scheduling cell (in meters)
+     */
+    final private static float batchCellSize = 8f;
+    /**
+     * duration of each update (in seconds)
+     */
+    final private static float deltaTime = 1f / 60f;
+    /**
+     * initial X coordinates of the characters, spread across cells of
+     * several colors
+     */
+    final private static double[] xs = {0., 20., 28., 44., 60.};
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Verify that a batch update produces the same results as updating the
+     * same characters one at a time with {@code extendedUpdate()}.
+     */
+    @Test
+    public void testMatchesSerialUpdate() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        PhysicsSystem physicsSystem = TestUtils.newPhysicsSystem(10);
+        BodyInterface bodyInterface = physicsSystem.getBodyInterface();
+        BoxShape floorShape = new BoxShape(200f, 1f, 200f);
+        BodyCreationSettings bcs = new BodyCreationSettings(floorShape,
+                new RVec3(0., -1., 0.), new Quat(), EMotionType.Static,
+                TestUtils.objLayerNonMoving);
+        bodyInterface.createAndAddBody(bcs, EActivation.DontActivate);
+        physicsSystem.optimizeBroadPhase();
+
+        /*
+         * Create 2 identical sets of characters. Each set has its own grid,
+         * so the sets can't interact with each other:
+         */
+        CharacterVirtualSettings settings = new CharacterVirtualSettings();
+        settings.setShape(new CapsuleShape(0.5f, 0.3f));
+        int numCharacters = xs.length;
+        CharacterVsCharacterCollisionGrid batchGrid
+                = new CharacterVsCharacterCollisionGrid(2f, 0.5f);
+        CharacterVsCharacterCollisionGrid serialGrid
+                = new CharacterVsCharacterCollisionGrid(2f, 0.5f);
+        CharacterVirtual[] batchCharacters
+                = new CharacterVirtual[numCharacters];
+        CharacterVirtual[] serialCharacters
+                = new CharacterVirtual[numCharacters];
+        CharacterVirtualBatch batch = new CharacterVirtualBatch(batchCellSize);
+        for (int i = 0; i < numCharacters; ++i) {
+            RVec3 location = new RVec3(xs[i], 0.8, 0.);
+            batchCharacters[i] = new CharacterVirtual(
+                    settings, location, new Quat(), 0L, physicsSystem);
+            batchCharacters[i].setCharacterVsCharacterCollision(batchGrid);
+            batchGrid.add(batchCharacters[i]);
+            Assert.assertEquals(i, batch.add(batchCharacters[i]));
+
+            serialCharacters[i] = new CharacterVirtual(
+                    settings, location, new Quat(), 0L, physicsSystem);
+            serialCharacters[i].setCharacterVsCharacterCollision(serialGrid);
+            serialGrid.add(serialCharacters[i]);
+        }
+        Assert.assertEquals(numCharacters, batch.size());
+
+        FloatBuffer velocities = Jolt.newDirectFloatBuffer(3 * numCharacters);
+        for (int i = 0; i < numCharacters; ++i) {
+            velocities.put(3 * i, 0.5f * i);
+            velocities.put(3 * i + 2, -1f);
+        }
+        DoubleBuffer storePositions
+                = Jolt.newDirectDoubleBuffer(3 * numCharacters);
+        FloatBuffer storeVelocities
+                = Jolt.newDirectFloatBuffer(3 * numCharacters);
+        IntBuffer storeGroundStates = Jolt.newDirectIntBuffer(numCharacters);
+
+        ExtendedUpdateSettings eus = new ExtendedUpdateSettings();
+        BroadPhaseLayerFilter bpFilter = physicsSystem
+                .getDefaultBroadPhaseLayerFilter(TestUtils.objLayerMoving);
+        ObjectLayerFilter olFilter
+                = physicsSystem.getDefaultLayerFilter(TestUtils.objLayerMoving);
+        BodyFilter bodyFilter = new BodyFilter();
+        ShapeFilter shapeFilter = new ShapeFilter();
+        TempAllocatorMalloc allocator = new TempAllocatorMalloc();
+        JobSystemThreadPool jobSystem = new JobSystemThreadPool(
+                Jolt.cMaxPhysicsJobs, Jolt.cMaxPhysicsBarriers, 3);
+        Vec3 gravity = physicsSystem.getGravity();
+
+        for (int tick = 0; tick < 30; ++tick) {
+            batch.update(deltaTime, gravity, eus, bpFilter, olFilter,
+                    bodyFilter, shapeFilter, jobSystem, velocities,
+                    storePositions, storeVelocities, storeGroundStates);
+            batchGrid.update();
+
+            for (int i = 0; i < numCharacters; ++i) {
+                CharacterVirtual character = serialCharacters[i];
+                character.setLinearVelocity(velocities.get(3 * i),
+                        velocities.get(3 * i + 1), velocities.get(3 * i + 2));
+                character.extendedUpdate(deltaTime, gravity, eus, bpFilter,
+                        olFilter, bodyFilter, shapeFilter, allocator);
+            }
+            serialGrid.update();
+
+            for (int i = 0; i < numCharacters; ++i) {
+                CharacterVirtual character = serialCharacters[i];
+                RVec3 expectedLocation = character.getPosition();
+                Assert.assertEquals(expectedLocation.xx(),
+                        storePositions.get(3 * i), 1e-5);
+                Assert.assertEquals(expectedLocation.yy(),
+                        storePositions.get(3 * i + 1), 1e-5);
+                Assert.assertEquals(expectedLocation.zz(),
+                        storePositions.get(3 * i + 2), 1e-5);
+
+                Vec3 expectedVelocity = character.getLinearVelocity();
+                Assert.assertEquals(expectedVelocity.getX(),
+                        storeVelocities.get(3 * i), 1e-5f);
+                Assert.assertEquals(expectedVelocity.getY(),
+                        storeVelocities.get(3 * i + 1), 1e-5f);
+                Assert.assertEquals(expectedVelocity.getZ(),
+                        storeVelocities.get(3 * i + 2), 1e-5f);
+
+                Assert.assertEquals(character.getGroundState().ordinal(),
+                        storeGroundStates.get(i));
+                Assert.assertEquals(batchCharacters[i].getGroundState(),
+                        character.getGroundState());
+            }
+        }
+
+        batch.clear();
+        Assert.assertEquals(0, batch.size());
+
+        TestUtils.testClose(jobSystem, allocator, shapeFilter, bodyFilter, eus);
+        TestUtils.testClose(serialCharacters);
+        TestUtils.testClose(batchCharacters);
+        TestUtils.testClose(serialGrid, batchGrid, settings, bcs, floorShape);
+        TestUtils.cleanupPhysicsSystem(physicsSystem);
+        TestUtils.cleanup();
+    }
+
+    /**
+     * Verify that interfaces that read every character are rejected, as are
+     * grids too coarse for the batch's cell size.
+     */
+    @Test
+    public void testRejectsSimpleInterface() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        PhysicsSystem physicsSystem = TestUtils.newPhysicsSystem(10);
+        CharacterVirtualSettings settings = new CharacterVirtualSettings();
+        settings.setShape(new CapsuleShape(0.5f, 0.3f));
+        CharacterVirtual character = new CharacterVirtual(
+                settings, new RVec3(0., 0.8, 0.), new Quat(), 0L,
+                physicsSystem);
+        CharacterVsCharacterCollisionSimple simple
+                = new CharacterVsCharacterCollisionSimple();
+        simple.add(character);
+        character.setCharacterVsCharacterCollision(simple);
+        CharacterVirtualBatch batch = new CharacterVirtualBatch(batchCellSize);
+        batch.add(character);
+
+        FloatBuffer velocities = Jolt.newDirectFloatBuffer(3);
+        DoubleBuffer storePositions = Jolt.newDirectDoubleBuffer(3);
+        FloatBuffer storeVelocities = Jolt.newDirectFloatBuffer(3);
+        IntBuffer storeGroundStates = Jolt.newDirectIntBuffer(1);
+        ExtendedUpdateSettings eus = new ExtendedUpdateSettings();
+        BodyFilter bodyFilter = new BodyFilter();
+        ShapeFilter shapeFilter = new ShapeFilter();
+        JobSystemThreadPool jobSystem = new JobSystemThreadPool(
+                Jolt.cMaxPhysicsJobs, Jolt.cMaxPhysicsBarriers, 1);
+        try {
+            batch.update(deltaTime, physicsSystem.getGravity(), eus,
+                    physicsSystem.getDefaultBroadPhaseLayerFilter(
+                            TestUtils.objLayerMoving),
+                    physicsSystem.getDefaultLayerFilter(
+                            TestUtils.objLayerMoving),
+                    bodyFilter, shapeFilter, jobSystem, velocities,
+                    storePositions, storeVelocities, storeGroundStates);
+            Assert.fail("Expected an IllegalStateException");
+        } catch (IllegalStateException exception) {
+            // expected
+        }
+
+        // A grid that needs 8+2*0.5 meters doesn't fit in 8-meter cells:
+        CharacterVsCharacterCollisionGrid coarseGrid
+                = new CharacterVsCharacterCollisionGrid(8f, 0.5f);
+        Assert.assertEquals(8f, coarseGrid.getCellSize(), 0f);
+        Assert.assertEquals(0.5f, coarseGrid.getMargin(), 0f);
+        coarseGrid.add(character);
+        character.setCharacterVsCharacterCollision(coarseGrid);
+        try {
+            batch.update(deltaTime, physicsSystem.getGravity(), eus,
+                    physicsSystem.getDefaultBroadPhaseLayerFilter(
+                            TestUtils.objLayerMoving),
+                    physicsSystem.getDefaultLayerFilter(
+                            TestUtils.objLayerMoving),
+                    bodyFilter, shapeFilter, jobSystem, velocities,
+                    storePositions, storeVelocities, storeGroundStates);
+            Assert.fail("Expected an IllegalStateException");
+        } catch (IllegalStateException exception) {
+            // expected
+        }
+
+        batch.clear();
+        TestUtils.testClose(jobSystem, shapeFilter, bodyFilter, eus);
+        TestUtils.testClose(character, coarseGrid, simple, settings);
+        TestUtils.cleanupPhysicsSystem(physicsSystem);
+        TestUtils.cleanup();
+    }
+}
@@ -0,0 +1,204 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.BodyCreationSettings;
+import com.github.stephengold.joltjni.BodyFilter;
+import com.github.stephengold.joltjni.BodyInterface;
+import com.github.stephengold.joltjni.BoxShape;
+import com.github.stephengold.joltjni.BroadPhaseLayerFilter;
+import com.github.stephengold.joltjni.CapsuleShape;
+import com.github.stephengold.joltjni.CharacterVirtual;
+import com.github.stephengold.joltjni.CharacterVirtualSettings;
+import com.github.stephengold.joltjni.CharacterVsCharacterCollision;
+import com.github.stephengold.joltjni.CharacterVsCharacterCollisionGrid;
+import com.github.stephengold.joltjni.CharacterVsCharacterCollisionSimple;
+import com.github.stephengold.joltjni.ObjectLayerFilter;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.ShapeFilter;
+import com.github.stephengold.joltjni.TempAllocatorMalloc;
+import com.github.stephengold.joltjni.Vec3;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.enumerate.EMotionType;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for {@code CharacterVsCharacterCollisionGrid}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class CharacterVsCharacterCollisionGridTest {
+    // *************************************************************************
+    // constants
+
+    /**
+     * number of pairs of characters in each set
+     */
+    final private static int numPairs = 20;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Verify that grids report the same character contacts as
+     * {@code CharacterVsCharacterCollisionSimple}, both when probing cells
+     * and when walking the occupied cells.
+     */
+    @Test
+    public void testMatchesSimple() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        PhysicsSystem physicsSystem = TestUtils.newPhysicsSystem(10);
+        BodyInterface bodyInterface = physicsSystem.getBodyInterface();
+        BoxShape floorShape = new BoxShape(200f, 1f, 200f);
+        BodyCreationSettings bcs = new BodyCreationSettings(floorShape,
+                new RVec3(0., -1., 0.), new Quat(), EMotionType.Static,
+                TestUtils.objLayerNonMoving);
+        bodyInterface.createAndAddBody(bcs, EActivation.DontActivate);
+        physicsSystem.optimizeBroadPhase();
+
+        CharacterVirtualSettings settings = new CharacterVirtualSettings();
+        settings.setShape(new CapsuleShape(0.5f, 0.3f));
+
+        /*
+         * Create 3 identical sets of characters, 20 meters apart, each with
+         * its own interface. Large grid cells are probed individually, while
+         * small ones are too numerous to probe, so the occupied cells are
+         * walked instead:
+         */
+        CharacterVsCharacterCollisionSimple simple
+                = new CharacterVsCharacterCollisionSimple();
+        CharacterVsCharacterCollisionGrid probeGrid
+                = new CharacterVsCharacterCollisionGrid(4f, 0.5f);
+        CharacterVsCharacterCollisionGrid walkGrid
+                = new CharacterVsCharacterCollisionGrid(0.5f, 0.5f);
+        CharacterVirtual[] simpleSet
+                = createSet(settings, physicsSystem, 0., simple);
+        CharacterVirtual[] probeSet
+                = createSet(settings, physicsSystem, 20., probeGrid);
+        CharacterVirtual[] walkSet
+                = createSet(settings, physicsSystem, 40., walkGrid);
+        for (int i = 0; i < simpleSet.length; ++i) {
+            simple.add(simpleSet[i]);
+            probeGrid.add(probeSet[i]);
+            walkGrid.add(walkSet[i]);
+        }
+        Assert.assertEquals(numPairs, probeGrid.countCells());
+        Assert.assertTrue(walkGrid.countCells() >= numPairs);
+
+        BroadPhaseLayerFilter bpFilter = physicsSystem
+                .getDefaultBroadPhaseLayerFilter(TestUtils.objLayerMoving);
+        ObjectLayerFilter olFilter
+                = physicsSystem.getDefaultLayerFilter(TestUtils.objLayerMoving);
+        BodyFilter bodyFilter = new BodyFilter();
+        ShapeFilter shapeFilter = new ShapeFilter();
+        TempAllocatorMalloc allocator = new TempAllocatorMalloc();
+        Vec3 gravity = physicsSystem.getGravity();
+
+        for (int tick = 0; tick < 10; ++tick) {
+            probeGrid.update();
+            walkGrid.update();
+            CharacterVirtual[][] sets = {simpleSet, probeSet, walkSet};
+            for (CharacterVirtual[] set : sets) {
+                for (CharacterVirtual character : set) {
+                    character.update(1f / 60f, gravity, bpFilter, olFilter,
+                            bodyFilter, shapeFilter, allocator);
+                }
+            }
+
+            for (int i = 0; i < simpleSet.length; ++i) {
+                int partner = i ^ 1;
+                boolean expected
+                        = simpleSet[i].hasCollidedWith(simpleSet[partner]);
+                Assert.assertTrue(expected);
+                Assert.assertEquals(expected,
+                        probeSet[i].hasCollidedWith(probeSet[partner]));
+                Assert.assertEquals(expected,
+                        walkSet[i].hasCollidedWith(walkSet[partner]));
+
+                RVec3 expectedLocation = simpleSet[i].getPosition();
+                assertOffset(expectedLocation, probeSet[i].getPosition(), 20.);
+                assertOffset(expectedLocation, walkSet[i].getPosition(), 40.);
+            }
+        }
+
+        TestUtils.testClose(allocator, shapeFilter, bodyFilter);
+        TestUtils.testClose(simpleSet);
+        TestUtils.testClose(probeSet);
+        TestUtils.testClose(walkSet);
+        TestUtils.testClose(walkGrid, probeGrid, simple, settings, bcs,
+                floorShape);
+        TestUtils.cleanupPhysicsSystem(physicsSystem);
+        TestUtils.cleanup();
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Verify that the specified locations differ by the specified offset
+     * along the Z axis.
+     *
+     * @param expected the location in the reference set (not {@code null},
+     * unaffected)
+     * @param actual the location in the other set (not {@code null},
+     * unaffected)
+     * @param zOffset the expected Z offset (in meters)
+     */
+    private static void assertOffset(
+            RVec3 expected, RVec3 actual, double zOffset) {
+        Assert.assertEquals(expected.xx(), actual.xx(), 1e-4);
+        Assert.assertEquals(expected.yy(), actual.yy(), 1e-4);
+        Assert.assertEquals(expected.zz() + zOffset, actual.zz(), 1e-4);
+    }
+
+    /**
+     * Create a set of characters in pairs, 10 meters apart. The characters of
+     * each pair nearly touch and approach each other.
+     *
+     * @param settings the character settings (not {@code null})
+     * @param system the physics system (not {@code null})
+     * @param z the Z coordinate of every character
+     * @param cvc the char-vs-char collision interface to use (not
+     * {@code null})
+     * @return a new array of new characters
+     */
+    private static CharacterVirtual[] createSet(
+            CharacterVirtualSettings settings, PhysicsSystem system, double z,
+            CharacterVsCharacterCollision cvc) {
+        CharacterVirtual[] result = new CharacterVirtual[2 * numPairs];
+        for (int i = 0; i < result.length; ++i) {
+            double x = 10. * (i / 2) + 0.62 * (i % 2);
+            CharacterVirtual character = new CharacterVirtual(
+                    settings, new RVec3(x, 0.8, z), new Quat(), 0L, system);
+            character.setCharacterVsCharacterCollision(cvc);
+            float vx = (i % 2 == 0) ? 1f : -1f;
+            character.setLinearVelocity(vx, 0f, 0f);
+            result[i] = character;
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,318 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.BodyInterface;
+import com.github.stephengold.joltjni.CrowdAnimator;
+import com.github.stephengold.joltjni.JobSystemThreadPool;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.Mat44;
+import com.github.stephengold.joltjni.ObjectStreamIn;
+import com.github.stephengold.joltjni.Part;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.Ragdoll;
+import com.github.stephengold.joltjni.RagdollSettings;
+import com.github.stephengold.joltjni.RagdollSettingsRef;
+import com.github.stephengold.joltjni.SkeletalAnimationRef;
+import com.github.stephengold.joltjni.SkeletonMapper;
+import com.github.stephengold.joltjni.SkeletonPose;
+import com.github.stephengold.joltjni.SkeletonRef;
+import com.github.stephengold.joltjni.SwingTwistConstraint;
+import com.github.stephengold.joltjni.Vec3;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.readonly.ConstSkeleton;
+import java.nio.FloatBuffer;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for {@code CrowdAnimator}. The tests read the
+ * "Human" ragdoll and animations from the Jolt Physics assets.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class CrowdAnimatorTest {
+    // *************************************************************************
+    // constants
+
+    /**
+     * number of entries in each batch, more than the number of worker threads
+     * so that some jobs process several entries
+     */
+    final private static int numEntries = 5;
+    /**
+     * number of worker threads
+     */
+    final private static int numThreads = 3;
+    // *************************************************************************
+    // fields
+
+    /**
+     * animation of the high-definition skeleton
+     */
+    private static SkeletalAnimationRef jog;
+    /**
+     * animation of the ragdoll's own skeleton
+     */
+    private static SkeletalAnimationRef walk;
+    /**
+     * settings of the "Human" ragdoll
+     */
+    private static RagdollSettingsRef settingsRef;
+    /**
+     * skeleton of the high-definition animation
+     */
+    private static SkeletonRef hdSkeleton;
+    /**
+     * maps the ragdoll's skeleton to the high-definition skeleton
+     */
+    private static SkeletonMapper mapper;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Compare {@code update()} using kinematics with the serial equivalent.
+     */
+    @Test
+    public void testKinematics() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        compareWithSerial(CrowdAnimator.Drive.Kinematics);
+
+        TestUtils.cleanup();
+    }
+    /**
+     * Compare {@code update()} using motors with the serial equivalent.
+     */
+    @Test
+    public void testMotors() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        compareWithSerial(CrowdAnimator.Drive.Motors);
+
+        TestUtils.cleanup();
+    }
+
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Verify that the specified matrices are equal.
+     *
+     * @param expected the expected matrix (not {@code null}, unaffected)
+     * @param actual the matrix to test (not {@code null}, unaffected)
+     */
+    private static void assertEquals(Mat44 expected, Mat44 actual) {
+        for (int row = 0; row < 4; ++row) {
+            for (int column = 0; column < 4; ++column) {
+                Assert.assertEquals(expected.getElement(row, column),
+                        actual.getElement(row, column), 1e-6f);
+            }
+        }
+    }
+
+    /**
+     * Verify that the specified poses have equal joint matrices.
+     *
+     * @param expected the expected pose (not {@code null}, unaffected)
+     * @param actual the pose to test (not {@code null}, unaffected)
+     */
+    private static void assertEquals(
+            SkeletonPose expected, SkeletonPose actual) {
+        int numJoints = expected.getJointCount();
+        Assert.assertEquals(numJoints, actual.getJointCount());
+        for (int i = 0; i < numJoints; ++i) {
+            assertEquals(expected.getJointMatrix(i), actual.getJointMatrix(i));
+        }
+    }
+
+    /**
+     * Drive one set of ragdolls using a {@code CrowdAnimator} and an identical
+     * set using serial invocations, then compare the results. Entries with
+     * even indices use the mapper, odd ones use the ragdoll's own skeleton.
+     *
+     * @param drive how to drive the ragdolls (not {@code null})
+     */
+    private static void compareWithSerial(CrowdAnimator.Drive drive) {
+        RagdollSettings settings = loadAssets();
+        PhysicsSystem physicsSystem = TestUtils.newPhysicsSystem(500);
+        BodyInterface bodyInterface = physicsSystem.getBodyInterface();
+        ConstSkeleton ragdollSkeleton = settings.getSkeleton();
+        float deltaTime = 1 / 60f;
+
+        CrowdAnimator animator = new CrowdAnimator();
+        FloatBuffer times = Jolt.newDirectFloatBuffer(numEntries);
+        Ragdoll[][] ragdolls = new Ragdoll[2][numEntries];
+        SkeletonPose[][] poses = new SkeletonPose[2][numEntries];
+        SkeletonPose[][] ragdollPoses = new SkeletonPose[2][numEntries];
+        for (int i = 0; i < numEntries; ++i) {
+            times.put(i, 0.1f * i);
+            boolean useMapper = (i % 2 == 0);
+            for (int set = 0; set < 2; ++set) {
+                Ragdoll ragdoll = settings.createRagdoll(0, i, physicsSystem);
+                ragdoll.addToPhysicsSystem(EActivation.Activate);
+                ragdolls[set][i] = ragdoll;
+                poses[set][i] = new SkeletonPose();
+                ragdollPoses[set][i] = new SkeletonPose();
+                ragdollPoses[set][i].setSkeleton(ragdollSkeleton);
+                poses[set][i].setSkeleton(
+                        useMapper ? hdSkeleton.getPtr() : ragdollSkeleton);
+            }
+            if (useMapper) {
+                animator.add(jog.getPtr(), poses[0][i], mapper,
+                        ragdollPoses[0][i], ragdolls[0][i]);
+            } else {
+                animator.add(walk.getPtr(), poses[0][i], ragdolls[0][i]);
+            }
+        }
+        Assert.assertEquals(numEntries, animator.size());
+
+        JobSystemThreadPool jobSystem = new JobSystemThreadPool(
+                Jolt.cMaxPhysicsJobs, Jolt.cMaxPhysicsBarriers, numThreads);
+        animator.update(times, drive, deltaTime, jobSystem);
+
+        // Perform the same work serially on the 2nd set:
+        for (int i = 0; i < numEntries; ++i) {
+            SkeletonPose pose = poses[1][i];
+            SkeletonPose drivePose = pose;
+            if (i % 2 == 0) {
+                jog.sample(times.get(i), pose);
+                pose.calculateJointMatrices();
+                drivePose = ragdollPoses[1][i];
+                drivePose.setRootOffset(pose.getRootOffset());
+                mapper.mapReverse(
+                        pose.getJointMatrices(), drivePose.getJointMatrices());
+                drivePose.calculateJointStates();
+            } else {
+                walk.sample(times.get(i), pose);
+                pose.calculateJointMatrices();
+            }
+            if (drive == CrowdAnimator.Drive.Motors) {
+                ragdolls[1][i].driveToPoseUsingMotors(drivePose);
+            } else {
+                ragdolls[1][i].driveToPoseUsingKinematics(
+                        drivePose, deltaTime);
+            }
+        }
+
+        // Compare the poses and their effects on the ragdolls:
+        for (int i = 0; i < numEntries; ++i) {
+            assertEquals(poses[1][i], poses[0][i]);
+            if (i % 2 == 0) {
+                assertEquals(ragdollPoses[1][i], ragdollPoses[0][i]);
+            }
+
+            Ragdoll expected = ragdolls[1][i];
+            Ragdoll actual = ragdolls[0][i];
+            if (drive == CrowdAnimator.Drive.Motors) {
+                int numConstraints = expected.getConstraintCount();
+                for (int j = 0; j < numConstraints; ++j) {
+                    Quat q1 = ((SwingTwistConstraint) expected
+                            .getConstraint(j)).getTargetOrientationCs();
+                    Quat q0 = ((SwingTwistConstraint) actual
+                            .getConstraint(j)).getTargetOrientationCs();
+                    TestUtils.assertEquals(q1.getX(), q1.getY(), q1.getZ(),
+                            q1.getW(), q0, 1e-6f);
+                }
+            } else {
+                int[] expectedIds = expected.getBodyIds();
+                int[] actualIds = actual.getBodyIds();
+                for (int j = 0; j < expectedIds.length; ++j) {
+                    Vec3 v1 = bodyInterface.getLinearVelocity(expectedIds[j]);
+                    Vec3 v0 = bodyInterface.getLinearVelocity(actualIds[j]);
+                    TestUtils.assertEquals(
+                            v1.getX(), v1.getY(), v1.getZ(), v0, 1e-5f);
+                    Vec3 w1 = bodyInterface.getAngularVelocity(expectedIds[j]);
+                    Vec3 w0 = bodyInterface.getAngularVelocity(actualIds[j]);
+                    TestUtils.assertEquals(
+                            w1.getX(), w1.getY(), w1.getZ(), w0, 1e-5f);
+                }
+            }
+        }
+
+        animator.clear();
+        for (Ragdoll[] set : ragdolls) {
+            for (Ragdoll ragdoll : set) {
+                ragdoll.removeFromPhysicsSystem();
+            }
+        }
+        TestUtils.testClose(jobSystem);
+        TestUtils.cleanupPhysicsSystem(physicsSystem);
+    }
+
+    /**
+     * Load the ragdoll settings, animations, and skeletons from the assets,
+     * and initialize the mapper.
+     *
+     * @return the ragdoll settings (not {@code null})
+     */
+    private static RagdollSettings loadAssets() {
+        settingsRef = new RagdollSettingsRef();
+        Assert.assertTrue(
+                ObjectStreamIn.sReadObject("Assets/Human.tof", settingsRef));
+        RagdollSettings result = settingsRef.getPtr();
+        for (Part part : result.getParts()) {
+            part.setObjectLayer(TestUtils.objLayerMoving);
+        }
+        result.getSkeleton().calculateParentJointIndices();
+        result.stabilize();
+        result.calculateBodyIndexToConstraintIndex();
+        result.calculateConstraintIndexToBodyIdxPair();
+
+        walk = new SkeletalAnimationRef();
+        Assert.assertTrue(
+                ObjectStreamIn.sReadObject("Assets/Human/walk.tof", walk));
+        jog = new SkeletalAnimationRef();
+        Assert.assertTrue(
+                ObjectStreamIn.sReadObject("Assets/Human/jog_hd.tof", jog));
+
+        hdSkeleton = new SkeletonRef();
+        Assert.assertTrue(ObjectStreamIn.sReadObject(
+                "Assets/Human/skeleton_hd.tof", hdSkeleton));
+        hdSkeleton.getPtr().calculateParentJointIndices();
+
+        // Initialize the mapper from the neutral poses:
+        SkeletalAnimationRef neutralRef = new SkeletalAnimationRef();
+        Assert.assertTrue(ObjectStreamIn.sReadObject(
+                "Assets/Human/neutral.tof", neutralRef));
+        SkeletalAnimationRef neutralHdRef = new SkeletalAnimationRef();
+        Assert.assertTrue(ObjectStreamIn.sReadObject(
+                "Assets/Human/neutral_hd.tof", neutralHdRef));
+        SkeletonPose neutral = new SkeletonPose();
+        neutral.setSkeleton(result.getSkeleton());
+        neutralRef.sample(0f, neutral);
+        neutral.calculateJointMatrices();
+        SkeletonPose neutralHd = new SkeletonPose();
+        neutralHd.setSkeleton(hdSkeleton.getPtr());
+        neutralHdRef.sample(0f, neutralHd);
+        neutralHd.calculateJointMatrices();
+        mapper = new SkeletonMapper();
+        mapper.initialize(result.getSkeleton(), neutral.getJointMatrices(),
+                hdSkeleton.getPtr(), neutralHd.getJointMatrices());
+
+        return result;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.BoxShape;
+import com.github.stephengold.joltjni.DebugMeshCache;
+import com.github.stephengold.joltjni.MutableCompoundShape;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.SphereShape;
+import com.github.stephengold.joltjni.Vec3;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for {@code DebugMeshCache}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class DebugMeshCacheTest {
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Test mesh indexing, revision checks, and LRU eviction.
+     */
+    @Test
+    public void testDebugMeshCache() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        DebugMeshCache cache = new DebugMeshCache(2);
+        BoxShape box = new BoxShape(1f);
+
+        // A box has 12 triangles but only 8 distinct vertices:
+        DebugMeshCache.Mesh mesh = cache.get(box);
+        Assert.assertEquals(12, mesh.countTriangles());
+        Assert.assertEquals(8, mesh.countVertices());
+        Assert.assertSame(mesh, cache.get(box));
+        Assert.assertEquals(1L, cache.countHits());
+
+        // Altering a shape invalidates its mesh:
+        MutableCompoundShape compound = new MutableCompoundShape();
+        compound.addShape(new Vec3(), new Quat(), box);
+        DebugMeshCache.Mesh before = cache.get(compound);
+        compound.addShape(new Vec3(3f, 0f, 0f), new Quat(), box);
+        DebugMeshCache.Mesh after = cache.get(compound);
+        Assert.assertNotSame(before, after);
+        Assert.assertEquals(24, after.countTriangles());
+        Assert.assertEquals(3L, cache.countBuilds());
+
+        // The least recently used mesh is evicted:
+        SphereShape sphere = new SphereShape(1f);
+        cache.get(sphere);
+        Assert.assertEquals(2, cache.countEntries());
+        cache.get(box);
+        Assert.assertEquals(5L, cache.countBuilds());
+
+        cache.clear();
+        Assert.assertEquals(0L, cache.totalBytes());
+        TestUtils.testClose(sphere, compound, box);
+        TestUtils.cleanup();
+    }
+}
@@ -0,0 +1,139 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.HeightFieldEditBatch;
+import com.github.stephengold.joltjni.HeightFieldShape;
+import com.github.stephengold.joltjni.HeightFieldShapeSettings;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.PhysicsMaterialList;
+import com.github.stephengold.joltjni.PhysicsMaterialSimple;
+import com.github.stephengold.joltjni.ShapeRefC;
+import com.github.stephengold.joltjni.TempAllocator;
+import com.github.stephengold.joltjni.TempAllocatorMalloc;
+import com.github.stephengold.joltjni.Vec3;
+import java.nio.FloatBuffer;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for {@code HeightFieldEditBatch}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class HeightFieldEditBatchTest {
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Test coalescing and in-place application of height patches.
+     */
+    @Test
+    public void testHeightFieldEditBatch() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        int sampleCount = 16;
+        FloatBuffer samples
+                = Jolt.newDirectFloatBuffer(sampleCount * sampleCount);
+        HeightFieldShapeSettings settings = new HeightFieldShapeSettings(
+                samples, new Vec3(), new Vec3(1f, 1f, 1f), sampleCount);
+        settings.setBlockSize(4);
+        settings.setMinHeightValue(-1f);
+        settings.setMaxHeightValue(1f);
+        ShapeRefC shapeRef = settings.create().get();
+        HeightFieldShape shape = (HeightFieldShape) shapeRef.getPtr();
+        Assert.assertEquals(sampleCount, shape.getSampleCount());
+        long revision = shape.getRevisionCount();
+
+        // 2 overlapping patches and 1 distant patch yield 2 regions:
+        HeightFieldEditBatch batch = new HeightFieldEditBatch(16);
+        batch.addPatch(1, 1, 2, 2, new float[]{0.5f, 0.5f, 0.5f, 0.5f});
+        batch.addPatch(2, 2, 1, 1, new float[]{-0.5f});
+        batch.addPatch(13, 13, 1, 1, new float[]{0.25f});
+        Assert.assertEquals(3, batch.countPatches());
+
+        TempAllocator allocator = new TempAllocatorMalloc();
+        int numRegions = batch.apply(shape, allocator, null, 0);
+        Assert.assertEquals(2, numRegions);
+        Assert.assertEquals(0, batch.countPatches());
+        Assert.assertEquals(revision + 1L, shape.getRevisionCount());
+
+        // Later patches take precedence, and samples outside are preserved:
+        float tol = 0.01f;
+        Assert.assertEquals(0.5f, shape.getPosition(1, 1).getY(), tol);
+        Assert.assertEquals(-0.5f, shape.getPosition(2, 2).getY(), tol);
+        Assert.assertEquals(0.25f, shape.getPosition(13, 13).getY(), tol);
+        Assert.assertEquals(0f, shape.getPosition(3, 3).getY(), tol);
+
+        TestUtils.testClose(allocator, shapeRef, settings);
+        TestUtils.cleanup();
+    }
+
+    /**
+     * Test bounds checking and application of material patches, which are
+     * indexed by cell rather than by sample.
+     */
+    @Test
+    public void testMaterialPatches() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        int sampleCount = 8;
+        int cellCount = sampleCount - 1;
+        float[] samples = new float[sampleCount * sampleCount];
+        byte[] materialIndices = new byte[cellCount * cellCount];
+        PhysicsMaterialList materialList = new PhysicsMaterialList();
+        materialList.resize(2);
+        materialList.set(0, new PhysicsMaterialSimple().toRef());
+        materialList.set(1, new PhysicsMaterialSimple().toRef());
+        HeightFieldShapeSettings settings = new HeightFieldShapeSettings(
+                samples, new Vec3(), new Vec3(1f, 1f, 1f), sampleCount,
+                materialIndices, materialList);
+        settings.setBlockSize(2);
+        ShapeRefC shapeRef = settings.create().get();
+        HeightFieldShape shape = (HeightFieldShape) shapeRef.getPtr();
+        long revision = shape.getRevisionCount();
+        TempAllocator allocator = new TempAllocatorMalloc();
+
+        // A patch that covers the last cell is accepted:
+        HeightFieldEditBatch batch = new HeightFieldEditBatch(16);
+        batch.addMaterials(cellCount - 2, cellCount - 2, 2, 2,
+                new byte[]{1, 1, 1, 1});
+        Assert.assertEquals(0, batch.apply(shape, allocator, null, 0));
+        Assert.assertEquals(revision + 1L, shape.getRevisionCount());
+
+        // A patch that reaches the last sample overruns the cells:
+        batch.addMaterials(cellCount - 1, 0, 2, 1, new byte[]{1, 1});
+        try {
+            batch.apply(shape, allocator, null, 0);
+            Assert.fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+        Assert.assertEquals(revision + 1L, shape.getRevisionCount());
+
+        TestUtils.testClose(allocator, shapeRef, settings, materialList);
+        TestUtils.cleanup();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.HeightFieldTileManager;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.RVec3;
+import java.nio.FloatBuffer;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for {@code HeightFieldTileManager}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class HeightFieldTileManagerTest {
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Test loading, unloading, and pooling as the focus moves.
+     */
+    @Test
+    public void testHeightFieldTileManager() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        PhysicsSystem physicsSystem = TestUtils.newPhysicsSystem(100);
+
+        // A 29x29 grid yields 4x4 tiles of 8x8 samples (7x7 cells):
+        int gridSamples = 29;
+        FloatBuffer samples
+                = Jolt.newDirectFloatBuffer(gridSamples * gridSamples);
+        for (int i = 0; i < samples.capacity(); ++i) {
+            samples.put(i, (i % 5) * 0.1f);
+        }
+        HeightFieldTileManager manager = new HeightFieldTileManager(
+                physicsSystem,
+                HeightFieldTileManager.fromBuffer(samples, gridSamples),
+                gridSamples, 8, new RVec3(), 1f, -1f, 1f,
+                TestUtils.objLayerNonMoving);
+        manager.setExecutor(Runnable::run); // build synchronously
+
+        // Near one corner, the nearest tile and its 2 neighbors load:
+        manager.update(new RVec3(3.5, 0., 3.5));
+        Assert.assertEquals(3, manager.countLoadedTiles());
+        Assert.assertEquals(0, manager.countPendingTiles());
+        Assert.assertTrue(manager.isLoaded(0, 0));
+        Assert.assertTrue(manager.isLoaded(1, 0));
+        Assert.assertTrue(manager.isLoaded(0, 1));
+        Assert.assertEquals(3, physicsSystem.getNumBodies());
+
+        // A small move stays within the hysteresis band:
+        manager.update(new RVec3(6., 0., 6.));
+        Assert.assertEquals(4, manager.countLoadedTiles());
+
+        // At the opposite corner, the pooled tiles are reused:
+        manager.update(new RVec3(24.5, 0., 24.5));
+        Assert.assertEquals(3, manager.countLoadedTiles());
+        Assert.assertTrue(manager.isLoaded(3, 3));
+        Assert.assertFalse(manager.isLoaded(0, 0));
+        Assert.assertEquals(1, manager.countPooledTiles());
+        Assert.assertEquals(4, physicsSystem.getNumBodies());
+
+        manager.clear();
+        Assert.assertEquals(0, manager.countLoadedTiles());
+        Assert.assertEquals(0, manager.countPooledTiles());
+        Assert.assertEquals(0, physicsSystem.getNumBodies());
+
+        TestUtils.cleanupPhysicsSystem(physicsSystem);
+        TestUtils.cleanup();
+    }
+}
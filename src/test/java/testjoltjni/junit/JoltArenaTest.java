@@ -0,0 +1,85 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.AllHitCastRayCollector;
+import com.github.stephengold.joltjni.BodyIdArray;
+import com.github.stephengold.joltjni.JoltArena;
+import com.github.stephengold.joltjni.Mat44Array;
+import com.github.stephengold.joltjni.RayCastResult;
+import com.github.stephengold.joltjni.ShapeCastSettings;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for {@code JoltArena}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class JoltArenaTest {
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Test creation of short-lived objects in an arena.
+     */
+    @Test
+    public void testJoltArena() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        int blockBytes = 1_024;
+        JoltArena arena = new JoltArena(blockBytes);
+        Assert.assertTrue(arena.ownsNativeObject());
+        Assert.assertEquals(0, arena.countBlocks());
+        Assert.assertEquals(0, arena.countObjects());
+
+        RayCastResult result = new RayCastResult(arena);
+        Assert.assertFalse(result.ownsNativeObject());
+        Assert.assertTrue(result.getFraction() > 1f);
+
+        AllHitCastRayCollector collector = new AllHitCastRayCollector(arena);
+        Assert.assertEquals(0, collector.countHits());
+
+        ShapeCastSettings settings = new ShapeCastSettings(arena);
+        Assert.assertFalse(settings.getReturnDeepestPoint());
+
+        BodyIdArray ids = new BodyIdArray(arena, 100);
+        ids.set(99, 7);
+        Assert.assertEquals(7, ids.get(99));
+
+        Mat44Array matrices = new Mat44Array(arena, 60);
+        TestUtils.assertEquals(1f, 0f, 0f, 0f, 0f, 1f, 0f, 0f,
+                0f, 0f, 1f, 0f, 0f, 0f, 0f, 1f, matrices.get(59), 0f);
+
+        Assert.assertEquals(5, arena.countObjects());
+        Assert.assertTrue(arena.countBlocks() > 1);
+        Assert.assertTrue(arena.countBytesUsed() > blockBytes);
+
+        // Closing a wrapper has no effect; closing the arena frees everything:
+        TestUtils.testClose(result, collector, settings, ids);
+        TestUtils.testClose(arena);
+
+        TestUtils.cleanup();
+    }
+}
@@ -0,0 +1,88 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.MeshShapeSettings;
+import com.github.stephengold.joltjni.PhysicsMaterialList;
+import com.github.stephengold.joltjni.PhysicsMaterialSimple;
+import com.github.stephengold.joltjni.ShapeRefC;
+import com.github.stephengold.joltjni.ShapeResult;
+import com.github.stephengold.joltjni.enumerate.EShapeSubType;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for creating {@code MeshShapeSettings} from direct
+ * buffers.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class MeshFromBuffersTest {
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Test bulk construction, sanitizing, and shape creation.
+     */
+    @Test
+    public void testMeshFromBuffers() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        FloatBuffer vertices = Jolt.newDirectFloatBuffer(12);
+        vertices.put(new float[]{
+            0f, 0f, 0f, 1f, 0f, 0f, 1f, 0f, 1f, 0f, 0f, 1f
+        });
+        IntBuffer indices = Jolt.newDirectIntBuffer(9);
+        indices.put(new int[]{
+            0, 3, 2, 0, 2, 1, 0, 0, 1 // the last triangle is degenerate
+        });
+        ShortBuffer materialIndices = Jolt.newDirectShortBuffer(3);
+        materialIndices.put(new short[]{0, 1, 1});
+        PhysicsMaterialList materials = new PhysicsMaterialList();
+        materials.resize(2);
+        materials.set(0, new PhysicsMaterialSimple().toRef());
+        materials.set(1, new PhysicsMaterialSimple().toRef());
+
+        MeshShapeSettings settings = new MeshShapeSettings(
+                vertices, indices, materialIndices, materials);
+        Assert.assertEquals(4, settings.countTriangleVertices());
+        Assert.assertEquals(3, settings.countTriangles());
+
+        Assert.assertEquals(1, settings.sanitize());
+        Assert.assertEquals(2, settings.countTriangles());
+        Assert.assertEquals(0, settings.sanitize());
+
+        ShapeResult result = settings.create();
+        Assert.assertFalse(result.hasError());
+        ShapeRefC shapeRef = result.get();
+        Assert.assertEquals(EShapeSubType.Mesh, shapeRef.getSubType());
+
+        TestUtils.testClose(shapeRef, result, settings, materials);
+        TestUtils.cleanup();
+    }
+}
@@ -0,0 +1,82 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.BoxShape;
+import com.github.stephengold.joltjni.MutableCompoundEditBatch;
+import com.github.stephengold.joltjni.MutableCompoundShape;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.SphereShape;
+import com.github.stephengold.joltjni.Vec3;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for {@code MutableCompoundEditBatch}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class MutableCompoundEditBatchTest {
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Test a batch that adds, removes, replaces, and repositions sub-shapes.
+     */
+    @Test
+    public void testMutableCompoundEditBatch() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        SphereShape sphere = new SphereShape(1f);
+        BoxShape box = new BoxShape(0.5f);
+        MutableCompoundShape compound = new MutableCompoundShape();
+        for (int i = 0; i < 3; ++i) {
+            compound.addShape(new Vec3(i, 0f, 0f), new Quat(), sphere);
+        }
+        long revision = compound.getRevisionCount();
+
+        MutableCompoundEditBatch batch = new MutableCompoundEditBatch()
+                .removeShape(0)
+                .replaceShape(1, new Vec3(1f, 0f, 0f), new Quat(), box)
+                .modifyShape(2, new Vec3(2f, 5f, 0f), new Quat())
+                .addShape(new Vec3(3f, 0f, 0f), new Quat(), sphere);
+        Assert.assertEquals(4, batch.countEdits());
+
+        int[] remap = batch.apply(compound, false);
+        Assert.assertArrayEquals(new int[]{-1, 0, 1, 2}, remap);
+        Assert.assertEquals(0, batch.countEdits());
+        Assert.assertEquals(3, compound.getNumSubShapes());
+        Assert.assertEquals(revision + 1L, compound.getRevisionCount());
+
+        Assert.assertEquals(box.va(),
+                compound.getSubShape(0).getShape().targetVa());
+        Assert.assertEquals(5f,
+                compound.getSubShape(1).getPositionCom().getY(), 1e-5f);
+        Assert.assertEquals(sphere.va(),
+                compound.getSubShape(2).getShape().targetVa());
+
+        TestUtils.testClose(compound, box, sphere);
+        TestUtils.cleanup();
+    }
+}
@@ -0,0 +1,246 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.BodyCreationSettings;
+import com.github.stephengold.joltjni.BodyInterface;
+import com.github.stephengold.joltjni.BoxShape;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.JobSystemThreadPool;
+import com.github.stephengold.joltjni.Part;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.Ragdoll;
+import com.github.stephengold.joltjni.RagdollPool;
+import com.github.stephengold.joltjni.RagdollSettings;
+import com.github.stephengold.joltjni.Skeleton;
+import com.github.stephengold.joltjni.SkeletonPose;
+import com.github.stephengold.joltjni.SwingTwistConstraintSettings;
+import com.github.stephengold.joltjni.TempAllocator;
+import com.github.stephengold.joltjni.TempAllocatorMalloc;
+import com.github.stephengold.joltjni.Vec3;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.enumerate.EMotionType;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for {@code RagdollPool}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class RagdollPoolTest {
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Test acquisition, the simulation cap, demotion, and recycling.
+     */
+    @Test
+    public void testRagdollPool() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        PhysicsSystem physicsSystem = TestUtils.newPhysicsSystem(10);
+        BodyInterface bodyInterface = physicsSystem.getBodyInterface();
+        RagdollSettings settings = createRagdollSettings();
+        SkeletonPose pose = new SkeletonPose();
+        pose.setSkeleton(settings.getSkeleton());
+        pose.getJoint(1).setTranslation(new Vec3(0f, 0.5f, 0f));
+        pose.setRootOffset(new RVec3(0., 2., 0.));
+        pose.calculateJointMatrices();
+
+        RagdollPool pool = new RagdollPool(settings, physicsSystem, 0, 3, 1);
+        Assert.assertEquals(3, pool.capacity());
+        Assert.assertEquals(3, pool.countIdle());
+        Assert.assertEquals(0, pool.countActive());
+        pool.setMinLifetime(0.5f);
+        pool.setDemotedLifetime(0.5f);
+
+        // Exceeding the cap demotes the oldest simulated ragdoll:
+        Ragdoll r1 = pool.acquire(pose);
+        Assert.assertTrue(pool.isActive(r1));
+        Assert.assertFalse(pool.isDemoted(r1));
+        Assert.assertEquals(1, pool.countSimulated());
+
+        Ragdoll r2 = pool.acquire(pose);
+        Assert.assertTrue(pool.isDemoted(r1));
+        Assert.assertFalse(pool.isDemoted(r2));
+        Assert.assertEquals(1, pool.countSimulated());
+        Assert.assertFalse(bodyInterface.isActive(r1.getBodyIds()[0]));
+        Assert.assertEquals(EMotionType.Static,
+                bodyInterface.getMotionType(r1.getBodyIds()[0]));
+
+        pool.setDemotion(RagdollPool.Demotion.Kinematic);
+        Ragdoll r3 = pool.acquire(pose);
+        Assert.assertTrue(pool.isDemoted(r2));
+        Assert.assertEquals(EMotionType.Kinematic,
+                bodyInterface.getMotionType(r2.getBodyIds()[0]));
+        Assert.assertEquals(0, pool.countIdle());
+        Assert.assertEquals(3, pool.countActive());
+
+        // An exhausted pool recycles its oldest active ragdoll:
+        Ragdoll r4 = pool.acquire(pose);
+        Assert.assertSame(r1, r4);
+        Assert.assertFalse(pool.isDemoted(r4));
+        Assert.assertTrue(pool.isDemoted(r3));
+        Assert.assertEquals(3, pool.countActive());
+        Assert.assertEquals(1, pool.countSimulated());
+
+        // Nothing is recycled before the minimum lifetime:
+        Assert.assertEquals(0, pool.update(0.1f));
+
+        // Demoted ragdolls settle with age:
+        Assert.assertEquals(2, pool.update(1f));
+        Assert.assertFalse(pool.isActive(r2));
+        Assert.assertFalse(pool.isActive(r3));
+        Assert.assertTrue(pool.isActive(r4));
+        Assert.assertEquals(EMotionType.Dynamic,
+                bodyInterface.getMotionType(r2.getBodyIds()[0]));
+        Assert.assertEquals(2, pool.countIdle());
+
+        // Frozen ragdolls also settle with age, and are restored to dynamic:
+        pool.setDemotion(RagdollPool.Demotion.Frozen);
+        Ragdoll r5 = pool.acquire(pose);
+        Assert.assertTrue(pool.isDemoted(r4));
+        Assert.assertEquals(1, pool.update(1f));
+        Assert.assertFalse(pool.isActive(r4));
+        Assert.assertEquals(EMotionType.Dynamic,
+                bodyInterface.getMotionType(r4.getBodyIds()[0]));
+        Assert.assertTrue(pool.isActive(r5));
+        Assert.assertEquals(1, pool.countSimulated());
+
+        // Ragdolls beyond range of every focus point are recycled:
+        pool.addFocus(new RVec3(100., 0., 0.));
+        pool.setRange(10.);
+        Assert.assertEquals(1, pool.update(0f));
+        Assert.assertFalse(pool.isActive(r5));
+        Assert.assertEquals(0, pool.countSimulated());
+        Assert.assertEquals(3, pool.countIdle());
+
+        pool.clearFocuses();
+        pool.acquire(pose);
+        pool.releaseAll();
+        Assert.assertEquals(0, pool.countActive());
+        Assert.assertEquals(3, pool.countIdle());
+
+        TestUtils.testClose(pose, settings);
+        TestUtils.cleanupPhysicsSystem(physicsSystem);
+        TestUtils.cleanup();
+    }
+
+    /**
+     * Verify that a frozen ragdoll stays frozen when another body hits it.
+     */
+    @Test
+    public void testHitFrozenRagdoll() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        PhysicsSystem physicsSystem = TestUtils.newPhysicsSystem(10);
+        BodyInterface bodyInterface = physicsSystem.getBodyInterface();
+        RagdollSettings settings = createRagdollSettings();
+        SkeletonPose pose = new SkeletonPose();
+        pose.setSkeleton(settings.getSkeleton());
+        pose.getJoint(1).setTranslation(new Vec3(0f, 0.5f, 0f));
+        pose.setRootOffset(new RVec3(0., 2., 0.));
+        pose.calculateJointMatrices();
+
+        RagdollPool pool = new RagdollPool(settings, physicsSystem, 0, 2, 1);
+        pool.setMinLifetime(0f);
+        Ragdoll frozen = pool.acquire(pose);
+        pose.setRootOffset(new RVec3(10., 2., 0.));
+        pose.calculateJointMatrices();
+        pool.acquire(pose);
+        Assert.assertTrue(pool.isDemoted(frozen));
+
+        int headId = frozen.getBodyIds()[1];
+        RVec3 headLocation = bodyInterface.getPosition(headId);
+
+        // Drop a box onto the frozen ragdoll's head:
+        BodyCreationSettings boxSettings = new BodyCreationSettings(
+                new BoxShape(0.2f), new RVec3(0., 3.5, 0.), new Quat(),
+                EMotionType.Dynamic, TestUtils.objLayerMoving);
+        boxSettings.setLinearVelocity(new Vec3(0f, -5f, 0f));
+        int boxId = bodyInterface.createAndAddBody(
+                boxSettings, EActivation.Activate);
+
+        TempAllocator allocator = new TempAllocatorMalloc();
+        JobSystemThreadPool jobSystem = new JobSystemThreadPool(
+                Jolt.cMaxPhysicsJobs, Jolt.cMaxPhysicsBarriers, 1);
+        float deltaTime = 1 / 60f;
+        for (int step = 0; step < 60; ++step) {
+            physicsSystem.update(deltaTime, 1, allocator, jobSystem);
+            pool.update(deltaTime);
+        }
+
+        // The box came to rest on the head, which didn't budge or wake:
+        Assert.assertTrue(bodyInterface.getPosition(boxId).yy() > 2.5);
+        Assert.assertTrue(pool.isActive(frozen));
+        Assert.assertTrue(pool.isDemoted(frozen));
+        Assert.assertFalse(bodyInterface.isActive(headId));
+        Assert.assertEquals(EMotionType.Static,
+                bodyInterface.getMotionType(headId));
+        TestUtils.assertEquals(headLocation.x(), headLocation.y(),
+                headLocation.z(), bodyInterface.getPosition(headId), 0f);
+        Assert.assertEquals(1, pool.countSimulated());
+
+        pool.releaseAll();
+        TestUtils.testClose(jobSystem, allocator, boxSettings, pose, settings);
+        TestUtils.cleanupPhysicsSystem(physicsSystem);
+        TestUtils.cleanup();
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Create settings for a 2-part ragdoll.
+     *
+     * @return a new object
+     */
+    private static RagdollSettings createRagdollSettings() {
+        Skeleton skeleton = new Skeleton();
+        int rootIndex = skeleton.addJoint("root");
+        skeleton.addJoint("head", rootIndex);
+
+        RagdollSettings result = new RagdollSettings();
+        result.setSkeleton(skeleton);
+        result.resizeParts(2);
+        Part[] parts = result.getParts();
+        for (int i = 0; i < 2; ++i) {
+            parts[i].setShape(new BoxShape(0.2f));
+            parts[i].setPosition(new RVec3(0., 1. + 0.5 * i, 0.));
+            parts[i].setMotionType(EMotionType.Dynamic);
+            parts[i].setObjectLayer(TestUtils.objLayerMoving);
+        }
+        SwingTwistConstraintSettings joint
+                = new SwingTwistConstraintSettings();
+        joint.setPosition1(new RVec3(0., 1.25, 0.));
+        joint.setPosition2(new RVec3(0., 1.25, 0.));
+        parts[1].setToParent(joint);
+        result.disableParentChildCollisions();
+
+        return result;
+    }
+}
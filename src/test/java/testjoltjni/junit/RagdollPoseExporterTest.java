@@ -0,0 +1,202 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.BoxShape;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.Mat44;
+import com.github.stephengold.joltjni.Mat44Array;
+import com.github.stephengold.joltjni.Part;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.Ragdoll;
+import com.github.stephengold.joltjni.RagdollPoseExporter;
+import com.github.stephengold.joltjni.RagdollSettings;
+import com.github.stephengold.joltjni.Skeleton;
+import com.github.stephengold.joltjni.SkeletonPose;
+import com.github.stephengold.joltjni.SwingTwistConstraintSettings;
+import com.github.stephengold.joltjni.Vec3;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.enumerate.EMotionType;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for {@code RagdollPoseExporter}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class RagdollPoseExporterTest {
+    // *************************************************************************
+    // constants
+
+    /**
+     * number of ragdolls to export
+     */
+    final private static int numRagdolls = 3;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Compare both matrix layouts with {@code Ragdoll.getPose()}.
+     */
+    @Test
+    public void testRagdollPoseExporter() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        PhysicsSystem physicsSystem = TestUtils.newPhysicsSystem(10);
+        RagdollSettings settings = createRagdollSettings();
+        SkeletonPose pose = new SkeletonPose();
+        pose.setSkeleton(settings.getSkeleton());
+        pose.getJoint(1).setTranslation(new Vec3(0f, 0.5f, 0f));
+
+        // Pose each ragdoll differently, with rotated joints:
+        Ragdoll[] ragdolls = new Ragdoll[numRagdolls];
+        for (int i = 0; i < numRagdolls; ++i) {
+            ragdolls[i] = settings.createRagdoll(0, i, physicsSystem);
+            ragdolls[i].addToPhysicsSystem(EActivation.DontActivate);
+            pose.setRootOffset(new RVec3(10. * i, 2., -3. * i));
+            pose.getJoint(0).setRotation(
+                    Quat.sRotation(new Vec3(0f, 1f, 0f), 0.4f * (i + 1)));
+            pose.getJoint(1).setRotation(
+                    Quat.sRotation(new Vec3(1f, 0f, 0f), 0.3f * i));
+            pose.calculateJointMatrices();
+            ragdolls[i].setPose(pose);
+        }
+
+        for (boolean use3x4 : new boolean[]{false, true}) {
+            RagdollPoseExporter exporter = new RagdollPoseExporter(use3x4);
+            Assert.assertEquals(use3x4, exporter.is3x4());
+            for (int i = 0; i < numRagdolls; ++i) {
+                Assert.assertEquals(i, exporter.add(ragdolls[i]));
+            }
+            Assert.assertEquals(numRagdolls, exporter.size());
+
+            // Each 2-body ragdoll occupies 2 matrices:
+            int floatsPerMatrix = use3x4 ? 12 : 16;
+            int floatsPerRagdoll = 2 * floatsPerMatrix;
+            Assert.assertEquals(
+                    numRagdolls * floatsPerRagdoll, exporter.countFloats());
+            for (int i = 0; i < numRagdolls; ++i) {
+                Assert.assertEquals(
+                        i * floatsPerRagdoll, exporter.getFirstFloat(i));
+            }
+
+            DoubleBuffer rootOffsets
+                    = Jolt.newDirectDoubleBuffer(3 * numRagdolls);
+            FloatBuffer matrices
+                    = Jolt.newDirectFloatBuffer(exporter.countFloats());
+            exporter.export(rootOffsets, matrices);
+
+            for (int i = 0; i < numRagdolls; ++i) {
+                RVec3 expectedOffset = new RVec3();
+                Mat44Array expectedMatrices = new Mat44Array(2);
+                ragdolls[i].getPose(expectedOffset, expectedMatrices);
+                Assert.assertEquals(
+                        expectedOffset.xx(), rootOffsets.get(3 * i), 0.);
+                Assert.assertEquals(
+                        expectedOffset.yy(), rootOffsets.get(3 * i + 1), 0.);
+                Assert.assertEquals(
+                        expectedOffset.zz(), rootOffsets.get(3 * i + 2), 0.);
+
+                int first = exporter.getFirstFloat(i);
+                for (int j = 0; j < 2; ++j) {
+                    Mat44 expected = expectedMatrices.get(j);
+                    int start = first + j * floatsPerMatrix;
+                    assertExported(expected, matrices, start, use3x4);
+                }
+                TestUtils.testClose(expectedMatrices);
+            }
+
+            exporter.clear();
+            Assert.assertEquals(0, exporter.size());
+            Assert.assertEquals(0, exporter.countFloats());
+        }
+
+        for (Ragdoll ragdoll : ragdolls) {
+            ragdoll.removeFromPhysicsSystem();
+        }
+        TestUtils.testClose(pose, settings);
+        TestUtils.cleanupPhysicsSystem(physicsSystem);
+        TestUtils.cleanup();
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Verify that an exported matrix matches the expected one.
+     *
+     * @param expected the expected matrix (not {@code null}, unaffected)
+     * @param buffer the exported matrices (not {@code null}, unaffected)
+     * @param start the index of the matrix's first float in the buffer
+     * @param use3x4 {@code true} for the 3x4 row-major layout,
+     * {@code false} for the 4x4 column-major layout
+     */
+    private static void assertExported(
+            Mat44 expected, FloatBuffer buffer, int start, boolean use3x4) {
+        int numRows = use3x4 ? 3 : 4;
+        for (int row = 0; row < numRows; ++row) {
+            for (int column = 0; column < 4; ++column) {
+                int index = use3x4
+                        ? start + 4 * row + column
+                        : start + 4 * column + row;
+                Assert.assertEquals(expected.getElement(row, column),
+                        buffer.get(index), 0f);
+            }
+        }
+    }
+
+    /**
+     * Create settings for a 2-part ragdoll.
+     *
+     * @return a new object
+     */
+    private static RagdollSettings createRagdollSettings() {
+        Skeleton skeleton = new Skeleton();
+        int rootIndex = skeleton.addJoint("root");
+        skeleton.addJoint("head", rootIndex);
+
+        RagdollSettings result = new RagdollSettings();
+        result.setSkeleton(skeleton);
+        result.resizeParts(2);
+        Part[] parts = result.getParts();
+        for (int i = 0; i < 2; ++i) {
+            parts[i].setShape(new BoxShape(0.2f));
+            parts[i].setPosition(new RVec3(0., 1. + 0.5 * i, 0.));
+            parts[i].setMotionType(EMotionType.Dynamic);
+            parts[i].setObjectLayer(TestUtils.objLayerMoving);
+        }
+        SwingTwistConstraintSettings joint
+                = new SwingTwistConstraintSettings();
+        joint.setPosition1(new RVec3(0., 1.25, 0.));
+        joint.setPosition2(new RVec3(0., 1.25, 0.));
+        parts[1].setToParent(joint);
+        result.disableParentChildCollisions();
+
+        return result;
+    }
+}
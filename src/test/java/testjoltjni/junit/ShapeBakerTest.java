@@ -0,0 +1,125 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.BoxShapeSettings;
+import com.github.stephengold.joltjni.DecoratedShape;
+import com.github.stephengold.joltjni.ScaledShapeSettings;
+import com.github.stephengold.joltjni.ShapeBaker;
+import com.github.stephengold.joltjni.ShapeRefC;
+import com.github.stephengold.joltjni.ShapeResult;
+import com.github.stephengold.joltjni.SphereShapeSettings;
+import com.github.stephengold.joltjni.StaticCompoundShapeSettings;
+import com.github.stephengold.joltjni.Vec3;
+import com.github.stephengold.joltjni.enumerate.EShapeSubType;
+import com.github.stephengold.joltjni.readonly.ConstShapeSettings;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for {@code ShapeBaker}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class ShapeBakerTest {
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Test a batch in which a decorated shape wraps a compound from the same
+     * batch, and the compound's sub-settings are only reachable indirectly.
+     */
+    @Test
+    public void testNestedComposites() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        BoxShapeSettings box = new BoxShapeSettings(1f, 2f, 3f);
+        StaticCompoundShapeSettings compound
+                = new StaticCompoundShapeSettings();
+        compound.addShape(0f, 0f, 0f, box);
+        compound.addShape(0f, 5f, 0f, box);
+        ScaledShapeSettings scaled
+                = new ScaledShapeSettings(compound, new Vec3(2f, 2f, 2f));
+
+        ShapeResult[] results = new ShapeBaker().bake(scaled, compound);
+        Assert.assertFalse(results[0].hasError());
+        Assert.assertFalse(results[1].hasError());
+        ShapeRefC scaledRef = results[0].get();
+        ShapeRefC compoundRef = results[1].get();
+        Assert.assertEquals(EShapeSubType.Scaled, scaledRef.getSubType());
+
+        // The scaled shape wraps the compound shape created for the batch:
+        DecoratedShape decorated = (DecoratedShape) scaledRef.getPtr();
+        Assert.assertEquals(compoundRef.targetVa(),
+                decorated.getInnerShape().targetVa());
+
+        TestUtils.testClose(scaledRef, compoundRef, results[0], results[1]);
+        TestUtils.testClose(scaled, compound, box);
+        TestUtils.cleanup();
+    }
+
+    /**
+     * Test concurrent creation of a batch with duplicates and a compound.
+     */
+    @Test
+    public void testShapeBaker() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        BoxShapeSettings box = new BoxShapeSettings(1f, 2f, 3f);
+        SphereShapeSettings sphere = new SphereShapeSettings(1f);
+        StaticCompoundShapeSettings compound
+                = new StaticCompoundShapeSettings();
+        compound.addShape(0f, 0f, 0f, box);
+        compound.addShape(0f, 5f, 0f, sphere);
+
+        ConstShapeSettings[] batch = {
+            compound, box, sphere, box, box.toRef()
+        };
+        long[] nanoseconds = new long[batch.length];
+        ShapeResult[] results = new ShapeBaker().bake(batch, nanoseconds);
+        Assert.assertEquals(batch.length, results.length);
+
+        EShapeSubType[] expected = {
+            EShapeSubType.StaticCompound, EShapeSubType.Box,
+            EShapeSubType.Sphere, EShapeSubType.Box, EShapeSubType.Box
+        };
+        long[] shapeVas = new long[batch.length];
+        for (int i = 0; i < batch.length; ++i) {
+            Assert.assertFalse(results[i].hasError());
+            Assert.assertTrue(nanoseconds[i] >= 0L);
+            ShapeRefC shapeRef = results[i].get();
+            Assert.assertEquals(expected[i], shapeRef.getSubType());
+            shapeVas[i] = shapeRef.targetVa();
+            TestUtils.testClose(shapeRef, results[i]);
+        }
+
+        // Duplicate settings share a single shape:
+        Assert.assertEquals(shapeVas[1], shapeVas[3]);
+        Assert.assertEquals(shapeVas[1], shapeVas[4]);
+
+        TestUtils.testClose(batch[4], compound, sphere, box);
+        TestUtils.cleanup();
+    }
+}
@@ -0,0 +1,136 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.AaBox;
+import com.github.stephengold.joltjni.BoxShapeSettings;
+import com.github.stephengold.joltjni.ShapeCache;
+import com.github.stephengold.joltjni.ShapeRefC;
+import com.github.stephengold.joltjni.ShapeResult;
+import com.github.stephengold.joltjni.SphereShapeSettings;
+import com.github.stephengold.joltjni.StaticCompoundShapeSettings;
+import com.github.stephengold.joltjni.Vec3;
+import com.github.stephengold.joltjni.enumerate.EShapeSubType;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for {@code ShapeCache}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class ShapeCacheTest {
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Test misses, hits across cache instances, integrity checks, and the size
+     * limit.
+     *
+     * @throws IOException if the temporary directory can't be managed
+     */
+    @Test
+    public void testShapeCache() throws IOException {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        Path directory = Files.createTempDirectory("shapeCache");
+
+        // The first lookup creates the shape and saves it:
+        ShapeCache cache = new ShapeCache(directory, 1L << 20);
+        AaBox bounds = createAndCheck(cache, 0, 1);
+        Assert.assertTrue(cache.totalBytes() > 0L);
+
+        // A new cache in the same directory restores it from disk:
+        cache = new ShapeCache(directory, 1L << 20);
+        AaBox restoredBounds = createAndCheck(cache, 1, 0);
+        Vec3 min = bounds.getMin();
+        Vec3 max = bounds.getMax();
+        TestUtils.assertEquals(min.getX(), min.getY(), min.getZ(),
+                restoredBounds.getMin(), 0f);
+        TestUtils.assertEquals(max.getX(), max.getY(), max.getZ(),
+                restoredBounds.getMax(), 0f);
+
+        // A corrupted file is discarded and replaced:
+        try (DirectoryStream<Path> stream
+                = Files.newDirectoryStream(directory, "*.jsc")) {
+            for (Path file : stream) {
+                byte[] bytes = Files.readAllBytes(file);
+                bytes[bytes.length - 1] ^= 0x5a;
+                Files.write(file, bytes);
+            }
+        }
+        cache = new ShapeCache(directory, 1L << 20);
+        createAndCheck(cache, 0, 1);
+        createAndCheck(cache, 1, 1);
+
+        // Files that exceed the limit are evicted:
+        cache = new ShapeCache(directory, 0L);
+        Assert.assertEquals(0L, cache.totalBytes());
+        createAndCheck(cache, 0, 1);
+        Assert.assertEquals(0L, cache.totalBytes());
+
+        cache.clear();
+        Files.delete(directory);
+        TestUtils.cleanup();
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Create a compound shape using the specified cache and verify the
+     * cache's statistics.
+     *
+     * @param cache the cache to use (not {@code null})
+     * @param expectedHits the expected number of hits afterward
+     * @param expectedMisses the expected number of misses afterward
+     * @return the local bounds of the shape (not {@code null})
+     */
+    private static AaBox createAndCheck(
+            ShapeCache cache, int expectedHits, int expectedMisses) {
+        BoxShapeSettings box = new BoxShapeSettings(1f, 2f, 3f);
+        SphereShapeSettings sphere = new SphereShapeSettings(1f);
+        StaticCompoundShapeSettings compound
+                = new StaticCompoundShapeSettings();
+        compound.addShape(0f, 0f, 0f, box);
+        compound.addShape(0f, 5f, 0f, sphere);
+
+        ShapeResult result = cache.create(compound);
+        Assert.assertFalse(result.hasError());
+        Assert.assertEquals(expectedHits, cache.countHits());
+        Assert.assertEquals(expectedMisses, cache.countMisses());
+
+        ShapeRefC shapeRef = result.get();
+        Assert.assertEquals(
+                EShapeSubType.StaticCompound, shapeRef.getSubType());
+        AaBox bounds = shapeRef.getLocalBounds();
+
+        TestUtils.testClose(shapeRef, result, compound, sphere, box);
+
+        return bounds;
+    }
+}
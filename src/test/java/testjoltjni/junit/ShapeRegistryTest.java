@@ -0,0 +1,78 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.ShapeRefC;
+import com.github.stephengold.joltjni.ShapeRegistry;
+import com.github.stephengold.joltjni.Vec3;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for {@code ShapeRegistry}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class ShapeRegistryTest {
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Test sharing, statistics, and eviction.
+     */
+    @Test
+    public void testShapeRegistry() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        ShapeRegistry registry = new ShapeRegistry();
+        ShapeRefC box1 = registry.box(new Vec3(1f, 2f, 3f));
+        ShapeRefC box2 = registry.box(new Vec3(1f, 2f, 3f));
+        ShapeRefC sphere = registry.sphere(1f);
+        ShapeRefC scaled = registry.scaled(sphere, new Vec3(2f, 2f, 2f));
+
+        Assert.assertEquals(box1.targetVa(), box2.targetVa());
+        Assert.assertNotEquals(box1.targetVa(), sphere.targetVa());
+        Assert.assertEquals(3, registry.countEntries());
+        Assert.assertEquals(1L, registry.countDuplicatesAvoided());
+        Assert.assertEquals(box1.getStats().getSizeBytes(),
+                registry.bytesSaved());
+
+        // Shapes still referenced elsewhere aren't evicted:
+        Assert.assertEquals(0, registry.evictUnused());
+
+        /*
+         * The scaled shape keeps its base shape alive, so evicting the base
+         * may require a 2nd pass:
+         */
+        TestUtils.testClose(box1, box2, sphere, scaled);
+        int numEvicted = registry.evictUnused();
+        if (registry.countEntries() > 0) {
+            numEvicted += registry.evictUnused();
+        }
+        Assert.assertEquals(3, numEvicted);
+        Assert.assertEquals(0, registry.countEntries());
+
+        TestUtils.cleanup();
+    }
+}
@@ -0,0 +1,228 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.Body;
+import com.github.stephengold.joltjni.BodyInterface;
+import com.github.stephengold.joltjni.Face;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.JobSystemThreadPool;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.SoftBodyCreationSettings;
+import com.github.stephengold.joltjni.SoftBodyMotionProperties;
+import com.github.stephengold.joltjni.SoftBodySharedSettings;
+import com.github.stephengold.joltjni.SoftBodyVertexExporter;
+import com.github.stephengold.joltjni.Vec3;
+import com.github.stephengold.joltjni.Vertex;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.readonly.ConstSoftBodySharedSettings;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for {@code SoftBodyVertexExporter}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class SoftBodyVertexExporterTest {
+    // *************************************************************************
+    // constants
+
+    /**
+     * vertex locations of a tetrahedron (in body coordinates)
+     */
+    final private static float[][] tetraLocations = {
+        {0f, 0f, 0f}, {1f, 0f, 0f}, {0f, 1f, 0f}, {0f, 0f, 1f}
+    };
+    /**
+     * vertex indices of the tetrahedron's faces, counter-clockwise when
+     * viewed from outside
+     */
+    final private static int[][] tetraFaces = {
+        {0, 2, 1}, {0, 1, 3}, {0, 3, 2}, {1, 2, 3}
+    };
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Compare exported locations with
+     * {@code SoftBodyMotionProperties.putVertexLocations()} and exported
+     * normals with normals calculated from {@code putFaceIndices()}.
+     */
+    @Test
+    public void testSoftBodyVertexExporter() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        PhysicsSystem physicsSystem = TestUtils.newPhysicsSystem(10);
+        BodyInterface bodyInterface = physicsSystem.getBodyInterface();
+
+        // A triangle, a quad, and a tetrahedron, each in its own pose:
+        SoftBodySharedSettings[] sharedSettings = {
+            createSharedSettings(3, 1),
+            createSharedSettings(4, 2),
+            createSharedSettings(4, 4)
+        };
+        int numBodies = sharedSettings.length;
+        Body[] softBodies = new Body[numBodies];
+        for (int i = 0; i < numBodies; ++i) {
+            RVec3 location = new RVec3(10. * i, 5., -3. * i);
+            Quat orientation
+                    = Quat.sRotation(new Vec3(0f, 1f, 0f), 0.7f * (i + 1));
+            SoftBodyCreationSettings sbcs = new SoftBodyCreationSettings(
+                    sharedSettings[i], location, orientation,
+                    TestUtils.objLayerMoving);
+            softBodies[i] = bodyInterface.createSoftBody(sbcs);
+            bodyInterface.addBody(softBodies[i], EActivation.DontActivate);
+        }
+
+        SoftBodyVertexExporter exporter = new SoftBodyVertexExporter();
+        for (int i = 0; i < numBodies; ++i) {
+            Assert.assertEquals(i, exporter.add(softBodies[i]));
+        }
+        Assert.assertEquals(numBodies, exporter.size());
+        Assert.assertEquals(3 * (3 + 4 + 4), exporter.countFloats());
+        Assert.assertEquals(0, exporter.getFirstFloat(0));
+        Assert.assertEquals(9, exporter.getFirstFloat(1));
+        Assert.assertEquals(21, exporter.getFirstFloat(2));
+
+        JobSystemThreadPool jobSystem = new JobSystemThreadPool(
+                Jolt.cMaxPhysicsJobs, Jolt.cMaxPhysicsBarriers, 2);
+        RVec3 origin = new RVec3(1., 2., 3.);
+        int numFloats = exporter.countFloats();
+        FloatBuffer locations = Jolt.newDirectFloatBuffer(numFloats);
+        FloatBuffer normals = Jolt.newDirectFloatBuffer(numFloats);
+        exporter.export(origin, locations, normals, jobSystem);
+
+        // Locations only, without normals:
+        FloatBuffer locationsOnly = Jolt.newDirectFloatBuffer(numFloats);
+        exporter.export(origin, locationsOnly, jobSystem);
+        for (int i = 0; i < numFloats; ++i) {
+            Assert.assertEquals(locations.get(i), locationsOnly.get(i), 0f);
+        }
+
+        for (int i = 0; i < numBodies; ++i) {
+            SoftBodyMotionProperties properties = (SoftBodyMotionProperties)
+                    softBodies[i].getMotionProperties();
+            ConstSoftBodySharedSettings settings = properties.getSettings();
+            int numVertices = settings.countVertices();
+            int first = exporter.getFirstFloat(i);
+
+            // Locations relative to the origin:
+            RVec3 com = softBodies[i].getCenterOfMassPosition();
+            RVec3 relativeCom = new RVec3(com.xx() - origin.xx(),
+                    com.yy() - origin.yy(), com.zz() - origin.zz());
+            FloatBuffer expected = Jolt.newDirectFloatBuffer(3 * numVertices);
+            properties.putVertexLocations(relativeCom, expected);
+            for (int j = 0; j < 3 * numVertices; ++j) {
+                Assert.assertEquals(
+                        expected.get(j), locations.get(first + j), 1e-5f);
+            }
+
+            // Area-weighted normals of the faces that share each vertex:
+            int numFaces = settings.countFaces();
+            IntBuffer indices = Jolt.newDirectIntBuffer(3 * numFaces);
+            settings.putFaceIndices(indices);
+            double[] sums = new double[3 * numVertices];
+            for (int k = 0; k < numFaces; ++k) {
+                int v0 = 3 * indices.get(3 * k);
+                int v1 = 3 * indices.get(3 * k + 1);
+                int v2 = 3 * indices.get(3 * k + 2);
+                double[] e1 = new double[3];
+                double[] e2 = new double[3];
+                for (int axis = 0; axis < 3; ++axis) {
+                    float base = expected.get(v0 + axis);
+                    e1[axis] = expected.get(v1 + axis) - base;
+                    e2[axis] = expected.get(v2 + axis) - base;
+                }
+                double[] cross = {
+                    e1[1] * e2[2] - e1[2] * e2[1],
+                    e1[2] * e2[0] - e1[0] * e2[2],
+                    e1[0] * e2[1] - e1[1] * e2[0]
+                };
+                for (int v : new int[]{v0, v1, v2}) {
+                    for (int axis = 0; axis < 3; ++axis) {
+                        sums[v + axis] += cross[axis];
+                    }
+                }
+            }
+            for (int j = 0; j < numVertices; ++j) {
+                double length = Math.sqrt(sums[3 * j] * sums[3 * j]
+                        + sums[3 * j + 1] * sums[3 * j + 1]
+                        + sums[3 * j + 2] * sums[3 * j + 2]);
+                for (int axis = 0; axis < 3; ++axis) {
+                    Assert.assertEquals(sums[3 * j + axis] / length,
+                            normals.get(first + 3 * j + axis), 1e-5);
+                }
+            }
+        }
+
+        exporter.clear();
+        Assert.assertEquals(0, exporter.size());
+        Assert.assertEquals(0, exporter.countFloats());
+
+        for (Body softBody : softBodies) {
+            bodyInterface.removeBody(softBody.getId());
+            bodyInterface.destroyBody(softBody.getId());
+        }
+        TestUtils.testClose(jobSystem);
+        TestUtils.testClose(sharedSettings);
+        TestUtils.cleanupPhysicsSystem(physicsSystem);
+        TestUtils.cleanup();
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Create shared settings using the first vertices and faces of the
+     * tetrahedron.
+     *
+     * @param numVertices the number of vertices to use (3 or 4)
+     * @param numFaces the number of faces to use (1, 2, or 4)
+     * @return a new object
+     */
+    private static SoftBodySharedSettings createSharedSettings(
+            int numVertices, int numFaces) {
+        SoftBodySharedSettings result = new SoftBodySharedSettings();
+        for (int i = 0; i < numVertices; ++i) {
+            float[] location = tetraLocations[i];
+            Vertex vertex = new Vertex();
+            vertex.setPosition(location[0], location[1], location[2]);
+            result.addVertex(vertex);
+        }
+        for (int i = 0; i < numFaces; ++i) {
+            Face face = new Face();
+            for (int indexInFace = 0; indexInFace < 3; ++indexInFace) {
+                face.setVertex(indexInFace, tetraFaces[i][indexInFace]);
+            }
+            result.addFace(face);
+        }
+        result.optimize();
+
+        return result;
+    }
+}
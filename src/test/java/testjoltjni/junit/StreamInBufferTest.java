@@ -0,0 +1,98 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.BoxShape;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.ShapeRefC;
+import com.github.stephengold.joltjni.ShapeResult;
+import com.github.stephengold.joltjni.StreamInBuffer;
+import com.github.stephengold.joltjni.StreamOutWrapper;
+import com.github.stephengold.joltjni.Vec3;
+import com.github.stephengold.joltjni.enumerate.EShapeSubType;
+import com.github.stephengold.joltjni.std.StringStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for {@code StreamInBuffer}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class StreamInBufferTest {
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Test restoring a shape from a memory-mapped file and from a truncated
+     * buffer.
+     *
+     * @throws IOException if the temporary file can't be managed
+     */
+    @Test
+    public void testStreamInBuffer() throws IOException {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        // Save a box shape to an array of bytes:
+        BoxShape box = new BoxShape(new Vec3(1f, 2f, 3f));
+        StringStream stringStream = new StringStream();
+        StreamOutWrapper streamOut = new StreamOutWrapper(stringStream);
+        box.saveBinaryState(streamOut);
+        String string = stringStream.str();
+        byte[] bytes = new byte[string.length()];
+        for (int i = 0; i < bytes.length; ++i) {
+            bytes[i] = (byte) string.charAt(i);
+        }
+        TestUtils.testClose(streamOut, stringStream);
+
+        // Restore it from a memory-mapped file:
+        Path file = Files.createTempFile("box", ".bin");
+        file.toFile().deleteOnExit();
+        Files.write(file, bytes);
+        StreamInBuffer streamIn = StreamInBuffer.map(file);
+        ShapeResult result = BoxShape.sRestoreFromBinaryState(streamIn);
+        Assert.assertFalse(result.hasError());
+        Assert.assertFalse(streamIn.isFailed());
+        Assert.assertEquals(bytes.length, streamIn.tell());
+        ShapeRefC shapeRef = result.get();
+        Assert.assertEquals(EShapeSubType.Box, shapeRef.getSubType());
+        TestUtils.testClose(shapeRef, result, streamIn);
+
+        // Reading past the end of a buffer fails without overrunning it:
+        ByteBuffer truncated = Jolt.newDirectByteBuffer(bytes.length - 1);
+        truncated.put(bytes, 0, bytes.length - 1).flip();
+        streamIn = new StreamInBuffer(truncated);
+        result = BoxShape.sRestoreFromBinaryState(streamIn);
+        Assert.assertTrue(streamIn.isEof());
+        Assert.assertTrue(streamIn.isFailed());
+        Assert.assertEquals(truncated.limit(), streamIn.tell());
+        TestUtils.testClose(result, streamIn, box);
+
+        TestUtils.cleanup();
+    }
+}
@@ -0,0 +1,181 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.Body;
+import com.github.stephengold.joltjni.BodyCreationSettings;
+import com.github.stephengold.joltjni.BodyInterface;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.PointConstraintSettings;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.Skeleton;
+import com.github.stephengold.joltjni.SoftBodyCreationSettings;
+import com.github.stephengold.joltjni.SoftBodySharedSettings;
+import com.github.stephengold.joltjni.SphereShape;
+import com.github.stephengold.joltjni.TempAllocatorImpl;
+import com.github.stephengold.joltjni.TrackingAllocator;
+import com.github.stephengold.joltjni.TwoBodyConstraint;
+import com.github.stephengold.joltjni.Vertex;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.enumerate.EAllocationTag;
+import com.github.stephengold.joltjni.enumerate.EMotionType;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for {@code TrackingAllocator}.
+ * <p>
+ * The tracking allocator must be registered before any other Jolt function is
+ * invoked, so this test runs in a JVM of its own (see the
+ * "testTrackingAllocator" task in the build script).
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class TrackingAllocatorTest {
+    // *************************************************************************
+    // constants
+
+    /**
+     * size of the temporary allocator (in bytes)
+     */
+    final private static int tempBytes = 1 << 16;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Test per-tag counters, peak reset, pooled mode, and thread tags.
+     */
+    @Test
+    public void testTrackingAllocator() {
+        TestUtils.loadNativeLibrary();
+        TrackingAllocator.register(true);
+        Assert.assertTrue(TrackingAllocator.isRegistered());
+        Assert.assertTrue(TrackingAllocator.isPooled());
+        Jolt.installCrashAssertCallback();
+        boolean success = Jolt.newFactory();
+        Assert.assertTrue(success);
+        Jolt.registerTypes();
+
+        // Thread tags:
+        Assert.assertEquals(EAllocationTag.Other,
+                TrackingAllocator.getThreadTag());
+        Assert.assertEquals(EAllocationTag.Other,
+                TrackingAllocator.setThreadTag(EAllocationTag.Bodies));
+        Assert.assertEquals(EAllocationTag.Bodies,
+                TrackingAllocator.getThreadTag());
+        Skeleton taggedSkeleton = new Skeleton(); // attributed to Bodies
+        Assert.assertEquals(EAllocationTag.Bodies,
+                TrackingAllocator.setThreadTag(EAllocationTag.Other));
+        Assert.assertTrue(
+                TrackingAllocator.getLiveBytes(EAllocationTag.Bodies) > 0L);
+
+        long otherCount = TrackingAllocator.countAllocations(
+                EAllocationTag.Other);
+        Skeleton skeleton = new Skeleton();
+        Assert.assertTrue(TrackingAllocator.countAllocations(
+                EAllocationTag.Other) > otherCount);
+
+        // Physics-system initialization:
+        PhysicsSystem system = TestUtils.newPhysicsSystem(4);
+        Assert.assertTrue(
+                TrackingAllocator.getLiveBytes(EAllocationTag.SystemInit) > 0L);
+
+        // Direct shape construction:
+        long shapeCount
+                = TrackingAllocator.countAllocations(EAllocationTag.Shapes);
+        SphereShape shape = new SphereShape(1f);
+        Assert.assertTrue(TrackingAllocator.countAllocations(
+                EAllocationTag.Shapes) > shapeCount);
+
+        // Rigid bodies:
+        long bodyCount
+                = TrackingAllocator.countAllocations(EAllocationTag.Bodies);
+        BodyInterface bi = system.getBodyInterface();
+        BodyCreationSettings bcs = new BodyCreationSettings(shape,
+                new RVec3(), new Quat(), EMotionType.Dynamic,
+                TestUtils.objLayerMoving);
+        Body body1 = bi.createBody(bcs);
+        bi.addBody(body1.getId(), EActivation.Activate);
+        bcs.setPosition(new RVec3(3., 0., 0.));
+        Body body2 = bi.createBody(bcs);
+        bi.addBody(body2.getId(), EActivation.Activate);
+        Assert.assertTrue(TrackingAllocator.countAllocations(
+                EAllocationTag.Bodies) > bodyCount);
+
+        // Constraints:
+        long constraintCount = TrackingAllocator.countAllocations(
+                EAllocationTag.Constraints);
+        PointConstraintSettings pcs = new PointConstraintSettings();
+        TwoBodyConstraint constraint = pcs.create(body1, body2);
+        Assert.assertTrue(TrackingAllocator.countAllocations(
+                EAllocationTag.Constraints) > constraintCount);
+
+        // Soft bodies:
+        long softCount
+                = TrackingAllocator.countAllocations(EAllocationTag.SoftBodies);
+        SoftBodySharedSettings sbss = new SoftBodySharedSettings();
+        sbss.addVertex(new Vertex());
+        sbss.optimize();
+        SoftBodyCreationSettings sbcs = new SoftBodyCreationSettings(
+                sbss, new RVec3(0., 5., 0.), new Quat(),
+                TestUtils.objLayerMoving);
+        Body softBody = bi.createSoftBody(sbcs);
+        Assert.assertTrue(softBody.isSoftBody());
+        Assert.assertTrue(TrackingAllocator.countAllocations(
+                EAllocationTag.SoftBodies) > softCount);
+
+        // Temporary allocators, including live bytes, peaks, and frees:
+        long tempLive = TrackingAllocator.getLiveBytes(EAllocationTag.Temp);
+        long tempFrees = TrackingAllocator.countFrees(EAllocationTag.Temp);
+        TempAllocatorImpl temp = new TempAllocatorImpl(tempBytes);
+        Assert.assertTrue(TrackingAllocator.getLiveBytes(EAllocationTag.Temp)
+                >= tempLive + tempBytes);
+        Assert.assertTrue(TrackingAllocator.getPeakBytes(EAllocationTag.Temp)
+                >= tempLive + tempBytes);
+        temp.close();
+        Assert.assertEquals(tempLive,
+                TrackingAllocator.getLiveBytes(EAllocationTag.Temp));
+        Assert.assertTrue(TrackingAllocator.countFrees(EAllocationTag.Temp)
+                > tempFrees);
+        Assert.assertTrue(TrackingAllocator.getPeakBytes(EAllocationTag.Temp)
+                >= tempLive + tempBytes);
+
+        TrackingAllocator.resetPeaks();
+        for (EAllocationTag tag : EAllocationTag.values()) {
+            Assert.assertEquals(TrackingAllocator.getLiveBytes(tag),
+                    TrackingAllocator.getPeakBytes(tag));
+            Assert.assertTrue(TrackingAllocator.countAllocations(tag)
+                    >= TrackingAllocator.countFrees(tag));
+        }
+
+        bi.removeBody(body1.getId());
+        bi.removeBody(body2.getId());
+        bi.destroyBody(softBody.getId());
+        TestUtils.testClose(constraint, pcs, sbcs, sbss, bcs, shape);
+        TestUtils.testClose(skeleton, taggedSkeleton);
+        TestUtils.cleanupPhysicsSystem(system);
+        TestUtils.cleanup();
+    }
+}
@@ -0,0 +1,205 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.Body;
+import com.github.stephengold.joltjni.BodyCreationSettings;
+import com.github.stephengold.joltjni.BodyInterface;
+import com.github.stephengold.joltjni.BoxShape;
+import com.github.stephengold.joltjni.JobSystemThreadPool;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.RMat44;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.TempAllocator;
+import com.github.stephengold.joltjni.TempAllocatorMalloc;
+import com.github.stephengold.joltjni.Vec3;
+import com.github.stephengold.joltjni.VehicleCollisionTesterRay;
+import com.github.stephengold.joltjni.VehicleConstraint;
+import com.github.stephengold.joltjni.VehicleConstraintSettings;
+import com.github.stephengold.joltjni.VehicleFleet;
+import com.github.stephengold.joltjni.WheelSettingsWv;
+import com.github.stephengold.joltjni.WheeledVehicleController;
+import com.github.stephengold.joltjni.WheeledVehicleControllerSettings;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.enumerate.EMotionType;
+import java.nio.FloatBuffer;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for {@code VehicleFleet}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class VehicleFleetTest {
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Test the state layout, driver inputs, and activation.
+     */
+    @Test
+    public void testVehicleFleet() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        PhysicsSystem physicsSystem = TestUtils.newPhysicsSystem(10);
+        BodyInterface bodyInterface = physicsSystem.getBodyInterface();
+        BodyCreationSettings floorSettings = new BodyCreationSettings(
+                new BoxShape(100f, 1f, 100f), new RVec3(0., -1., 0.),
+                new Quat(), EMotionType.Static, TestUtils.objLayerNonMoving);
+        bodyInterface.createAndAddBody(floorSettings, EActivation.DontActivate);
+
+        // Vehicles with different numbers of wheels:
+        VehicleConstraint car = createVehicle(
+                bodyInterface, new RVec3(0., 1., 0.), 4);
+        VehicleConstraint trike = createVehicle(
+                bodyInterface, new RVec3(10., 1., 0.), 3);
+        VehicleFleet fleet = new VehicleFleet();
+        for (VehicleConstraint vehicle : new VehicleConstraint[]{car, trike}) {
+            physicsSystem.addConstraint(vehicle);
+            physicsSystem.addStepListener(vehicle.getStepListener());
+        }
+        Assert.assertEquals(0, fleet.add(car));
+        Assert.assertEquals(1, fleet.add(trike));
+        Assert.assertEquals(2, fleet.size());
+        Assert.assertSame(trike, fleet.get(1));
+
+        // Each record holds RPM, gear, and 9 floats per wheel:
+        Assert.assertEquals(2, VehicleFleet.floatsPerVehicle);
+        Assert.assertEquals(9, VehicleFleet.floatsPerWheel);
+        int carFloats = 2 + 9 * 4;
+        int trikeFloats = 2 + 9 * 3;
+        Assert.assertEquals(0, fleet.getFirstFloat(0));
+        Assert.assertEquals(carFloats, fleet.getFirstFloat(1));
+        Assert.assertEquals(carFloats + trikeFloats, fleet.countStateFloats());
+
+        // Inputs reach the controllers and wake only vehicles with input:
+        int carId = car.getVehicleBody().getId();
+        int trikeId = trike.getVehicleBody().getId();
+        bodyInterface.deactivateBody(carId);
+        bodyInterface.deactivateBody(trikeId);
+        FloatBuffer inputs = Jolt.newDirectFloatBuffer(8);
+        inputs.put(new float[]{0f, 0f, 0f, 0f, 1f, -0.5f, 0.25f, 0.75f});
+        fleet.setDriverInputs(inputs, bodyInterface);
+        WheeledVehicleController controller
+                = (WheeledVehicleController) trike.getController();
+        Assert.assertEquals(1f, controller.getForwardInput(), 0f);
+        Assert.assertEquals(-0.5f, controller.getRightInput(), 0f);
+        Assert.assertEquals(0.25f, controller.getBrakeInput(), 0f);
+        Assert.assertEquals(0.75f, controller.getHandBrakeInput(), 0f);
+        Assert.assertFalse(bodyInterface.isActive(carId));
+        Assert.assertTrue(bodyInterface.isActive(trikeId));
+
+        // After one step, the exported states match the per-vehicle getters:
+        TempAllocator allocator = new TempAllocatorMalloc();
+        JobSystemThreadPool jobSystem = new JobSystemThreadPool(
+                Jolt.cMaxPhysicsJobs, Jolt.cMaxPhysicsBarriers, 1);
+        physicsSystem.update(1 / 60f, 1, allocator, jobSystem);
+
+        Vec3 wheelRight = new Vec3(0f, 1f, 0f);
+        Vec3 wheelUp = new Vec3(1f, 0f, 0f);
+        RVec3 origin = new RVec3(5., 0., 2.);
+        int numStateFloats = fleet.countStateFloats();
+        FloatBuffer states = Jolt.newDirectFloatBuffer(numStateFloats);
+        fleet.exportStates(wheelRight, wheelUp, origin, states);
+        for (int i = 0; i < fleet.size(); ++i) {
+            VehicleConstraint vehicle = fleet.get(i);
+            WheeledVehicleController wvc
+                    = (WheeledVehicleController) vehicle.getController();
+            int first = fleet.getFirstFloat(i);
+            Assert.assertEquals(wvc.getEngine().getCurrentRpm(),
+                    states.get(first), 0f);
+            Assert.assertEquals(wvc.getTransmission().getCurrentGear(),
+                    (int) states.get(first + 1));
+
+            int numWheels = vehicle.countWheels();
+            for (int j = 0; j < numWheels; ++j) {
+                int start = first + 2 + 9 * j;
+                RMat44 transform = vehicle.getWheelWorldTransform(
+                        j, wheelRight, wheelUp);
+                RVec3 location = transform.getTranslation();
+                Assert.assertEquals(location.xx() - origin.xx(),
+                        states.get(start), 1e-5);
+                Assert.assertEquals(location.yy() - origin.yy(),
+                        states.get(start + 1), 1e-5);
+                Assert.assertEquals(location.zz() - origin.zz(),
+                        states.get(start + 2), 1e-5);
+                Quat rotation = transform.getQuaternion();
+                Assert.assertEquals(rotation.getX(), states.get(start + 3), 0f);
+                Assert.assertEquals(rotation.getY(), states.get(start + 4), 0f);
+                Assert.assertEquals(rotation.getZ(), states.get(start + 5), 0f);
+                Assert.assertEquals(rotation.getW(), states.get(start + 6), 0f);
+            }
+        }
+
+        fleet.clear();
+        Assert.assertEquals(0, fleet.size());
+        Assert.assertEquals(0, fleet.countStateFloats());
+
+        TestUtils.testClose(jobSystem, allocator, floorSettings);
+        TestUtils.cleanupPhysicsSystem(physicsSystem);
+        TestUtils.cleanup();
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Create a wheeled vehicle and add its body to the physics system.
+     *
+     * @param bodyInterface the interface to use (not {@code null})
+     * @param location the desired location of the body (not {@code null},
+     * unaffected)
+     * @param numWheels the desired number of wheels (3 or 4)
+     * @return a new vehicle constraint, not yet added to the system
+     */
+    private static VehicleConstraint createVehicle(BodyInterface bodyInterface,
+            RVec3 location, int numWheels) {
+        BodyCreationSettings carSettings = new BodyCreationSettings(
+                new BoxShape(0.9f, 0.2f, 2f), location, new Quat(),
+                EMotionType.Dynamic, TestUtils.objLayerMoving);
+        Body carBody = bodyInterface.createBody(carSettings);
+        bodyInterface.addBody(carBody.getId(), EActivation.Activate);
+
+        VehicleConstraintSettings settings = new VehicleConstraintSettings();
+        for (int i = 0; i < numWheels; ++i) {
+            WheelSettingsWv wheel = new WheelSettingsWv();
+            float x = (i % 2 == 0) ? -0.9f : 0.9f;
+            float z = (i < 2) ? 1.5f : -1.5f;
+            if (i == 2 && numWheels == 3) {
+                x = 0f;
+            }
+            wheel.setPosition(new Vec3(x, -0.2f, z));
+            settings.addWheels(wheel);
+        }
+        settings.setController(new WheeledVehicleControllerSettings());
+
+        VehicleConstraint result = new VehicleConstraint(carBody, settings);
+        result.setVehicleCollisionTester(
+                new VehicleCollisionTesterRay(TestUtils.objLayerMoving));
+
+        return result;
+    }
+}
@@ -0,0 +1,218 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.Body;
+import com.github.stephengold.joltjni.BodyCreationSettings;
+import com.github.stephengold.joltjni.BodyInterface;
+import com.github.stephengold.joltjni.BoxShape;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.Vec3;
+import com.github.stephengold.joltjni.VehicleCollisionTester;
+import com.github.stephengold.joltjni.VehicleCollisionTesterRay;
+import com.github.stephengold.joltjni.VehicleConstraint;
+import com.github.stephengold.joltjni.VehicleConstraintSettings;
+import com.github.stephengold.joltjni.VehicleLodManager;
+import com.github.stephengold.joltjni.Wheel;
+import com.github.stephengold.joltjni.WheelSettingsWv;
+import com.github.stephengold.joltjni.WheeledVehicleControllerSettings;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.enumerate.EMotionType;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for {@code VehicleLodManager}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class VehicleLodManagerTest {
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Move 2 vehicles with different tester layers from {@code Full} to
+     * {@code Reduced} to {@code Kinematic} and back to {@code Full}.
+     */
+    @Test
+    public void testRoundTrip() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        PhysicsSystem physicsSystem = TestUtils.newPhysicsSystem(10);
+        BodyInterface bodyInterface = physicsSystem.getBodyInterface();
+        int[] layers = {TestUtils.objLayerMoving, TestUtils.objLayerNonMoving};
+        VehicleConstraint[] vehicles = new VehicleConstraint[2];
+        VehicleCollisionTester[] originalTesters
+                = new VehicleCollisionTester[2];
+        VehicleLodManager manager = new VehicleLodManager();
+        manager.setTierDistances(10., 20.);
+        for (int i = 0; i < 2; ++i) {
+            vehicles[i] = createVehicle(
+                    bodyInterface, new RVec3(0., 1., 5. * i), layers[i]);
+            physicsSystem.addConstraint(vehicles[i]);
+            physicsSystem.addStepListener(vehicles[i].getStepListener());
+            originalTesters[i] = vehicles[i].getVehicleCollisionTester();
+            manager.add(vehicles[i]);
+        }
+        Assert.assertEquals(2, manager.size());
+
+        // Give each vehicle a forward velocity and a spin:
+        Vec3 linearVelocity = new Vec3(0f, 0f, 3f);
+        Vec3 angularVelocity = new Vec3(0f, 0.5f, 0f);
+        int[] bodyIds = new int[2];
+        for (int i = 0; i < 2; ++i) {
+            bodyIds[i] = vehicles[i].getVehicleBody().getId();
+            bodyInterface.setLinearAndAngularVelocity(
+                    bodyIds[i], linearVelocity, angularVelocity);
+        }
+
+        float deltaTime = 1 / 60f;
+        manager.addFocus(new RVec3());
+        Assert.assertEquals(0, manager.update(deltaTime, bodyInterface));
+        Assert.assertEquals(
+                2, manager.countVehicles(VehicleLodManager.Tier.Full));
+
+        // Reduced: each vehicle gets a ray tester for its own layer:
+        manager.setFocus(0, new RVec3(15., 0., 0.));
+        Assert.assertEquals(2, manager.update(deltaTime, bodyInterface));
+        for (int i = 0; i < 2; ++i) {
+            VehicleConstraint vehicle = vehicles[i];
+            Assert.assertEquals(VehicleLodManager.Tier.Reduced,
+                    manager.getTier(vehicle));
+            VehicleCollisionTester tester
+                    = vehicle.getVehicleCollisionTester();
+            Assert.assertTrue(tester instanceof VehicleCollisionTesterRay);
+            Assert.assertNotSame(originalTesters[i], tester);
+            Assert.assertEquals(layers[i], tester.getObjectLayer());
+            Assert.assertEquals(manager.getReducedSteps(),
+                    vehicle.getNumStepsBetweenCollisionTestActive());
+            assertVelocities(bodyInterface, bodyIds[i], linearVelocity,
+                    angularVelocity);
+        }
+        Assert.assertNotSame(vehicles[0].getVehicleCollisionTester(),
+                vehicles[1].getVehicleCollisionTester());
+
+        // Kinematic: constraints disabled, velocities preserved:
+        manager.setFocus(0, new RVec3(100., 0., 0.));
+        Assert.assertEquals(2, manager.update(deltaTime, bodyInterface));
+        for (int i = 0; i < 2; ++i) {
+            Assert.assertEquals(VehicleLodManager.Tier.Kinematic,
+                    manager.getTier(vehicles[i]));
+            Assert.assertFalse(vehicles[i].getEnabled());
+            Assert.assertEquals(EMotionType.Kinematic,
+                    bodyInterface.getMotionType(bodyIds[i]));
+            assertVelocities(bodyInterface, bodyIds[i], linearVelocity,
+                    angularVelocity);
+        }
+
+        // Full: original testers restored, wheels spun up to match speed:
+        manager.setFocus(0, new RVec3());
+        Assert.assertEquals(2, manager.update(deltaTime, bodyInterface));
+        for (int i = 0; i < 2; ++i) {
+            VehicleConstraint vehicle = vehicles[i];
+            Assert.assertEquals(VehicleLodManager.Tier.Full,
+                    manager.getTier(vehicle));
+            Assert.assertTrue(vehicle.getEnabled());
+            Assert.assertEquals(EMotionType.Dynamic,
+                    bodyInterface.getMotionType(bodyIds[i]));
+            Assert.assertSame(originalTesters[i],
+                    vehicle.getVehicleCollisionTester());
+            assertVelocities(bodyInterface, bodyIds[i], linearVelocity,
+                    angularVelocity);
+
+            int numWheels = vehicle.countWheels();
+            for (int j = 0; j < numWheels; ++j) {
+                Wheel wheel = vehicle.getWheel(j);
+                float radius = wheel.getSettings().getRadius();
+                Assert.assertEquals(linearVelocity.getZ() / radius,
+                        wheel.getAngularVelocity(), 1e-4f);
+            }
+        }
+
+        for (VehicleConstraint vehicle : vehicles) {
+            Assert.assertTrue(manager.remove(vehicle, bodyInterface));
+        }
+        Assert.assertEquals(0, manager.size());
+        TestUtils.cleanupPhysicsSystem(physicsSystem);
+        TestUtils.cleanup();
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Verify the velocities of the specified body.
+     *
+     * @param bodyInterface the interface to use (not {@code null})
+     * @param bodyId the ID of the body to test
+     * @param linear the expected linear velocity (not {@code null},
+     * unaffected)
+     * @param angular the expected angular velocity (not {@code null},
+     * unaffected)
+     */
+    private static void assertVelocities(BodyInterface bodyInterface,
+            int bodyId, Vec3 linear, Vec3 angular) {
+        TestUtils.assertEquals(linear.getX(), linear.getY(), linear.getZ(),
+                bodyInterface.getLinearVelocity(bodyId), 1e-5f);
+        TestUtils.assertEquals(angular.getX(), angular.getY(), angular.getZ(),
+                bodyInterface.getAngularVelocity(bodyId), 1e-5f);
+    }
+
+    /**
+     * Create a 4-wheeled vehicle whose body allows kinematic motion, and add
+     * the body to the physics system.
+     *
+     * @param bodyInterface the interface to use (not {@code null})
+     * @param location the desired location of the body (not {@code null},
+     * unaffected)
+     * @param testerLayer the object layer for the vehicle's collision tester
+     * @return a new vehicle constraint, not yet added to the system
+     */
+    private static VehicleConstraint createVehicle(BodyInterface bodyInterface,
+            RVec3 location, int testerLayer) {
+        BodyCreationSettings carSettings = new BodyCreationSettings(
+                new BoxShape(0.9f, 0.2f, 2f), location, new Quat(),
+                EMotionType.Dynamic, TestUtils.objLayerMoving);
+        carSettings.setAllowDynamicOrKinematic(true);
+        Body carBody = bodyInterface.createBody(carSettings);
+        bodyInterface.addBody(carBody.getId(), EActivation.Activate);
+
+        VehicleConstraintSettings settings = new VehicleConstraintSettings();
+        for (int i = 0; i < 4; ++i) {
+            WheelSettingsWv wheel = new WheelSettingsWv();
+            float x = (i % 2 == 0) ? -0.9f : 0.9f;
+            float z = (i < 2) ? 1.5f : -1.5f;
+            wheel.setPosition(new Vec3(x, -0.2f, z));
+            settings.addWheels(wheel);
+        }
+        settings.setController(new WheeledVehicleControllerSettings());
+
+        VehicleConstraint result = new VehicleConstraint(carBody, settings);
+        result.setVehicleCollisionTester(
+                new VehicleCollisionTesterRay(testerLayer));
+
+        return result;
+    }
+}